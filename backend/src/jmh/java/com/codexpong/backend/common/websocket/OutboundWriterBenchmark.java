@@ -0,0 +1,188 @@
+package com.codexpong.backend.common.websocket;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * [벤치마크] backend/src/jmh/java/com/codexpong/backend/common/websocket/OutboundWriterBenchmark.java
+ * 설명:
+ *   - 알림 하나를 연결 전체에 발행하고 모든 세션 전송이 끝날 때까지의 시간을 송신 실행기 모드별로 비교한다.
+ *   - 세션 전송은 writeMicros 동안 스레드를 멈춰 느린 소켓 쓰기를 흉내 낸다. PLATFORM은 고정 풀(코어×2)이
+ *     연결 수/스레드 수만큼 순차로 기다리고, VIRTUAL은 드레인마다 가상 스레드가 붙어 대기가 겹친다.
+ *   - 연결당 처리량(메시지/초)은 connections / 측정 시간으로 환산한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OutboundWriterBenchmark {
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    public String mode;
+
+    @Param({"1000", "10000"})
+    public int connections;
+
+    @Param({"200"})
+    public int writeMicros;
+
+    private ExecutorService writers;
+    private QueuedWebSocketSession[] sessions;
+    private final TextMessage message = new TextMessage("{\"type\":\"job.progress\",\"payload\":{\"progress\":50}}");
+    private volatile CountDownLatch delivered;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        OutboundQueueProperties properties = new OutboundQueueProperties();
+        properties.setVirtualThreads("VIRTUAL".equals(mode));
+        writers = OutboundQueueRegistry.newWriters(properties);
+        sessions = new QueuedWebSocketSession[connections];
+        long writeNanos = TimeUnit.MICROSECONDS.toNanos(writeMicros);
+        for (int i = 0; i < connections; i++) {
+            sessions[i] = new QueuedWebSocketSession(new SlowSocketSession("s" + i, writeNanos), OutboundChannel.EVENT,
+                    properties.capacity(OutboundChannel.EVENT), writers, new LongAdder(),
+                    TimeUnit.MILLISECONDS.toNanos(properties.getSendTimeLimitMs()), writers);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        writers.shutdownNow();
+    }
+
+    @Benchmark
+    public void publishToAll() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(connections);
+        delivered = latch;
+        for (QueuedWebSocketSession session : sessions) {
+            session.sendMessage(message);
+        }
+        latch.await();
+    }
+
+    /**
+     * 설명:
+     *   - 쓰기마다 정해진 시간만큼 멈추는 세션. 목 프레임워크 없이 직접 구현해 측정에 호출 기록 비용이 섞이지 않게 한다.
+     */
+    private final class SlowSocketSession implements WebSocketSession {
+
+        private final String id;
+        private final long writeNanos;
+        private final Map<String, Object> attributes = new HashMap<>();
+
+        private SlowSocketSession(String id, long writeNanos) {
+            this.id = id;
+            this.writeNanos = writeNanos;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) {
+            LockSupport.parkNanos(writeNanos);
+            delivered.countDown();
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public URI getUri() {
+            return null;
+        }
+
+        @Override
+        public HttpHeaders getHandshakeHeaders() {
+            return HttpHeaders.EMPTY;
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public Principal getPrincipal() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getLocalAddress() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() {
+            return null;
+        }
+
+        @Override
+        public String getAcceptedProtocol() {
+            return null;
+        }
+
+        @Override
+        public void setTextMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getTextMessageSizeLimit() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getBinaryMessageSizeLimit() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public List<WebSocketExtension> getExtensions() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void close(CloseStatus status) {
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.codexpong.backend.game.domain;
+
+import com.codexpong.backend.game.engine.model.GameFrame;
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import com.codexpong.backend.user.domain.User;
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * [벤치마크] backend/src/jmh/java/com/codexpong/backend/game/domain/GameRoomBenchmark.java
+ * 설명:
+ *   - 양쪽 입력 갱신을 포함한 GameRoom 한 틱 비용을 기존 tick(Duration)과 tickFrame 경로로 측정한다.
+ *   - 끝난 경기(약 260틱 이후)의 틱을 재지 않도록 벤치마크 메서드 안에서 종료를 확인하면 새 방으로 바꾼다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GameRoomBenchmark {
+
+    private static final Duration TICK = Duration.ofMillis(50);
+    private static final long TICK_NANOS = TICK.toNanos();
+    private static final PaddleInput[] INPUTS = PaddleInput.values();
+    private static final Long LEFT_ID = 1L;
+    private static final Long RIGHT_ID = 2L;
+
+    private User left;
+    private User right;
+    private GameRoom room;
+    private int step;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws ReflectiveOperationException {
+        left = player("left", LEFT_ID);
+        right = player("right", RIGHT_ID);
+        room = new GameRoom(left, right, MatchType.NORMAL);
+        step = 0;
+    }
+
+    @Benchmark
+    public GameSnapshot tickWithInputs() {
+        int i = step++;
+        room.updateInput(LEFT_ID, INPUTS[i % INPUTS.length]);
+        room.updateInput(RIGHT_ID, INPUTS[(i >> 2) % INPUTS.length]);
+        GameSnapshot snapshot = room.tick(TICK);
+        if (snapshot.finished()) {
+            room = new GameRoom(left, right, MatchType.NORMAL);
+        }
+        return snapshot;
+    }
+
+    @Benchmark
+    public GameFrame tickFrameWithInputs() {
+        int i = step++;
+        room.updateInput(LEFT_ID, INPUTS[i % INPUTS.length]);
+        room.updateInput(RIGHT_ID, INPUTS[(i >> 2) % INPUTS.length]);
+        GameFrame frame = room.tickFrame(TICK_NANOS);
+        if (frame.finished()) {
+            room = new GameRoom(left, right, MatchType.NORMAL);
+        }
+        return frame;
+    }
+
+    static User player(String username, Long id) throws ReflectiveOperationException {
+        User user = new User(username, "pass", username, null);
+        Field idField = User.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(user, id);
+        return user;
+    }
+}
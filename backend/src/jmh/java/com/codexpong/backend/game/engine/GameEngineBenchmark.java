@@ -0,0 +1,65 @@
+package com.codexpong.backend.game.engine;
+
+import com.codexpong.backend.game.engine.model.GameFrame;
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * [벤치마크] backend/src/jmh/java/com/codexpong/backend/game/engine/GameEngineBenchmark.java
+ * 설명:
+ *   - GameEngine 한 틱 비용을 스냅샷 생성 경로(tick)와 무할당 경로(tickInPlace)로 나눠 측정한다.
+ *   - 경기는 약 260틱이면 목표 점수에 도달해 이후 틱은 물리를 건너뛴다. 끝난 경기를 재지 않도록
+ *     벤치마크 메서드 안에서 종료를 확인하는 즉시 새 엔진으로 바꾼다(교체 비용은 수백 틱에 한 번이다).
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GameEngineBenchmark {
+
+    private static final Duration TICK = Duration.ofMillis(50);
+    private static final long TICK_NANOS = TICK.toNanos();
+    private static final PaddleInput[] INPUTS = PaddleInput.values();
+
+    private GameEngine engine;
+    private int step;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        engine = new GameEngine();
+        step = 0;
+    }
+
+    @Benchmark
+    public GameSnapshot tick() {
+        int i = step++;
+        GameSnapshot snapshot = engine.tick(TICK, INPUTS[i % INPUTS.length], INPUTS[(i >> 3) % INPUTS.length]);
+        if (snapshot.finished()) {
+            engine = new GameEngine();
+        }
+        return snapshot;
+    }
+
+    @Benchmark
+    public GameFrame tickInPlace() {
+        int i = step++;
+        GameFrame frame = engine.tickInPlace(TICK_NANOS, INPUTS[i % INPUTS.length],
+                INPUTS[(i >> 3) % INPUTS.length]);
+        if (frame.finished()) {
+            engine = new GameEngine();
+        }
+        return frame;
+    }
+}
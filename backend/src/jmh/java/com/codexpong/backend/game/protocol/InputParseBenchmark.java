@@ -0,0 +1,49 @@
+package com.codexpong.backend.game.protocol;
+
+import com.codexpong.backend.game.GameWebSocketHandler.ClientMessage;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * [벤치마크] backend/src/jmh/java/com/codexpong/backend/game/protocol/InputParseBenchmark.java
+ * 설명:
+ *   - 텍스트 INPUT 한 건의 해석 비용을 기존 ObjectMapper.readValue(ClientMessage) + 방향 변환과 무할당 파서로 비교한다.
+ *   - `-prof gc`로 실행하면 연산당 할당 바이트(gc.alloc.rate.norm) 차이를 함께 확인할 수 있다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InputParseBenchmark {
+
+    private static final String PAYLOAD = "{\"type\":\"INPUT\",\"roomId\":\"8c0f6a52-1f4e-4f55-9a43-2b1d8e7c9f10\","
+            + "\"direction\":\"DOWN\",\"seq\":1042,\"ts\":5821337,\"tick\":2917}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonInputParser.Fields fields = new JsonInputParser.Fields();
+
+    @Benchmark
+    public PaddleInput objectMapper() throws JsonProcessingException {
+        ClientMessage message = objectMapper.readValue(PAYLOAD, ClientMessage.class);
+        return switch (message.direction().toUpperCase()) {
+            case "UP" -> PaddleInput.UP;
+            case "DOWN" -> PaddleInput.DOWN;
+            default -> PaddleInput.STAY;
+        };
+    }
+
+    @Benchmark
+    public PaddleInput fastPath() {
+        return JsonInputParser.parse(PAYLOAD, fields) ? fields.direction() : null;
+    }
+}
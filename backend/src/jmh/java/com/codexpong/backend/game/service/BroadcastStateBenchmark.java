@@ -0,0 +1,101 @@
+package com.codexpong.backend.game.service;
+
+import com.codexpong.backend.game.domain.GameRoom;
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.loop.GameLoopProperties;
+import com.codexpong.backend.game.protocol.GameProtocol;
+import com.codexpong.backend.replay.ReplayService;
+import com.codexpong.backend.user.domain.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * [벤치마크] backend/src/jmh/java/com/codexpong/backend/game/service/BroadcastStateBenchmark.java
+ * 설명:
+ *   - 방 하나의 STATE 팬아웃(델타 계산, 프로토콜별 1회 인코딩, N개 세션 전송) 비용을 세션 수/프로토콜별로 측정한다.
+ *   - 플레이어가 아닌 ID로 세션을 등록해 틱 루프가 시작되지 않게 하고, broadcastState만 직접 호출한다.
+ *   - 경기는 약 260틱이면 끝나 이후 상태가 변하지 않는다. 델타가 빈 끝난 경기를 재지 않도록 벤치마크 메서드 안에서
+ *     종료 스냅샷을 확인하면 방을 정리하고 같은 세션으로 새 방을 연다(교체 비용은 수백 틱에 한 번이다).
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BroadcastStateBenchmark {
+
+    @Param({"2", "32", "256"})
+    public int sessions;
+
+    @Param({"JSON_FULL", "JSON_DELTA", "BINARY"})
+    public GameProtocol protocol;
+
+    private GameRoomService roomService;
+    private User left;
+    private User right;
+    private StubWebSocketSession[] stubs;
+    private GameRoom room;
+
+    @Setup(Level.Trial)
+    public void setUp(Blackhole blackhole) throws Exception {
+        ReplayService replayService = new ReplayService(null, null, new ObjectMapper(),
+                Files.createTempDirectory("bench-replay").toString(), 20);
+        roomService = new GameRoomService(null, replayService, new ObjectMapper(), new GameLoopProperties(),
+                new SpectatorProperties(), RealtimeLatencyRecorder.NOOP);
+        left = player("left", 1L);
+        right = player("right", 2L);
+        stubs = new StubWebSocketSession[sessions];
+        for (int i = 0; i < sessions; i++) {
+            StubWebSocketSession session = new StubWebSocketSession("bench-" + i);
+            session.getAttributes().put(GameProtocol.SESSION_ATTRIBUTE, protocol);
+            session.consumeWith(blackhole);
+            stubs[i] = session;
+        }
+        openRoom();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        roomService.shutdown();
+    }
+
+    @Benchmark
+    public void broadcastState() {
+        GameSnapshot snapshot = room.tickFrame(50_000_000L).toSnapshot();
+        roomService.broadcastState(room, snapshot, null);
+        if (snapshot.finished()) {
+            roomService.removeRoom(room.getRoomId());
+            openRoom();
+        }
+    }
+
+    private void openRoom() {
+        room = roomService.createRoom(left, right, MatchType.NORMAL);
+        for (int i = 0; i < stubs.length; i++) {
+            roomService.registerSession(room, 1_000L + i, stubs[i]);
+        }
+    }
+
+    private static User player(String username, Long id) throws ReflectiveOperationException {
+        User user = new User(username, "pass", username, null);
+        Field idField = User.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(user, id);
+        return user;
+    }
+}
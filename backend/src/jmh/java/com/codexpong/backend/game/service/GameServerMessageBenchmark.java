@@ -0,0 +1,64 @@
+package com.codexpong.backend.game.service;
+
+import com.codexpong.backend.game.engine.GameEngine;
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import com.codexpong.backend.game.protocol.BinaryFrameCodec;
+import com.codexpong.backend.game.protocol.InputAck;
+import com.codexpong.backend.game.protocol.PlayerLatency;
+import com.codexpong.backend.game.service.GameRoomService.GameServerMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * [벤치마크] backend/src/jmh/java/com/codexpong/backend/game/service/GameServerMessageBenchmark.java
+ * 설명:
+ *   - STATE 한 건의 직렬화 비용을 기존 GameServerMessage JSON과 바이너리 프레임으로 비교한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GameServerMessageBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private GameServerMessage message;
+    private GameSnapshot snapshot;
+
+    @Setup
+    public void setUp() {
+        GameEngine engine = new GameEngine();
+        for (int i = 0; i < 37; i++) {
+            snapshot = engine.tick(Duration.ofMillis(50), PaddleInput.UP, PaddleInput.DOWN);
+        }
+        message = new GameServerMessage("STATE", snapshot, "RANKED", null, "PLAYER", 12, 37,
+                new InputAck(120, 118), new PlayerLatency(42, 3, 87, 11));
+    }
+
+    @Benchmark
+    public String jsonString() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(message);
+    }
+
+    @Benchmark
+    public byte[] jsonBytes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(message);
+    }
+
+    @Benchmark
+    public byte[] binaryFrame() {
+        return BinaryFrameCodec.encodeState(BinaryFrameCodec.TYPE_STATE, BinaryFrameCodec.FLAG_RANKED, 37, snapshot,
+                12, message.ack(), message.latency(), null);
+    }
+}
@@ -0,0 +1,93 @@
+package com.codexpong.backend.game.service;
+
+import com.codexpong.backend.game.domain.GameRoom;
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.loop.GameLoopProperties;
+import com.codexpong.backend.user.domain.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * [벤치마크] backend/src/jmh/java/com/codexpong/backend/game/service/MatchmakingEnqueueBenchmark.java
+ * 설명:
+ *   - 일반 큐에 새 사용자 두 명을 등록해 매칭까지 끝내는 비용을 이전 매칭 누적 수별로 비교한다.
+ *   - 가짜 시계를 초당 MATCHES_PER_SECOND 매치 속도로 흘리며 만료 휠을 돌리므로, 맵에는 보관 기간(60초) 분량의
+ *     티켓만 남는다. 등록 시간이 priorMatches와 무관하게 같아야 한다(이전 구현은 전체 티켓을 매번 훑었다).
+ *   - 방 생성은 등록 없이 GameRoom만 만드는 하위 클래스로 대체해 매칭 경로만 잰다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/backend/v1.1.0-matchmaking-scaling.md
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MatchmakingEnqueueBenchmark {
+
+    private static final int MATCHES_PER_SECOND = 1000;
+
+    @Param({"0", "1000000", "3000000"})
+    public int priorMatches;
+
+    private final AtomicLong clock = new AtomicLong();
+    private GameRoomService roomService;
+    private MatchmakingService matchmakingService;
+    private Field idField;
+    private long nextUserId;
+    private long matches;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        idField = User.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        roomService = new GameRoomService(null, null, new ObjectMapper(), new GameLoopProperties(),
+                new SpectatorProperties(), RealtimeLatencyRecorder.NOOP) {
+            @Override
+            public GameRoom createRoom(User left, User right, MatchType matchType) {
+                return new GameRoom(left, right, matchType);
+            }
+        };
+        matchmakingService = new MatchmakingService(roomService, new MatchmakingProperties(),
+                MatchmakingRecorder.NOOP, clock::get);
+        for (int i = 0; i < priorMatches; i++) {
+            enqueuePair();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%n[matchmaking] priorMatches=%d tickets=%d%n", priorMatches,
+                matchmakingService.ticketCount());
+        matchmakingService.shutdown();
+        roomService.shutdown();
+    }
+
+    @Benchmark
+    public MatchmakingService.MatchTicket enqueuePair() throws ReflectiveOperationException {
+        matchmakingService.enqueue(user(), MatchType.NORMAL);
+        MatchmakingService.MatchTicket ticket = matchmakingService.enqueue(user(), MatchType.NORMAL);
+        if (++matches % MATCHES_PER_SECOND == 0) {
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+            matchmakingService.evictExpiredTickets();
+        }
+        return ticket;
+    }
+
+    private User user() throws ReflectiveOperationException {
+        long id = ++nextUserId;
+        User user = new User("bench" + id, "pass", "bench" + id, null);
+        idField.set(user, id);
+        return user;
+    }
+}
@@ -0,0 +1,63 @@
+package com.codexpong.backend.replay;
+
+import com.codexpong.backend.game.domain.GameRoom;
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.user.domain.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * [벤치마크] backend/src/jmh/java/com/codexpong/backend/replay/ReplayServiceBenchmark.java
+ * 설명:
+ *   - 틱마다 호출되는 ReplayService.appendSnapshot 비용을 측정한다.
+ *   - 버퍼가 무한히 커지지 않도록 반복(Iteration)마다 녹화를 새로 시작한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReplayServiceBenchmark {
+
+    private ReplayService replayService;
+    private GameRoom room;
+    private GameSnapshot snapshot;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() throws Exception {
+        replayService = new ReplayService(null, null, new ObjectMapper(),
+                Files.createTempDirectory("bench-replay").toString(), 20);
+        room = new GameRoom(player("left", 1L), player("right", 2L), MatchType.NORMAL);
+        snapshot = room.tick(java.time.Duration.ofMillis(50));
+    }
+
+    @Setup(Level.Iteration)
+    public void startRecording() {
+        replayService.startRecording(room);
+    }
+
+    @Benchmark
+    public void appendSnapshot() {
+        replayService.appendSnapshot(room.getRoomId(), snapshot);
+    }
+
+    private static User player(String username, Long id) throws ReflectiveOperationException {
+        User user = new User(username, "pass", username, null);
+        Field idField = User.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(user, id);
+        return user;
+    }
+}
@@ -0,0 +1,89 @@
+package com.codexpong.backend.loadtest;
+
+import com.codexpong.backend.game.loop.LatencyHistogram;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * [보고서] backend/src/loadTest/java/com/codexpong/backend/loadtest/CapacityReport.java
+ * 설명:
+ *   - 부하 단계별 측정 결과와 최대 유지 가능 경기 수를 담는 용량 보고서.
+ *   - `capacity-<version>.json`으로 저장해 버전 간 같은 설정의 단계 결과를 비교한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+record CapacityReport(
+        String version,
+        String generatedAt,
+        Environment environment,
+        LoadTestSettings settings,
+        List<StepResult> steps,
+        int maxSustainedRooms
+) {
+
+    Path write(ObjectMapper objectMapper) throws IOException {
+        Files.createDirectories(settings.reportDir());
+        Path file = settings.reportDir().resolve("capacity-" + version + ".json");
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), this);
+        return file;
+    }
+
+    record Environment(int availableProcessors, long maxHeapMb, String javaVersion, List<String> garbageCollectors,
+            int tickShards) {
+    }
+
+    record StepResult(
+            int rooms,
+            int playerSessions,
+            int spectatorSessions,
+            double measuredSeconds,
+            Percentiles tickLagMs,
+            long tickOverruns,
+            Percentiles playerLatencyMs,
+            Percentiles spectatorLatencyMs,
+            long framesReceived,
+            double framesPerSecond,
+            double expectedFramesPerSecond,
+            double deliveryRatio,
+            long bytesReceived,
+            long inputsSent,
+            long matchesCompleted,
+            long connectFailures,
+            double encodeMicrosPerFrame,
+            double sendMicrosPerMessage,
+            long outboundDropped,
+            HeapUsage heap,
+            List<GcUsage> gc,
+            double gcTimeRatio,
+            double cpuUtilization,
+            boolean sustained
+    ) {
+    }
+
+    record Percentiles(long samples, double p50, double p90, double p99, double p999, double max) {
+
+        static Percentiles of(LatencyHistogram.Snapshot snapshot) {
+            return new Percentiles(snapshot.count(),
+                    millis(snapshot.percentileMicros(0.5)),
+                    millis(snapshot.percentileMicros(0.9)),
+                    millis(snapshot.percentileMicros(0.99)),
+                    millis(snapshot.percentileMicros(0.999)),
+                    millis(snapshot.maxMicros()));
+        }
+
+        private static double millis(long micros) {
+            return micros / 1_000.0;
+        }
+    }
+
+    record HeapUsage(long usedStartMb, long usedEndMb, long peakMb, long liveAfterGcMb) {
+    }
+
+    record GcUsage(String collector, long collections, long timeMs) {
+    }
+}
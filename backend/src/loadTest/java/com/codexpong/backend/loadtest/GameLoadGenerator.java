@@ -0,0 +1,316 @@
+package com.codexpong.backend.loadtest;
+
+import com.codexpong.backend.CodexPongApplication;
+import com.codexpong.backend.auth.service.AuthService;
+import com.codexpong.backend.auth.service.AuthTokenService;
+import com.codexpong.backend.common.websocket.OutboundQueueRegistry;
+import com.codexpong.backend.game.domain.GameRoom;
+import com.codexpong.backend.game.protocol.GameProtocol;
+import com.codexpong.backend.game.service.GameRoomService;
+import com.codexpong.backend.user.domain.User;
+import com.codexpong.backend.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+
+/**
+ * [부하 생성기] backend/src/loadTest/java/com/codexpong/backend/loadtest/GameLoadGenerator.java
+ * 설명:
+ *   - 스프링 컨텍스트를 같은 JVM에서 기동한 뒤 GameRoomService.createRoom으로 방을 만들고, 방마다 플레이어 2명과
+ *     관전자 N명을 실제 `/ws/game` WebSocket으로 접속시켜 노드 한 대의 동시 경기 용량을 측정한다.
+ *   - 단계(rooms)마다 목표 경기 수까지 채우고 워밍업 후 측정 구간의 틱 시작 지연 백분위, 클라이언트 관측 전달 지연,
+ *     수신률, 팬아웃 비용, 힙/GC, CPU를 기록한다. 끝난 경기는 같은 사용자로 즉시 다시 만들어 경기 수를 유지한다.
+ *   - 결과는 build/reports/loadtest/capacity-<version>.json으로 남겨 버전 간 비교에 사용한다.
+ *   - 클라이언트도 같은 프로세스의 CPU를 쓰므로 절대 용량은 보수적으로 측정된다. 버전 간 상대 비교가 주 용도다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public final class GameLoadGenerator {
+
+    private static final long HEAP_SAMPLE_INTERVAL_MS = 200;
+    private static final long MB = 1024 * 1024;
+
+    private final LoadTestSettings settings;
+    private final GameRoomService gameRoomService;
+    private final OutboundQueueRegistry outboundQueues;
+    private final UserRepository userRepository;
+    private final AuthService authService;
+    private final AuthTokenService authTokenService;
+    private final ObjectMapper objectMapper;
+    private final String gameUri;
+
+    private final StandardWebSocketClient client = new StandardWebSocketClient();
+    private final ScheduledExecutorService inputExecutor;
+    private final ScheduledExecutorService heapSampler = Executors.newSingleThreadScheduledExecutor();
+    private final ExecutorService replacementExecutor = Executors.newFixedThreadPool(4);
+    private final Semaphore connectPermits;
+    private final Map<Long, String> tokens = new ConcurrentHashMap<>();
+    private final List<LoadMatch> matches = new ArrayList<>();
+    private final List<User> spectators = new ArrayList<>();
+    private final AtomicInteger userSequence = new AtomicInteger();
+    private final AtomicLong peakHeapBytes = new AtomicLong();
+
+    private volatile MeasurementWindow window;
+    private volatile boolean running = true;
+
+    GameLoadGenerator(LoadTestSettings settings, ConfigurableApplicationContext context) {
+        this.settings = settings;
+        this.gameRoomService = context.getBean(GameRoomService.class);
+        this.outboundQueues = context.getBean(OutboundQueueRegistry.class);
+        this.userRepository = context.getBean(UserRepository.class);
+        this.authService = context.getBean(AuthService.class);
+        this.authTokenService = context.getBean(AuthTokenService.class);
+        this.objectMapper = context.getBean(ObjectMapper.class);
+        this.gameUri = "ws://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/ws/game";
+        this.inputExecutor = Executors.newScheduledThreadPool(
+                Math.max(2, Runtime.getRuntime().availableProcessors() / 2));
+        this.connectPermits = new Semaphore(settings.connectConcurrency());
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(CodexPongApplication.class)
+                .profiles("loadtest")
+                .run(args);
+        try {
+            GameLoadGenerator generator = new GameLoadGenerator(settings, context);
+            CapacityReport report = generator.run();
+            Path file = report.write(generator.objectMapper);
+            System.out.printf("최대 유지 경기 수: %d, 보고서: %s%n", report.maxSustainedRooms(), file.toAbsolutePath());
+        } finally {
+            context.close();
+        }
+        System.exit(0);
+    }
+
+    CapacityReport run() throws InterruptedException {
+        spectators.addAll(createUsers(settings.spectatorsPerRoom()));
+        heapSampler.scheduleAtFixedRate(() -> peakHeapBytes.accumulateAndGet(
+                ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed(), Math::max),
+                0, HEAP_SAMPLE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        List<CapacityReport.StepResult> steps = new ArrayList<>();
+        int maxSustained = 0;
+        try {
+            for (int rooms : settings.roomSteps()) {
+                CapacityReport.StepResult step = runStep(rooms);
+                steps.add(step);
+                printStep(step);
+                if (step.sustained()) {
+                    maxSustained = Math.max(maxSustained, rooms);
+                } else if (settings.stopOnSaturation()) {
+                    break;
+                }
+            }
+        } finally {
+            shutdown();
+        }
+        return new CapacityReport(settings.version(), OffsetDateTime.now(ZoneId.of("Asia/Seoul")).toString(),
+                environment(), settings, steps, maxSustained);
+    }
+
+    private CapacityReport.StepResult runStep(int rooms) throws InterruptedException {
+        topUp(rooms);
+        TimeUnit.SECONDS.sleep(settings.warmupSeconds());
+
+        MeasurementWindow measuring = new MeasurementWindow();
+        ServerSample start = ServerSample.capture(gameRoomService, outboundQueues);
+        peakHeapBytes.set(start.heapUsedBytes());
+        window = measuring;
+        TimeUnit.SECONDS.sleep(settings.measureSeconds());
+        window = null;
+        ServerSample end = ServerSample.capture(gameRoomService, outboundQueues);
+        return summarize(rooms, measuring, start, end);
+    }
+
+    /**
+     * 설명:
+     *   - 목표 경기 수까지 사용자 쌍을 만들고 방을 생성해 접속시킨다. 모든 핸드셰이크가 끝날 때까지 기다린다.
+     */
+    private void topUp(int rooms) {
+        List<CompletableFuture<WebSocketSession>> pending = new ArrayList<>();
+        int missing = rooms - matches.size();
+        if (missing <= 0) {
+            return;
+        }
+        List<User> players = createUsers(missing * 2);
+        for (int i = 0; i < missing; i++) {
+            LoadMatch match = new LoadMatch(players.get(i * 2), players.get(i * 2 + 1), this::replace);
+            matches.add(match);
+            pending.addAll(start(match));
+        }
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).exceptionally(ex -> null).join();
+    }
+
+    private List<CompletableFuture<WebSocketSession>> start(LoadMatch match) {
+        GameRoom room = gameRoomService.createRoom(match.left, match.right, settings.matchType());
+        match.begin(room);
+        List<CompletableFuture<WebSocketSession>> futures = new ArrayList<>();
+        futures.add(connect(match, SimulatedClient.Role.LEFT, match.left));
+        futures.add(connect(match, SimulatedClient.Role.RIGHT, match.right));
+        for (User spectator : spectators) {
+            futures.add(connect(match, SimulatedClient.Role.SPECTATOR, spectator));
+        }
+        return futures;
+    }
+
+    private CompletableFuture<WebSocketSession> connect(LoadMatch match, SimulatedClient.Role role, User user) {
+        SimulatedClient handler = new SimulatedClient(match, role, settings.protocol(), () -> window, objectMapper);
+        match.add(handler);
+        URI uri = URI.create(gameUri + "?roomId=" + match.roomId() + "&token=" + token(user)
+                + "&protocol=" + protocolQuery(settings.protocol())
+                + (role == SimulatedClient.Role.SPECTATOR ? "&role=spectator" : ""));
+        connectPermits.acquireUninterruptibly();
+        return client.execute(handler, new WebSocketHttpHeaders(), uri)
+                .whenComplete((session, ex) -> {
+                    connectPermits.release();
+                    if (ex != null) {
+                        MeasurementWindow measuring = window;
+                        if (measuring != null) {
+                            measuring.connectFailures.increment();
+                        }
+                    } else if (role != SimulatedClient.Role.SPECTATOR) {
+                        handler.startInput(inputExecutor, settings.inputHz());
+                    }
+                });
+    }
+
+    /**
+     * 설명:
+     *   - 종료 STATE를 받은 경기 슬롯을 수신 스레드 밖에서 정리하고 같은 사용자로 새 경기를 연다.
+     */
+    private void replace(LoadMatch match) {
+        MeasurementWindow measuring = window;
+        if (measuring != null) {
+            measuring.matchesCompleted.increment();
+        }
+        if (!running) {
+            return;
+        }
+        replacementExecutor.execute(() -> {
+            match.close();
+            if (running) {
+                start(match);
+            }
+        });
+    }
+
+    private CapacityReport.StepResult summarize(int rooms, MeasurementWindow measuring, ServerSample start,
+            ServerSample end) {
+        double seconds = (end.nanoTime() - start.nanoTime()) / 1e9;
+        int players = 0;
+        int spectatorSessions = 0;
+        for (LoadMatch match : matches) {
+            players += match.sessionCount(SimulatedClient.Role.LEFT) + match.sessionCount(SimulatedClient.Role.RIGHT);
+            spectatorSessions += match.sessionCount(SimulatedClient.Role.SPECTATOR);
+        }
+        long frames = measuring.framesReceived.sum();
+        long missingFrames = measuring.missingFrames.sum();
+        double deliveryRatio = frames + missingFrames == 0 ? 0 : (double) frames / (frames + missingFrames);
+        long encodedFrames = end.encodedFrames() - start.encodedFrames();
+        long sentMessages = end.sentMessages() - start.sentMessages();
+        List<CapacityReport.GcUsage> gc = end.gcSince(start);
+        long gcMillis = gc.stream().mapToLong(CapacityReport.GcUsage::timeMs).sum();
+        CapacityReport.Percentiles tickLag = CapacityReport.Percentiles.of(end.tickLag().minus(start.tickLag()));
+        long connectFailures = measuring.connectFailures.sum();
+        boolean sustained = tickLag.p99() <= settings.sustainP99TickLagMs()
+                && deliveryRatio >= settings.sustainDeliveryRatio()
+                && connectFailures == 0;
+        return new CapacityReport.StepResult(
+                rooms,
+                players,
+                spectatorSessions,
+                seconds,
+                tickLag,
+                end.overruns() - start.overruns(),
+                CapacityReport.Percentiles.of(measuring.playerLatency.snapshot()),
+                CapacityReport.Percentiles.of(measuring.spectatorLatency.snapshot()),
+                frames,
+                frames / seconds,
+                (players + spectatorSessions) * (TimeUnit.SECONDS.toNanos(1) / (double) SimulatedClient.TICK_PERIOD_NANOS),
+                deliveryRatio,
+                measuring.bytesReceived.sum(),
+                measuring.inputsSent.sum(),
+                measuring.matchesCompleted.sum(),
+                connectFailures,
+                encodedFrames == 0 ? 0 : (end.encodeSeconds() - start.encodeSeconds()) * 1e6 / encodedFrames,
+                sentMessages == 0 ? 0 : (end.sendSeconds() - start.sendSeconds()) * 1e6 / sentMessages,
+                end.outboundDropped() - start.outboundDropped(),
+                new CapacityReport.HeapUsage(start.heapUsedBytes() / MB, end.heapUsedBytes() / MB,
+                        peakHeapBytes.get() / MB, ServerSample.liveAfterGcBytes() / MB),
+                gc,
+                gcMillis / (seconds * 1_000),
+                (end.processCpuNanos() - start.processCpuNanos())
+                        / (seconds * 1e9 * Runtime.getRuntime().availableProcessors()),
+                sustained
+        );
+    }
+
+    private List<User> createUsers(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int sequence = userSequence.incrementAndGet();
+            users.add(new User("load-" + sequence, "loadtest", "부하" + sequence, null));
+        }
+        return userRepository.saveAll(users);
+    }
+
+    private String token(User user) {
+        return tokens.computeIfAbsent(user.getId(),
+                id -> authTokenService.generateToken(authService.toAuthenticatedUser(user)));
+    }
+
+    private CapacityReport.Environment environment() {
+        return new CapacityReport.Environment(
+                Runtime.getRuntime().availableProcessors(),
+                Runtime.getRuntime().maxMemory() / MB,
+                System.getProperty("java.version"),
+                ManagementFactory.getGarbageCollectorMXBeans().stream().map(GarbageCollectorMXBean::getName).toList(),
+                gameRoomService.tickShardCount());
+    }
+
+    private void shutdown() {
+        running = false;
+        replacementExecutor.shutdownNow();
+        inputExecutor.shutdownNow();
+        heapSampler.shutdownNow();
+        matches.forEach(LoadMatch::close);
+    }
+
+    private static String protocolQuery(GameProtocol protocol) {
+        return switch (protocol) {
+            case JSON_FULL -> "json";
+            case JSON_DELTA -> "delta";
+            case BINARY -> "binary";
+        };
+    }
+
+    private static void printStep(CapacityReport.StepResult step) {
+        System.out.printf("[rooms=%d] 틱 지연 p50/p99/max=%.2f/%.2f/%.2fms, 전달 지연 p99=%.2fms, 수신률=%.4f, "
+                        + "CPU=%.0f%%, GC=%.2f%%, 힙 최대=%dMB -> %s%n",
+                step.rooms(), step.tickLagMs().p50(), step.tickLagMs().p99(), step.tickLagMs().max(),
+                step.playerLatencyMs().p99(), step.deliveryRatio(), step.cpuUtilization() * 100,
+                step.gcTimeRatio() * 100, step.heap().peakMb(), step.sustained() ? "유지" : "포화");
+    }
+}
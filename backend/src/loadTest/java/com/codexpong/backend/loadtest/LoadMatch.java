@@ -0,0 +1,75 @@
+package com.codexpong.backend.loadtest;
+
+import com.codexpong.backend.game.domain.GameRoom;
+import com.codexpong.backend.user.domain.User;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * [모의 경기] backend/src/loadTest/java/com/codexpong/backend/loadtest/LoadMatch.java
+ * 설명:
+ *   - 부하 생성기가 유지하는 동시 경기 슬롯 하나. 같은 두 사용자로 경기가 끝날 때마다 새 방을 만들어
+ *     측정 구간 동안 동시 경기 수를 일정하게 유지한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+final class LoadMatch {
+
+    final User left;
+    final User right;
+    private final Consumer<LoadMatch> finishedListener;
+    private final List<SimulatedClient> clients = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean finished = new AtomicBoolean();
+    private volatile GameRoom room;
+
+    LoadMatch(User left, User right, Consumer<LoadMatch> finishedListener) {
+        this.left = left;
+        this.right = right;
+        this.finishedListener = finishedListener;
+    }
+
+    /**
+     * 설명:
+     *   - 새 방으로 슬롯을 다시 시작한다. 이전 경기의 클라이언트는 먼저 close로 정리해야 한다.
+     */
+    void begin(GameRoom nextRoom) {
+        clients.clear();
+        room = nextRoom;
+        finished.set(false);
+    }
+
+    String roomId() {
+        return room.getRoomId();
+    }
+
+    void add(SimulatedClient client) {
+        clients.add(client);
+    }
+
+    int sessionCount(SimulatedClient.Role role) {
+        int count = 0;
+        for (SimulatedClient client : clients) {
+            if (client.role() == role) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 설명:
+     *   - 두 플레이어가 모두 종료 STATE를 받으므로 첫 통지만 전달한다.
+     */
+    void onFinished() {
+        if (finished.compareAndSet(false, true)) {
+            finishedListener.accept(this);
+        }
+    }
+
+    void close() {
+        clients.forEach(SimulatedClient::close);
+    }
+}
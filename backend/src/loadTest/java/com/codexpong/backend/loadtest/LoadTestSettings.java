@@ -0,0 +1,55 @@
+package com.codexpong.backend.loadtest;
+
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.protocol.GameProtocol;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * [설정] backend/src/loadTest/java/com/codexpong/backend/loadtest/LoadTestSettings.java
+ * 설명:
+ *   - 부하 생성기 실행 설정. Gradle `-Ploadtest.<키>=값`이 같은 이름의 시스템 프로퍼티로 전달된다.
+ *   - rooms는 쉼표로 구분한 단계별 동시 경기 수이며, 단계마다 워밍업 후 측정 구간 통계를 남긴다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+record LoadTestSettings(
+        String version,
+        List<Integer> roomSteps,
+        int spectatorsPerRoom,
+        GameProtocol protocol,
+        MatchType matchType,
+        double inputHz,
+        int warmupSeconds,
+        int measureSeconds,
+        int connectConcurrency,
+        double sustainP99TickLagMs,
+        double sustainDeliveryRatio,
+        boolean stopOnSaturation,
+        Path reportDir
+) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                System.getProperty("loadtest.version", "dev"),
+                Arrays.stream(System.getProperty("loadtest.rooms", "50,100,200").split(","))
+                        .map(String::trim)
+                        .filter(value -> !value.isEmpty())
+                        .map(Integer::parseInt)
+                        .toList(),
+                Integer.getInteger("loadtest.spectators-per-room", 2),
+                GameProtocol.negotiate(System.getProperty("loadtest.protocol", "binary")),
+                MatchType.valueOf(System.getProperty("loadtest.match-type", "NORMAL").toUpperCase()),
+                Double.parseDouble(System.getProperty("loadtest.input-hz", "10")),
+                Integer.getInteger("loadtest.warmup-seconds", 5),
+                Integer.getInteger("loadtest.measure-seconds", 20),
+                Integer.getInteger("loadtest.connect-concurrency", 128),
+                Double.parseDouble(System.getProperty("loadtest.sustain-p99-tick-lag-ms", "25")),
+                Double.parseDouble(System.getProperty("loadtest.sustain-delivery-ratio", "0.99")),
+                Boolean.parseBoolean(System.getProperty("loadtest.stop-on-saturation", "true")),
+                Path.of(System.getProperty("loadtest.report-dir", "build/reports/loadtest"))
+        );
+    }
+}
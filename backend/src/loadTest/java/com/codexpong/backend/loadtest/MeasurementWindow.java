@@ -0,0 +1,34 @@
+package com.codexpong.backend.loadtest;
+
+import com.codexpong.backend.game.loop.LatencyHistogram;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [집계] backend/src/loadTest/java/com/codexpong/backend/loadtest/MeasurementWindow.java
+ * 설명:
+ *   - 한 측정 구간 동안 모의 클라이언트가 관측한 수신 프레임, 전달 지연, seq 누락, 입력 송신 수를 모은다.
+ *   - 수신 스레드 여러 개가 동시에 기록하므로 LongAdder와 원자적 히스토그램만 사용한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+final class MeasurementWindow {
+
+    final LatencyHistogram playerLatency = new LatencyHistogram();
+    final LatencyHistogram spectatorLatency = new LatencyHistogram();
+    final LongAdder framesReceived = new LongAdder();
+    final LongAdder bytesReceived = new LongAdder();
+    final LongAdder missingFrames = new LongAdder();
+    final LongAdder inputsSent = new LongAdder();
+    final LongAdder matchesCompleted = new LongAdder();
+    final LongAdder connectFailures = new LongAdder();
+
+    void recordFrame(boolean spectator, int bytes, long latencyNanos, long missing) {
+        framesReceived.increment();
+        bytesReceived.add(bytes);
+        if (missing > 0) {
+            missingFrames.add(missing);
+        }
+        (spectator ? spectatorLatency : playerLatency).recordNanos(latencyNanos);
+    }
+}
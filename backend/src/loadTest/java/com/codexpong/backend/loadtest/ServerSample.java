@@ -0,0 +1,87 @@
+package com.codexpong.backend.loadtest;
+
+import com.codexpong.backend.common.websocket.OutboundChannel;
+import com.codexpong.backend.common.websocket.OutboundQueueRegistry;
+import com.codexpong.backend.game.loop.LatencyHistogram;
+import com.codexpong.backend.game.loop.ShardStats;
+import com.codexpong.backend.game.service.FanoutStats;
+import com.codexpong.backend.game.service.GameRoomService;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * [집계] backend/src/loadTest/java/com/codexpong/backend/loadtest/ServerSample.java
+ * 설명:
+ *   - 측정 구간 경계에서 서버 누적 지표(틱 지연 히스토그램, 주기 초과, 팬아웃 시간, 송신 큐 폐기)와
+ *     JVM 지표(힙, GC 횟수/시간, 프로세스 CPU 시간)를 한 번에 읽는다. 구간 값은 두 표본의 차로 구한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+record ServerSample(
+        long nanoTime,
+        LatencyHistogram.Snapshot tickLag,
+        long overruns,
+        double encodeSeconds,
+        long encodedFrames,
+        double sendSeconds,
+        long sentMessages,
+        long outboundDropped,
+        long heapUsedBytes,
+        List<CapacityReport.GcUsage> gc,
+        long processCpuNanos
+) {
+
+    static ServerSample capture(GameRoomService gameRoomService, OutboundQueueRegistry outboundQueues) {
+        long overruns = 0;
+        for (ShardStats stats : gameRoomService.tickShardStats()) {
+            overruns += stats.overruns();
+        }
+        FanoutStats fanout = gameRoomService.fanoutStats();
+        List<CapacityReport.GcUsage> gc = new ArrayList<>();
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gc.add(new CapacityReport.GcUsage(collector.getName(), collector.getCollectionCount(),
+                    collector.getCollectionTime()));
+        }
+        return new ServerSample(System.nanoTime(), gameRoomService.tickLagHistogram(), overruns,
+                fanout.encodeSeconds(), fanout.encodedFrames(), fanout.sendSeconds(), fanout.sentMessages(),
+                outboundQueues.dropped(OutboundChannel.GAME),
+                ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed(), gc, readProcessCpuNanos());
+    }
+
+    List<CapacityReport.GcUsage> gcSince(ServerSample earlier) {
+        List<CapacityReport.GcUsage> delta = new ArrayList<>();
+        for (int i = 0; i < gc.size(); i++) {
+            CapacityReport.GcUsage now = gc.get(i);
+            CapacityReport.GcUsage before = earlier.gc.get(i);
+            delta.add(new CapacityReport.GcUsage(now.collector(), now.collections() - before.collections(),
+                    now.timeMs() - before.timeMs()));
+        }
+        return delta;
+    }
+
+    /**
+     * 설명:
+     *   - 마지막 GC 직후 힙 풀 사용량의 합. 대략적인 생존 객체(라이브 셋) 크기로 본다.
+     */
+    static long liveAfterGcBytes() {
+        long total = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage usage = pool.getType() == MemoryType.HEAP ? pool.getCollectionUsage() : null;
+            if (usage != null) {
+                total += usage.getUsed();
+            }
+        }
+        return total;
+    }
+
+    private static long readProcessCpuNanos() {
+        return ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os
+                ? os.getProcessCpuTime() : 0;
+    }
+}
@@ -0,0 +1,230 @@
+package com.codexpong.backend.loadtest;
+
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import com.codexpong.backend.game.protocol.BinaryFrameCodec;
+import com.codexpong.backend.game.protocol.GameProtocol;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+
+/**
+ * [모의 클라이언트] backend/src/loadTest/java/com/codexpong/backend/loadtest/SimulatedClient.java
+ * 설명:
+ *   - `/ws/game`에 접속한 플레이어 또는 관전자 한 명을 흉내 낸다.
+ *   - 플레이어는 inputHz 주기로 공을 따라가는 INPUT을 보내되, 임의 방향을 섞고 가끔 1초가량 공 반대로 움직여
+ *     (집중력 저하) 실제 경기처럼 실점이 나고 경기가 끝난다.
+ *   - STATE를 받을 때마다 seq × 틱 주기 대비 도착 시각 오프셋을 구하고, 최근 2~4초 구간의 최소 오프셋을 기준으로 한
+ *     초과분을 전달 지연으로 기록한다. 같은 JVM의 단조 시계를 쓰므로 서버/클라이언트 시계 차이가 없다.
+ *   - 샤드가 주기를 초과해 일정을 재정렬하면 오프셋이 영구히 밀리므로 기준을 구간마다 갱신한다.
+ *     일정 밀림 자체는 틱 시작 지연/주기 초과 지표로 따로 보고된다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+final class SimulatedClient extends AbstractWebSocketHandler {
+
+    static final long TICK_PERIOD_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final double PADDLE_HALF_HEIGHT = 40;
+    private static final double DEAD_ZONE = 8;
+    private static final double NOISE_RATIO = 0.15;
+    private static final double LAPSE_RATIO = 0.02;
+    private static final int LAPSE_INPUTS = 10;
+    private static final PaddleInput[] DIRECTIONS = PaddleInput.values();
+    private static final int BASELINE_BUCKET_FRAMES = 40;
+
+    enum Role {
+        LEFT,
+        RIGHT,
+        SPECTATOR
+    }
+
+    private final LoadMatch match;
+    private final Role role;
+    private final GameProtocol protocol;
+    private final Supplier<MeasurementWindow> window;
+    private final ObjectMapper objectMapper;
+
+    private volatile WebSocketSession session;
+    private volatile ScheduledFuture<?> inputTask;
+    private volatile double ballY;
+    private volatile double leftPaddleY;
+    private volatile double rightPaddleY;
+
+    // 아래 필드는 세션별로 순차 호출되는 수신 콜백에서만 접근한다.
+    private long lastSeq = -1;
+    private long previousMinOffset = Long.MAX_VALUE;
+    private long currentMinOffset = Long.MAX_VALUE;
+    private int bucketFrames;
+    // 입력 송신 작업은 세션마다 하나뿐이라 동시에 접근하지 않는다.
+    private long inputSeq;
+    private int lapseRemaining;
+
+    SimulatedClient(LoadMatch match, Role role, GameProtocol protocol, Supplier<MeasurementWindow> window,
+            ObjectMapper objectMapper) {
+        this.match = match;
+        this.role = role;
+        this.protocol = protocol;
+        this.window = window;
+        this.objectMapper = objectMapper;
+    }
+
+    Role role() {
+        return role;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        this.session = session;
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) {
+        ByteBuffer payload = message.getPayload().order(ByteOrder.LITTLE_ENDIAN);
+        byte type = payload.get(0);
+        if (type != BinaryFrameCodec.TYPE_STATE && type != BinaryFrameCodec.TYPE_READY) {
+            return;
+        }
+        int flags = payload.get(1);
+        ballY = payload.getFloat(10);
+        leftPaddleY = payload.getFloat(22);
+        rightPaddleY = payload.getFloat(26);
+        onFrame(type == BinaryFrameCodec.TYPE_STATE, Integer.toUnsignedLong(payload.getInt(2)),
+                payload.remaining(), (flags & BinaryFrameCodec.FLAG_FINISHED) != 0);
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws IOException {
+        JsonNode node = objectMapper.readTree(message.getPayload());
+        String type = node.path("type").asText();
+        if (!type.equals("STATE") && !type.equals("READY")) {
+            return;
+        }
+        boolean state = type.equals("STATE");
+        if (protocol == GameProtocol.JSON_DELTA) {
+            JsonNode fields = node.path("d");
+            ballY = fields.path("by").asDouble(ballY);
+            leftPaddleY = fields.path("lp").asDouble(leftPaddleY);
+            rightPaddleY = fields.path("rp").asDouble(rightPaddleY);
+            onFrame(state, node.path("seq").asLong(), message.getPayloadLength(), fields.path("f").asBoolean(false));
+            return;
+        }
+        JsonNode snapshot = node.path("snapshot");
+        ballY = snapshot.path("ballY").asDouble();
+        leftPaddleY = snapshot.path("leftPaddleY").asDouble();
+        rightPaddleY = snapshot.path("rightPaddleY").asDouble();
+        onFrame(state, node.path("tick").asLong(), message.getPayloadLength(),
+                snapshot.path("finished").asBoolean(false));
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        cancelInput();
+    }
+
+    void startInput(ScheduledExecutorService executor, double inputHz) {
+        long periodNanos = (long) (TimeUnit.SECONDS.toNanos(1) / inputHz);
+        inputTask = executor.scheduleAtFixedRate(this::sendInput,
+                ThreadLocalRandom.current().nextLong(periodNanos), periodNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void close() {
+        cancelInput();
+        WebSocketSession current = session;
+        if (current != null && current.isOpen()) {
+            try {
+                current.close(CloseStatus.NORMAL);
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private void onFrame(boolean state, long seq, int bytes, boolean finished) {
+        if (!state) {
+            // READY는 기준 seq만 맞추고 지연 측정에는 넣지 않는다.
+            lastSeq = seq;
+            return;
+        }
+        long offset = System.nanoTime() - seq * TICK_PERIOD_NANOS;
+        if (offset < currentMinOffset) {
+            currentMinOffset = offset;
+        }
+        long baseOffset = Math.min(previousMinOffset, currentMinOffset);
+        if (++bucketFrames >= BASELINE_BUCKET_FRAMES) {
+            previousMinOffset = currentMinOffset;
+            currentMinOffset = Long.MAX_VALUE;
+            bucketFrames = 0;
+        }
+        long missing = lastSeq >= 0 && seq > lastSeq + 1 ? seq - lastSeq - 1 : 0;
+        lastSeq = seq;
+        MeasurementWindow current = window.get();
+        if (current != null) {
+            current.recordFrame(role == Role.SPECTATOR, bytes, offset - baseOffset, missing);
+        }
+        if (finished && role != Role.SPECTATOR) {
+            match.onFinished();
+        }
+    }
+
+    private void sendInput() {
+        WebSocketSession current = session;
+        if (current == null || !current.isOpen()) {
+            return;
+        }
+        PaddleInput direction = chooseDirection();
+        try {
+            if (protocol == GameProtocol.BINARY) {
+                current.sendMessage(new BinaryMessage(BinaryFrameCodec.encodeInput(direction, ++inputSeq)));
+            } else {
+                current.sendMessage(new TextMessage("{\"type\":\"INPUT\",\"roomId\":\"" + match.roomId()
+                        + "\",\"direction\":\"" + direction.name() + "\",\"seq\":" + (++inputSeq) + "}"));
+            }
+            MeasurementWindow measuring = window.get();
+            if (measuring != null) {
+                measuring.inputsSent.increment();
+            }
+        } catch (IOException | IllegalStateException ignored) {
+            // 경기 종료로 세션이 닫히는 중이면 다음 주기에 송신 작업이 취소된다.
+        }
+    }
+
+    private PaddleInput chooseDirection() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (lapseRemaining == 0 && random.nextDouble() < LAPSE_RATIO) {
+            lapseRemaining = LAPSE_INPUTS;
+        }
+        double paddleCenter = (role == Role.LEFT ? leftPaddleY : rightPaddleY) + PADDLE_HALF_HEIGHT;
+        if (lapseRemaining > 0) {
+            lapseRemaining--;
+            return ballY < paddleCenter ? PaddleInput.DOWN : PaddleInput.UP;
+        }
+        if (random.nextDouble() < NOISE_RATIO) {
+            return DIRECTIONS[random.nextInt(DIRECTIONS.length)];
+        }
+        if (ballY < paddleCenter - DEAD_ZONE) {
+            return PaddleInput.UP;
+        }
+        if (ballY > paddleCenter + DEAD_ZONE) {
+            return PaddleInput.DOWN;
+        }
+        return PaddleInput.STAY;
+    }
+
+    private void cancelInput() {
+        ScheduledFuture<?> task = inputTask;
+        if (task != null) {
+            task.cancel(false);
+        }
+    }
+}
@@ -1,5 +1,11 @@
 package com.codexpong.backend;
 
+import com.codexpong.backend.common.websocket.OutboundQueueProperties;
+import com.codexpong.backend.game.checkpoint.RoomCheckpointProperties;
+import com.codexpong.backend.game.cluster.GameClusterProperties;
+import com.codexpong.backend.game.loop.GameLoopProperties;
+import com.codexpong.backend.game.service.MatchmakingProperties;
+import com.codexpong.backend.game.service.SpectatorProperties;
 import com.codexpong.backend.job.JobExportProperties;
 import com.codexpong.backend.job.JobQueueProperties;
 import org.springframework.boot.SpringApplication;
@@ -23,9 +29,17 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
  *   - v0.2.0: 인증/프로필 모듈 구동 항목 반영
  *   - v0.5.0: 소셜 도메인(WebSocket 포함) 구동 명시
  *   - v0.12.0: 잡 큐/워커 설정 바인딩 추가
+ *   - v1.1.0: 게임 틱 엔진 설정 바인딩 추가
+ *   - v1.1.0: 경기 유형별 관전 지연 설정 바인딩 추가
+ *   - v1.1.0: WebSocket 송신 큐 설정 바인딩 추가
+ *   - v1.1.0: 다중 노드 경기 방(클러스터) 설정 바인딩 추가
+ *   - v1.1.0: 방 체크포인트/복구 설정 바인딩 추가
+ *   - v1.1.0: 랭크 매칭 허용 창 설정 바인딩 추가
  */
 @SpringBootApplication
-@EnableConfigurationProperties({JobQueueProperties.class, JobExportProperties.class})
+@EnableConfigurationProperties({JobQueueProperties.class, JobExportProperties.class, GameLoopProperties.class,
+        SpectatorProperties.class, OutboundQueueProperties.class, GameClusterProperties.class,
+        RoomCheckpointProperties.class, MatchmakingProperties.class})
 public class CodexPongApplication {
 
     public static void main(String[] args) {
@@ -3,12 +3,16 @@ package com.codexpong.backend.admin;
 import com.codexpong.backend.admin.dto.AdminStatsResponse;
 import com.codexpong.backend.admin.dto.AdminUserResponse;
 import com.codexpong.backend.admin.dto.ModerationRequest;
+import com.codexpong.backend.admin.dto.SpectatorLimitRequest;
+import com.codexpong.backend.common.websocket.OutboundQueueRegistry;
 import com.codexpong.backend.game.GameResultResponse;
+import com.codexpong.backend.game.dto.LiveMatchResponse;
 import jakarta.validation.Valid;
 import java.util.List;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -18,18 +22,23 @@ import org.springframework.web.bind.annotation.RestController;
  * 설명:
  *   - 관리자용 조회/제재 API를 묶어 제공한다.
  *   - v0.9.0에서는 인증된 사용자만 접근 가능하도록 SecurityConfig 기본 정책을 활용한다.
- * 버전: v0.9.0
+ *   - v1.1.0에서는 WebSocket 세션별 송신 큐 깊이/드롭 수 조회를 추가한다.
+ *   - v1.1.0에서는 진행 중인 방의 관전자 한도 지정을 추가한다.
+ * 버전: v1.1.0
  * 관련 설계문서:
  *   - design/backend/v0.9.0-admin-and-ops.md
+ *   - design/realtime/v1.1.0-realtime-performance.md
  */
 @RestController
 @RequestMapping("/api/admin")
 public class AdminController {
 
     private final AdminService adminService;
+    private final OutboundQueueRegistry outboundQueues;
 
-    public AdminController(AdminService adminService) {
+    public AdminController(AdminService adminService, OutboundQueueRegistry outboundQueues) {
         this.adminService = adminService;
+        this.outboundQueues = outboundQueues;
     }
 
     @GetMapping("/users")
@@ -56,4 +65,15 @@ public class AdminController {
     public AdminStatsResponse stats() {
         return adminService.stats();
     }
+
+    @PutMapping("/rooms/{roomId}/spectator-limit")
+    public LiveMatchResponse spectatorLimit(@PathVariable String roomId,
+            @Valid @RequestBody SpectatorLimitRequest request) {
+        return adminService.updateSpectatorLimit(roomId, request);
+    }
+
+    @GetMapping("/outbound-queues")
+    public List<OutboundQueueRegistry.SessionQueueView> outboundQueues() {
+        return outboundQueues.sessionViews();
+    }
 }
@@ -1,8 +1,16 @@
 package com.codexpong.backend.admin;
 
+import com.codexpong.backend.common.websocket.OutboundChannel;
+import com.codexpong.backend.common.websocket.OutboundQueueRegistry;
 import com.codexpong.backend.game.GameResultRepository;
+import com.codexpong.backend.game.domain.MatchType;
 import com.codexpong.backend.game.service.GameRoomService;
+import com.codexpong.backend.game.service.GameRoomService.RoomExpiry;
+import com.codexpong.backend.game.service.MatchmakingService;
+import com.codexpong.backend.replay.ReplayService;
 import com.codexpong.backend.user.repository.UserRepository;
+import com.codexpong.backend.game.service.FanoutStats;
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Configuration;
@@ -12,15 +20,27 @@ import org.springframework.context.annotation.Configuration;
  * 설명:
  *   - Prometheus 노출을 위해 사용자 수, 누적 경기 수, 활성 방/관전자 수를 게이지로 등록한다.
  *   - v0.9.0 모니터링 대시보드에서 활용된다.
- * 버전: v0.9.0
+ *   - v1.1.0에서는 틱 샤드별 방 수, 시작 지연, 틱 비용 비율 게이지를 shard 태그로 추가한다.
+ *   - v1.1.0에서는 STATE 팬아웃의 인코딩/전송 누적 시간을 분리한 카운터를 추가한다.
+ *   - v1.1.0에서는 WebSocket 송신 큐 깊이/드롭 수를 channel 태그로 추가한다.
+ *   - v1.1.0에서는 휴면 중인 경기 방 수 게이지를 추가한다.
+ *   - v1.1.0에서는 관전 중계 대기 프레임 게이지와 적응형 건너뛰기/스트림 폐기 카운터를 추가한다.
+ *   - v1.1.0에서는 만료 사유별 정리한 방 수, 만료 타이머 수, 활성 리플레이 녹화 버퍼 수를 추가한다.
+ *   - v1.1.0에서는 경기 유형별 매칭 대기자 수 게이지를 추가한다.
+ *   - v1.1.0에서는 보관 중인 매칭 티켓 수와 버려져 만료된 대기 티켓 수를 추가한다.
+ *   - v1.1.0에서는 매칭 확정을 기다리는 롱 폴링 요청 수 게이지를 추가한다.
+ * 버전: v1.1.0
  * 관련 설계문서:
  *   - design/backend/v0.9.0-admin-and-ops.md
+ *   - design/realtime/v1.1.0-realtime-performance.md
  */
 @Configuration
 public class AdminMetricsConfig {
 
     public AdminMetricsConfig(MeterRegistry registry, UserRepository userRepository,
-            GameResultRepository gameResultRepository, GameRoomService gameRoomService) {
+            GameResultRepository gameResultRepository, GameRoomService gameRoomService,
+            OutboundQueueRegistry outboundQueues, ReplayService replayService,
+            MatchmakingService matchmakingService) {
         Gauge.builder("codexpong_users_total", userRepository::count)
                 .description("등록된 사용자 수")
                 .register(registry);
@@ -30,8 +50,112 @@ public class AdminMetricsConfig {
         Gauge.builder("codexpong_games_active", gameRoomService::activeRoomCount)
                 .description("메모리 상 활성 경기 방 수")
                 .register(registry);
+        Gauge.builder("codexpong_games_hibernating", gameRoomService::hibernatingRoomCount)
+                .description("플레이어가 모두 끊겨 낮은 틱 빈도로 휴면 중인 경기 방 수")
+                .register(registry);
         Gauge.builder("codexpong_spectators_active", gameRoomService::totalSpectatorCount)
                 .description("실시간 관전자 세션 수")
                 .register(registry);
+        for (MatchType matchType : MatchType.values()) {
+            Gauge.builder("codexpong_matchmaking_waiting", () -> matchmakingService.waitingCount(matchType))
+                    .description("매칭 큐 대기자 수")
+                    .tag("match_type", matchType.name().toLowerCase())
+                    .register(registry);
+        }
+        Gauge.builder("codexpong_matchmaking_tickets", matchmakingService::ticketCount)
+                .description("메모리에 보관 중인 매칭 티켓 수")
+                .register(registry);
+        Gauge.builder("codexpong_matchmaking_long_polls", matchmakingService::decisionWaiterCount)
+                .description("매칭 확정을 기다리는 티켓 상태 롱 폴링 요청 수")
+                .register(registry);
+        FunctionCounter.builder("codexpong_matchmaking_tickets_abandoned_total", matchmakingService,
+                        service -> service.abandonedTicketCount())
+                .description("조회가 끊겨 만료 처리한 대기 티켓 수")
+                .register(registry);
+        for (RoomExpiry expiry : RoomExpiry.values()) {
+            FunctionCounter.builder("codexpong_rooms_reaped_total", gameRoomService,
+                            service -> service.reapedRoomCount(expiry))
+                    .description("만료되어 결과 없이 정리한 경기 방 수")
+                    .tag("reason", expiry.name().toLowerCase())
+                    .register(registry);
+        }
+        Gauge.builder("codexpong_room_reaper_timers", gameRoomService::reaperTimerCount)
+                .description("방 만료 타이머 휠에 걸려 있는 타이머 수")
+                .register(registry);
+        Gauge.builder("codexpong_replay_recording_buffers", replayService::activeRecordingCount)
+                .description("메모리에 남아 있는 리플레이 녹화 버퍼 수")
+                .register(registry);
+        FanoutStats fanoutStats = gameRoomService.fanoutStats();
+        FunctionCounter.builder("codexpong_broadcast_encode_seconds_total", fanoutStats, FanoutStats::encodeSeconds)
+                .description("STATE 팬아웃 누적 인코딩 시간(초)")
+                .register(registry);
+        FunctionCounter.builder("codexpong_broadcast_encoded_frames_total", fanoutStats,
+                        stats -> stats.encodedFrames())
+                .description("청중×프로토콜 단위로 인코딩한 STATE 프레임 수")
+                .register(registry);
+        FunctionCounter.builder("codexpong_broadcast_encoded_bytes_total", fanoutStats,
+                        stats -> stats.encodedBytes())
+                .description("인코딩한 STATE 프레임 누적 바이트")
+                .register(registry);
+        FunctionCounter.builder("codexpong_broadcast_send_seconds_total", fanoutStats, FanoutStats::sendSeconds)
+                .description("STATE 팬아웃 누적 세션 전송 시간(초)")
+                .register(registry);
+        FunctionCounter.builder("codexpong_broadcast_messages_sent_total", fanoutStats,
+                        stats -> stats.sentMessages())
+                .description("세션으로 전송한 STATE 메시지 수")
+                .register(registry);
+        FunctionCounter.builder("codexpong_spectator_frames_skipped_total", fanoutStats,
+                        stats -> stats.skippedFrames())
+                .description("송신 큐가 밀린 관전자에게 적응형으로 건너뛴 STATE 프레임 수")
+                .register(registry);
+        FunctionCounter.builder("codexpong_spectator_relay_dropped_total", fanoutStats,
+                        stats -> stats.relayDroppedFrames())
+                .description("방 중계 스트림 대기 한도 초과로 버린 관전 프레임 수")
+                .register(registry);
+        Gauge.builder("codexpong_spectator_relay_backlog", gameRoomService::spectatorRelayBacklog)
+                .description("관전 중계 실행기가 아직 보내지 않은 방 스트림 프레임 수")
+                .register(registry);
+        for (OutboundChannel channel : OutboundChannel.values()) {
+            String channelTag = channel.name().toLowerCase();
+            Gauge.builder("codexpong_ws_outbound_sessions", () -> outboundQueues.sessionCount(channel))
+                    .description("송신 큐로 감싼 WebSocket 세션 수")
+                    .tag("channel", channelTag)
+                    .register(registry);
+            Gauge.builder("codexpong_ws_outbound_queue_depth", () -> outboundQueues.totalDepth(channel))
+                    .description("채널 전체 송신 대기 메시지 수")
+                    .tag("channel", channelTag)
+                    .register(registry);
+            Gauge.builder("codexpong_ws_outbound_queue_depth_max", () -> outboundQueues.maxDepth(channel))
+                    .description("세션 하나의 최대 송신 대기 메시지 수")
+                    .tag("channel", channelTag)
+                    .register(registry);
+            FunctionCounter.builder("codexpong_ws_outbound_dropped_total", outboundQueues,
+                            queues -> queues.dropped(channel))
+                    .description("큐 초과로 버린 송신 메시지 수")
+                    .tag("channel", channelTag)
+                    .register(registry);
+        }
+        for (int shard = 0; shard < gameRoomService.tickShardCount(); shard++) {
+            int index = shard;
+            String shardTag = String.valueOf(index);
+            Gauge.builder("codexpong_tick_shard_rooms", () -> gameRoomService.tickShardStats(index).rooms())
+                    .description("틱 샤드에 배정된 경기 방 수")
+                    .tag("shard", shardTag)
+                    .register(registry);
+            Gauge.builder("codexpong_tick_shard_lag_ms",
+                            () -> gameRoomService.tickShardStats(index).lastLagNanos() / 1_000_000.0)
+                    .description("의도한 틱 시각 대비 최근 시작 지연(ms)")
+                    .tag("shard", shardTag)
+                    .register(registry);
+            Gauge.builder("codexpong_tick_shard_lag_max_ms",
+                            () -> gameRoomService.tickShardStats(index).maxLagNanos() / 1_000_000.0)
+                    .description("재분배 구간 내 최대 틱 시작 지연(ms)")
+                    .tag("shard", shardTag)
+                    .register(registry);
+            Gauge.builder("codexpong_tick_shard_load_ratio", () -> gameRoomService.tickShardStats(index).loadRatio())
+                    .description("틱 주기 대비 샤드 틱 실행 비용 비율")
+                    .tag("shard", shardTag)
+                    .register(registry);
+        }
     }
 }
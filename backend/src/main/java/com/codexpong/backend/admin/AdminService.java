@@ -3,10 +3,12 @@ package com.codexpong.backend.admin;
 import com.codexpong.backend.admin.dto.AdminStatsResponse;
 import com.codexpong.backend.admin.dto.AdminUserResponse;
 import com.codexpong.backend.admin.dto.ModerationRequest;
+import com.codexpong.backend.admin.dto.SpectatorLimitRequest;
 import com.codexpong.backend.chat.domain.ChatMute;
 import com.codexpong.backend.chat.service.ChatModerationService;
 import com.codexpong.backend.game.GameResultRepository;
 import com.codexpong.backend.game.GameResultResponse;
+import com.codexpong.backend.game.dto.LiveMatchResponse;
 import com.codexpong.backend.game.service.GameRoomService;
 import com.codexpong.backend.user.domain.User;
 import com.codexpong.backend.user.repository.UserRepository;
@@ -25,9 +27,13 @@ import org.springframework.web.server.ResponseStatusException;
  * 설명:
  *   - 관리자용 계정 제재, 상태 조회, 전적 조회를 담당한다.
  *   - v0.9.0 모니터링 스택과 연동되어 기본 통계를 제공한다.
- * 버전: v0.9.0
+ *   - v1.1.0에서는 진행 중인 방의 관전자 한도 지정을 제공한다.
+ * 버전: v1.1.0
  * 관련 설계문서:
  *   - design/backend/v0.9.0-admin-and-ops.md
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ * 변경 이력:
+ *   - v1.1.0: 방별 관전자 한도 지정 추가
  */
 @Service
 @Transactional
@@ -92,6 +98,21 @@ public class AdminService {
         );
     }
 
+    /**
+     * 설명:
+     *   - 진행 중인 방의 관전자 한도를 지정(또는 기본값으로 복원)하고 변경된 방 정보를 반환한다.
+     */
+    public LiveMatchResponse updateSpectatorLimit(String roomId, SpectatorLimitRequest request) {
+        if (!gameRoomService.setSpectatorLimit(roomId, request.getLimit())) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "진행 중인 방을 찾을 수 없습니다.");
+        }
+        return gameRoomService.listLiveRooms().stream()
+                .filter(room -> room.roomId().equals(roomId))
+                .findFirst()
+                .map(LiveMatchResponse::from)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "진행 중인 방을 찾을 수 없습니다."));
+    }
+
     private Optional<LocalDateTime> activeMuteExpiry(Long userId) {
         return chatModerationService.activeMute(userId).map(ChatMute::getExpiresAt);
     }
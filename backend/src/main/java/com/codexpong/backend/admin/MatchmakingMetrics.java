@@ -0,0 +1,81 @@
+package com.codexpong.backend.admin;
+
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.service.MatchmakingRecorder;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * [메트릭] backend/src/main/java/com/codexpong/backend/admin/MatchmakingMetrics.java
+ * 설명:
+ *   - 매칭 대기 시간과 매치 레이팅 차이를 match_type 태그 히스토그램으로 기록한다.
+ *   - 레이팅 차이는 허용 창 튜닝 구간(0~최대 창)에 맞춘 고정 버킷을 쓴다.
+ *   - 주기 매칭 패스(배치 사이클) 소요 시간과 사이클당 짝 수도 match_type별로 남긴다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/backend/v1.1.0-matchmaking-scaling.md
+ */
+@Component
+public class MatchmakingMetrics implements MatchmakingRecorder {
+
+    private static final double[] RATING_GAP_BUCKETS = {25, 50, 100, 150, 200, 300, 400, 600, 800, 1200};
+
+    private final Timer[] queueTime;
+    private final DistributionSummary[] ratingGap;
+    private final Timer[] cycleTime;
+    private final DistributionSummary[] cyclePairs;
+
+    public MatchmakingMetrics(MeterRegistry registry) {
+        MatchType[] matchTypes = MatchType.values();
+        this.queueTime = new Timer[matchTypes.length];
+        this.ratingGap = new DistributionSummary[matchTypes.length];
+        this.cycleTime = new Timer[matchTypes.length];
+        this.cyclePairs = new DistributionSummary[matchTypes.length];
+        for (MatchType matchType : matchTypes) {
+            String matchTypeTag = matchType.name().toLowerCase();
+            queueTime[matchType.ordinal()] = Timer.builder("codexpong_matchmaking_queue_time")
+                    .description("큐 등록부터 매칭 성사까지 플레이어 대기 시간")
+                    .tag("match_type", matchTypeTag)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofMinutes(10))
+                    .register(registry);
+            ratingGap[matchType.ordinal()] = DistributionSummary.builder("codexpong_matchmaking_rating_gap")
+                    .description("성사된 매치의 두 플레이어 레이팅 차이")
+                    .tag("match_type", matchTypeTag)
+                    .serviceLevelObjectives(RATING_GAP_BUCKETS)
+                    .register(registry);
+            cycleTime[matchType.ordinal()] = Timer.builder("codexpong_matchmaking_cycle_duration")
+                    .description("주기 매칭 패스 한 번의 짝 선택과 방 생성 소요 시간")
+                    .tag("match_type", matchTypeTag)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofNanos(10_000))
+                    .maximumExpectedValue(Duration.ofSeconds(10))
+                    .register(registry);
+            cyclePairs[matchType.ordinal()] = DistributionSummary.builder("codexpong_matchmaking_cycle_pairs")
+                    .description("주기 매칭 패스 한 번에 성사된 짝 수")
+                    .tag("match_type", matchTypeTag)
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public void recordQueueTime(MatchType matchType, long waitNanos) {
+        queueTime[matchType.ordinal()].record(Math.max(0, waitNanos), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordRatingGap(MatchType matchType, int ratingGap) {
+        this.ratingGap[matchType.ordinal()].record(ratingGap);
+    }
+
+    @Override
+    public void recordCycle(MatchType matchType, int pairs, long nanos) {
+        cycleTime[matchType.ordinal()].record(Math.max(0, nanos), TimeUnit.NANOSECONDS);
+        cyclePairs[matchType.ordinal()].record(pairs);
+    }
+}
@@ -0,0 +1,163 @@
+package com.codexpong.backend.admin;
+
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.loop.GameLoopProperties;
+import com.codexpong.backend.game.service.GameRoomService.AudienceRole;
+import com.codexpong.backend.game.service.RealtimeLatencyRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * [메트릭] backend/src/main/java/com/codexpong/backend/admin/RealtimeLatencyMetrics.java
+ * 설명:
+ *   - 경기 루프 구간 시간을 Micrometer 히스토그램 타이머로 기록한다. Prometheus에는 `_bucket` 시계열로 노출되어
+ *     histogram_quantile로 꼬리 지연(p99 등)을 구할 수 있다.
+ *   - 틱 시작 지연은 shard, 나머지는 match_type/shard 태그를 가진다. 태그 조합별 타이머를 기동 시 미리 만들어
+ *     틱 경로에서는 배열 조회와 기록만 수행한다(레지스트리 조회/태그 할당 없음).
+ *   - 방 단위 구간은 기록 시점의 방 ID를 RoomExemplarContext로 넘겨 exemplar로 남긴다.
+ *   - 세션 RTT/지터는 match_type/audience 태그 히스토그램으로 남긴다. 세션 단위 태그는 카디널리티가 커서 두지 않고,
+ *     세션별 값은 방 ID exemplar와 관전 목록(LiveRoomView) 및 STATE로 확인한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+@Component
+public class RealtimeLatencyMetrics implements RealtimeLatencyRecorder {
+
+    private final String[] shardTags;
+    private final Timer[] startLag;
+    private final Timer[][] tick;
+    private final Timer[][] encode;
+    private final Timer[][] send;
+    private final Timer[][] replayAppend;
+    private final Timer[][] finish;
+    private final Timer[][] roundTrip;
+    private final Timer[][] jitter;
+
+    public RealtimeLatencyMetrics(MeterRegistry registry, GameLoopProperties loopProperties) {
+        int shards = loopProperties.resolvedShardCount();
+        this.shardTags = new String[shards];
+        this.startLag = new Timer[shards];
+        for (int shard = 0; shard < shards; shard++) {
+            shardTags[shard] = String.valueOf(shard);
+            startLag[shard] = Timer.builder("codexpong_game_tick_start_lag")
+                    .description("의도한 틱 시각 대비 샤드 루프 시작 지연")
+                    .tag("shard", shardTags[shard])
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofNanos(10_000))
+                    .maximumExpectedValue(Duration.ofSeconds(1))
+                    .register(registry);
+        }
+        this.tick = timers(registry, "codexpong_game_tick_duration", "방 하나의 틱 전체 소요 시간",
+                Duration.ofNanos(10_000), Duration.ofSeconds(1));
+        this.encode = timers(registry, "codexpong_broadcast_encode_duration", "청중×프로토콜 단위 STATE 인코딩 시간",
+                Duration.ofNanos(1_000), Duration.ofMillis(100));
+        this.send = timers(registry, "codexpong_broadcast_session_send_duration", "세션 하나의 STATE 전송(큐 적재) 시간",
+                Duration.ofNanos(1_000), Duration.ofMillis(100));
+        this.replayAppend = timers(registry, "codexpong_replay_append_duration", "틱 스냅샷 리플레이 버퍼 기록 시간",
+                Duration.ofNanos(1_000), Duration.ofMillis(100));
+        this.finish = timers(registry, "codexpong_game_finish_duration", "경기 종료 처리(결과/리플레이 저장, 최종 전송) 시간",
+                Duration.ofNanos(100_000), Duration.ofSeconds(10));
+        this.roundTrip = audienceTimers(registry, "codexpong_ws_game_rtt", "`/ws/game` 세션 ping/pong 왕복 지연 표본",
+                Duration.ofNanos(100_000), Duration.ofSeconds(10));
+        this.jitter = audienceTimers(registry, "codexpong_ws_game_jitter", "`/ws/game` 세션 평활 RTT 지터",
+                Duration.ofNanos(10_000), Duration.ofSeconds(5));
+    }
+
+    @Override
+    public void onLag(int shard, long lagNanos) {
+        startLag[shardIndex(shard)].record(lagNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordTick(MatchType matchType, int shard, String roomId, long nanos) {
+        record(tick, matchType, shard, roomId, nanos);
+    }
+
+    @Override
+    public void recordEncode(MatchType matchType, int shard, String roomId, long nanos) {
+        record(encode, matchType, shard, roomId, nanos);
+    }
+
+    @Override
+    public void recordSend(MatchType matchType, int shard, String roomId, long nanos) {
+        record(send, matchType, shard, roomId, nanos);
+    }
+
+    @Override
+    public void recordReplayAppend(MatchType matchType, int shard, String roomId, long nanos) {
+        record(replayAppend, matchType, shard, roomId, nanos);
+    }
+
+    @Override
+    public void recordFinish(MatchType matchType, int shard, String roomId, long nanos) {
+        record(finish, matchType, shard, roomId, nanos);
+    }
+
+    @Override
+    public void recordRoundTrip(MatchType matchType, AudienceRole audienceRole, int shard, String roomId,
+            long rttNanos, long jitterNanos) {
+        RoomExemplarContext.enter(roomId, shardTags[shardIndex(shard)]);
+        try {
+            roundTrip[matchType.ordinal()][audienceRole.ordinal()].record(rttNanos, TimeUnit.NANOSECONDS);
+            jitter[matchType.ordinal()][audienceRole.ordinal()].record(jitterNanos, TimeUnit.NANOSECONDS);
+        } finally {
+            RoomExemplarContext.exit();
+        }
+    }
+
+    private void record(Timer[][] timers, MatchType matchType, int shard, String roomId, long nanos) {
+        int index = shardIndex(shard);
+        RoomExemplarContext.enter(roomId, shardTags[index]);
+        try {
+            timers[matchType.ordinal()][index].record(nanos, TimeUnit.NANOSECONDS);
+        } finally {
+            RoomExemplarContext.exit();
+        }
+    }
+
+    private int shardIndex(int shard) {
+        return Math.min(Math.max(shard, 0), shardTags.length - 1);
+    }
+
+    private Timer[][] timers(MeterRegistry registry, String name, String description, Duration min, Duration max) {
+        MatchType[] matchTypes = MatchType.values();
+        Timer[][] timers = new Timer[matchTypes.length][shardTags.length];
+        for (MatchType matchType : matchTypes) {
+            for (int shard = 0; shard < shardTags.length; shard++) {
+                timers[matchType.ordinal()][shard] = Timer.builder(name)
+                        .description(description)
+                        .tag("match_type", matchType.name().toLowerCase())
+                        .tag("shard", shardTags[shard])
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(min)
+                        .maximumExpectedValue(max)
+                        .register(registry);
+            }
+        }
+        return timers;
+    }
+
+    private Timer[][] audienceTimers(MeterRegistry registry, String name, String description, Duration min,
+            Duration max) {
+        MatchType[] matchTypes = MatchType.values();
+        AudienceRole[] roles = AudienceRole.values();
+        Timer[][] timers = new Timer[matchTypes.length][roles.length];
+        for (MatchType matchType : matchTypes) {
+            for (AudienceRole role : roles) {
+                timers[matchType.ordinal()][role.ordinal()] = Timer.builder(name)
+                        .description(description)
+                        .tag("match_type", matchType.name().toLowerCase())
+                        .tag("audience", role.name().toLowerCase())
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(min)
+                        .maximumExpectedValue(max)
+                        .register(registry);
+            }
+        }
+        return timers;
+    }
+}
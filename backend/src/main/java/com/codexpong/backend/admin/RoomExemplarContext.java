@@ -0,0 +1,53 @@
+package com.codexpong.backend.admin;
+
+import io.prometheus.metrics.tracer.common.SpanContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * [메트릭] backend/src/main/java/com/codexpong/backend/admin/RoomExemplarContext.java
+ * 설명:
+ *   - Prometheus 히스토그램 exemplar에 현재 기록 중인 경기 방 ID를 싣기 위한 SpanContext다.
+ *   - 분산 추적이 없으므로 RealtimeLatencyMetrics가 기록 직전에 스레드 로컬로 방 ID/샤드를 지정하고,
+ *     exemplar 라벨은 trace_id=방 ID, span_id=샤드로 노출된다. 기록 구간 밖에서는 exemplar를 남기지 않는다.
+ *   - exemplar는 OpenMetrics 형식 스크레이프(Accept: application/openmetrics-text)에서만 출력된다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+@Component
+public class RoomExemplarContext implements SpanContext {
+
+    private static final ThreadLocal<String[]> CURRENT = ThreadLocal.withInitial(() -> new String[2]);
+
+    static void enter(String roomId, String shard) {
+        String[] current = CURRENT.get();
+        current[0] = roomId;
+        current[1] = shard;
+    }
+
+    static void exit() {
+        String[] current = CURRENT.get();
+        current[0] = null;
+        current[1] = null;
+    }
+
+    @Override
+    public String getCurrentTraceId() {
+        return CURRENT.get()[0];
+    }
+
+    @Override
+    public String getCurrentSpanId() {
+        return CURRENT.get()[1];
+    }
+
+    @Override
+    public boolean isCurrentSpanSampled() {
+        return CURRENT.get()[0] != null;
+    }
+
+    @Override
+    public void markCurrentSpanAsExemplar() {
+        // 추적 시스템이 없으므로 표시할 대상이 없다.
+    }
+}
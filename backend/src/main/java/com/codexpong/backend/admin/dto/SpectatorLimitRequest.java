@@ -0,0 +1,22 @@
+package com.codexpong.backend.admin.dto;
+
+import jakarta.validation.constraints.Min;
+
+/**
+ * [요청 DTO] backend/src/main/java/com/codexpong/backend/admin/dto/SpectatorLimitRequest.java
+ * 설명:
+ *   - 관리자가 진행 중인 방 하나의 관전자 한도를 지정할 때 전달하는 요청 모델이다.
+ *   - limit이 null이면 경기 유형별 기본 한도(game.spectator.max-per-room)로 되돌린다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public class SpectatorLimitRequest {
+
+    @Min(0)
+    private Integer limit;
+
+    public Integer getLimit() {
+        return limit;
+    }
+}
@@ -5,6 +5,8 @@ import com.codexpong.backend.chat.dto.ChatMessageResponse;
 import com.codexpong.backend.chat.dto.ChatSocketMessage;
 import com.codexpong.backend.chat.service.ChatEventPublisher;
 import com.codexpong.backend.chat.service.ChatService;
+import com.codexpong.backend.common.websocket.OutboundChannel;
+import com.codexpong.backend.common.websocket.OutboundQueueRegistry;
 import com.codexpong.backend.config.WebSocketAuthHandshakeInterceptor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.http.HttpStatus;
@@ -20,9 +22,11 @@ import org.springframework.web.socket.handler.TextWebSocketHandler;
  * 설명:
  *   - 채팅 WebSocket 연결을 관리하고 DM/로비/매치 채팅 명령을 처리한다.
  *   - 연결 즉시 로비 채널을 구독하며, 별도 명령으로 매치 채널 구독을 추가한다.
- * 버전: v0.6.0
+ *   - v1.1.0에서는 세션을 CHAT 채널 송신 큐(드롭 없음)로 감싸 퍼블리셔에 등록한다.
+ * 버전: v1.1.0
  * 관련 설계문서:
  *   - design/realtime/v0.6.0-chat-events.md
+ *   - design/realtime/v1.1.0-realtime-performance.md
  */
 @Component
 public class ChatWebSocketHandler extends TextWebSocketHandler {
@@ -32,11 +36,14 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
     private final ChatService chatService;
     private final ChatEventPublisher chatEventPublisher;
     private final ObjectMapper objectMapper;
+    private final OutboundQueueRegistry outboundQueues;
 
-    public ChatWebSocketHandler(ChatService chatService, ChatEventPublisher chatEventPublisher, ObjectMapper objectMapper) {
+    public ChatWebSocketHandler(ChatService chatService, ChatEventPublisher chatEventPublisher, ObjectMapper objectMapper,
+            OutboundQueueRegistry outboundQueues) {
         this.chatService = chatService;
         this.chatEventPublisher = chatEventPublisher;
         this.objectMapper = objectMapper;
+        this.outboundQueues = outboundQueues;
     }
 
     @Override
@@ -47,8 +54,9 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
             session.close(CloseStatus.NOT_ACCEPTABLE.withReason("인증 정보가 필요합니다."));
             return;
         }
-        chatEventPublisher.registerUserSession(user.id(), session);
-        chatEventPublisher.joinChannel(LOBBY_KEY, session);
+        WebSocketSession outbound = outboundQueues.wrap(session, OutboundChannel.CHAT);
+        chatEventPublisher.registerUserSession(user.id(), outbound);
+        chatEventPublisher.joinChannel(LOBBY_KEY, outbound);
     }
 
     @Override
@@ -62,7 +70,7 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
         ChatSocketMessage command = objectMapper.readValue(message.getPayload(), ChatSocketMessage.class);
         if ("SUBSCRIBE_MATCH".equals(command.getType())) {
             if (command.getRoomId() != null && !command.getRoomId().isBlank()) {
-                chatEventPublisher.joinChannel(command.getRoomId(), session);
+                chatEventPublisher.joinChannel(command.getRoomId(), outboundQueues.outbound(session));
             }
             return;
         }
@@ -82,6 +90,7 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
 
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
-        chatEventPublisher.removeSession(session);
+        chatEventPublisher.removeSession(outboundQueues.outbound(session));
+        outboundQueues.release(session);
     }
 }
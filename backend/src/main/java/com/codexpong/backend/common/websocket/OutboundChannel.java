@@ -0,0 +1,29 @@
+package com.codexpong.backend.common.websocket;
+
+/**
+ * [열거형] backend/src/main/java/com/codexpong/backend/common/websocket/OutboundChannel.java
+ * 설명:
+ *   - 비동기 송신 큐를 사용하는 WebSocket 채널과 채널별 큐 초과 정책을 정의한다.
+ *   - GAME: 매 틱 최신 상태가 이전 상태를 대체하므로 가장 오래된 STATE(sendState로 넣은 것)만 버린다.
+ *     READY/ping/RESYNC 응답은 버리지 않으며, 버릴 STATE가 없으면 세션을 닫는다.
+ *   - CHAT: 메시지를 버리지 않는다. 한도를 넘기면 세션을 닫아 클라이언트가 재연결 후 이력을 다시 받게 한다.
+ *   - EVENT: 소셜/토너먼트/잡 알림. 상태 전이 알림이라 버리지 않고, CHAT처럼 한도를 넘기면 세션을 닫는다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public enum OutboundChannel {
+    GAME(true),
+    CHAT(false),
+    EVENT(false);
+
+    private final boolean dropOldest;
+
+    OutboundChannel(boolean dropOldest) {
+        this.dropOldest = dropOldest;
+    }
+
+    public boolean dropOldest() {
+        return dropOldest;
+    }
+}
@@ -0,0 +1,86 @@
+package com.codexpong.backend.common.websocket;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * [설정] backend/src/main/java/com/codexpong/backend/common/websocket/OutboundQueueProperties.java
+ * 설명:
+ *   - WebSocket 세션별 송신 큐 한도와 송신 스레드 수를 외부 설정으로 묶는다.
+ *   - writerThreads가 0 이하이면 가용 코어 수의 2배를 사용한다.
+ *   - virtualThreads가 켜지면 고정 송신 풀 대신 세션 드레인마다 가상 스레드를 하나씩 쓴다(writerThreads 무시).
+ *     느린 소켓에 막힌 세션이 플랫폼 스레드를 붙잡지 않아 연결 수가 많아도 다른 세션 전송이 밀리지 않는다.
+ *   - sendTimeLimitMs는 원본 세션 전송 하나에 허용하는 시간이다. 넘기면 세션을 닫는다(0 이하이면 제한 없음).
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+@ConfigurationProperties(prefix = "websocket.outbound")
+public class OutboundQueueProperties {
+
+    private int gameCapacity = 8;
+    private int chatCapacity = 512;
+    private int eventCapacity = 128;
+    private int writerThreads = 0;
+    private boolean virtualThreads = false;
+    private long sendTimeLimitMs = 5000;
+
+    public int getGameCapacity() {
+        return gameCapacity;
+    }
+
+    public void setGameCapacity(int gameCapacity) {
+        this.gameCapacity = gameCapacity;
+    }
+
+    public int getChatCapacity() {
+        return chatCapacity;
+    }
+
+    public void setChatCapacity(int chatCapacity) {
+        this.chatCapacity = chatCapacity;
+    }
+
+    public int getEventCapacity() {
+        return eventCapacity;
+    }
+
+    public void setEventCapacity(int eventCapacity) {
+        this.eventCapacity = eventCapacity;
+    }
+
+    public int getWriterThreads() {
+        return writerThreads;
+    }
+
+    public void setWriterThreads(int writerThreads) {
+        this.writerThreads = writerThreads;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    public long getSendTimeLimitMs() {
+        return sendTimeLimitMs;
+    }
+
+    public void setSendTimeLimitMs(long sendTimeLimitMs) {
+        this.sendTimeLimitMs = sendTimeLimitMs;
+    }
+
+    public int capacity(OutboundChannel channel) {
+        return Math.max(1, switch (channel) {
+            case GAME -> gameCapacity;
+            case CHAT -> chatCapacity;
+            case EVENT -> eventCapacity;
+        });
+    }
+
+    public int resolvedWriterThreads() {
+        return writerThreads > 0 ? writerThreads : Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+    }
+}
@@ -0,0 +1,153 @@
+package com.codexpong.backend.common.websocket;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * [레지스트리] backend/src/main/java/com/codexpong/backend/common/websocket/OutboundQueueRegistry.java
+ * 설명:
+ *   - WebSocket 세션을 채널별 정책의 QueuedWebSocketSession으로 감싸고, 공용 송신 스레드 풀을 관리한다.
+ *   - 감싼 세션은 원본 세션 속성에 보관해 핸들러/퍼블리셔가 O(1)로 찾아 쓸 수 있게 한다.
+ *   - 채널별 큐 깊이/드롭 합계와 세션별 상세를 모니터링용으로 제공한다.
+ *   - 송신 실행기는 설정에 따라 고정 플랫폼 스레드 풀 또는 작업당 가상 스레드 실행기다.
+ *     세션 드레인은 동시에 하나만 돌므로 가상 스레드 모드에서는 전송 중인 세션마다 가상 스레드가 하나씩 붙는다.
+ *   - 전송 시간 제한을 넘긴 세션 닫기는 송신 실행기가 멈춘 전송에 묶여 있어도 진행되도록 별도 가상 스레드 실행기에서 한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+@Component
+public class OutboundQueueRegistry {
+
+    public static final String SESSION_ATTRIBUTE = "outboundQueue";
+
+    private final OutboundQueueProperties properties;
+    private final ExecutorService writers;
+    private final ExecutorService closer = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("ws-outbound-close-", 1).factory());
+    private final Map<String, QueuedWebSocketSession> sessions = new ConcurrentHashMap<>();
+    private final Map<OutboundChannel, LongAdder> drops = new EnumMap<>(OutboundChannel.class);
+
+    public OutboundQueueRegistry(OutboundQueueProperties properties) {
+        this.properties = properties;
+        this.writers = newWriters(properties);
+        for (OutboundChannel channel : OutboundChannel.values()) {
+            drops.put(channel, new LongAdder());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writers.shutdownNow();
+        closer.shutdownNow();
+    }
+
+    /**
+     * 설명:
+     *   - 설정에 맞는 송신 실행기를 만든다. 벤치마크가 두 모드를 같은 경로로 비교할 수 있게 분리한다.
+     */
+    static ExecutorService newWriters(OutboundQueueProperties properties) {
+        if (properties.isVirtualThreads()) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ws-outbound-vt-", 1).factory());
+        }
+        return Executors.newFixedThreadPool(properties.resolvedWriterThreads(), new WriterThreadFactory());
+    }
+
+    /**
+     * 설명:
+     *   - 세션을 송신 큐로 감싸 등록한다. 이미 감싼 세션이면 기존 래퍼를 돌려준다.
+     */
+    public WebSocketSession wrap(WebSocketSession session, OutboundChannel channel) {
+        if (session.getAttributes().get(SESSION_ATTRIBUTE) instanceof QueuedWebSocketSession existing) {
+            return existing;
+        }
+        QueuedWebSocketSession queued = new QueuedWebSocketSession(session, channel, properties.capacity(channel),
+                writers, drops.get(channel), TimeUnit.MILLISECONDS.toNanos(properties.getSendTimeLimitMs()), closer);
+        session.getAttributes().put(SESSION_ATTRIBUTE, queued);
+        sessions.put(session.getId(), queued);
+        return queued;
+    }
+
+    /**
+     * 설명:
+     *   - 원본 세션에 연결된 송신 큐 래퍼를 찾는다. 감싸지 않은 세션이면 원본을 그대로 돌려준다.
+     */
+    public WebSocketSession outbound(WebSocketSession session) {
+        return session.getAttributes().get(SESSION_ATTRIBUTE) instanceof QueuedWebSocketSession queued
+                ? queued : session;
+    }
+
+    public void release(WebSocketSession session) {
+        QueuedWebSocketSession queued = sessions.remove(session.getId());
+        if (queued != null) {
+            queued.discard();
+        }
+    }
+
+    public int totalDepth(OutboundChannel channel) {
+        int depth = 0;
+        for (QueuedWebSocketSession queued : sessions.values()) {
+            if (queued.getChannel() == channel) {
+                depth += queued.depth();
+            }
+        }
+        return depth;
+    }
+
+    public int maxDepth(OutboundChannel channel) {
+        int max = 0;
+        for (QueuedWebSocketSession queued : sessions.values()) {
+            if (queued.getChannel() == channel) {
+                max = Math.max(max, queued.depth());
+            }
+        }
+        return max;
+    }
+
+    public long dropped(OutboundChannel channel) {
+        return drops.get(channel).sum();
+    }
+
+    public int sessionCount(OutboundChannel channel) {
+        return (int) sessions.values().stream().filter(queued -> queued.getChannel() == channel).count();
+    }
+
+    /**
+     * 설명:
+     *   - 세션별 큐 깊이와 누적 드롭 수를 관리자 조회용으로 반환한다.
+     */
+    public List<SessionQueueView> sessionViews() {
+        List<SessionQueueView> views = new ArrayList<>();
+        sessions.forEach((sessionId, queued) -> views.add(new SessionQueueView(sessionId, queued.getChannel(),
+                queued.depth(), queued.capacity(), queued.dropped())));
+        return views;
+    }
+
+    public record SessionQueueView(String sessionId, OutboundChannel channel, int depth, int capacity,
+            long dropped) {
+    }
+
+    private static final class WriterThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "ws-outbound-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.codexpong.backend.common.websocket;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+/**
+ * [세션 래퍼] backend/src/main/java/com/codexpong/backend/common/websocket/QueuedWebSocketSession.java
+ * 설명:
+ *   - sendMessage를 소켓 I/O 없이 세션별 유한 큐에 넣기만 하고, 송신 스레드가 큐를 비우며 실제 전송한다.
+ *   - 한 세션의 드레인 작업은 동시에 하나만 실행되므로 원본 세션에는 항상 단일 스레드로 전송된다.
+ *   - 큐가 가득 차면 채널 정책에 따라 가장 오래된 STATE를 버리거나(GAME) 세션을 닫는다(CHAT).
+ *     버릴 수 있는 것은 sendState로 넣은 STATE뿐이다. READY/ping/RESYNC 키프레임 같은 메시지는 버리지 않으며,
+ *     큐에 버릴 STATE가 없으면 GAME도 세션을 닫는다. STATE를 버리면 표시를 남겨 송신자가 다음에 키프레임을 보내게 한다.
+ *   - 전송 시간 제한: 원본 세션 전송 하나가 sendTimeLimit을 넘기면 세션을 닫는다. 멈춘 소켓 몇 개가 공용 송신 스레드를
+ *     모두 붙잡지 않도록, 전송이 끝난 뒤와 다음 메시지를 넣을 때 확인한다(ConcurrentWebSocketSessionDecorator와 같은 방식).
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public class QueuedWebSocketSession extends WebSocketSessionDecorator {
+
+    private final OutboundChannel channel;
+    private final int capacity;
+    private final Executor writer;
+    private final LongAdder channelDrops;
+    private final long sendTimeLimitNanos;
+    private final Executor closer;
+    private final ArrayDeque<Outbound> queue;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closing = new AtomicBoolean();
+    private final LongAdder dropped = new LongAdder();
+    private volatile boolean overflowed;
+    private volatile boolean stateDropped;
+    private volatile long sendStartedNanos;
+
+    QueuedWebSocketSession(WebSocketSession delegate, OutboundChannel channel, int capacity, Executor writer,
+            LongAdder channelDrops, long sendTimeLimitNanos, Executor closer) {
+        super(delegate);
+        this.channel = channel;
+        this.capacity = capacity;
+        this.writer = writer;
+        this.channelDrops = channelDrops;
+        this.sendTimeLimitNanos = sendTimeLimitNanos;
+        this.closer = closer;
+        this.queue = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * 설명:
+     *   - 메시지를 큐에 넣고 드레인 작업이 없으면 예약한다. 호출 스레드는 소켓 I/O로 대기하지 않는다.
+     *   - 이 경로로 넣은 메시지는 큐가 가득 차도 버리지 않는다.
+     */
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) {
+        enqueue(message, false);
+    }
+
+    /**
+     * 설명:
+     *   - 다음 틱 상태가 대체하는 STATE를 넣는다. GAME 채널에서 큐가 가득 차면 가장 오래된 STATE부터 버려진다.
+     */
+    public void sendState(WebSocketMessage<?> message) {
+        enqueue(message, true);
+    }
+
+    /**
+     * 설명:
+     *   - 송신 큐 세션이면 STATE로, 아니면 그대로 전송한다. 틱/중계 스레드의 STATE 전송에 쓴다.
+     */
+    public static void sendState(WebSocketSession session, WebSocketMessage<?> message) throws IOException {
+        if (session instanceof QueuedWebSocketSession queued) {
+            queued.sendState(message);
+        } else {
+            session.sendMessage(message);
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 마지막 확인 이후 이 세션의 STATE가 버려졌는지 반환하고 표시를 지운다.
+     *     델타 프로토콜 송신자는 true이면 이어지는 델타 대신 키프레임을 보내야 한다.
+     */
+    public static boolean stateDropped(WebSocketSession session) {
+        if (session instanceof QueuedWebSocketSession queued && queued.stateDropped) {
+            queued.stateDropped = false;
+            return true;
+        }
+        return false;
+    }
+
+    public OutboundChannel getChannel() {
+        return channel;
+    }
+
+    public int depth() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 설명:
+     *   - 진행 중인 원본 세션 전송이 전송 시간 제한을 넘겼는지 반환한다.
+     */
+    boolean sendTimedOut(long nowNanos) {
+        long started = sendStartedNanos;
+        return sendTimeLimitNanos > 0 && started != 0 && nowNanos - started > sendTimeLimitNanos;
+    }
+
+    /**
+     * 설명:
+     *   - 연결 종료 시 남은 메시지를 버린다. 닫힌 소켓으로의 전송 시도를 막기 위한 정리 단계다.
+     */
+    void discard() {
+        overflowed = true;
+        synchronized (queue) {
+            queue.clear();
+        }
+    }
+
+    private void enqueue(WebSocketMessage<?> message, boolean state) {
+        if (overflowed) {
+            return;
+        }
+        if (sendTimedOut(System.nanoTime())) {
+            // 송신 스레드가 아직 멈춘 전송에 묶여 있으므로 닫기는 별도 실행기에서 한다.
+            abandon(CloseStatus.SESSION_NOT_RELIABLE.withReason("송신 시간 초과"), closer);
+            return;
+        }
+        boolean overflow = false;
+        synchronized (queue) {
+            if (queue.size() >= capacity) {
+                if (channel.dropOldest() && dropOldestState()) {
+                    dropped.increment();
+                    channelDrops.increment();
+                    stateDropped = true;
+                } else {
+                    overflow = true;
+                }
+            }
+            if (!overflow) {
+                queue.addLast(new Outbound(message, state));
+            }
+        }
+        if (overflow) {
+            abandon(CloseStatus.SESSION_NOT_RELIABLE.withReason("송신 대기열 초과"), writer);
+            return;
+        }
+        scheduleDrain();
+    }
+
+    /**
+     * 설명:
+     *   - 큐에서 가장 오래된 STATE 하나를 뺀다. 큐 길이가 채널 한도(수~수백)라 선형 탐색으로 충분하다.
+     */
+    private boolean dropOldestState() {
+        Iterator<Outbound> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().state()) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 설명:
+     *   - 남은 메시지를 버리고 세션을 한 번만 닫는다. 대기열 초과와 시간 초과가 겹쳐도 close는 한 번이다.
+     */
+    private void abandon(CloseStatus status, Executor executor) {
+        overflowed = true;
+        if (!closing.compareAndSet(false, true)) {
+            return;
+        }
+        synchronized (queue) {
+            queue.clear();
+        }
+        try {
+            executor.execute(() -> closeQuietly(status));
+        } catch (RejectedExecutionException ignored) {
+        }
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                writer.execute(this::drain);
+            } catch (RejectedExecutionException ex) {
+                draining.set(false);
+            }
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            Outbound next;
+            synchronized (queue) {
+                next = queue.pollFirst();
+            }
+            if (next == null) {
+                draining.set(false);
+                // 플래그를 내린 직후 들어온 메시지를 놓치지 않도록 한 번 더 확인한다.
+                boolean pending;
+                synchronized (queue) {
+                    pending = !queue.isEmpty();
+                }
+                if (pending && draining.compareAndSet(false, true)) {
+                    continue;
+                }
+                return;
+            }
+            if (overflowed) {
+                continue;
+            }
+            long started = System.nanoTime();
+            sendStartedNanos = started;
+            try {
+                if (getDelegate().isOpen()) {
+                    getDelegate().sendMessage(next.message());
+                }
+            } catch (IOException | IllegalStateException ignored) {
+            } finally {
+                sendStartedNanos = 0;
+            }
+            if (sendTimeLimitNanos > 0 && System.nanoTime() - started > sendTimeLimitNanos) {
+                // 전송이 끝났어도 한도를 넘긴 소켓은 다음에도 스레드를 붙잡으므로 닫는다.
+                abandon(CloseStatus.SESSION_NOT_RELIABLE.withReason("송신 시간 초과"), Runnable::run);
+            }
+        }
+    }
+
+    private void closeQuietly(CloseStatus status) {
+        try {
+            getDelegate().close(status);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private record Outbound(WebSocketMessage<?> message, boolean state) {
+    }
+}
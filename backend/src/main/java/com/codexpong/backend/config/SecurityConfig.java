@@ -1,6 +1,7 @@
 package com.codexpong.backend.config;
 
 import com.codexpong.backend.auth.config.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -26,6 +27,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  *   - v0.2.0: JWT 필터와 세션 정책 설정 추가
  *   - v0.6.0: 로비/매치 채팅 히스토리 GET 엔드포인트를 비인증 허용으로 확장
  *   - v0.10.0: Swagger 문서 경로를 공개로 허용
+ *   - v1.1.0: 롱 폴링(DeferredResult) 응답의 ASYNC 재디스패치 허용(원 요청에서 이미 인증/인가됨)
  */
 @Configuration
 @EnableWebSecurity
@@ -41,6 +43,7 @@ public class SecurityConfig {
                                 response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "인증이 필요합니다."))
                 )
                 .authorizeHttpRequests(registry -> registry
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/health/**").permitAll()
                         .requestMatchers("/api/auth/register", "/api/auth/login", "/api/auth/oauth/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/chat/lobby", "/api/chat/match/**").permitAll()
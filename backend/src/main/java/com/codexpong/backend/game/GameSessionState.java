@@ -0,0 +1,107 @@
+package com.codexpong.backend.game;
+
+import com.codexpong.backend.game.domain.RttEstimator;
+import com.codexpong.backend.game.protocol.JsonInputParser;
+import com.codexpong.backend.game.service.GameRoomService.AudienceRole;
+import java.util.concurrent.TimeUnit;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * [모델] backend/src/main/java/com/codexpong/backend/game/GameSessionState.java
+ * 설명:
+ *   - `/ws/game` 세션 하나의 연결 시점 정보(방 ID, 청중 역할, 사용자 ID)를 타입이 있는 필드로 묶어 세션 속성에 한 번만 저장한다.
+ *   - 메시지마다 문자열 속성을 읽어 AudienceRole.valueOf로 변환하거나 URI 쿼리를 다시 파싱하지 않도록 한다.
+ *   - 텍스트 INPUT 파서가 쓰는 재사용 버퍼를 함께 보관한다. 한 세션의 수신 메시지는 순차 처리되므로 공유해도 안전하다.
+ *   - 서버 ping에 대한 pong으로 갱신하는 세션별 RTT/지터 추정기도 보관한다. 추정기는 응답 대기 중인 ping의 nonce와
+ *     송신 시각을 함께 들고 있어 그 ping에 대한 pong 하나만 표본으로 받는다. ping을 보내는 서비스가 찾도록
+ *     attach가 추정기를 세션 속성(RttEstimator.SESSION_ATTRIBUTE)에도 둔다.
+ *   - remote는 다른 노드가 소유한 방을 RoomCluster로 중계받는 관전 세션인지를 뜻한다.
+ *   - 마지막으로 받아들인 RESYNC 시각을 보관해 세션별 재동기화 요청 빈도를 제한한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+final class GameSessionState {
+
+    static final String ATTRIBUTE = "gameSession";
+    static final long RESYNC_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final String roomId;
+    private final AudienceRole audienceRole;
+    private final Long userId;
+    private final JsonInputParser.Fields inputFields = new JsonInputParser.Fields();
+    private final RttEstimator rtt = new RttEstimator();
+    private final boolean remote;
+    private long lastResyncNanos;
+    private boolean resynced;
+
+    GameSessionState(String roomId, AudienceRole audienceRole, Long userId) {
+        this(roomId, audienceRole, userId, false);
+    }
+
+    GameSessionState(String roomId, AudienceRole audienceRole, Long userId, boolean remote) {
+        this.roomId = roomId;
+        this.audienceRole = audienceRole;
+        this.userId = userId;
+        this.remote = remote;
+    }
+
+    /**
+     * 설명:
+     *   - 세션 속성에 이 상태와 RTT 추정기를 저장한다.
+     */
+    void attach(WebSocketSession session) {
+        session.getAttributes().put(ATTRIBUTE, this);
+        session.getAttributes().put(RttEstimator.SESSION_ATTRIBUTE, rtt);
+    }
+
+    /**
+     * 설명:
+     *   - 연결 수립을 마친 세션의 상태를 반환한다. 수립 전이거나 거부된 세션이면 null이다.
+     */
+    static GameSessionState of(WebSocketSession session) {
+        return session.getAttributes().get(ATTRIBUTE) instanceof GameSessionState state ? state : null;
+    }
+
+    String roomId() {
+        return roomId;
+    }
+
+    AudienceRole audienceRole() {
+        return audienceRole;
+    }
+
+    boolean isSpectator() {
+        return audienceRole == AudienceRole.SPECTATOR;
+    }
+
+    boolean isRemote() {
+        return remote;
+    }
+
+    Long userId() {
+        return userId;
+    }
+
+    JsonInputParser.Fields inputFields() {
+        return inputFields;
+    }
+
+    RttEstimator rtt() {
+        return rtt;
+    }
+
+    /**
+     * 설명:
+     *   - 이번 RESYNC를 받아들일지 정한다. 직전에 받아들인 요청과 RESYNC_INTERVAL_NANOS 이상 떨어져야 한다.
+     *   - 한 세션의 수신 메시지는 순차 처리되므로 동기화하지 않는다.
+     */
+    boolean tryResync(long nowNanos) {
+        if (resynced && nowNanos - lastResyncNanos < RESYNC_INTERVAL_NANOS) {
+            return false;
+        }
+        resynced = true;
+        lastResyncNanos = nowNanos;
+        return true;
+    }
+}
@@ -1,10 +1,16 @@
 package com.codexpong.backend.game;
 
 import com.codexpong.backend.auth.model.AuthenticatedUser;
+import com.codexpong.backend.common.websocket.OutboundChannel;
+import com.codexpong.backend.common.websocket.OutboundQueueRegistry;
 import com.codexpong.backend.game.domain.GameRoom;
 import com.codexpong.backend.game.engine.model.PaddleInput;
+import com.codexpong.backend.game.protocol.BinaryFrameCodec;
+import com.codexpong.backend.game.protocol.GameProtocol;
+import com.codexpong.backend.game.protocol.JsonInputParser;
 import com.codexpong.backend.game.service.GameRoomService;
 import com.codexpong.backend.game.service.GameRoomService.AudienceRole;
+import com.codexpong.backend.game.service.RoomCluster;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
 import java.net.URI;
@@ -13,10 +19,13 @@ import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Optional;
 import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PongMessage;
 import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
-import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
 
 /**
  * [핸들러] backend/src/main/java/com/codexpong/backend/game/GameWebSocketHandler.java
@@ -24,19 +33,41 @@ import org.springframework.web.socket.handler.TextWebSocketHandler;
  *   - 빠른 대전으로 생성된 경기 방에 대한 WebSocket 연결을 관리한다.
  *   - 클라이언트 입력을 GameRoomService로 전달하고, 초기 상태를 전송한다.
  *   - v0.8.0에서는 관전 모드 진입을 허용하고 입력 차단, 관전자 수 제한을 적용한다.
- * 버전: v0.8.0
+ *   - v1.1.0에서는 핸드셰이크 쿼리 `protocol`로 STATE 프로토콜(전체/델타/바이너리)을 협상하고 RESYNC 요청을 처리한다.
+ *   - 바이너리 모드는 INPUT/STATE를 고정 레이아웃 BinaryMessage로 주고받는다.
+ *   - 세션은 GAME 채널 송신 큐로 감싸 등록하므로 틱 스레드는 소켓 I/O로 대기하지 않는다.
+ *   - INPUT의 seq/ts/tick(바이너리는 14바이트 확장 프레임)을 받아 의도한 틱에 적용되도록 전달한다.
+ *   - 텍스트 INPUT은 무할당 JsonInputParser로 먼저 해석하고, 그 외 메시지만 ObjectMapper로 처리한다.
+ *     방 ID/청중 역할/사용자 ID는 연결 시 GameSessionState로 한 번만 저장해 메시지마다 다시 변환하지 않는다.
+ *   - GameRoomService가 주기적으로 보내는 ping의 pong을 받아 세션별 RTT/지터를 갱신하고 서비스에 전달한다.
+ *     브라우저가 pong을 자동 응답하므로 클라이언트 메시지 형식은 바뀌지 않는다. 응답 대기 중인 ping과 nonce가 같은
+ *     pong 하나만 표본이 되므로 요청하지 않은 pong으로 RTT를 부풀릴 수 없다.
+ *   - 이 노드에 없는 방의 관전 요청은 RoomCluster 원격 관전자로 붙인다. READY 없이 소유 노드가 발행한 첫 키프레임이
+ *     초기 상태가 되며, RESYNC는 이 노드에서 다음 키프레임까지 델타 전달을 멈추는 것으로 처리한다.
+ *   - RESYNC는 요청한 세션만 재동기화하며 세션당 GameSessionState.RESYNC_INTERVAL_NANOS에 한 번만 받는다.
+ *   - 다른 노드가 소유한 방에 플레이어로 접속하면 OWNER_REDIRECT 코드와 소유 노드 ID(reason)로 닫는다.
+ *     클라이언트는 node 쿼리에 그 ID를 붙여 다시 접속하고, nginx가 그 노드로 보낸다(클러스터 방, 장애 인계 후 재접속).
+ * 버전: v1.1.0
  * 관련 설계문서:
  *   - design/realtime/v0.8.0-spectator-events.md
+ *   - design/realtime/v1.1.0-realtime-performance.md
  */
 @Component
-public class GameWebSocketHandler extends TextWebSocketHandler {
+public class GameWebSocketHandler extends AbstractWebSocketHandler {
+
+    static final int OWNER_REDIRECT = 4307;
 
     private final GameRoomService gameRoomService;
     private final ObjectMapper objectMapper;
+    private final OutboundQueueRegistry outboundQueues;
+    private final RoomCluster roomCluster;
 
-    public GameWebSocketHandler(GameRoomService gameRoomService, ObjectMapper objectMapper) {
+    public GameWebSocketHandler(GameRoomService gameRoomService, ObjectMapper objectMapper,
+            OutboundQueueRegistry outboundQueues, RoomCluster roomCluster) {
         this.gameRoomService = gameRoomService;
         this.objectMapper = objectMapper;
+        this.outboundQueues = outboundQueues;
+        this.roomCluster = roomCluster;
     }
 
     @Override
@@ -48,12 +79,22 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
         }
         String roomId = extractRoomId(session.getUri());
         AudienceRole audienceRole = resolveAudienceRole(session.getUri());
+        GameProtocol protocol = resolveProtocol(session.getUri());
         if (roomId == null) {
             session.close(CloseStatus.NOT_ACCEPTABLE.withReason("roomId가 필요합니다."));
             return;
         }
         Optional<GameRoom> roomOpt = gameRoomService.findRoom(roomId);
+        if (roomOpt.isEmpty() && audienceRole == AudienceRole.SPECTATOR) {
+            attachRemoteSpectator(session, roomId, protocol, user);
+            return;
+        }
         if (roomOpt.isEmpty()) {
+            Optional<String> owner = roomCluster.ownerNode(roomId);
+            if (owner.isPresent()) {
+                session.close(new CloseStatus(OWNER_REDIRECT, owner.get()));
+                return;
+            }
             session.close(CloseStatus.NOT_ACCEPTABLE.withReason("참가할 수 없는 방입니다."));
             return;
         }
@@ -67,61 +108,147 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
             return;
         }
 
+        session.getAttributes().put(GameProtocol.SESSION_ATTRIBUTE, protocol);
+        WebSocketSession outbound = outboundQueues.wrap(session, OutboundChannel.GAME);
         if (audienceRole == AudienceRole.SPECTATOR) {
-            if (!gameRoomService.registerSpectatorSession(room, session.getId(), session)) {
+            if (!gameRoomService.registerSpectatorSession(room, session.getId(), outbound)) {
+                outboundQueues.release(session);
                 session.close(CloseStatus.POLICY_VIOLATION.withReason("관전자 수가 가득 찼습니다."));
                 return;
             }
-        } else {
-            gameRoomService.registerSession(room, user.id(), session);
+        } else if (!gameRoomService.registerSession(room, user.id(), outbound)) {
+            outboundQueues.release(session);
+            session.close(CloseStatus.NOT_ACCEPTABLE.withReason("참가할 수 없는 방입니다."));
+            return;
+        }
+        new GameSessionState(roomId, audienceRole, user.id()).attach(session);
+        if (protocol == GameProtocol.BINARY) {
+            sendServerMessage(outbound, new BinaryMessage(gameRoomService.readyBinaryFrame(room, audienceRole)));
+            return;
         }
-        session.getAttributes().put("audienceRole", audienceRole.name());
-        sendServerMessage(session, new GameRoomService.GameServerMessage("READY", room.currentSnapshot(),
-                room.getMatchType().name(), null, audienceRole.name(), gameRoomService.spectatorCount(roomId)));
+        if (protocol == GameProtocol.JSON_DELTA) {
+            sendServerMessage(outbound, gameRoomService.readyKeyframe(room, audienceRole));
+            return;
+        }
+        sendServerMessage(outbound, gameRoomService.readyMessage(room, audienceRole));
     }
 
     @Override
     protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
-        AuthenticatedUser user = session.getPrincipal() instanceof AuthenticatedUser principal ? principal : null;
-        if (user == null) {
+        GameSessionState state = GameSessionState.of(session);
+        if (state == null) {
+            return;
+        }
+        String payload = message.getPayload();
+        JsonInputParser.Fields fields = state.inputFields();
+        if (JsonInputParser.parse(payload, fields)) {
+            // 초당 수십 건인 INPUT은 객체 생성 없이 바로 입력 큐로 넘긴다.
+            if (!state.isSpectator() && fields.direction() != null && fields.hasRoomId()) {
+                String roomId = fields.matchesRoom(state.roomId()) ? state.roomId() : fields.roomId();
+                gameRoomService.updateInput(roomId, state.userId(), fields.direction(), fields.seq(),
+                        fields.clientTimeMillis(), fields.tick());
+            }
+            return;
+        }
+        ClientMessage clientMessage = objectMapper.readValue(payload, ClientMessage.class);
+        if ("RESYNC".equals(clientMessage.type())) {
+            // 요청 세션만 재동기화하고, 간격 안에 다시 온 요청은 버린다.
+            if (!state.tryResync(System.nanoTime())) {
+                return;
+            }
+            if (state.isRemote()) {
+                roomCluster.requestKeyframe(state.roomId(), session.getId());
+                return;
+            }
+            gameRoomService.resync(state.roomId(), state.userId(), session.getId(), state.audienceRole());
             return;
         }
-        AudienceRole role = AudienceRole.valueOf(String.valueOf(session.getAttributes().getOrDefault("audienceRole",
-                AudienceRole.PLAYER.name())));
-        if (role == AudienceRole.SPECTATOR) {
+        if (state.isSpectator()) {
             return;
         }
-        ClientMessage clientMessage = objectMapper.readValue(message.getPayload(), ClientMessage.class);
-        if (clientMessage.type().equals("INPUT")) {
+        if ("INPUT".equals(clientMessage.type())) {
             PaddleInput input = parseInput(clientMessage.direction());
             if (input != null && clientMessage.roomId() != null) {
-                gameRoomService.updateInput(clientMessage.roomId(), user.id(), input);
+                gameRoomService.updateInput(clientMessage.roomId(), state.userId(), input,
+                        orZero(clientMessage.seq()), orZero(clientMessage.ts()), orZero(clientMessage.tick()));
             }
         }
     }
 
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) {
+        GameSessionState state = GameSessionState.of(session);
+        if (state == null || state.isSpectator()) {
+            return;
+        }
+        BinaryFrameCodec.BinaryInput input = BinaryFrameCodec.decodeInput(message.getPayload());
+        if (input != null) {
+            gameRoomService.updateInput(state.roomId(), state.userId(), input.direction(), input.seq(),
+                    input.clientTimeMillis(), input.tick());
+        }
+    }
+
+    @Override
+    protected void handlePongMessage(WebSocketSession session, PongMessage message) {
+        GameSessionState state = GameSessionState.of(session);
+        if (state == null) {
+            return;
+        }
+        long sample = state.rtt().onPong(message.getPayload(), System.nanoTime());
+        if (sample >= 0) {
+            gameRoomService.recordRoundTrip(state.roomId(), state.userId(), state.audienceRole(), sample,
+                    state.rtt());
+        }
+    }
+
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
-        String roomId = extractRoomId(session.getUri());
+        GameSessionState state = GameSessionState.of(session);
+        String roomId = state != null ? state.roomId() : extractRoomId(session.getUri());
         AuthenticatedUser user = session.getPrincipal() instanceof AuthenticatedUser principal ? principal : null;
+        if (state != null && state.isRemote()) {
+            roomCluster.detachRemoteSpectator(roomId, session.getId());
+        }
         gameRoomService.unregisterSession(roomId, user != null ? user.id() : null, session.getId());
+        outboundQueues.release(session);
         super.afterConnectionClosed(session, status);
     }
 
+    /**
+     * 설명:
+     *   - 다른 노드가 소유한 방의 관전 세션을 원격 중계 대상으로 붙인다. 방이 없거나 가득 차면 연결을 닫는다.
+     */
+    private void attachRemoteSpectator(WebSocketSession session, String roomId, GameProtocol protocol,
+            AuthenticatedUser user) throws IOException {
+        session.getAttributes().put(GameProtocol.SESSION_ATTRIBUTE, protocol);
+        WebSocketSession outbound = outboundQueues.wrap(session, OutboundChannel.GAME);
+        session.getAttributes().put(GameSessionState.ATTRIBUTE,
+                new GameSessionState(roomId, AudienceRole.SPECTATOR, user.id(), true));
+        if (!roomCluster.attachRemoteSpectator(roomId, session.getId(), outbound)) {
+            session.getAttributes().remove(GameSessionState.ATTRIBUTE);
+            outboundQueues.release(session);
+            session.close(CloseStatus.NOT_ACCEPTABLE.withReason("참가할 수 없는 방입니다."));
+        }
+    }
+
     private PaddleInput parseInput(String raw) {
         if (raw == null) {
             return null;
         }
-        return switch (raw.toUpperCase()) {
-            case "UP" -> PaddleInput.UP;
-            case "DOWN" -> PaddleInput.DOWN;
-            default -> PaddleInput.STAY;
-        };
+        if (raw.equalsIgnoreCase("UP")) {
+            return PaddleInput.UP;
+        }
+        return raw.equalsIgnoreCase("DOWN") ? PaddleInput.DOWN : PaddleInput.STAY;
     }
 
-    private void sendServerMessage(WebSocketSession session, GameRoomService.GameServerMessage message) {
+    private static long orZero(Long value) {
+        return value == null || value < 0 ? 0 : value;
+    }
+
+    private void sendServerMessage(WebSocketSession session, Object message) {
         try {
-            session.sendMessage(new TextMessage(objectMapper.writeValueAsString(message)));
+            session.sendMessage(message instanceof WebSocketMessage<?> raw ? raw
+                    : new TextMessage(objectMapper.writeValueAsString(message)));
         } catch (IOException ignored) {
         }
     }
@@ -146,7 +273,18 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
         return AudienceRole.PLAYER;
     }
 
-    public record ClientMessage(String type, String roomId, String direction) {
+    private GameProtocol resolveProtocol(URI uri) {
+        if (uri == null || uri.getQuery() == null) {
+            return GameProtocol.JSON_FULL;
+        }
+        return GameProtocol.negotiate(QueryStringUtils.parse(uri.getQuery()).get("protocol"));
+    }
+
+    /**
+     * 설명:
+     *   - 클라이언트 JSON 메시지. INPUT의 seq(입력 순번), ts(클라이언트 단조 시각 ms), tick(의도한 서버 틱)은 선택 값이다.
+     */
+    public record ClientMessage(String type, String roomId, String direction, Long seq, Long ts, Long tick) {
     }
 
     private static class QueryStringUtils {
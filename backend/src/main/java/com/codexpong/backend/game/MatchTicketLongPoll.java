@@ -0,0 +1,48 @@
+package com.codexpong.backend.game;
+
+import com.codexpong.backend.game.dto.MatchmakingResponse;
+import com.codexpong.backend.game.service.MatchmakingProperties;
+import com.codexpong.backend.game.service.MatchmakingService;
+import com.codexpong.backend.game.service.MatchmakingService.MatchTicket;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+/**
+ * [롱 폴링] backend/src/main/java/com/codexpong/backend/game/MatchTicketLongPoll.java
+ * 설명:
+ *   - 매칭 티켓 상태 조회를 롱 폴링으로 응답한다. waitMs가 0이면 지금 상태를 바로 돌려주고(기존 폴링),
+ *     양수이면 티켓이 MATCHED/CANCELLED로 확정되는 순간 응답하며 min(waitMs, longPollMaxWaitMs) 동안 확정이 없으면
+ *     그때의 상태(WAITING)로 응답한다.
+ *   - 기다리는 동안 요청 스레드를 점유하지 않는다(DeferredResult). 확정하는 스레드가 결과만 넘긴다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/backend/v1.1.0-matchmaking-scaling.md
+ */
+@Component
+public class MatchTicketLongPoll {
+
+    private final MatchmakingService matchmakingService;
+    private final long maxWaitMillis;
+
+    public MatchTicketLongPoll(MatchmakingService matchmakingService, MatchmakingProperties properties) {
+        this.matchmakingService = matchmakingService;
+        this.maxWaitMillis = Math.max(0, properties.getLongPollMaxWaitMs());
+    }
+
+    public DeferredResult<MatchmakingResponse> await(MatchTicket ticket, long waitMs) {
+        long timeout = Math.min(Math.max(0, waitMs), maxWaitMillis);
+        if (timeout == 0) {
+            DeferredResult<MatchmakingResponse> result = new DeferredResult<>();
+            result.setResult(MatchmakingResponse.from(ticket));
+            return result;
+        }
+        DeferredResult<MatchmakingResponse> result = new DeferredResult<>(timeout);
+        CompletableFuture<MatchTicket> decision = matchmakingService.awaitDecision(ticket);
+        result.onTimeout(() -> result.setResult(MatchmakingResponse.from(
+                matchmakingService.findTicket(ticket.ticketId()).orElse(ticket))));
+        result.onCompletion(() -> decision.cancel(false));
+        decision.thenAccept(decided -> result.setResult(MatchmakingResponse.from(decided)));
+        return result;
+    }
+}
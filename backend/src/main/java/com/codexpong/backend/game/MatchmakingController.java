@@ -8,12 +8,15 @@ import com.codexpong.backend.game.service.MatchmakingService.MatchTicket;
 import com.codexpong.backend.user.service.UserService;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.server.ResponseStatusException;
 
 /**
@@ -21,11 +24,15 @@ import org.springframework.web.server.ResponseStatusException;
  * 설명:
  *   - 빠른 대전 큐에 사용자를 등록하고 매칭 상태를 조회하는 엔드포인트를 제공한다.
  *   - WebSocket 연결 전에 roomId를 전달받기 위한 티켓 형태로 응답한다.
- * 버전: v0.9.0
+ *   - 상태 조회는 waitMs로 롱 폴링할 수 있어, 짧은 주기 폴링 없이 매칭 즉시 roomId를 받는다.
+ * 버전: v1.1.0
  * 관련 설계문서:
  *   - design/backend/v0.4.0-ranking-system.md
+ *   - design/backend/v1.1.0-matchmaking-scaling.md
  * 변경 이력:
  *   - v0.9.0: 밴/정지 사용자 차단을 위해 활성 사용자 조회 헬퍼 사용
+ *   - v1.1.0: 대기 취소(DELETE) 엔드포인트 추가
+ *   - v1.1.0: 상태 조회 롱 폴링(waitMs) 추가
  */
 @RestController
 @RequestMapping("/api/match/quick")
@@ -33,10 +40,13 @@ public class MatchmakingController {
 
     private final MatchmakingService matchmakingService;
     private final UserService userService;
+    private final MatchTicketLongPoll longPoll;
 
-    public MatchmakingController(MatchmakingService matchmakingService, UserService userService) {
+    public MatchmakingController(MatchmakingService matchmakingService, UserService userService,
+            MatchTicketLongPoll longPoll) {
         this.matchmakingService = matchmakingService;
         this.userService = userService;
+        this.longPoll = longPoll;
     }
 
     /**
@@ -53,13 +63,27 @@ public class MatchmakingController {
     /**
      * 설명:
      *   - 티켓 ID 기준으로 매칭 진행 상태와 roomId를 반환한다.
+     *   - waitMs를 주면 매칭/취소가 확정되는 순간 응답하는 롱 폴링으로 동작한다(최대 대기 시간 이후에는 WAITING).
      */
     @GetMapping("/{ticketId}")
-    public MatchmakingResponse status(@AuthenticationPrincipal AuthenticatedUser user,
-            @PathVariable String ticketId) {
+    public DeferredResult<MatchmakingResponse> status(@AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable String ticketId, @RequestParam(defaultValue = "0") long waitMs) {
         MatchTicket ticket = matchmakingService.findTicket(ticketId)
                 .filter(t -> t.userId().equals(user.id()) && t.matchType() == MatchType.NORMAL)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "대기열 정보를 찾을 수 없습니다."));
+        return longPoll.await(ticket, waitMs);
+    }
+
+    /**
+     * 설명:
+     *   - 대기 중인 티켓을 취소한다. 이미 매칭된 티켓이면 취소하지 않고 MATCHED 상태를 그대로 반환한다.
+     */
+    @DeleteMapping("/{ticketId}")
+    public MatchmakingResponse cancel(@AuthenticationPrincipal AuthenticatedUser user, @PathVariable String ticketId) {
+        MatchTicket ticket = matchmakingService.findTicket(ticketId)
+                .filter(t -> t.userId().equals(user.id()) && t.matchType() == MatchType.NORMAL)
+                .flatMap(t -> matchmakingService.cancel(t.ticketId()))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "대기열 정보를 찾을 수 없습니다."));
         return MatchmakingResponse.from(ticket);
     }
 }
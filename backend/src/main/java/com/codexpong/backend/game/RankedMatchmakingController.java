@@ -8,12 +8,15 @@ import com.codexpong.backend.game.service.MatchmakingService.MatchTicket;
 import com.codexpong.backend.user.service.UserService;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.server.ResponseStatusException;
 
 /**
@@ -21,11 +24,15 @@ import org.springframework.web.server.ResponseStatusException;
  * 설명:
  *   - v0.4.0 랭크 큐 전용 엔드포인트를 제공해 일반전과 큐를 분리한다.
  *   - 동일한 응답 포맷으로 roomId와 매치 타입을 반환한다.
- * 버전: v0.9.0
+ *   - 상태 조회는 빠른 대전과 같이 waitMs 롱 폴링을 지원한다.
+ * 버전: v1.1.0
  * 관련 설계문서:
  *   - design/backend/v0.4.0-ranking-system.md
+ *   - design/backend/v1.1.0-matchmaking-scaling.md
  * 변경 이력:
  *   - v0.9.0: 랭크 큐에서도 밴/정지 사용자를 차단하도록 개선
+ *   - v1.1.0: 대기 취소(DELETE) 엔드포인트 추가
+ *   - v1.1.0: 상태 조회 롱 폴링(waitMs) 추가
  */
 @RestController
 @RequestMapping("/api/match/ranked")
@@ -33,10 +40,13 @@ public class RankedMatchmakingController {
 
     private final MatchmakingService matchmakingService;
     private final UserService userService;
+    private final MatchTicketLongPoll longPoll;
 
-    public RankedMatchmakingController(MatchmakingService matchmakingService, UserService userService) {
+    public RankedMatchmakingController(MatchmakingService matchmakingService, UserService userService,
+            MatchTicketLongPoll longPoll) {
         this.matchmakingService = matchmakingService;
         this.userService = userService;
+        this.longPoll = longPoll;
     }
 
     @PostMapping
@@ -47,10 +57,24 @@ public class RankedMatchmakingController {
     }
 
     @GetMapping("/{ticketId}")
-    public MatchmakingResponse status(@AuthenticationPrincipal AuthenticatedUser user, @PathVariable String ticketId) {
+    public DeferredResult<MatchmakingResponse> status(@AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable String ticketId, @RequestParam(defaultValue = "0") long waitMs) {
         MatchTicket ticket = matchmakingService.findTicket(ticketId)
                 .filter(t -> t.userId().equals(user.id()) && t.matchType() == MatchType.RANKED)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "대기열 정보를 찾을 수 없습니다."));
+        return longPoll.await(ticket, waitMs);
+    }
+
+    /**
+     * 설명:
+     *   - 대기 중인 티켓을 취소한다. 이미 매칭된 티켓이면 취소하지 않고 MATCHED 상태를 그대로 반환한다.
+     */
+    @DeleteMapping("/{ticketId}")
+    public MatchmakingResponse cancel(@AuthenticationPrincipal AuthenticatedUser user, @PathVariable String ticketId) {
+        MatchTicket ticket = matchmakingService.findTicket(ticketId)
+                .filter(t -> t.userId().equals(user.id()) && t.matchType() == MatchType.RANKED)
+                .flatMap(t -> matchmakingService.cancel(t.ticketId()))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "대기열 정보를 찾을 수 없습니다."));
         return MatchmakingResponse.from(ticket);
     }
 }
@@ -14,9 +14,13 @@ import org.springframework.web.bind.annotation.RestController;
  * 설명:
  *   - 진행 중인 경기 목록을 조회하고 관전 모드 진입에 필요한 roomId 정보를 전달한다.
  *   - 인증된 사용자가 관전 목록을 조회한다는 가정하에 인증 Principal을 요구한다.
- * 버전: v0.8.0
+ *   - v1.1.0에서는 다른 노드가 소유한 방(RoomCluster 등록)까지 합친 클러스터 전체 목록을 반환한다.
+ * 버전: v1.1.0
  * 관련 설계문서:
  *   - design/backend/v0.8.0-spectator-mode.md
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ * 변경 이력:
+ *   - v1.1.0: 클러스터 전체 진행 중 경기 목록 조회
  */
 @RestController
 @RequestMapping("/api/match/ongoing")
@@ -37,7 +41,7 @@ public class SpectatorController {
         if (user == null) {
             return List.of();
         }
-        return gameRoomService.listLiveRooms().stream()
+        return gameRoomService.listClusterLiveRooms().stream()
                 .map(LiveMatchResponse::from)
                 .toList();
     }
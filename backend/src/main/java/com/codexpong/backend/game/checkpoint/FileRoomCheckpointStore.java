@@ -0,0 +1,163 @@
+package com.codexpong.backend.game.checkpoint;
+
+import com.codexpong.backend.game.domain.RoomCheckpoint;
+import com.codexpong.backend.replay.ReplayEventRecord;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * [저장소] backend/src/main/java/com/codexpong/backend/game/checkpoint/FileRoomCheckpointStore.java
+ * 설명:
+ *   - 로컬 디스크에 방 체크포인트를 보관한다. 같은 노드가 재시작한 뒤 진행 중이던 방을 이어 가는 용도다.
+ *       {roomId}.checkpoint.json   마지막 체크포인트. 임시 파일에 쓴 뒤 원자적 이동으로 교체해 반쯤 쓴 파일을 남기지 않는다.
+ *       {roomId}.replay.jsonl      리플레이 이벤트 JSON Lines. 늘어난 꼬리만 이어 붙인다.
+ *   - 리플레이 파일의 이벤트 수와 바이트 길이를 메모리에 기억해, 이어 붙일 때 파일을 다시 읽지 않는다.
+ *     기억한 위치와 replayFrom이 다르면(재시작 직후, 직전 저장 실패) 파일을 한 번 훑어 replayFrom 위치를 찾고 그 뒤를 자른다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public class FileRoomCheckpointStore implements RoomCheckpointStore {
+
+    private static final Logger log = LoggerFactory.getLogger(FileRoomCheckpointStore.class);
+    private static final String CHECKPOINT_SUFFIX = ".checkpoint.json";
+    private static final String REPLAY_SUFFIX = ".replay.jsonl";
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final Map<String, ReplayTail> tails = new ConcurrentHashMap<>();
+
+    public FileRoomCheckpointStore(Path directory, ObjectMapper objectMapper) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean save(RoomCheckpoint checkpoint, int replayFrom, List<ReplayEventRecord> replayTail)
+            throws IOException {
+        String roomId = checkpoint.roomId();
+        try (FileChannel channel = FileChannel.open(replayPath(roomId), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long end = replayEnd(roomId, channel, replayFrom);
+            channel.truncate(end);
+            ByteArrayOutputStream lines = new ByteArrayOutputStream();
+            for (ReplayEventRecord event : replayTail) {
+                objectMapper.writeValue(lines, event);
+                lines.write('\n');
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+            long position = end;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            tails.put(roomId, new ReplayTail(replayFrom + replayTail.size(), position));
+        }
+        Path temp = directory.resolve(roomId + CHECKPOINT_SUFFIX + ".tmp");
+        Files.write(temp, objectMapper.writeValueAsBytes(checkpoint));
+        Files.move(temp, checkpointPath(roomId), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        return true;
+    }
+
+    @Override
+    public List<RoomCheckpoint> list() throws IOException {
+        List<RoomCheckpoint> checkpoints = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(path -> path.getFileName().toString().endsWith(CHECKPOINT_SUFFIX))
+                    .toList()) {
+                try {
+                    checkpoints.add(objectMapper.readValue(file.toFile(), RoomCheckpoint.class));
+                } catch (IOException ex) {
+                    log.warn("읽을 수 없는 체크포인트를 건너뜁니다. file={}", file, ex);
+                }
+            }
+        }
+        return checkpoints;
+    }
+
+    @Override
+    public List<ReplayEventRecord> replayEvents(String roomId, int count) throws IOException {
+        Path path = replayPath(roomId);
+        List<ReplayEventRecord> events = new ArrayList<>(Math.max(count, 0));
+        if (count <= 0 || !Files.exists(path)) {
+            return events;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while (events.size() < count && (line = reader.readLine()) != null) {
+                events.add(objectMapper.readValue(line, ReplayEventRecord.class));
+            }
+        }
+        return events;
+    }
+
+    @Override
+    public boolean claim(String roomId) {
+        return true;
+    }
+
+    @Override
+    public void delete(String roomId) throws IOException {
+        tails.remove(roomId);
+        Files.deleteIfExists(checkpointPath(roomId));
+        Files.deleteIfExists(replayPath(roomId));
+    }
+
+    /**
+     * 설명:
+     *   - 리플레이 파일에서 replayFrom번째 이벤트가 시작하는 바이트 위치. 파일이 더 짧으면 파일 끝이다.
+     */
+    private long replayEnd(String roomId, FileChannel channel, int replayFrom) throws IOException {
+        ReplayTail tail = tails.get(roomId);
+        if (tail != null && tail.events() == replayFrom) {
+            return tail.bytes();
+        }
+        if (replayFrom == 0) {
+            return 0;
+        }
+        channel.position(0);
+        InputStream in = Channels.newInputStream(channel);
+        byte[] chunk = new byte[8192];
+        long position = 0;
+        int lines = 0;
+        int read;
+        while ((read = in.read(chunk)) > 0) {
+            for (int i = 0; i < read; i++) {
+                if (chunk[i] == '\n' && ++lines == replayFrom) {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return position;
+    }
+
+    private Path checkpointPath(String roomId) {
+        return directory.resolve(roomId + CHECKPOINT_SUFFIX);
+    }
+
+    private Path replayPath(String roomId) {
+        return directory.resolve(roomId + REPLAY_SUFFIX);
+    }
+
+    private record ReplayTail(int events, long bytes) {
+    }
+}
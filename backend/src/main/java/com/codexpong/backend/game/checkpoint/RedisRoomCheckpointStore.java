@@ -0,0 +1,238 @@
+package com.codexpong.backend.game.checkpoint;
+
+import com.codexpong.backend.game.domain.RoomCheckpoint;
+import com.codexpong.backend.replay.ReplayEventRecord;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * [저장소] backend/src/main/java/com/codexpong/backend/game/checkpoint/RedisRoomCheckpointStore.java
+ * 설명:
+ *   - Redis에 방 체크포인트를 보관해 소유 노드가 죽으면 다른 노드가 방을 이어받게 한다.
+ *   - 키 구성(prefix 기본값 codexpong:game)
+ *       {prefix}:checkpoints                  체크포인트가 있는 방 ID 집합
+ *       {prefix}:checkpoint:{id}              마지막 체크포인트 JSON
+ *       {prefix}:checkpoint:{id}:replay       리플레이 이벤트 JSON 리스트. 늘어난 꼬리만 RPUSH한다.
+ *       {prefix}:checkpoint:{id}:owner        소유 노드 ID(lease), TTL = staleAfterMs
+ *   - 한 번의 저장은 소유 확인 → LTRIM(또는 DEL) → RPUSH → SET → SADD → SET owner를 Lua 스크립트 하나로 실행한다.
+ *     Redis는 스크립트를 원자적으로 실행하므로 체크포인트가 보이면 그 replayOffset까지의 이벤트도 리스트에 있고,
+ *     소유 키가 다른 노드 ID이면 아무것도 쓰지 않는다(compare-and-set).
+ *   - lease는 저장과 별개로 renew가 주기적으로 갱신한다. 휴면 방처럼 체크포인트를 만들지 않는 방도 소유가 유지되며,
+ *     다른 노드가 가져간 방 ID를 돌려줘 이 노드가 내려놓게 한다. 비어 있는 lease(첫 저장 전 새 방)는 다시 가져온다.
+ *   - 삭제도 소유 확인 후에만 지워, lease를 잃은 노드가 새 소유 노드의 체크포인트를 지우지 않게 한다.
+ *   - 소유 키가 만료된 방은 SET NX로 먼저 가져간 노드가 복구한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public class RedisRoomCheckpointStore implements RoomCheckpointStore {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisRoomCheckpointStore.class);
+    // 한 스크립트가 Redis를 오래 붙잡지 않도록 lease 갱신을 나눠 보낸다.
+    private static final int RENEW_BATCH = 256;
+
+    /**
+     * KEYS: replay, checkpoint, index, owner
+     * ARGV: nodeId, ttlMs, replayFrom, checkpoint JSON, roomId, 이벤트 JSON...
+     * 반환: 1 저장, 0 다른 노드 소유
+     */
+    private static final RedisScript<Long> SAVE = RedisScript.of("""
+            local owner = redis.call('GET', KEYS[4])
+            if owner and owner ~= ARGV[1] then
+              return 0
+            end
+            local from = tonumber(ARGV[3])
+            if from == 0 then
+              redis.call('DEL', KEYS[1])
+            else
+              redis.call('LTRIM', KEYS[1], 0, from - 1)
+            end
+            for i = 6, #ARGV do
+              redis.call('RPUSH', KEYS[1], ARGV[i])
+            end
+            redis.call('SET', KEYS[2], ARGV[4])
+            redis.call('SADD', KEYS[3], ARGV[5])
+            redis.call('SET', KEYS[4], ARGV[1], 'PX', ARGV[2])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS: owner...
+     * ARGV: nodeId, ttlMs
+     * 반환: 다른 노드가 소유한 KEYS의 1부터 시작하는 위치 목록
+     */
+    private static final RedisScript<List<Long>> RENEW = RedisScript.of("""
+            local lost = {}
+            for i = 1, #KEYS do
+              local owner = redis.call('GET', KEYS[i])
+              if owner == ARGV[1] then
+                redis.call('PEXPIRE', KEYS[i], ARGV[2])
+              elseif not owner then
+                redis.call('SET', KEYS[i], ARGV[1], 'PX', ARGV[2])
+              else
+                lost[#lost + 1] = i
+              end
+            end
+            return lost
+            """, listType());
+
+    /**
+     * KEYS: checkpoint, replay, index, owner
+     * ARGV: nodeId, roomId
+     * 반환: 1 삭제, 0 다른 노드 소유
+     */
+    private static final RedisScript<Long> DELETE = RedisScript.of("""
+            local owner = redis.call('GET', KEYS[4])
+            if owner and owner ~= ARGV[1] then
+              return 0
+            end
+            redis.call('DEL', KEYS[1], KEYS[2], KEYS[4])
+            redis.call('SREM', KEYS[3], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String keyPrefix;
+    private final String nodeId;
+    private final Duration ownerTtl;
+
+    public RedisRoomCheckpointStore(StringRedisTemplate redisTemplate, ObjectMapper objectMapper, String keyPrefix,
+            String nodeId, long staleAfterMs) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.keyPrefix = keyPrefix;
+        this.nodeId = nodeId;
+        this.ownerTtl = Duration.ofMillis(Math.max(1, staleAfterMs));
+    }
+
+    @Override
+    public boolean save(RoomCheckpoint checkpoint, int replayFrom, List<ReplayEventRecord> replayTail)
+            throws IOException {
+        String roomId = checkpoint.roomId();
+        Object[] args = new Object[5 + replayTail.size()];
+        args[0] = nodeId;
+        args[1] = String.valueOf(ownerTtl.toMillis());
+        args[2] = String.valueOf(replayFrom);
+        args[3] = objectMapper.writeValueAsString(checkpoint);
+        args[4] = roomId;
+        for (int i = 0; i < replayTail.size(); i++) {
+            args[5 + i] = objectMapper.writeValueAsString(replayTail.get(i));
+        }
+        Long saved = redisTemplate.execute(SAVE,
+                List.of(replayKey(roomId), checkpointKey(roomId), indexKey(), ownerKey(roomId)), args);
+        return saved != null && saved == 1;
+    }
+
+    @Override
+    public Set<String> renew(Collection<String> roomIds) {
+        List<String> ids = List.copyOf(roomIds);
+        Set<String> lost = new HashSet<>();
+        String ttl = String.valueOf(ownerTtl.toMillis());
+        for (int from = 0; from < ids.size(); from += RENEW_BATCH) {
+            List<String> batch = ids.subList(from, Math.min(ids.size(), from + RENEW_BATCH));
+            List<Long> positions = redisTemplate.execute(RENEW, batch.stream().map(this::ownerKey).toList(), nodeId,
+                    ttl);
+            if (positions != null) {
+                for (Long position : positions) {
+                    lost.add(batch.get(position.intValue() - 1));
+                }
+            }
+        }
+        return lost;
+    }
+
+    @Override
+    public List<RoomCheckpoint> list() {
+        Set<String> roomIds = redisTemplate.opsForSet().members(indexKey());
+        List<RoomCheckpoint> checkpoints = new ArrayList<>();
+        if (roomIds == null || roomIds.isEmpty()) {
+            return checkpoints;
+        }
+        List<String> ids = List.copyOf(roomIds);
+        List<String> values = redisTemplate.opsForValue().multiGet(ids.stream().map(this::checkpointKey).toList());
+        for (int i = 0; i < ids.size(); i++) {
+            String value = values == null ? null : values.get(i);
+            if (value == null) {
+                redisTemplate.opsForSet().remove(indexKey(), ids.get(i));
+                continue;
+            }
+            try {
+                checkpoints.add(objectMapper.readValue(value, RoomCheckpoint.class));
+            } catch (IOException ex) {
+                log.warn("읽을 수 없는 체크포인트를 건너뜁니다. room={}", ids.get(i), ex);
+            }
+        }
+        return checkpoints;
+    }
+
+    @Override
+    public List<ReplayEventRecord> replayEvents(String roomId, int count) throws IOException {
+        List<ReplayEventRecord> events = new ArrayList<>(Math.max(count, 0));
+        if (count <= 0) {
+            return events;
+        }
+        List<String> values = redisTemplate.opsForList().range(replayKey(roomId), 0, count - 1);
+        if (values != null) {
+            for (String value : values) {
+                events.add(objectMapper.readValue(value, ReplayEventRecord.class));
+            }
+        }
+        return events;
+    }
+
+    @Override
+    public boolean claim(String roomId) {
+        String ownerKey = ownerKey(roomId);
+        if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(ownerKey, nodeId, ownerTtl))) {
+            return true;
+        }
+        return nodeId.equals(redisTemplate.opsForValue().get(ownerKey));
+    }
+
+    @Override
+    public void delete(String roomId) {
+        redisTemplate.execute(DELETE,
+                List.of(checkpointKey(roomId), replayKey(roomId), indexKey(), ownerKey(roomId)), nodeId, roomId);
+    }
+
+    @Override
+    public boolean shared() {
+        return true;
+    }
+
+    private String indexKey() {
+        return keyPrefix + ":checkpoints";
+    }
+
+    private String checkpointKey(String roomId) {
+        return keyPrefix + ":checkpoint:" + roomId;
+    }
+
+    private String replayKey(String roomId) {
+        return checkpointKey(roomId) + ":replay";
+    }
+
+    private String ownerKey(String roomId) {
+        return checkpointKey(roomId) + ":owner";
+    }
+
+    /**
+     * 설명:
+     *   - 목록을 돌려주는 스크립트의 결과 타입. 제네릭 클래스 리터럴이 없어 한 곳에서만 변환한다.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Class<List<T>> listType() {
+        return (Class<List<T>>) (Class<?>) List.class;
+    }
+}
@@ -0,0 +1,63 @@
+package com.codexpong.backend.game.checkpoint;
+
+import com.codexpong.backend.game.cluster.GameClusterProperties;
+import com.codexpong.backend.game.service.GameRoomService;
+import com.codexpong.backend.game.service.RoomCheckpointer;
+import com.codexpong.backend.replay.ReplayService;
+import com.codexpong.backend.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.nio.file.Paths;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * [설정] backend/src/main/java/com/codexpong/backend/game/checkpoint/RoomCheckpointConfig.java
+ * 설명:
+ *   - game.checkpoint.enabled가 꺼져 있으면(기본) 체크포인트를 만들지 않는 RoomCheckpointer.NONE을 등록한다.
+ *   - 켜져 있으면 store 설정에 맞는 저장소와 저장기(RoomCheckpointWriter), 기동 시 복구기를 등록한다.
+ *     REDIS 저장소의 소유 노드 ID는 game.cluster.node-id를 따르고, 비어 있으면 기동 시 임의 값을 만든다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+@Configuration
+public class RoomCheckpointConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "game.checkpoint.enabled", havingValue = "false", matchIfMissing = true)
+    public RoomCheckpointer noRoomCheckpointer() {
+        return RoomCheckpointer.NONE;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "game.checkpoint.enabled", havingValue = "true")
+    public RoomCheckpointStore roomCheckpointStore(RoomCheckpointProperties properties,
+            GameClusterProperties clusterProperties, ObjectMapper objectMapper,
+            ObjectProvider<StringRedisTemplate> redisTemplate) throws IOException {
+        if (properties.getStore() == RoomCheckpointProperties.Store.REDIS) {
+            return new RedisRoomCheckpointStore(redisTemplate.getObject(), objectMapper, properties.getKeyPrefix(),
+                    clusterProperties.resolvedNodeId(), properties.getStaleAfterMs());
+        }
+        return new FileRoomCheckpointStore(Paths.get(properties.getDirectory()), objectMapper);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(name = "game.checkpoint.enabled", havingValue = "true")
+    public RoomCheckpointWriter roomCheckpointWriter(RoomCheckpointStore store, ReplayService replayService,
+            RoomCheckpointProperties properties, MeterRegistry meterRegistry) {
+        return new RoomCheckpointWriter(store, replayService, properties.getIntervalMs(), meterRegistry);
+    }
+
+    @Bean(destroyMethod = "stop")
+    @ConditionalOnProperty(name = "game.checkpoint.enabled", havingValue = "true")
+    public RoomCheckpointRecovery roomCheckpointRecovery(RoomCheckpointStore store, GameRoomService gameRoomService,
+            UserRepository userRepository, RoomCheckpointProperties properties, MeterRegistry meterRegistry) {
+        return new RoomCheckpointRecovery(store, gameRoomService, userRepository, properties.getStaleAfterMs(),
+                meterRegistry);
+    }
+}
@@ -0,0 +1,80 @@
+package com.codexpong.backend.game.checkpoint;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * [설정] backend/src/main/java/com/codexpong/backend/game/checkpoint/RoomCheckpointProperties.java
+ * 설명:
+ *   - 진행 중인 방의 주기적 체크포인트와 장애 후 복구 설정을 묶는다.
+ *   - enabled: false(기본)면 체크포인트를 만들지 않는다.
+ *   - store: FILE(단일 노드 재시작 복구, directory 아래 방별 파일) 또는 REDIS(다른 노드가 이어받는 장애 조치).
+ *   - intervalMs: 체크포인트 주기. 짧을수록 복구 시 되돌아가는 구간이 줄지만 저장 I/O가 늘어난다.
+ *   - staleAfterMs: REDIS 저장소에서 소유 노드의 갱신이 이 시간 동안 없으면 다른 노드가 방을 가져간다.
+ *     intervalMs보다 충분히 커야 정상 노드의 방을 가로채지 않는다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+@ConfigurationProperties(prefix = "game.checkpoint")
+public class RoomCheckpointProperties {
+
+    public enum Store {
+        FILE,
+        REDIS
+    }
+
+    private boolean enabled = false;
+    private Store store = Store.FILE;
+    private long intervalMs = 1000;
+    private String directory = "build/checkpoints";
+    private String keyPrefix = "codexpong:game";
+    private long staleAfterMs = 5000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Store getStore() {
+        return store;
+    }
+
+    public void setStore(Store store) {
+        this.store = store;
+    }
+
+    public long getIntervalMs() {
+        return intervalMs;
+    }
+
+    public void setIntervalMs(long intervalMs) {
+        this.intervalMs = intervalMs;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    public void setKeyPrefix(String keyPrefix) {
+        this.keyPrefix = keyPrefix;
+    }
+
+    public long getStaleAfterMs() {
+        return staleAfterMs;
+    }
+
+    public void setStaleAfterMs(long staleAfterMs) {
+        this.staleAfterMs = staleAfterMs;
+    }
+}
@@ -0,0 +1,158 @@
+package com.codexpong.backend.game.checkpoint;
+
+import com.codexpong.backend.game.domain.RoomCheckpoint;
+import com.codexpong.backend.game.service.GameRoomService;
+import com.codexpong.backend.replay.ReplayEventRecord;
+import com.codexpong.backend.user.domain.User;
+import com.codexpong.backend.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+/**
+ * [복구기] backend/src/main/java/com/codexpong/backend/game/checkpoint/RoomCheckpointRecovery.java
+ * 설명:
+ *   - 애플리케이션 기동이 끝나면 저장소의 체크포인트로 진행 중이던 방을 다시 등록한다.
+ *     복구된 방은 두 플레이어가 같은 roomId로 다시 접속하면 체크포인트 틱부터 이어서 진행된다.
+ *   - 공유 저장소(REDIS)면 staleAfterMs마다 다시 훑어, 소유 노드의 갱신이 끊긴 방을 claim으로 가져와 복구한다.
+ *   - 공유 저장소면 staleAfterMs/3마다 이 노드의 모든 방 lease를 갱신한다. 체크포인트 저장은 진행 중인 틱에서만
+ *     생기므로, 휴면 방이나 플레이어 재접속을 기다리는 복구 방도 소유가 끊기지 않도록 틱과 무관한 타이머로 돌린다.
+ *     다른 노드가 가져간 방은 GameRoomService.releaseRoom으로 이 노드에서 내려놓는다.
+ *     느린 전체 훑기가 갱신을 늦추지 않도록 스레드 두 개짜리 스케줄러를 쓴다.
+ *   - 이미 끝난 경기이거나 플레이어를 찾을 수 없는 체크포인트는 지운다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public class RoomCheckpointRecovery {
+
+    private static final Logger log = LoggerFactory.getLogger(RoomCheckpointRecovery.class);
+
+    private final RoomCheckpointStore store;
+    private final GameRoomService gameRoomService;
+    private final UserRepository userRepository;
+    private final long scanIntervalMillis;
+    private final long renewIntervalMillis;
+    private final Counter resumed;
+    private final Counter released;
+    private ScheduledExecutorService scanner;
+
+    public RoomCheckpointRecovery(RoomCheckpointStore store, GameRoomService gameRoomService,
+            UserRepository userRepository, long scanIntervalMillis, MeterRegistry meterRegistry) {
+        this.store = store;
+        this.gameRoomService = gameRoomService;
+        this.userRepository = userRepository;
+        this.scanIntervalMillis = Math.max(100, scanIntervalMillis);
+        this.renewIntervalMillis = Math.max(100, scanIntervalMillis / 3);
+        this.resumed = Counter.builder("codexpong_room_checkpoint_resumed_total")
+                .description("체크포인트에서 복구한 방 수")
+                .register(meterRegistry);
+        this.released = Counter.builder("codexpong_room_checkpoint_lease_lost_total")
+                .description("다른 노드가 소유권을 가져가 내려놓은 방 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        recover();
+        if (store.shared()) {
+            scanner = Executors.newScheduledThreadPool(2, task -> {
+                Thread thread = new Thread(task, "room-checkpoint-recovery");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scanner.scheduleWithFixedDelay(this::renewLeases, renewIntervalMillis, renewIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+            scanner.scheduleWithFixedDelay(this::recover, scanIntervalMillis, scanIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public void stop() {
+        if (scanner != null) {
+            scanner.shutdownNow();
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 이 노드에 없는 방의 체크포인트를 복구한다.
+     * 출력:
+     *   - 이번에 복구한 방 수
+     */
+    int recover() {
+        int count = 0;
+        try {
+            for (RoomCheckpoint checkpoint : store.list()) {
+                if (gameRoomService.findRoom(checkpoint.roomId()).isPresent()) {
+                    continue;
+                }
+                if (resume(checkpoint)) {
+                    count++;
+                }
+            }
+        } catch (IOException | RuntimeException ex) {
+            log.warn("방 체크포인트 복구 중 오류가 발생했습니다.", ex);
+        }
+        return count;
+    }
+
+    /**
+     * 설명:
+     *   - 이 노드의 모든 방 lease를 갱신하고, 다른 노드가 가져간 방은 내려놓는다.
+     * 출력:
+     *   - 이번에 내려놓은 방 수
+     */
+    int renewLeases() {
+        int count = 0;
+        try {
+            List<String> roomIds = gameRoomService.localRoomIds();
+            if (roomIds.isEmpty()) {
+                return 0;
+            }
+            Set<String> lost = store.renew(roomIds);
+            for (String roomId : lost) {
+                if (gameRoomService.releaseRoom(roomId)) {
+                    released.increment();
+                    count++;
+                    log.warn("다른 노드가 방 소유권을 가져가 이 노드의 방을 내려놓았습니다. room={}", roomId);
+                }
+            }
+        } catch (IOException | RuntimeException ex) {
+            log.warn("방 소유권 갱신 중 오류가 발생했습니다.", ex);
+        }
+        return count;
+    }
+
+    private boolean resume(RoomCheckpoint checkpoint) throws IOException {
+        String roomId = checkpoint.roomId();
+        if (checkpoint.snapshot().finished()) {
+            store.delete(roomId);
+            return false;
+        }
+        if (!store.claim(roomId)) {
+            return false;
+        }
+        Optional<User> left = userRepository.findById(checkpoint.leftPlayerId());
+        Optional<User> right = userRepository.findById(checkpoint.rightPlayerId());
+        if (left.isEmpty() || right.isEmpty()) {
+            store.delete(roomId);
+            return false;
+        }
+        List<ReplayEventRecord> events = store.replayEvents(roomId, checkpoint.replayOffset());
+        gameRoomService.resumeRoom(checkpoint, left.get(), right.get(), events);
+        resumed.increment();
+        log.info("체크포인트에서 방을 복구했습니다. room={}, tick={}", roomId, checkpoint.tick());
+        return true;
+    }
+}
@@ -0,0 +1,71 @@
+package com.codexpong.backend.game.checkpoint;
+
+import com.codexpong.backend.game.domain.RoomCheckpoint;
+import com.codexpong.backend.replay.ReplayEventRecord;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * [인터페이스] backend/src/main/java/com/codexpong/backend/game/checkpoint/RoomCheckpointStore.java
+ * 설명:
+ *   - 방 체크포인트와 리플레이 이벤트 꼬리를 보관하는 저장소다.
+ *   - 리플레이 이벤트는 매번 전체가 아니라 직전 저장 이후 늘어난 구간만 이어 붙인다(replayFrom부터).
+ *     저장소에 replayFrom보다 많은 이벤트가 있으면(직전 저장이 중간에 실패) 그 뒤를 잘라 내고 붙인다.
+ *   - 체크포인트는 리플레이를 붙인 다음에 쓰므로, 읽은 체크포인트의 replayOffset까지의 이벤트는 항상 저장소에 있다.
+ *   - 공유 저장소는 방마다 소유 노드 lease를 둔다. save/renew/delete는 lease가 이 노드 것(또는 비어 있음)일 때만
+ *     반영되고, 다른 노드가 가져간 방은 건드리지 않는다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public interface RoomCheckpointStore {
+
+    /**
+     * 설명:
+     *   - 체크포인트와 늘어난 리플레이 꼬리를 저장하고 소유 lease를 갱신한다.
+     * 출력:
+     *   - 다른 노드가 lease를 가져가 아무것도 쓰지 않았으면 false
+     */
+    boolean save(RoomCheckpoint checkpoint, int replayFrom, List<ReplayEventRecord> replayTail) throws IOException;
+
+    /**
+     * 설명:
+     *   - 저장된 모든 체크포인트. 읽을 수 없는 항목은 건너뛴다.
+     */
+    List<RoomCheckpoint> list() throws IOException;
+
+    /**
+     * 설명:
+     *   - 방의 리플레이 이벤트 중 앞에서부터 count개를 반환한다.
+     */
+    List<ReplayEventRecord> replayEvents(String roomId, int count) throws IOException;
+
+    /**
+     * 설명:
+     *   - 이 노드가 방을 복구해도 되는지 확인하고 소유권을 가져온다. 다른 노드가 갱신 중이면 false다.
+     */
+    boolean claim(String roomId);
+
+    /**
+     * 설명:
+     *   - 이 노드가 들고 있는 방들의 소유 lease를 갱신한다. 틱/저장과 무관한 타이머에서 호출해
+     *     휴면 방이나 재접속을 기다리는 복구 방의 lease도 끊기지 않게 한다. lease가 비어 있으면 다시 가져온다.
+     * 출력:
+     *   - 다른 노드가 lease를 가져가 이 노드가 내려놓아야 하는 방 ID
+     */
+    default Set<String> renew(Collection<String> roomIds) throws IOException {
+        return Set.of();
+    }
+
+    void delete(String roomId) throws IOException;
+
+    /**
+     * 설명:
+     *   - 여러 노드가 공유하는 저장소인지. 공유 저장소면 기동 후에도 주기적으로 버려진 방을 찾는다.
+     */
+    default boolean shared() {
+        return false;
+    }
+}
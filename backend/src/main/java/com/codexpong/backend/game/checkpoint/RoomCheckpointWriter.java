@@ -0,0 +1,146 @@
+package com.codexpong.backend.game.checkpoint;
+
+import com.codexpong.backend.game.domain.RoomCheckpoint;
+import com.codexpong.backend.game.service.RoomCheckpointer;
+import com.codexpong.backend.replay.ReplayEventRecord;
+import com.codexpong.backend.replay.ReplayService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * [저장기] backend/src/main/java/com/codexpong/backend/game/checkpoint/RoomCheckpointWriter.java
+ * 설명:
+ *   - 틱 스레드가 넘긴 체크포인트를 방별 최신 값 하나로 모아 두고, 단일 저장 스레드가 intervalMs마다 저장소에 쓴다.
+ *     틱 스레드는 맵에 넣기만 하므로 디스크/Redis 지연이 틱 예산에 들어가지 않는다.
+ *   - 방별로 저장소에 이미 넘긴 리플레이 이벤트 수를 기억해 늘어난 꼬리만 ReplayService에서 복사해 넘긴다.
+ *     저장 실패 시 기억한 수를 올리지 않으므로 다음 주기에 같은 위치부터 다시 보낸다.
+ *   - 방 종료 시 삭제도 같은 저장 스레드에서 처리해, 진행 중인 저장이 삭제 뒤에 체크포인트를 되살리지 않게 한다.
+ *   - 저장소가 lease를 다른 노드가 가졌다고 알리면 쓰지 않고 넘어간다. 방을 내려놓는 일은 lease 갱신 타이머
+ *     (RoomCheckpointRecovery)가 맡고, 내려놓은 방은 roomReleased로 대기분만 버린다.
+ *   - 정상 종료 시 남은 체크포인트를 한 번 더 저장해 재시작 후 이어 가는 구간을 늘린다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public class RoomCheckpointWriter implements RoomCheckpointer {
+
+    private static final Logger log = LoggerFactory.getLogger(RoomCheckpointWriter.class);
+
+    private final RoomCheckpointStore store;
+    private final ReplayService replayService;
+    private final long intervalMillis;
+    private final Map<String, RoomCheckpoint> pending = new ConcurrentHashMap<>();
+    private final Map<String, Integer> persistedReplay = new HashMap<>();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "room-checkpoint");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Timer saveTimer;
+    private final Counter failures;
+
+    public RoomCheckpointWriter(RoomCheckpointStore store, ReplayService replayService, long intervalMillis,
+            MeterRegistry meterRegistry) {
+        this.store = store;
+        this.replayService = replayService;
+        this.intervalMillis = Math.max(1, intervalMillis);
+        this.saveTimer = Timer.builder("codexpong_room_checkpoint_save")
+                .description("방 체크포인트 한 건 저장 시간")
+                .register(meterRegistry);
+        this.failures = Counter.builder("codexpong_room_checkpoint_failures_total")
+                .description("저장/삭제에 실패한 방 체크포인트 수")
+                .register(meterRegistry);
+    }
+
+    public void start() {
+        executor.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() throws InterruptedException {
+        executor.execute(this::flush);
+        executor.shutdown();
+        executor.awaitTermination(2, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public long intervalMillis() {
+        return intervalMillis;
+    }
+
+    @Override
+    public void offer(RoomCheckpoint checkpoint) {
+        pending.put(checkpoint.roomId(), checkpoint);
+    }
+
+    @Override
+    public void roomResumed(RoomCheckpoint checkpoint) {
+        executor.execute(() -> persistedReplay.put(checkpoint.roomId(), checkpoint.replayOffset()));
+    }
+
+    @Override
+    public void roomReleased(String roomId) {
+        pending.remove(roomId);
+        executor.execute(() -> {
+            pending.remove(roomId);
+            persistedReplay.remove(roomId);
+        });
+    }
+
+    @Override
+    public void roomClosed(String roomId) {
+        pending.remove(roomId);
+        executor.execute(() -> {
+            pending.remove(roomId);
+            persistedReplay.remove(roomId);
+            try {
+                store.delete(roomId);
+            } catch (IOException | RuntimeException ex) {
+                failures.increment();
+                log.warn("방 체크포인트 삭제에 실패했습니다. room={}", roomId, ex);
+            }
+        });
+    }
+
+    /**
+     * 설명:
+     *   - 모인 체크포인트를 저장한다. 저장 스레드에서만 호출된다.
+     */
+    void flush() {
+        for (String roomId : List.copyOf(pending.keySet())) {
+            RoomCheckpoint checkpoint = pending.remove(roomId);
+            if (checkpoint == null) {
+                continue;
+            }
+            int from = persistedReplay.getOrDefault(roomId, 0);
+            List<ReplayEventRecord> tail = replayService.recordedEvents(roomId, from, checkpoint.replayOffset());
+            if (tail.size() != checkpoint.replayOffset() - from) {
+                // 녹화 버퍼가 이미 정리된 방(종료 직후)이다. 곧 roomClosed가 삭제한다.
+                continue;
+            }
+            long started = System.nanoTime();
+            try {
+                if (store.save(checkpoint, from, tail)) {
+                    persistedReplay.put(roomId, checkpoint.replayOffset());
+                } else {
+                    log.info("다른 노드가 방 소유권을 가져가 체크포인트를 저장하지 않았습니다. room={}", roomId);
+                }
+            } catch (IOException | RuntimeException ex) {
+                failures.increment();
+                log.warn("방 체크포인트 저장에 실패했습니다. room={}", roomId, ex);
+            } finally {
+                saveTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.codexpong.backend.game.cluster;
+
+import com.codexpong.backend.game.service.RoomCluster;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * [설정] backend/src/main/java/com/codexpong/backend/game/cluster/GameClusterConfig.java
+ * 설명:
+ *   - game.cluster.enabled가 꺼져 있으면(기본) 단일 노드용 RoomCluster.LOCAL을 등록한다.
+ *   - 켜져 있으면 RedisRoomCluster 컴포넌트가 대신 등록된다.
+ *   - MatchmakingCluster는 game.matchmaking.distributed가 켜졌을 때만 RedisMatchmakingCluster로 등록된다.
+ *     꺼져 있으면(기본) 빈이 없고 MatchmakingService가 노드 메모리 큐를 쓴다. 방 중계와 별개로 켤 수 있다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+@Configuration
+public class GameClusterConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "game.cluster.enabled", havingValue = "false", matchIfMissing = true)
+    public RoomCluster localRoomCluster() {
+        return RoomCluster.LOCAL;
+    }
+}
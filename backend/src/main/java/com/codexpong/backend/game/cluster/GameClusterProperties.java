@@ -0,0 +1,98 @@
+package com.codexpong.backend.game.cluster;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * [설정] backend/src/main/java/com/codexpong/backend/game/cluster/GameClusterProperties.java
+ * 설명:
+ *   - 다중 노드 경기 방(방 소유 등록, 관전 프레임 중계) 설정을 묶는다.
+ *   - enabled: false(기본)면 단일 노드로 동작하고 Redis를 사용하지 않는다.
+ *   - nodeId: 방 소유 노드 식별자이자 nginx가 플레이어 WebSocket을 소유 노드로 보낼 때 쓰는 호스트 이름이다.
+ *     비우면 이 노드의 호스트 이름(얻지 못하면 임의 값)을 쓴다. 매칭/방 클러스터/체크포인트가 resolvedNodeId로 같은 값을 공유한다.
+ *   - heartbeatIntervalMs/registryTtlMs: 소유 방 등록 갱신 주기와 만료 시간. 노드가 죽으면 TTL 뒤 목록에서 사라진다.
+ *   - publishQueueCapacity: 틱 스레드와 Redis 발행 스레드 사이 대기 한도. 넘치면 가장 오래된 발행을 버린다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+@ConfigurationProperties(prefix = "game.cluster")
+public class GameClusterProperties {
+
+    private boolean enabled = false;
+    private String nodeId = "";
+    private String keyPrefix = "codexpong:game";
+    private long heartbeatIntervalMs = 1000;
+    private long registryTtlMs = 5000;
+    private int publishQueueCapacity = 1024;
+    private String resolvedNodeId;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * 설명:
+     *   - 실제로 쓸 노드 ID. 비어 있으면 처음 호출할 때 한 번만 정해 이후 모든 호출이 같은 값을 받는다.
+     */
+    public synchronized String resolvedNodeId() {
+        if (resolvedNodeId == null) {
+            resolvedNodeId = nodeId == null || nodeId.isBlank() ? localHostName() : nodeId;
+        }
+        return resolvedNodeId;
+    }
+
+    private static String localHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException ex) {
+            return UUID.randomUUID().toString().substring(0, 8);
+        }
+    }
+
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    public void setKeyPrefix(String keyPrefix) {
+        this.keyPrefix = keyPrefix;
+    }
+
+    public long getHeartbeatIntervalMs() {
+        return heartbeatIntervalMs;
+    }
+
+    public void setHeartbeatIntervalMs(long heartbeatIntervalMs) {
+        this.heartbeatIntervalMs = heartbeatIntervalMs;
+    }
+
+    public long getRegistryTtlMs() {
+        return registryTtlMs;
+    }
+
+    public void setRegistryTtlMs(long registryTtlMs) {
+        this.registryTtlMs = registryTtlMs;
+    }
+
+    public int getPublishQueueCapacity() {
+        return publishQueueCapacity;
+    }
+
+    public void setPublishQueueCapacity(int publishQueueCapacity) {
+        this.publishQueueCapacity = publishQueueCapacity;
+    }
+}
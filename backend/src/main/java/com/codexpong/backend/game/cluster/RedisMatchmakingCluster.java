@@ -0,0 +1,521 @@
+package com.codexpong.backend.game.cluster;
+
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.service.MatchmakingCluster;
+import com.codexpong.backend.game.service.MatchmakingProperties;
+import com.codexpong.backend.game.service.MatchmakingService.MatchTicket;
+import com.codexpong.backend.user.domain.User;
+import com.codexpong.backend.user.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * [클러스터] backend/src/main/java/com/codexpong/backend/game/cluster/RedisMatchmakingCluster.java
+ * 설명:
+ *   - Redis 정렬 집합으로 매칭 큐와 티켓을 여러 노드가 공유하는 MatchmakingCluster 구현이다.
+ *   - 키 구성(prefix 기본값 codexpong:match, {type}은 normal/ranked)
+ *       {prefix}:queue:{type}:rating    대기 ticketId 정렬 집합, 점수 = 레이팅(가까운 상대 탐색)
+ *       {prefix}:queue:{type}:time      대기 ticketId 정렬 집합, 점수 = 등록 시각 ms(오래 기다린 순 순회, 허용 창 계산)
+ *       {prefix}:ticket:{id}            티켓 해시(userId, matchType, status, roomId, node, rating, enqueuedAt), TTL로 만료
+ *       {prefix}:active:{type}:{userId} 사용자의 현재 대기 ticketId(중복 등록 방지), 티켓과 같은 TTL
+ *       {prefix}:leader                 매칭 리더 노드 ID, TTL = leaderLeaseMs
+ *       {prefix}:decided                티켓 확정(MATCHED/CANCELLED) 알림 pub/sub 채널, 메시지 = ticketId
+ *   - 등록/취소/짝 꺼내기는 Lua 스크립트 한 번으로 원자적으로 수행한다. 짝 선택 규칙(허용 창, 가장 가까운 이웃)은
+ *     SharedQueuePairing이 큐 스냅샷으로 계산하고, 꺼내기 스크립트는 두 사람 모두 아직 대기 중인 짝만 두 집합에서 함께 지운다.
+ *     그래서 여러 노드가 동시에 호출해도 한 티켓은 한 번만 꺼내진다.
+ *   - 일반 큐도 창 제한 없는 레이팅 색인으로 짝짓는다(FIFO 대신 가장 가까운 레이팅).
+ *   - 버려진 대기 티켓은 해시 TTL로 사라지고, 스냅샷이 해시 없는 대기자를 만나면 집합에서 지운다.
+ *   - 실제 키는 접두사를 해시 태그로 감싼 {codexpong:match}:... 형태다. Redis Cluster에서도 모든 매칭 키가 한 슬롯에 모여,
+ *     등록 스크립트가 KEYS로 미리 선언할 수 없는 기존 티켓 해시(현재 대기 ticketId로 만든 키)도 같은 노드에서 읽는다.
+ *     접두사에 이미 '{'가 있으면 그대로 쓴다.
+ *   - 시각은 노드 간에 비교하므로 System.nanoTime이 아니라 벽시계(ms)를 쓴다.
+ *   - MATCHED 티켓의 node는 방을 만든 리더 노드 ID다. 클라이언트가 플레이어 WebSocket을 그 노드로 보내는 데 쓴다.
+ *   - 확정을 기록한 노드가 decided 채널에 ticketId를 발행하면, 구독 중인 모든 노드가 자기 노드의 롱 폴링 요청을 깨운다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/backend/v1.1.0-matchmaking-scaling.md
+ */
+@Component
+@ConditionalOnProperty(name = "game.matchmaking.distributed", havingValue = "true")
+public class RedisMatchmakingCluster implements MatchmakingCluster {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisMatchmakingCluster.class);
+
+    static final int CLAIM_SCAN_LIMIT = 500;
+
+    /**
+     * 설명:
+     *   - 같은 경기 유형으로 대기 중인 티켓이 있으면 그 ID를, 없으면 새 티켓을 만들어 두 집합에 넣고 새 ID를 돌려준다.
+     *     이미 꺼내져 방을 만드는 중인(WAITING이지만 집합에 없는) 티켓도 현재 티켓으로 돌려주되 TTL은 늘리지 않는다.
+     */
+    private static final RedisScript<String> ENQUEUE = new DefaultRedisScript<>("""
+            local existing = redis.call('GET', KEYS[1])
+            if existing and redis.call('HGET', ARGV[7] .. existing, 'status') == 'WAITING' then
+              if redis.call('ZSCORE', KEYS[4], existing) then
+                redis.call('PEXPIRE', ARGV[7] .. existing, ARGV[6])
+                redis.call('PEXPIRE', KEYS[1], ARGV[6])
+              end
+              return existing
+            end
+            redis.call('HSET', KEYS[2], 'userId', ARGV[2], 'matchType', ARGV[3], 'status', 'WAITING',
+              'rating', ARGV[4], 'enqueuedAt', ARGV[5])
+            redis.call('PEXPIRE', KEYS[2], ARGV[6])
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[6])
+            redis.call('ZADD', KEYS[3], ARGV[4], ARGV[1])
+            redis.call('ZADD', KEYS[4], ARGV[5], ARGV[1])
+            return ARGV[1]
+            """, String.class);
+
+    /**
+     * 설명:
+     *   - 큐에서 실제로 빼낸 경우에만 CANCELLED로 바꾼다(짝 꺼내기와 겹치면 한쪽만 이긴다).
+     */
+    private static final RedisScript<Long> CANCEL = new DefaultRedisScript<>("""
+            if redis.call('ZREM', KEYS[3], ARGV[1]) == 0 then
+              return 0
+            end
+            redis.call('ZREM', KEYS[2], ARGV[1])
+            redis.call('HSET', KEYS[1], 'status', 'CANCELLED')
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            if redis.call('GET', KEYS[4]) == ARGV[1] then
+              redis.call('DEL', KEYS[4])
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * 설명:
+     *   - 리더가 스냅샷으로 고른 짝(ARGV[2..])을 두 사람 모두 아직 대기 중일 때만 두 집합에서 지운다. 스냅샷 뒤 취소된
+     *     티켓이 낀 짝은 건너뛰므로 여러 노드가 동시에 호출해도 한 티켓은 한 번만 꺼내진다. 꺼낸 티켓은 TTL을 대기 TTL(ARGV[1])로
+     *     다시 맞춰, 리더가 방을 만들지 못하고 죽으면 그 뒤 만료된다. KEYS = [레이팅 집합, 시간 집합, 짝마다 두 티켓 해시].
+     *     반환값 = 실제로 꺼낸 [먼저 기다린 ID, 상대 ID, ...].
+     */
+    private static final RedisScript<List<String>> CLAIM_PAIRS = new DefaultRedisScript<>("""
+            local claimed = {}
+            for i = 2, #ARGV - 1, 2 do
+              local first, second = ARGV[i], ARGV[i + 1]
+              if redis.call('ZSCORE', KEYS[2], first) and redis.call('ZSCORE', KEYS[2], second) then
+                redis.call('ZREM', KEYS[1], first, second)
+                redis.call('ZREM', KEYS[2], first, second)
+                redis.call('PEXPIRE', KEYS[i + 1], ARGV[1])
+                redis.call('PEXPIRE', KEYS[i + 2], ARGV[1])
+                claimed[#claimed + 1] = first
+                claimed[#claimed + 1] = second
+              end
+            end
+            return claimed
+            """, listType());
+
+    private static final RedisScript<Long> COMPLETE = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], 'status', ARGV[2], 'roomId', ARGV[3], 'node', ARGV[5])
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            if redis.call('GET', KEYS[2]) == ARGV[1] then
+              redis.call('DEL', KEYS[2])
+            end
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> RENEW_LEASE = new DefaultRedisScript<>("""
+            local owner = redis.call('GET', KEYS[1])
+            if owner == ARGV[1] then
+              redis.call('PEXPIRE', KEYS[1], ARGV[2])
+              return 1
+            end
+            if not owner then
+              redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+              return 1
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_LEASE = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisConnectionFactory connectionFactory;
+    private final UserRepository userRepository;
+    private final MatchmakingProperties properties;
+    private final String nodeId;
+    private final String keyPrefix;
+    private final LongSupplier clock;
+    private final long waitingTicketTtlMillis;
+    private final long ticketTtlMillis;
+    private final long leaseMillis;
+    private final LongAdder abandonedTickets = new LongAdder();
+    private RedisMessageListenerContainer container;
+
+    @Autowired
+    public RedisMatchmakingCluster(StringRedisTemplate redisTemplate, RedisConnectionFactory connectionFactory,
+            UserRepository userRepository, MatchmakingProperties properties, GameClusterProperties clusterProperties) {
+        this(redisTemplate, connectionFactory, userRepository, properties, clusterProperties.resolvedNodeId(),
+                System::currentTimeMillis);
+    }
+
+    RedisMatchmakingCluster(StringRedisTemplate redisTemplate, RedisConnectionFactory connectionFactory,
+            UserRepository userRepository, MatchmakingProperties properties, String nodeId, LongSupplier clock) {
+        this.redisTemplate = redisTemplate;
+        this.connectionFactory = connectionFactory;
+        this.userRepository = userRepository;
+        this.properties = properties;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString().substring(0, 8) : nodeId;
+        this.keyPrefix = properties.getKeyPrefix().contains("{") ? properties.getKeyPrefix()
+                : "{" + properties.getKeyPrefix() + "}";
+        this.clock = clock;
+        this.waitingTicketTtlMillis = Math.max(1, properties.getWaitingTicketTtlMs());
+        this.ticketTtlMillis = Math.max(1, properties.getTicketTtlMs());
+        this.leaseMillis = Math.max(properties.getLeaderLeaseMs(), Math.max(1, properties.getPassIntervalMs()) * 3);
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws Exception {
+        try {
+            redisTemplate.execute(RELEASE_LEASE, List.of(leaderKey()), nodeId);
+        } catch (DataAccessException ex) {
+            log.warn("매칭 리더 임대 반환에 실패했습니다.", ex);
+        }
+        if (container != null) {
+            container.destroy();
+            container = null;
+        }
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public MatchTicket enqueue(User user, MatchType matchType, int rating) {
+        String ticketId = UUID.randomUUID().toString();
+        String currentId = redisTemplate.execute(ENQUEUE,
+                List.of(activeKey(matchType, user.getId()), ticketKey(ticketId), ratingKey(matchType),
+                        timeKey(matchType)),
+                ticketId, String.valueOf(user.getId()), matchType.name(), String.valueOf(rating),
+                String.valueOf(clock.getAsLong()), String.valueOf(waitingTicketTtlMillis), ticketKey(""));
+        if (ticketId.equals(currentId)) {
+            return new MatchTicket(ticketId, user.getId(), matchType, "WAITING", null);
+        }
+        return read(currentId).orElseGet(() -> new MatchTicket(currentId, user.getId(), matchType, "WAITING", null));
+    }
+
+    @Override
+    public Optional<MatchTicket> findTicket(String ticketId) {
+        Optional<MatchTicket> ticket = read(ticketId);
+        ticket.filter(found -> "WAITING".equals(found.status()))
+                .filter(found -> redisTemplate.opsForZSet().score(timeKey(found.matchType()), ticketId) != null)
+                .ifPresent(found -> {
+                    redisTemplate.expire(ticketKey(ticketId), waitingTicketTtlMillis,
+                            TimeUnit.MILLISECONDS);
+                    redisTemplate.expire(activeKey(found.matchType(), found.userId()), waitingTicketTtlMillis,
+                            TimeUnit.MILLISECONDS);
+                });
+        return ticket;
+    }
+
+    @Override
+    public Optional<MatchTicket> cancel(String ticketId) {
+        Optional<MatchTicket> ticket = read(ticketId);
+        if (ticket.isEmpty() || !"WAITING".equals(ticket.get().status())) {
+            return ticket;
+        }
+        MatchTicket waiting = ticket.get();
+        Long removed = redisTemplate.execute(CANCEL,
+                List.of(ticketKey(ticketId), ratingKey(waiting.matchType()), timeKey(waiting.matchType()),
+                        activeKey(waiting.matchType(), waiting.userId())),
+                ticketId, String.valueOf(ticketTtlMillis));
+        if (removed == null || removed != 1) {
+            return ticket;
+        }
+        publishDecided(ticketId);
+        return read(ticketId);
+    }
+
+    @Override
+    public synchronized void onTicketDecided(Consumer<String> listener) {
+        if (container == null) {
+            container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            container.afterPropertiesSet();
+            container.start();
+        }
+        container.addMessageListener(
+                (message, pattern) -> listener.accept(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(decidedChannel()));
+    }
+
+    @Override
+    public boolean leading() {
+        try {
+            Long held = redisTemplate.execute(RENEW_LEASE, List.of(leaderKey()), nodeId, String.valueOf(leaseMillis));
+            return held != null && held == 1;
+        } catch (DataAccessException ex) {
+            log.warn("매칭 리더 임대 갱신에 실패했습니다.", ex);
+            return false;
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 오래 기다린 최대 CLAIM_SCAN_LIMIT명의 스냅샷을 읽고, 해시가 없는 대기자는 버린 뒤 SharedQueuePairing으로 짝을 골라
+     *     꺼내기 스크립트로 원자적으로 꺼낸다. 짝 후보는 스냅샷 안에서만 고른다.
+     */
+    @Override
+    public List<ClaimedPair> claimPairs(MatchType matchType) {
+        long now = clock.getAsLong();
+        SharedQueuePairing pairing = matchType == MatchType.RANKED
+                ? new SharedQueuePairing(properties.getInitialRatingWindow(),
+                        properties.getRatingWindowGrowthPerSecond(), properties.getMaxRatingWindow())
+                : SharedQueuePairing.UNBOUNDED;
+        List<String> claimed;
+        try {
+            List<SharedQueuePairing.Pair> chosen = pairing.pair(snapshot(matchType), now);
+            if (chosen.isEmpty()) {
+                return List.of();
+            }
+            List<String> keys = new ArrayList<>(List.of(ratingKey(matchType), timeKey(matchType)));
+            List<String> args = new ArrayList<>(List.of(String.valueOf(waitingTicketTtlMillis)));
+            for (SharedQueuePairing.Pair pair : chosen) {
+                keys.add(ticketKey(pair.first().ticketId()));
+                keys.add(ticketKey(pair.second().ticketId()));
+                args.add(pair.first().ticketId());
+                args.add(pair.second().ticketId());
+            }
+            claimed = redisTemplate.execute(CLAIM_PAIRS, keys, args.toArray());
+        } catch (DataAccessException ex) {
+            log.warn("공유 매칭 큐에서 짝을 꺼내지 못했습니다. matchType={}", matchType, ex);
+            return List.of();
+        }
+        return claimed == null || claimed.isEmpty() ? List.of() : resolve(claimed, now);
+    }
+
+    @Override
+    public void matched(ClaimedPair pair, MatchType matchType, String roomId) {
+        complete(pair.first(), matchType, roomId);
+        complete(pair.second(), matchType, roomId);
+        publishDecided(pair.first().ticketId());
+        publishDecided(pair.second().ticketId());
+    }
+
+    @Override
+    public void release(ClaimedPair pair, MatchType matchType) {
+        try {
+            for (ClaimedTicket ticket : List.of(pair.first(), pair.second())) {
+                redisTemplate.opsForZSet().add(ratingKey(matchType), ticket.ticketId(), ticket.rating());
+                redisTemplate.opsForZSet().add(timeKey(matchType), ticket.ticketId(), ticket.enqueuedAtMillis());
+            }
+        } catch (DataAccessException ex) {
+            log.warn("꺼낸 짝을 큐에 되돌리지 못했습니다. tickets={},{}", pair.first().ticketId(),
+                    pair.second().ticketId(), ex);
+        }
+    }
+
+    @Override
+    public int waitingCount(MatchType matchType) {
+        try {
+            Long size = redisTemplate.opsForZSet().zCard(timeKey(matchType));
+            return size == null ? 0 : size.intValue();
+        } catch (DataAccessException ex) {
+            return 0;
+        }
+    }
+
+    @Override
+    public long abandonedTicketCount() {
+        return abandonedTickets.sum();
+    }
+
+    /**
+     * 설명:
+     *   - 시간 집합에서 오래 기다린 순으로 최대 CLAIM_SCAN_LIMIT명을 읽고, 레이팅 점수와 티켓 해시 존재 여부를 한 번의
+     *     파이프라인으로 확인한다. 해시가 TTL로 사라진 대기자는 두 집합에서 지우고 버려진 티켓 수에 더한다.
+     */
+    private List<SharedQueuePairing.Waiting> snapshot(MatchType matchType) {
+        List<TypedTuple<String>> oldest = new ArrayList<>(Objects.requireNonNullElse(
+                redisTemplate.opsForZSet().rangeWithScores(timeKey(matchType), 0, CLAIM_SCAN_LIMIT - 1), Set.of()));
+        if (oldest.size() < 2) {
+            return List.of();
+        }
+        List<Object> rows = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (TypedTuple<String> entry : oldest) {
+                connection.zSetCommands().zScore(bytes(ratingKey(matchType)), bytes(entry.getValue()));
+                connection.keyCommands().exists(bytes(ticketKey(entry.getValue())));
+            }
+            return null;
+        });
+        List<SharedQueuePairing.Waiting> waiting = new ArrayList<>(oldest.size());
+        List<String> dead = new ArrayList<>();
+        for (int i = 0; i < oldest.size(); i++) {
+            String ticketId = oldest.get(i).getValue();
+            Double rating = (Double) rows.get(i * 2);
+            if (!Boolean.TRUE.equals(rows.get(i * 2 + 1))) {
+                dead.add(ticketId);
+            } else if (rating != null) {
+                waiting.add(new SharedQueuePairing.Waiting(ticketId, rating.intValue(),
+                        oldest.get(i).getScore().longValue()));
+            }
+        }
+        if (!dead.isEmpty()) {
+            redisTemplate.opsForZSet().remove(ratingKey(matchType), dead.toArray());
+            redisTemplate.opsForZSet().remove(timeKey(matchType), dead.toArray());
+            abandonedTickets.add(dead.size());
+        }
+        return waiting;
+    }
+
+    /**
+     * 설명:
+     *   - 꺼낸 ticketId 목록(짝 순서)을 티켓 해시와 사용자 엔티티로 풀어 짝 목록을 만든다.
+     *     사용자나 티켓을 찾을 수 없는 짝은 건너뛴다(꺼낸 티켓은 대기 TTL 뒤 만료된다).
+     */
+    private List<ClaimedPair> resolve(List<String> ticketIds, long now) {
+        List<Object> rows = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String ticketId : ticketIds) {
+                connection.hashCommands().hMGet(bytes(ticketKey(ticketId)), bytes("userId"), bytes("rating"),
+                        bytes("enqueuedAt"));
+            }
+            return null;
+        });
+        List<Long> userIds = new ArrayList<>();
+        for (Object row : rows) {
+            String userId = field(row, 0);
+            if (userId != null) {
+                userIds.add(Long.parseLong(userId));
+            }
+        }
+        Map<Long, User> users = new HashMap<>();
+        for (User user : userRepository.findAllById(userIds)) {
+            users.put(user.getId(), user);
+        }
+        List<ClaimedPair> pairs = new ArrayList<>(ticketIds.size() / 2);
+        for (int i = 0; i + 1 < ticketIds.size(); i += 2) {
+            ClaimedTicket first = claimedTicket(ticketIds.get(i), rows.get(i), users, now);
+            ClaimedTicket second = claimedTicket(ticketIds.get(i + 1), rows.get(i + 1), users, now);
+            if (first == null || second == null) {
+                log.warn("꺼낸 짝의 티켓이나 사용자를 찾을 수 없어 건너뜁니다. tickets={},{}", ticketIds.get(i),
+                        ticketIds.get(i + 1));
+                continue;
+            }
+            pairs.add(new ClaimedPair(first, second));
+        }
+        return pairs;
+    }
+
+    private static ClaimedTicket claimedTicket(String ticketId, Object row, Map<Long, User> users, long now) {
+        String userId = field(row, 0);
+        User user = userId == null ? null : users.get(Long.parseLong(userId));
+        if (user == null) {
+            return null;
+        }
+        int rating = (int) Double.parseDouble(field(row, 1));
+        long enqueuedAt = Long.parseLong(field(row, 2));
+        return new ClaimedTicket(ticketId, user, rating, enqueuedAt, Math.max(0, now - enqueuedAt));
+    }
+
+    private void complete(ClaimedTicket ticket, MatchType matchType, String roomId) {
+        try {
+            redisTemplate.execute(COMPLETE,
+                    List.of(ticketKey(ticket.ticketId()), activeKey(matchType, ticket.user().getId())),
+                    ticket.ticketId(), "MATCHED", roomId, String.valueOf(ticketTtlMillis), nodeId);
+        } catch (DataAccessException ex) {
+            log.warn("매칭 티켓 확정 기록에 실패했습니다. ticket={}, room={}", ticket.ticketId(), roomId, ex);
+        }
+    }
+
+    private void publishDecided(String ticketId) {
+        try {
+            redisTemplate.convertAndSend(decidedChannel(), ticketId);
+        } catch (DataAccessException ex) {
+            log.warn("티켓 확정 알림 발행에 실패했습니다. ticket={}", ticketId, ex);
+        }
+    }
+
+    private Optional<MatchTicket> read(String ticketId) {
+        List<Object> values = redisTemplate.opsForHash().multiGet(ticketKey(ticketId),
+                List.of("userId", "matchType", "status", "roomId", "node"));
+        if (values == null || values.get(0) == null || values.get(1) == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new MatchTicket(ticketId, Long.parseLong((String) values.get(0)),
+                MatchType.valueOf((String) values.get(1)), (String) values.get(2), (String) values.get(3),
+                (String) values.get(4)));
+    }
+
+    private static String field(Object row, int index) {
+        if (!(row instanceof List<?> values) || values.size() <= index || values.get(index) == null) {
+            return null;
+        }
+        Object value = values.get(index);
+        return value instanceof byte[] raw ? new String(raw, StandardCharsets.UTF_8)
+                : String.valueOf(value);
+    }
+
+    /**
+     * 설명:
+     *   - 목록을 돌려주는 스크립트의 결과 타입. 원소는 템플릿의 문자열 직렬화기로 풀린다.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Class<List<T>> listType() {
+        return (Class<List<T>>) (Class<?>) List.class;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String ratingKey(MatchType matchType) {
+        return queueKey(matchType) + ":rating";
+    }
+
+    private String timeKey(MatchType matchType) {
+        return queueKey(matchType) + ":time";
+    }
+
+    private String queueKey(MatchType matchType) {
+        return keyPrefix + ":queue:" + matchType.name().toLowerCase();
+    }
+
+    private String ticketKey(String ticketId) {
+        return keyPrefix + ":ticket:" + ticketId;
+    }
+
+    private String activeKey(MatchType matchType, Long userId) {
+        return keyPrefix + ":active:" + matchType.name().toLowerCase() + ":" + userId;
+    }
+
+    private String leaderKey() {
+        return keyPrefix + ":leader";
+    }
+
+    private String decidedChannel() {
+        return keyPrefix + ":decided";
+    }
+}
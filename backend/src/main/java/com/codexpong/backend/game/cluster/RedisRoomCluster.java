@@ -0,0 +1,364 @@
+package com.codexpong.backend.game.cluster;
+
+import com.codexpong.backend.game.protocol.EncodedFrame;
+import com.codexpong.backend.game.service.GameRoomService.LiveRoomView;
+import com.codexpong.backend.game.service.RoomCluster;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * [클러스터] backend/src/main/java/com/codexpong/backend/game/cluster/RedisRoomCluster.java
+ * 설명:
+ *   - Redis(잡 큐와 같은 인스턴스)로 방 소유 등록과 관전 프레임 중계를 수행하는 RoomCluster 구현이다.
+ *   - 키 구성(prefix 기본값 codexpong:game)
+ *       {prefix}:rooms                  진행 중 방 ID 집합(목록 조회용 인덱스)
+ *       {prefix}:room:{id}              소유 노드 ID와 LiveRoomView JSON, TTL = registryTtlMs
+ *       {prefix}:room:{id}:viewers      노드별 원격 관전자 수 해시
+ *       {prefix}:room:{id}:frames       관전자용 인코딩 프레임 pub/sub 채널(RoomFrameEnvelope)
+ *   - 소유 노드는 heartbeatIntervalMs마다 로컬 방을 파이프라인 한 번으로 갱신하면서 원격 관전자 수를 읽는다.
+ *     원격 관전자가 있는 방만 모든 프로토콜로 인코딩해 발행하므로 단일 노드 배치의 비용은 늘지 않는다.
+ *   - 발행은 단일 발행 스레드가 순서대로 처리한다(틱 스레드는 큐 적재만). 큐가 넘치면 가장 오래된 발행을 버린다.
+ *   - 원격 노드는 첫 관전자가 붙을 때 방 채널을 구독하고 마지막 관전자가 떠나거나 END를 받으면 구독을 해제한다.
+ *     등록 갱신이 끊긴 방(소유 노드 장애)은 TTL 뒤 목록에서 빠진다.
+ *   - 방 등록의 소유 노드 ID는 다른 노드로 들어온 플레이어를 소유 노드로 다시 보내는 데도 쓴다(ownerNode).
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+@Component
+@ConditionalOnProperty(name = "game.cluster.enabled", havingValue = "true")
+public class RedisRoomCluster implements RoomCluster {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisRoomCluster.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisConnectionFactory connectionFactory;
+    private final ObjectMapper objectMapper;
+    private final GameClusterProperties properties;
+    private final String nodeId;
+    private final RemoteSpectatorRelay relay = new RemoteSpectatorRelay();
+    private final Map<String, MessageListener> subscriptions = new ConcurrentHashMap<>();
+    private volatile Map<String, Integer> remoteCounts = Map.of();
+    private volatile Supplier<List<LiveRoomView>> localRooms = List::of;
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor();
+    private final ThreadPoolExecutor publisher;
+    private RedisMessageListenerContainer container;
+
+    public RedisRoomCluster(StringRedisTemplate redisTemplate, RedisConnectionFactory connectionFactory,
+            ObjectMapper objectMapper, GameClusterProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.connectionFactory = connectionFactory;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.nodeId = properties.resolvedNodeId();
+        this.publisher = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getPublishQueueCapacity())),
+                new ThreadPoolExecutor.DiscardOldestPolicy());
+    }
+
+    @PostConstruct
+    public void start() {
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.afterPropertiesSet();
+        container.start();
+        long interval = Math.max(100, properties.getHeartbeatIntervalMs());
+        heartbeat.scheduleWithFixedDelay(this::heartbeat, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws Exception {
+        heartbeat.shutdownNow();
+        for (LiveRoomView room : localRooms.get()) {
+            roomClosed(room.roomId());
+        }
+        publisher.shutdown();
+        publisher.awaitTermination(1, TimeUnit.SECONDS);
+        container.destroy();
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void registerLocalRooms(Supplier<List<LiveRoomView>> localRooms) {
+        this.localRooms = localRooms;
+    }
+
+    @Override
+    public void roomClosed(String roomId) {
+        publisher.execute(() -> {
+            try {
+                publishRaw(roomId, RoomFrameEnvelope.end());
+                redisTemplate.delete(List.of(roomKey(roomId), viewersKey(roomId)));
+                redisTemplate.opsForSet().remove(indexKey(), roomId);
+            } catch (DataAccessException ex) {
+                log.warn("방 종료 등록 해제에 실패했습니다. room={}", roomId, ex);
+            }
+        });
+    }
+
+    @Override
+    public boolean hasRemoteSpectators(String roomId) {
+        return remoteSpectatorCount(roomId) > 0;
+    }
+
+    @Override
+    public int remoteSpectatorCount(String roomId) {
+        return remoteCounts.getOrDefault(roomId, 0);
+    }
+
+    @Override
+    public void publish(String roomId, EncodedFrame[] spectatorFrames) {
+        publisher.execute(() -> {
+            byte[] message = RoomFrameEnvelope.frames(spectatorFrames);
+            if (message == null) {
+                return;
+            }
+            try {
+                publishRaw(roomId, message);
+            } catch (DataAccessException ex) {
+                log.warn("관전 프레임 발행에 실패했습니다. room={}", roomId, ex);
+            }
+        });
+    }
+
+    @Override
+    public synchronized boolean attachRemoteSpectator(String roomId, String sessionId, WebSocketSession session) {
+        ClusterRoomEntry entry;
+        try {
+            entry = parse(redisTemplate.opsForValue().get(roomKey(roomId)));
+        } catch (DataAccessException ex) {
+            log.warn("클러스터 방 조회에 실패했습니다. room={}", roomId, ex);
+            return false;
+        }
+        if (entry == null || entry.nodeId().equals(nodeId) || entry.room().finishedAt() != null
+                || entry.room().spectatorCount() >= entry.room().spectatorLimit()) {
+            return false;
+        }
+        redisTemplate.opsForHash().increment(viewersKey(roomId), nodeId, 1);
+        if (relay.attach(roomId, sessionId, session)) {
+            subscribe(roomId);
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized void detachRemoteSpectator(String roomId, String sessionId) {
+        // END로 이미 정리된 방이면 소유 노드가 viewers 키를 지웠으므로 다시 만들지 않는다.
+        if (!relay.contains(roomId, sessionId)) {
+            return;
+        }
+        if (relay.detach(roomId, sessionId)) {
+            unsubscribe(roomId);
+        }
+        try {
+            redisTemplate.opsForHash().increment(viewersKey(roomId), nodeId, -1);
+        } catch (DataAccessException ex) {
+            log.warn("원격 관전자 수 갱신에 실패했습니다. room={}", roomId, ex);
+        }
+    }
+
+    @Override
+    public void requestKeyframe(String roomId, String sessionId) {
+        relay.requestKeyframe(roomId, sessionId);
+    }
+
+    @Override
+    public Optional<String> ownerNode(String roomId) {
+        ClusterRoomEntry entry;
+        try {
+            entry = parse(redisTemplate.opsForValue().get(roomKey(roomId)));
+        } catch (DataAccessException ex) {
+            log.warn("클러스터 방 조회에 실패했습니다. room={}", roomId, ex);
+            return Optional.empty();
+        }
+        if (entry == null || entry.nodeId().equals(nodeId) || entry.room().finishedAt() != null) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.nodeId());
+    }
+
+    @Override
+    public List<LiveRoomView> remoteRooms() {
+        try {
+            Set<String> roomIds = redisTemplate.opsForSet().members(indexKey());
+            if (roomIds == null || roomIds.isEmpty()) {
+                return List.of();
+            }
+            List<String> ids = new ArrayList<>(roomIds);
+            List<String> values = redisTemplate.opsForValue().multiGet(ids.stream().map(this::roomKey).toList());
+            List<LiveRoomView> rooms = new ArrayList<>();
+            List<String> expired = new ArrayList<>();
+            for (int i = 0; i < ids.size(); i++) {
+                ClusterRoomEntry entry = values == null ? null : parse(values.get(i));
+                if (entry == null) {
+                    expired.add(ids.get(i));
+                } else if (!entry.nodeId().equals(nodeId)) {
+                    rooms.add(entry.room());
+                }
+            }
+            if (!expired.isEmpty()) {
+                redisTemplate.opsForSet().remove(indexKey(), expired.toArray());
+            }
+            return Collections.unmodifiableList(rooms);
+        } catch (DataAccessException ex) {
+            log.warn("클러스터 방 목록 조회에 실패했습니다.", ex);
+            return List.of();
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 로컬 방의 등록을 TTL과 함께 갱신하고, 같은 파이프라인에서 방별 원격 관전자 수를 읽어 둔다.
+     */
+    private void heartbeat() {
+        List<LiveRoomView> rooms = localRooms.get();
+        if (rooms.isEmpty()) {
+            remoteCounts = Map.of();
+            return;
+        }
+        try {
+            Duration ttl = Duration.ofMillis(Math.max(properties.getRegistryTtlMs(), properties.getHeartbeatIntervalMs() * 2));
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (LiveRoomView room : rooms) {
+                    byte[] key = bytes(roomKey(room.roomId()));
+                    connection.stringCommands().pSetEx(key, ttl.toMillis(), bytes(serialize(room)));
+                    connection.setCommands().sAdd(bytes(indexKey()), bytes(room.roomId()));
+                    connection.hashCommands().hVals(bytes(viewersKey(room.roomId())));
+                }
+                return null;
+            });
+            Map<String, Integer> counts = new HashMap<>();
+            for (int i = 0; i < rooms.size(); i++) {
+                int viewers = sum(results.get(i * 3 + 2));
+                if (viewers > 0) {
+                    counts.put(rooms.get(i).roomId(), viewers);
+                }
+            }
+            remoteCounts = counts;
+        } catch (RuntimeException ex) {
+            log.warn("클러스터 방 등록 갱신에 실패했습니다.", ex);
+        }
+    }
+
+    private void subscribe(String roomId) {
+        subscriptions.computeIfAbsent(roomId, key -> {
+            MessageListener listener = (message, pattern) -> {
+                if (relay.onMessage(roomId, message.getBody())) {
+                    // 구독 스레드 안에서 구독을 바꾸지 않도록 다른 스레드로 넘긴다.
+                    heartbeat.execute(() -> unsubscribe(roomId));
+                }
+            };
+            container.addMessageListener(listener, new ChannelTopic(framesChannel(roomId)));
+            return listener;
+        });
+    }
+
+    private synchronized void unsubscribe(String roomId) {
+        if (relay.viewerCount(roomId) > 0) {
+            return;
+        }
+        MessageListener listener = subscriptions.remove(roomId);
+        if (listener != null) {
+            container.removeMessageListener(listener, new ChannelTopic(framesChannel(roomId)));
+        }
+    }
+
+    private void publishRaw(String roomId, byte[] message) {
+        byte[] channel = bytes(framesChannel(roomId));
+        redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(channel, message));
+    }
+
+    private String serialize(LiveRoomView room) {
+        try {
+            return objectMapper.writeValueAsString(new ClusterRoomEntry(nodeId, room));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("방 등록 정보를 직렬화할 수 없습니다.", ex);
+        }
+    }
+
+    private ClusterRoomEntry parse(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, ClusterRoomEntry.class);
+        } catch (JsonProcessingException ex) {
+            return null;
+        }
+    }
+
+    private static int sum(Object hashValues) {
+        if (!(hashValues instanceof List<?> values)) {
+            return 0;
+        }
+        int total = 0;
+        for (Object value : values) {
+            String text = value instanceof byte[] raw ? new String(raw, StandardCharsets.UTF_8) : String.valueOf(value);
+            try {
+                total += Math.max(0, Integer.parseInt(text));
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        return total;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String indexKey() {
+        return properties.getKeyPrefix() + ":rooms";
+    }
+
+    private String roomKey(String roomId) {
+        return properties.getKeyPrefix() + ":room:" + roomId;
+    }
+
+    private String viewersKey(String roomId) {
+        return roomKey(roomId) + ":viewers";
+    }
+
+    private String framesChannel(String roomId) {
+        return roomKey(roomId) + ":frames";
+    }
+
+    /**
+     * 설명:
+     *   - 방 등록 값. 소유 노드 ID와 관전 목록에 그대로 쓰는 방 요약을 담는다.
+     */
+    public record ClusterRoomEntry(String nodeId, LiveRoomView room) {
+    }
+}
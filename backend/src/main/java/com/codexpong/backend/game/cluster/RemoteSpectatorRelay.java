@@ -0,0 +1,122 @@
+package com.codexpong.backend.game.cluster;
+
+import com.codexpong.backend.common.websocket.QueuedWebSocketSession;
+import com.codexpong.backend.game.protocol.EncodedFrame;
+import com.codexpong.backend.game.protocol.GameProtocol;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * [중계기] backend/src/main/java/com/codexpong/backend/game/cluster/RemoteSpectatorRelay.java
+ * 설명:
+ *   - 이 노드에 붙은 원격 관전자 세션을 방별로 보관하고, 소유 노드가 발행한 프레임을 세션 프로토콜에 맞춰 전달한다.
+ *   - 도중에 합류했거나 RESYNC를 보낸 세션은 keyframe 프레임(전체 JSON/바이너리는 항상, 델타는 키프레임)이 올 때까지
+ *     기다렸다가 그 프레임부터 전달한다. 그래서 델타 세션도 base가 끊기지 않는다.
+ *   - 세션 송신 큐에서 STATE가 버려진 세션도 같은 방식으로 다음 키프레임부터 다시 받는다.
+ *   - Redis와 무관한 전달 로직만 담아 RedisRoomCluster가 구독 메시지를 넘긴다. 세션은 GAME 송신 큐로 감싼 것이라
+ *     전달 스레드(Redis 구독 스레드)가 소켓 I/O로 막히지 않는다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public class RemoteSpectatorRelay {
+
+    private final Map<String, Map<String, Viewer>> rooms = new ConcurrentHashMap<>();
+
+    /**
+     * 설명:
+     *   - 원격 관전자를 붙인다.
+     * 출력:
+     *   - 이 노드에서 해당 방의 첫 관전자이면 true(호출 측이 방 채널을 구독한다)
+     */
+    public boolean attach(String roomId, String sessionId, WebSocketSession session) {
+        boolean[] first = new boolean[1];
+        rooms.compute(roomId, (key, viewers) -> {
+            Map<String, Viewer> target = viewers == null ? new ConcurrentHashMap<>() : viewers;
+            first[0] = target.isEmpty();
+            target.put(sessionId, new Viewer(session));
+            return target;
+        });
+        return first[0];
+    }
+
+    /**
+     * 설명:
+     *   - 원격 관전자를 뗀다.
+     * 출력:
+     *   - 이 노드에서 해당 방의 마지막 관전자가 빠졌으면 true(호출 측이 구독을 해제한다). 모르는 세션이면 false
+     */
+    public boolean detach(String roomId, String sessionId) {
+        boolean[] last = new boolean[1];
+        rooms.computeIfPresent(roomId, (key, viewers) -> {
+            if (viewers.remove(sessionId) == null) {
+                return viewers;
+            }
+            last[0] = viewers.isEmpty();
+            return last[0] ? null : viewers;
+        });
+        return last[0];
+    }
+
+    public void requestKeyframe(String roomId, String sessionId) {
+        Map<String, Viewer> viewers = rooms.get(roomId);
+        Viewer viewer = viewers == null ? null : viewers.get(sessionId);
+        if (viewer != null) {
+            viewer.awaitingKeyframe = true;
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 방 채널 메시지 하나를 처리한다. FRAMES면 세션별로 전달하고, END면 방의 관전자를 모두 떼고 true를 반환한다.
+     */
+    public boolean onMessage(String roomId, byte[] message) {
+        if (RoomFrameEnvelope.isEnd(message)) {
+            rooms.remove(roomId);
+            return true;
+        }
+        EncodedFrame[] frames = RoomFrameEnvelope.decodeFrames(message);
+        Map<String, Viewer> viewers = rooms.get(roomId);
+        if (frames == null || viewers == null) {
+            return false;
+        }
+        for (Viewer viewer : viewers.values()) {
+            EncodedFrame frame = frames[GameProtocol.of(viewer.session).ordinal()];
+            if (frame == null || (viewer.awaitingKeyframe && !frame.isKeyframe())) {
+                continue;
+            }
+            viewer.awaitingKeyframe = false;
+            try {
+                if (viewer.session.isOpen()) {
+                    QueuedWebSocketSession.sendState(viewer.session, frame.message());
+                    // 송신 큐에서 STATE가 버려지면 이어지는 델타의 기준이 어긋나므로 다음 키프레임까지 기다린다.
+                    viewer.awaitingKeyframe = QueuedWebSocketSession.stateDropped(viewer.session);
+                }
+            } catch (IOException ignored) {
+            }
+        }
+        return false;
+    }
+
+    public boolean contains(String roomId, String sessionId) {
+        Map<String, Viewer> viewers = rooms.get(roomId);
+        return viewers != null && viewers.containsKey(sessionId);
+    }
+
+    public int viewerCount(String roomId) {
+        Map<String, Viewer> viewers = rooms.get(roomId);
+        return viewers == null ? 0 : viewers.size();
+    }
+
+    private static final class Viewer {
+
+        private final WebSocketSession session;
+        private volatile boolean awaitingKeyframe = true;
+
+        private Viewer(WebSocketSession session) {
+            this.session = session;
+        }
+    }
+}
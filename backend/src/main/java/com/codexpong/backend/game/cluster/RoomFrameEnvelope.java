@@ -0,0 +1,98 @@
+package com.codexpong.backend.game.cluster;
+
+import com.codexpong.backend.game.protocol.EncodedFrame;
+import com.codexpong.backend.game.protocol.GameProtocol;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * [코덱] backend/src/main/java/com/codexpong/backend/game/cluster/RoomFrameEnvelope.java
+ * 설명:
+ *   - 방 채널로 발행하는 노드 간 메시지 형식이다. 한 틱의 관전자용 프레임(프로토콜별)을 메시지 하나로 묶는다.
+ *       [0] kind(1=FRAMES, 2=END), [1] 프레임 수
+ *       프레임마다 [0] 프로토콜 ordinal, [1] flags(1=keyframe), [2..5] 길이(int32, big-endian), 이어서 인코딩된 바이트
+ *   - 프레임 바이트는 소유 노드가 세션에 보낸 것과 같으므로 원격 노드는 다시 인코딩하지 않고 그대로 전달한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public final class RoomFrameEnvelope {
+
+    static final byte KIND_FRAMES = 1;
+    static final byte KIND_END = 2;
+    private static final int FLAG_KEYFRAME = 1;
+    private static final int FRAME_HEADER_BYTES = 6;
+    private static final GameProtocol[] PROTOCOLS = GameProtocol.values();
+
+    private RoomFrameEnvelope() {
+    }
+
+    /**
+     * 설명:
+     *   - 프로토콜 순서 배열(없는 프로토콜은 null)을 메시지 하나로 만든다. 담을 프레임이 없으면 null.
+     */
+    public static byte[] frames(EncodedFrame[] frames) {
+        int count = 0;
+        int size = 2;
+        for (EncodedFrame frame : frames) {
+            if (frame != null) {
+                count++;
+                size += FRAME_HEADER_BYTES + frame.size();
+            }
+        }
+        if (count == 0) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.put(KIND_FRAMES);
+        buffer.put((byte) count);
+        for (int protocol = 0; protocol < frames.length; protocol++) {
+            EncodedFrame frame = frames[protocol];
+            if (frame != null) {
+                buffer.put((byte) protocol);
+                buffer.put((byte) (frame.isKeyframe() ? FLAG_KEYFRAME : 0));
+                buffer.putInt(frame.size());
+                buffer.put(frame.payload());
+            }
+        }
+        return buffer.array();
+    }
+
+    public static byte[] end() {
+        return new byte[] {KIND_END, 0};
+    }
+
+    public static boolean isEnd(byte[] message) {
+        return message.length > 0 && message[0] == KIND_END;
+    }
+
+    /**
+     * 설명:
+     *   - FRAMES 메시지를 프로토콜 순서 배열로 되돌린다. 형식이 맞지 않으면 null.
+     */
+    public static EncodedFrame[] decodeFrames(byte[] message) {
+        if (message.length < 2 || message[0] != KIND_FRAMES) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(message);
+        buffer.position(1);
+        int count = buffer.get();
+        EncodedFrame[] frames = new EncodedFrame[PROTOCOLS.length];
+        for (int i = 0; i < count; i++) {
+            if (buffer.remaining() < FRAME_HEADER_BYTES) {
+                return null;
+            }
+            int protocol = buffer.get();
+            boolean keyframe = (buffer.get() & FLAG_KEYFRAME) != 0;
+            int length = buffer.getInt();
+            if (protocol < 0 || protocol >= PROTOCOLS.length || length < 0 || length > buffer.remaining()) {
+                return null;
+            }
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            frames[protocol] = PROTOCOLS[protocol].isBinary() ? EncodedFrame.binary(bytes)
+                    : EncodedFrame.text(new String(bytes, StandardCharsets.UTF_8), keyframe);
+        }
+        return frames;
+    }
+}
@@ -0,0 +1,92 @@
+package com.codexpong.backend.game.cluster;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * [매칭] backend/src/main/java/com/codexpong/backend/game/cluster/SharedQueuePairing.java
+ * 설명:
+ *   - 공유 매칭 큐에서 읽어 온 대기자 스냅샷으로 짝을 고르는 규칙이다. Redis와 무관한 계산이라 단위 테스트로 검증한다.
+ *   - 오래 기다린 순으로 돌며 레이팅 바로 아래/위 이웃 중 양쪽 허용 창을 모두 만족하는 가장 가까운 상대와 짝짓는다
+ *     (차이가 같으면 아래쪽). 허용 창 = min(최대 창, 초기 창 + 대기 초 × 초당 확대)로 메모리 RatingQueue와 같다.
+ *   - 고른 짝을 실제로 큐에서 빼는 일은 RedisMatchmakingCluster의 꺼내기 스크립트가 원자적으로 한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/backend/v1.1.0-matchmaking-scaling.md
+ */
+final class SharedQueuePairing {
+
+    /**
+     * 설명:
+     *   - 창 제한이 없는 규칙(일반 큐). 레이팅 차이는 가장 가까운 상대를 고르는 데만 쓴다.
+     */
+    static final SharedQueuePairing UNBOUNDED = new SharedQueuePairing(Integer.MAX_VALUE, 0, Integer.MAX_VALUE);
+
+    private static final Comparator<Waiting> BY_RATING = Comparator.comparingInt(Waiting::rating)
+            .thenComparingLong(Waiting::enqueuedAtMillis)
+            .thenComparing(Waiting::ticketId);
+
+    private final int initialWindow;
+    private final int growthPerSecond;
+    private final int maxWindow;
+
+    SharedQueuePairing(int initialWindow, int growthPerSecond, int maxWindow) {
+        this.initialWindow = Math.max(0, initialWindow);
+        this.growthPerSecond = Math.max(0, growthPerSecond);
+        this.maxWindow = Math.max(this.initialWindow, maxWindow);
+    }
+
+    /**
+     * 입력:
+     *   - oldestFirst: 등록 시각 순 대기자 목록
+     *   - nowMillis: 허용 창 계산 기준 벽시계(ms)
+     * 출력:
+     *   - 고른 짝 목록(각 짝은 먼저 기다린 대기자가 first). 한 대기자는 한 짝에만 들어간다.
+     */
+    List<Pair> pair(List<Waiting> oldestFirst, long nowMillis) {
+        NavigableSet<Waiting> byRating = new TreeSet<>(BY_RATING);
+        byRating.addAll(oldestFirst);
+        List<Pair> pairs = new ArrayList<>();
+        for (Waiting waiting : oldestFirst) {
+            if (!byRating.contains(waiting)) {
+                continue;
+            }
+            Waiting best = null;
+            long bestGap = Long.MAX_VALUE;
+            for (Waiting other : new Waiting[] {byRating.lower(waiting), byRating.higher(waiting)}) {
+                if (other == null) {
+                    continue;
+                }
+                long gap = Math.abs((long) other.rating() - waiting.rating());
+                if (gap <= window(waiting, nowMillis) && gap <= window(other, nowMillis) && gap < bestGap) {
+                    best = other;
+                    bestGap = gap;
+                }
+            }
+            if (best != null) {
+                byRating.remove(waiting);
+                byRating.remove(best);
+                pairs.add(new Pair(waiting, best));
+            }
+        }
+        return pairs;
+    }
+
+    long window(Waiting waiting, long nowMillis) {
+        long waitedSeconds = Math.max(0, nowMillis - waiting.enqueuedAtMillis()) / 1000;
+        return Math.min(maxWindow, initialWindow + waitedSeconds * growthPerSecond);
+    }
+
+    /**
+     * 설명:
+     *   - 큐 스냅샷의 대기자 한 명. 점수는 두 정렬 집합(레이팅, 등록 시각)에서 읽은 값이다.
+     */
+    record Waiting(String ticketId, int rating, long enqueuedAtMillis) {
+    }
+
+    record Pair(Waiting first, Waiting second) {
+    }
+}
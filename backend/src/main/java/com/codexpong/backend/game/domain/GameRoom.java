@@ -1,6 +1,8 @@
 package com.codexpong.backend.game.domain;
 
 import com.codexpong.backend.game.engine.GameEngine;
+import com.codexpong.backend.game.engine.model.GameFrame;
+import com.codexpong.backend.game.engine.model.GameSide;
 import com.codexpong.backend.game.engine.model.GameSnapshot;
 import com.codexpong.backend.game.engine.model.PaddleInput;
 import com.codexpong.backend.game.domain.MatchType;
@@ -8,61 +10,230 @@ import com.codexpong.backend.user.domain.User;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * [도메인] backend/src/main/java/com/codexpong/backend/game/domain/GameRoom.java
  * 설명:
  *   - 두 명의 사용자가 참여하는 실시간 경기 방 상태를 보관한다.
  *   - 입력 큐와 게임 엔진을 연결해 스냅샷을 제공하고 종료 시간을 기록한다.
- * 버전: v0.4.0
+ *   - v1.1.0에서는 좌/우 입력을 맵 대신 고정 슬롯으로 보관하고, 무할당 틱(tickFrame)을 제공한다.
+ *   - v1.1.0에서는 좌/우 입력을 PlayerInputQueue에 적용 틱 순서로 보관해 의도한 틱에 적용하고 처리 seq를 제공한다.
+ *   - v1.1.0에서는 플레이어별 평활 RTT/지터를 보관하고, 편도 지연을 엔진 패들 판정 보정에 반영한다.
+ *   - v1.1.0에서는 RoomCheckpoint(물리 스냅샷, 틱 번호, 시작 시각)에서 같은 방 ID로 이어서 진행할 수 있다.
+ * 버전: v1.1.0
  * 관련 설계문서:
  *   - design/backend/v0.4.0-ranking-system.md
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ * 변경 이력:
+ *   - v1.1.0: 입력 슬롯/나노초 틱 경로 추가
+ *   - v1.1.0: 직전 틱 대비 상태 변화 여부 기록
+ *   - v1.1.0: 순번/클라이언트 시각/의도 틱을 가진 INPUT 큐와 플레이어별 처리 seq 추가
+ *   - v1.1.0: 플레이어별 RTT/지터와 지연 보정 추가
+ *   - v1.1.0: 체크포인트 주기 판정과 체크포인트에서 방을 복구하는 resume 추가
  */
 public class GameRoom {
 
+    private static final long DEFAULT_TICK_PERIOD_MILLIS = 50;
+
     private final String roomId;
     private final User leftPlayer;
     private final User rightPlayer;
     private final MatchType matchType;
     private final GameEngine engine;
-    private final Map<Long, PaddleInput> inputs = new ConcurrentHashMap<>();
+    private final long leftPlayerId;
+    private final long rightPlayerId;
+
+    private final PlayerInputQueue leftInputs;
+    private final PlayerInputQueue rightInputs;
+    private volatile long tickCount;
+    private volatile long leftRttNanos;
+    private volatile long leftJitterNanos;
+    private volatile long rightRttNanos;
+    private volatile long rightJitterNanos;
+    private GameFrame lastFrame;
+    private boolean lastTickChanged = true;
+    private long lastCheckpointTick;
 
     private LocalDateTime startedAt;
     private LocalDateTime finishedAt;
 
     public GameRoom(User leftPlayer, User rightPlayer, MatchType matchType) {
+        this(leftPlayer, rightPlayer, matchType, DEFAULT_TICK_PERIOD_MILLIS, 0);
+    }
+
+    /**
+     * 설명:
+     *   - 입력 큐가 클라이언트 시각을 틱으로 환산할 틱 주기와 지터 흡수 틱 수를 지정해 방을 만든다.
+     */
+    public GameRoom(User leftPlayer, User rightPlayer, MatchType matchType, long tickPeriodMillis,
+            int inputBufferTicks) {
+        this(leftPlayer, rightPlayer, matchType, tickPeriodMillis, inputBufferTicks, new GameEngine());
+    }
+
+    private GameRoom(User leftPlayer, User rightPlayer, MatchType matchType, long tickPeriodMillis,
+            int inputBufferTicks, GameEngine engine) {
         this.leftPlayer = leftPlayer;
         this.rightPlayer = rightPlayer;
         this.matchType = matchType;
-        this.engine = new GameEngine();
+        this.engine = engine;
         this.roomId = Objects.requireNonNullElse(engine.forceSnapshot().roomId(), UUID.randomUUID().toString());
-        this.inputs.put(leftPlayer.getId(), PaddleInput.STAY);
-        this.inputs.put(rightPlayer.getId(), PaddleInput.STAY);
+        this.leftPlayerId = leftPlayer.getId();
+        this.rightPlayerId = rightPlayer.getId();
+        this.leftInputs = new PlayerInputQueue(tickPeriodMillis, inputBufferTicks);
+        this.rightInputs = new PlayerInputQueue(tickPeriodMillis, inputBufferTicks);
+    }
+
+    /**
+     * 설명:
+     *   - 체크포인트에서 방을 복구한다. 방 ID/물리 상태/틱 번호/시작 시각을 이어받고, 입력 큐와 RTT는 새로 시작한다.
+     *     클라이언트의 의도 틱이 그대로 이어지도록 틱 번호를 유지한다.
+     */
+    public static GameRoom resume(RoomCheckpoint checkpoint, User leftPlayer, User rightPlayer,
+            long tickPeriodMillis, int inputBufferTicks) {
+        GameRoom room = new GameRoom(leftPlayer, rightPlayer, checkpoint.matchType(), tickPeriodMillis,
+                inputBufferTicks, new GameEngine(checkpoint.snapshot()));
+        room.tickCount = checkpoint.tick();
+        room.lastCheckpointTick = checkpoint.tick();
+        room.startedAt = checkpoint.startedAt();
+        return room;
+    }
+
+    /**
+     * 설명:
+     *   - 마지막 체크포인트 이후 intervalTicks 이상 진행했으면 true를 반환하고 기준 틱을 갱신한다. 틱 스레드에서만 호출한다.
+     */
+    public boolean checkpointDue(int intervalTicks) {
+        if (intervalTicks <= 0 || tickCount - lastCheckpointTick < intervalTicks) {
+            return false;
+        }
+        lastCheckpointTick = tickCount;
+        return true;
     }
 
     public boolean contains(Long userId) {
-        return leftPlayer.getId().equals(userId) || rightPlayer.getId().equals(userId);
+        return userId != null && (userId == leftPlayerId || userId == rightPlayerId);
     }
 
     public void updateInput(Long userId, PaddleInput input) {
-        inputs.put(userId, input);
+        updateInput(userId, input, 0, 0, 0);
+    }
+
+    /**
+     * 설명:
+     *   - 순번/클라이언트 시각/의도 틱을 가진 INPUT을 해당 플레이어 큐에 넣는다.
+     * 출력:
+     *   - 방 참가자가 아니거나 중복/역순 seq라 버려졌으면 false
+     */
+    public boolean updateInput(Long userId, SequencedInput input) {
+        return updateInput(userId, input.direction(), input.seq(), input.clientTimeMillis(), input.tick());
+    }
+
+    /**
+     * 설명:
+     *   - SequencedInput을 만들지 않는 무할당 입력 경로. 텍스트/바이너리 INPUT 파서가 필드 값을 그대로 넘긴다.
+     */
+    public boolean updateInput(Long userId, PaddleInput input, long seq, long clientTimeMillis, long tick) {
+        if (userId == null) {
+            return false;
+        }
+        PlayerInputQueue queue = userId == leftPlayerId ? leftInputs : userId == rightPlayerId ? rightInputs : null;
+        return queue != null
+                && queue.offer(input, seq, clientTimeMillis, tick, tickCount + 1, System.nanoTime() / 1_000_000);
+    }
+
+    /**
+     * 설명:
+     *   - 좌/우 플레이어가 마지막으로 적용받은 INPUT seq. 브로드캐스트 STATE의 ack로 사용한다.
+     */
+    public long leftProcessedSeq() {
+        return leftInputs.processedSeq();
+    }
+
+    public long rightProcessedSeq() {
+        return rightInputs.processedSeq();
+    }
+
+    /**
+     * 설명:
+     *   - 플레이어 세션의 평활 RTT/지터를 갱신하고 엔진 패들 판정 보정 시간을 편도 지연(RTT/2)으로 맞춘다.
+     * 입력:
+     *   - maxCompensationNanos: 보정 상한. 지연이 큰 플레이어가 상대의 실점 판정을 과도하게 늦추지 않도록 자른다.
+     */
+    public void updateLatency(Long userId, long rttNanos, long jitterNanos, long maxCompensationNanos) {
+        if (userId == null || !contains(userId)) {
+            return;
+        }
+        GameSide side = userId == leftPlayerId ? GameSide.LEFT : GameSide.RIGHT;
+        if (side == GameSide.LEFT) {
+            leftRttNanos = rttNanos;
+            leftJitterNanos = jitterNanos;
+        } else {
+            rightRttNanos = rttNanos;
+            rightJitterNanos = jitterNanos;
+        }
+        engine.setLagCompensation(side, Math.min(rttNanos / 2, Math.max(0, maxCompensationNanos)));
+    }
+
+    public long leftRttNanos() {
+        return leftRttNanos;
+    }
+
+    public long leftJitterNanos() {
+        return leftJitterNanos;
+    }
+
+    public long rightRttNanos() {
+        return rightRttNanos;
+    }
+
+    public long rightJitterNanos() {
+        return rightJitterNanos;
     }
 
     public GameSnapshot tick(Duration delta) {
+        return tickFrame(delta.toNanos()).toSnapshot();
+    }
+
+    /**
+     * 설명:
+     *   - 이번 틱에 도달한 입력을 큐에서 꺼내 엔진에 넘겨 무할당 틱을 수행한다. 시작/종료 시각 기록만 최초 1회 할당한다.
+     * 입력:
+     *   - deltaNanos: 나노초 단위 틱 간격
+     * 출력:
+     *   - 엔진의 더블 버퍼 프레임(보관 시 toSnapshot으로 복사 필요)
+     */
+    public GameFrame tickFrame(long deltaNanos) {
         if (startedAt == null) {
             startedAt = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
         }
-        GameSnapshot snapshot = engine.tick(delta,
-                inputs.getOrDefault(leftPlayer.getId(), PaddleInput.STAY),
-                inputs.getOrDefault(rightPlayer.getId(), PaddleInput.STAY));
-        if (snapshot.finished() && finishedAt == null) {
+        long tick = tickCount + 1;
+        GameFrame frame = engine.tickInPlace(deltaNanos, leftInputs.advance(tick), rightInputs.advance(tick));
+        tickCount = tick;
+        // 엔진은 두 프레임을 번갈아 쓰므로 직전 프레임은 이번 호출 동안 그대로 남아 있어 비교할 수 있다.
+        lastTickChanged = lastFrame == null || !frame.sameStateAs(lastFrame);
+        lastFrame = frame;
+        if (frame.finished() && finishedAt == null) {
             finishedAt = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
         }
-        return snapshot;
+        return frame;
+    }
+
+    /**
+     * 설명:
+     *   - 지금까지 진행된 틱 수를 반환한다. 바이너리 프레임 seq 등 틱 번호가 필요한 곳에서 사용한다.
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * 설명:
+     *   - 마지막 tickFrame 결과가 직전 틱과 달라졌는지 반환한다. 틱 스레드에서만 호출한다.
+     */
+    public boolean lastTickChanged() {
+        return lastTickChanged;
     }
 
     public GameSnapshot currentSnapshot() {
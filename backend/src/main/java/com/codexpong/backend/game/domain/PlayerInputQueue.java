@@ -0,0 +1,128 @@
+package com.codexpong.backend.game.domain;
+
+import com.codexpong.backend.game.engine.model.PaddleInput;
+
+/**
+ * [도메인] backend/src/main/java/com/codexpong/backend/game/domain/PlayerInputQueue.java
+ * 설명:
+ *   - 플레이어 한 명의 INPUT을 적용 틱 순서로 보관하는 고정 크기 링 버퍼다. 클라이언트 예측/재조정을 위해
+ *     입력을 의도한 틱에 적용하고, 마지막으로 적용한 seq를 STATE 확인 응답(ack)으로 제공한다.
+ *   - 적용 틱 결정 순서
+ *       1) 클라이언트가 tick을 보냈으면 그 틱
+ *       2) 클라이언트 시각만 있으면 (수신 시각 - 클라이언트 시각)의 최근 최소값을 지연 0 기준으로 삼아
+ *          늦게 도착한 만큼 앞당긴 틱에 bufferTicks를 더한 틱(지터 흡수)
+ *       3) 둘 다 없으면(기존 INPUT) 다음 틱
+ *     이미 지난 틱은 다음 틱으로 올리고, 다음 틱 + MAX_LEAD_TICKS를 넘는 미래는 잘라낸다.
+ *     seq 역전을 막기 위해 적용 틱은 앞서 넣은 입력보다 앞설 수 없다.
+ *   - 같은 틱 이하에 도달한 입력이 여럿이면 마지막 입력이 방향을 정하고 앞선 입력은 대체된 것으로 보고 함께 ack한다.
+ *   - seq가 이미 받은 값 이하이면 중복/역순 도착으로 보고 버린다. seq 0(순번 없음)은 ack를 바꾸지 않는다.
+ *   - 입력 스레드(offer)와 틱 스레드(advance)가 함께 쓰므로 짧은 synchronized 구간으로 보호하며, 두 경로 모두 할당하지 않는다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public final class PlayerInputQueue {
+
+    public static final int CAPACITY = 32;
+    public static final int MAX_LEAD_TICKS = 10;
+    private static final int BASELINE_WINDOW = 64;
+
+    private final long tickPeriodMillis;
+    private final int bufferTicks;
+    private final PaddleInput[] directions = new PaddleInput[CAPACITY];
+    private final long[] seqs = new long[CAPACITY];
+    private final long[] ticks = new long[CAPACITY];
+    private int head;
+    private int size;
+    private long lastOfferedSeq;
+    private long lastQueuedTick;
+    private PaddleInput current = PaddleInput.STAY;
+    private volatile long processedSeq;
+
+    // 클라이언트 시각 기준선. 시계 드리프트를 따라가도록 두 구간 최소값 중 작은 값을 쓴다.
+    private long previousMinOffset = Long.MAX_VALUE;
+    private long currentMinOffset = Long.MAX_VALUE;
+    private int offsetSamples;
+
+    public PlayerInputQueue(long tickPeriodMillis, int bufferTicks) {
+        this.tickPeriodMillis = Math.max(1, tickPeriodMillis);
+        this.bufferTicks = Math.max(0, bufferTicks);
+    }
+
+    /**
+     * 설명:
+     *   - 입력 하나를 적용 틱과 함께 넣는다. 버퍼가 가득 차면 가장 오래된 입력을 즉시 적용해 자리를 만든다.
+     * 입력:
+     *   - seq/clientTimeMillis/tick: 클라이언트가 보낸 값(없으면 0)
+     *   - nextTick: 방에서 다음에 실행될 틱 번호
+     *   - receivedMillis: 서버 단조 시각(ms)
+     * 출력:
+     *   - 중복/역순 seq로 버려졌으면 false
+     */
+    public synchronized boolean offer(PaddleInput direction, long seq, long clientTimeMillis, long tick, long nextTick,
+            long receivedMillis) {
+        if (seq > 0) {
+            if (seq <= lastOfferedSeq) {
+                return false;
+            }
+            lastOfferedSeq = seq;
+        }
+        long target = tick > 0 ? tick
+                : clientTimeMillis > 0 ? estimateTick(clientTimeMillis, receivedMillis, nextTick) : nextTick;
+        target = Math.min(Math.max(target, nextTick), nextTick + MAX_LEAD_TICKS);
+        target = Math.max(target, lastQueuedTick);
+        if (size == CAPACITY) {
+            consumeHead();
+        }
+        int slot = (head + size) % CAPACITY;
+        directions[slot] = direction;
+        seqs[slot] = seq;
+        ticks[slot] = target;
+        size++;
+        lastQueuedTick = target;
+        return true;
+    }
+
+    /**
+     * 설명:
+     *   - 틱 스레드에서 tick을 실행하기 직전에 호출한다. 적용 틱이 도달한 입력을 모두 소비하고 현재 방향을 반환한다.
+     */
+    public synchronized PaddleInput advance(long tick) {
+        while (size > 0 && ticks[head] <= tick) {
+            consumeHead();
+        }
+        return current;
+    }
+
+    /**
+     * 설명:
+     *   - 마지막으로 적용한 순번 입력의 seq. STATE의 ack로 내보낸다.
+     */
+    public long processedSeq() {
+        return processedSeq;
+    }
+
+    private void consumeHead() {
+        current = directions[head];
+        if (seqs[head] > 0) {
+            processedSeq = seqs[head];
+        }
+        head = (head + 1) % CAPACITY;
+        size--;
+    }
+
+    private long estimateTick(long clientTimeMillis, long receivedMillis, long nextTick) {
+        long offset = receivedMillis - clientTimeMillis;
+        if (offset < currentMinOffset) {
+            currentMinOffset = offset;
+        }
+        long baseline = Math.min(previousMinOffset, currentMinOffset);
+        if (++offsetSamples >= BASELINE_WINDOW) {
+            previousMinOffset = currentMinOffset;
+            currentMinOffset = Long.MAX_VALUE;
+            offsetSamples = 0;
+        }
+        long lateTicks = (offset - baseline) / tickPeriodMillis;
+        return nextTick - lateTicks + bufferTicks;
+    }
+}
@@ -0,0 +1,30 @@
+package com.codexpong.backend.game.domain;
+
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import java.time.LocalDateTime;
+
+/**
+ * [모델] backend/src/main/java/com/codexpong/backend/game/domain/RoomCheckpoint.java
+ * 설명:
+ *   - 진행 중인 경기 방 하나를 다른 프로세스에서 이어서 진행하는 데 필요한 최소 상태다.
+ *     물리 스냅샷(공/패들/점수/종료), 틱 번호, 플레이어 ID, 경기 유형, 시작 시각, 리플레이 진행 위치를 담는다.
+ *   - replayStartedAtMs/replayOffset은 리플레이 녹화 시작 시각과 이 체크포인트 시점까지 기록된 이벤트 수다.
+ *     복구 시 저장소에 남은 리플레이 이벤트를 replayOffset까지만 이어 붙인다.
+ *   - savedAtMillis는 체크포인트를 만든 시각으로, 소유 노드가 멈췄는지(갱신 중단) 판단하는 데 쓴다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public record RoomCheckpoint(
+        String roomId,
+        MatchType matchType,
+        long leftPlayerId,
+        long rightPlayerId,
+        long tick,
+        GameSnapshot snapshot,
+        LocalDateTime startedAt,
+        long replayStartedAtMs,
+        int replayOffset,
+        long savedAtMillis
+) {
+}
@@ -0,0 +1,117 @@
+package com.codexpong.backend.game.domain;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [도메인] backend/src/main/java/com/codexpong/backend/game/domain/RttEstimator.java
+ * 설명:
+ *   - `/ws/game` 세션 하나의 왕복 지연(RTT)과 지터를 서버 주도 WebSocket ping/pong 표본으로 추정한다.
+ *   - ping payload에는 임의 nonce(8바이트)만 담고, 송신 시각은 서버가 응답 대기 중인 ping 하나로 보관한다.
+ *     브라우저는 같은 payload로 pong을 자동 응답하므로 클라이언트 코드 변경 없이 pong 수신 시각과의 차이가 곧 표본 RTT다.
+ *     송신 큐 대기 시간도 체감 지연이므로 포함된다.
+ *   - 대기 중인 nonce와 같은 pong 하나만 받아들이고 그 즉시 대기를 지운다. 요청하지 않은 pong, 오래된 ping의 pong,
+ *     같은 pong의 반복은 표본이 되지 않아 클라이언트가 RTT를 부풀리거나 줄일 수 없다.
+ *     새 ping을 보내면 이전 ping은 응답을 못 받은 것으로 보고 대체한다.
+ *   - 평활 RTT는 TCP(RFC 6298)와 같은 1/8 가중 EWMA, 지터는 RTP(RFC 3550)와 같이 연속 표본 차이의 1/16 가중 평균이다.
+ *     첫 표본은 그대로 평활 RTT로 쓰고 지터는 0에서 시작한다.
+ *   - 한 세션의 pong은 순차 처리되므로 추정치 갱신은 단일 스레드이고, 조회 값만 volatile로 공개한다.
+ *     대기 중인 ping은 ping 스레드와 수신 스레드가 함께 쓰므로 이 객체로 동기화한다(세션당 ping 주기 1회).
+ *   - GameSessionState가 세션마다 하나를 보관하고, ping을 보내는 GameRoomService가 찾을 수 있도록 세션 속성에도 둔다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public final class RttEstimator {
+
+    public static final String SESSION_ATTRIBUTE = "rttEstimator";
+    public static final int PING_PAYLOAD_BYTES = Long.BYTES;
+    // 일시 정지/시계 이상으로 생긴 비정상 표본은 버린다.
+    private static final long MAX_SAMPLE_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private volatile long smoothedNanos;
+    private volatile long jitterNanos;
+    private volatile long lastSampleNanos;
+    private volatile long samples;
+    private long pingNonce;
+    private long pingSentNanos;
+    private boolean pingOutstanding;
+
+    /**
+     * 설명:
+     *   - 새 nonce로 보낼 ping payload를 만들고 송신 시각과 함께 응답 대기 ping으로 기록한다.
+     *     세션마다 새 버퍼가 필요하므로 호출마다 할당한다(세션당 ping 주기 1회).
+     */
+    public ByteBuffer nextPing(long nowNanos) {
+        long nonce = ThreadLocalRandom.current().nextLong();
+        synchronized (this) {
+            pingNonce = nonce;
+            pingSentNanos = nowNanos;
+            pingOutstanding = true;
+        }
+        ByteBuffer payload = ByteBuffer.allocate(PING_PAYLOAD_BYTES);
+        payload.putLong(0, nonce);
+        return payload;
+    }
+
+    /**
+     * 설명:
+     *   - 응답 대기 중인 ping의 pong이면 표본으로 반영하고 대기를 지운다.
+     * 입력:
+     *   - pongPayload: 서버 ping에 대한 pong payload
+     *   - nowNanos: pong 수신 시각(nanoTime)
+     * 출력:
+     *   - 반영한 표본 RTT(ns). 대기 중인 ping의 nonce가 아니거나 범위를 벗어나면 -1
+     */
+    public long onPong(ByteBuffer pongPayload, long nowNanos) {
+        if (pongPayload == null || pongPayload.remaining() != PING_PAYLOAD_BYTES) {
+            return -1;
+        }
+        long sentNanos;
+        synchronized (this) {
+            if (!pingOutstanding || pongPayload.getLong(pongPayload.position()) != pingNonce) {
+                return -1;
+            }
+            pingOutstanding = false;
+            sentNanos = pingSentNanos;
+        }
+        long sample = nowNanos - sentNanos;
+        if (sample < 0 || sample > MAX_SAMPLE_NANOS) {
+            return -1;
+        }
+        record(sample);
+        return sample;
+    }
+
+    /**
+     * 설명:
+     *   - 표본 RTT 하나를 평활 RTT/지터에 반영한다.
+     */
+    public void record(long sampleNanos) {
+        if (samples == 0) {
+            smoothedNanos = sampleNanos;
+        } else {
+            smoothedNanos += (sampleNanos - smoothedNanos) / 8;
+            jitterNanos += (Math.abs(sampleNanos - lastSampleNanos) - jitterNanos) / 16;
+        }
+        lastSampleNanos = sampleNanos;
+        samples++;
+    }
+
+    public long smoothedNanos() {
+        return smoothedNanos;
+    }
+
+    public long jitterNanos() {
+        return jitterNanos;
+    }
+
+    public long lastSampleNanos() {
+        return lastSampleNanos;
+    }
+
+    public long samples() {
+        return samples;
+    }
+}
@@ -0,0 +1,21 @@
+package com.codexpong.backend.game.domain;
+
+import com.codexpong.backend.game.engine.model.PaddleInput;
+
+/**
+ * [모델] backend/src/main/java/com/codexpong/backend/game/domain/SequencedInput.java
+ * 설명:
+ *   - 클라이언트 예측용 INPUT 한 건. 0인 필드는 클라이언트가 보내지 않은 값이다.
+ *   - seq: 플레이어별 1부터 증가하는 입력 순번. 0이면 순번 없는 기존 INPUT으로 보고 다음 틱에 바로 적용한다.
+ *   - clientTimeMillis: 입력 시점의 클라이언트 단조 시각(ms). tick이 없을 때 의도한 틱을 추정하는 데 쓴다.
+ *   - tick: 클라이언트가 적용을 의도한 서버 틱 번호(STATE tick/seq 기준).
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public record SequencedInput(PaddleInput direction, long seq, long clientTimeMillis, long tick) {
+
+    public static SequencedInput unsequenced(PaddleInput direction) {
+        return new SequencedInput(direction, 0, 0, 0);
+    }
+}
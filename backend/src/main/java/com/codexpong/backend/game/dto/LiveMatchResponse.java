@@ -10,9 +10,11 @@ import java.time.OffsetDateTime;
  * 설명:
  *   - 관전 가능한 진행 중 경기 정보를 노출하기 위한 응답 모델이다.
  *   - 좌/우 플레이어 닉네임, 관전자 수/제한, 시작 시각을 포함한다.
- * 버전: v0.10.0
+ *   - v1.1.0부터 좌/우 플레이어의 평활 RTT/지터(ms, 0이면 측정 전)를 포함한다.
+ * 버전: v1.1.0
  * 관련 설계문서:
  *   - design/backend/v0.10.0-kor-auth-and-locale.md
+ *   - design/realtime/v1.1.0-realtime-performance.md
  */
 public record LiveMatchResponse(
         String roomId,
@@ -23,7 +25,11 @@ public record LiveMatchResponse(
         String rightNickname,
         OffsetDateTime startedAt,
         int spectatorCount,
-        int spectatorLimit
+        int spectatorLimit,
+        int leftRttMs,
+        int leftJitterMs,
+        int rightRttMs,
+        int rightJitterMs
 ) {
 
     public static LiveMatchResponse from(LiveRoomView view) {
@@ -36,7 +42,11 @@ public record LiveMatchResponse(
                 view.rightNickname(),
                 KstDateTime.toOffset(view.startedAt()),
                 view.spectatorCount(),
-                view.spectatorLimit()
+                view.spectatorLimit(),
+                view.leftRttMs(),
+                view.leftJitterMs(),
+                view.rightRttMs(),
+                view.rightJitterMs()
         );
     }
 }
@@ -7,13 +7,16 @@ import com.codexpong.backend.game.service.MatchmakingService;
  * 설명:
  *   - 매칭 큐 등록 및 상태 조회 응답을 공통 포맷으로 제공한다.
  *   - 매치 타입을 포함해 랭크/일반 구분을 프런트엔드에 전달한다.
- * 버전: v0.4.0
+ *   - v1.1.0에서는 방 소유 노드 ID(node)를 더해 클라이언트가 게임 WebSocket을 그 노드로 연결하게 한다(단일 노드면 null).
+ * 버전: v1.1.0
  * 관련 설계문서:
  *   - design/backend/v0.4.0-ranking-system.md
+ *   - design/backend/v1.1.0-matchmaking-scaling.md
  */
-public record MatchmakingResponse(String ticketId, String status, String roomId, String matchType) {
+public record MatchmakingResponse(String ticketId, String status, String roomId, String matchType, String node) {
 
     public static MatchmakingResponse from(MatchmakingService.MatchTicket ticket) {
-        return new MatchmakingResponse(ticket.ticketId(), ticket.status(), ticket.roomId(), ticket.matchType().name());
+        return new MatchmakingResponse(ticket.ticketId(), ticket.status(), ticket.roomId(), ticket.matchType().name(),
+                ticket.node());
     }
 }
@@ -0,0 +1,214 @@
+package com.codexpong.backend.game.engine;
+
+import com.codexpong.backend.game.engine.model.GameSide;
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * [엔진] backend/src/main/java/com/codexpong/backend/game/engine/BatchSimulator.java
+ * 설명:
+ *   - 밸런스 튜닝, 봇 학습, 용량 계획을 위해 수만 경기를 네트워크/방 객체 없이 오프라인으로 실행하는 헤드리스 시뮬레이터다.
+ *   - 경기 상태를 필드별 원시 배열(structure-of-arrays)로 보관하고, 경기 구간을 fork/join으로 나눠 병렬로 진행한다.
+ *   - 연산 순서와 상수는 GameEngine.tick과 동일하며, 같은 입력이면 비트 단위로 같은 상태를 만든다.
+ *   - 한 run 호출 안에서 각 경기는 하나의 워커만 갱신하므로 별도 잠금이 없다. run을 동시에 호출하면 안 된다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public final class BatchSimulator {
+
+    private static final int LEAF_MATCHES = 256;
+
+    private final int size;
+    private final double[] ballX;
+    private final double[] ballY;
+    private final double[] ballVelocityX;
+    private final double[] ballVelocityY;
+    private final double[] leftPaddleY;
+    private final double[] rightPaddleY;
+    private final int[] leftScore;
+    private final int[] rightScore;
+    private final boolean[] finished;
+    private final long[] ticks;
+
+    public BatchSimulator(int matches) {
+        this.size = matches;
+        this.ballX = new double[matches];
+        this.ballY = new double[matches];
+        this.ballVelocityX = new double[matches];
+        this.ballVelocityY = new double[matches];
+        this.leftPaddleY = new double[matches];
+        this.rightPaddleY = new double[matches];
+        this.leftScore = new int[matches];
+        this.rightScore = new int[matches];
+        this.finished = new boolean[matches];
+        this.ticks = new long[matches];
+        for (int i = 0; i < matches; i++) {
+            resetRound(i, GameSide.LEFT);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 설명:
+     *   - 모든 경기를 ticks번 진행한다. 공용 ForkJoinPool을 사용한다.
+     * 입력:
+     *   - ticks: 진행할 틱 수
+     *   - deltaNanos: 틱 간격(나노초)
+     *   - script: 경기/틱별 입력
+     */
+    public void run(long ticks, long deltaNanos, InputScript script) {
+        run(ticks, deltaNanos, script, ForkJoinPool.commonPool());
+    }
+
+    public void run(long ticks, long deltaNanos, InputScript script, ForkJoinPool pool) {
+        double seconds = deltaNanos / GameEngine.NANOS_PER_SECOND;
+        pool.invoke(new Segment(0, size, ticks, seconds, script));
+    }
+
+    public GameSnapshot snapshot(int match) {
+        return new GameSnapshot("batch-" + match, ballX[match], ballY[match], ballVelocityX[match],
+                ballVelocityY[match], leftPaddleY[match], rightPaddleY[match], leftScore[match], rightScore[match],
+                GameEngine.TARGET_SCORE, finished[match]);
+    }
+
+    public boolean isFinished(int match) {
+        return finished[match];
+    }
+
+    public int leftScore(int match) {
+        return leftScore[match];
+    }
+
+    public int rightScore(int match) {
+        return rightScore[match];
+    }
+
+    public long ticks(int match) {
+        return ticks[match];
+    }
+
+    public int finishedCount() {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (finished[i]) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 설명:
+     *   - [from, to) 구간 경기를 ticks번 진행한다. 같은 틱의 여러 경기를 연속으로 처리해 배열 접근을 순차로 유지한다.
+     */
+    private void advanceRange(int from, int to, long tickCount, double seconds, InputScript script) {
+        for (long step = 0; step < tickCount; step++) {
+            for (int i = from; i < to; i++) {
+                long tick = ticks[i]++;
+                advance(i, seconds, script.inputAt(i, tick, GameSide.LEFT), script.inputAt(i, tick, GameSide.RIGHT));
+            }
+        }
+    }
+
+    // 아래 갱신 순서는 GameEngine.advance → movePaddle → moveBall → bounceIfNeeded → resetRound와 동일해야 한다.
+    private void advance(int i, double seconds, PaddleInput leftInput, PaddleInput rightInput) {
+        leftPaddleY[i] = clampPaddle(leftPaddleY[i] + paddleDelta(leftInput, seconds));
+        rightPaddleY[i] = clampPaddle(rightPaddleY[i] + paddleDelta(rightInput, seconds));
+        if (finished[i]) {
+            return;
+        }
+        ballX[i] += ballVelocityX[i] * seconds;
+        ballY[i] += ballVelocityY[i] * seconds;
+        bounce(i);
+        if (ballX[i] < 0) {
+            score(i, GameSide.RIGHT);
+            resetRound(i, GameSide.LEFT);
+        } else if (ballX[i] > GameEngine.COURT_WIDTH) {
+            score(i, GameSide.LEFT);
+            resetRound(i, GameSide.RIGHT);
+        }
+    }
+
+    private static double paddleDelta(PaddleInput input, double seconds) {
+        return switch (input) {
+            case UP -> -GameEngine.PADDLE_SPEED * seconds;
+            case DOWN -> GameEngine.PADDLE_SPEED * seconds;
+            default -> 0;
+        };
+    }
+
+    private static double clampPaddle(double value) {
+        return Math.max(0, Math.min(GameEngine.COURT_HEIGHT - GameEngine.PADDLE_HEIGHT, value));
+    }
+
+    private void bounce(int i) {
+        if (ballY[i] <= 0 || ballY[i] >= GameEngine.COURT_HEIGHT) {
+            ballVelocityY[i] = -ballVelocityY[i];
+        }
+        double rightPaddleX = GameEngine.COURT_WIDTH - GameEngine.PADDLE_OFFSET_X;
+        if (ballVelocityX[i] < 0 && ballX[i] <= GameEngine.PADDLE_OFFSET_X
+                && ballY[i] >= leftPaddleY[i]
+                && ballY[i] <= leftPaddleY[i] + GameEngine.PADDLE_HEIGHT) {
+            ballVelocityX[i] = -ballVelocityX[i];
+        }
+        if (ballVelocityX[i] > 0 && ballX[i] >= rightPaddleX
+                && ballY[i] >= rightPaddleY[i]
+                && ballY[i] <= rightPaddleY[i] + GameEngine.PADDLE_HEIGHT) {
+            ballVelocityX[i] = -ballVelocityX[i];
+        }
+    }
+
+    private void score(int i, GameSide side) {
+        if (side == GameSide.LEFT) {
+            leftScore[i] += 1;
+        } else {
+            rightScore[i] += 1;
+        }
+        if (leftScore[i] >= GameEngine.TARGET_SCORE || rightScore[i] >= GameEngine.TARGET_SCORE) {
+            finished[i] = true;
+        }
+    }
+
+    private void resetRound(int i, GameSide toSide) {
+        ballX[i] = GameEngine.COURT_WIDTH / 2;
+        ballY[i] = GameEngine.COURT_HEIGHT / 2;
+        ballVelocityX[i] = toSide == GameSide.LEFT ? GameEngine.BALL_SPEED : -GameEngine.BALL_SPEED;
+        ballVelocityY[i] = GameEngine.BALL_SPEED / 2;
+        leftPaddleY[i] = (GameEngine.COURT_HEIGHT - GameEngine.PADDLE_HEIGHT) / 2;
+        rightPaddleY[i] = (GameEngine.COURT_HEIGHT - GameEngine.PADDLE_HEIGHT) / 2;
+    }
+
+    private final class Segment extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final long tickCount;
+        private final double seconds;
+        private final transient InputScript script;
+
+        Segment(int from, int to, long tickCount, double seconds, InputScript script) {
+            this.from = from;
+            this.to = to;
+            this.tickCount = tickCount;
+            this.seconds = seconds;
+            this.script = script;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_MATCHES) {
+                advanceRange(from, to, tickCount, seconds, script);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new Segment(from, middle, tickCount, seconds, script),
+                    new Segment(middle, to, tickCount, seconds, script));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.codexpong.backend.game.engine;
 
+import com.codexpong.backend.game.engine.model.GameFrame;
 import com.codexpong.backend.game.engine.model.GamePhysicsState;
 import com.codexpong.backend.game.engine.model.GameSide;
 import com.codexpong.backend.game.engine.model.GameSnapshot;
@@ -11,27 +12,58 @@ import java.time.Duration;
  * 설명:
  *   - v0.3.0 실시간 1:1 경기를 위한 틱 기반 물리 시뮬레이션을 담당한다.
  *   - 패들 이동 입력과 공 이동, 득점/리셋을 관리하며 스냅샷을 반환한다.
- * 버전: v0.3.0
+ *   - v1.1.0부터는 나노초 단위 델타와 더블 버퍼 GameFrame을 사용하는 무할당 틱 경로를 함께 제공한다.
+ *   - v1.1.0부터는 플레이어별 지연 보정 시간만큼 패들 판정 범위를 현재 이동 방향으로 넓힌다.
+ *     보정 0(기본값, BatchSimulator)이면 기존 판정과 완전히 같다.
+ * 버전: v1.1.0
  * 관련 설계문서:
  *   - design/realtime/v0.3.0-game-loop-and-events.md
  *   - design/backend/v0.3.0-game-and-matchmaking.md
+ *   - design/realtime/v1.1.0-realtime-performance.md
  * 변경 이력:
  *   - v0.3.0: 기본 공/패들 이동 및 득점 판정 로직 추가
+ *   - v1.1.0: tickInPlace(나노초 델타, 더블 버퍼 프레임) 추가
+ *   - v1.1.0: 물리 상수를 BatchSimulator와 패키지 범위로 공유
+ *   - v1.1.0: 패들 판정 지연 보정(lag compensation) 추가
+ *   - v1.1.0: 체크포인트 스냅샷에서 엔진을 복구하는 생성자 추가
  */
 public class GameEngine {
 
-    private static final double COURT_WIDTH = 800;
-    private static final double COURT_HEIGHT = 480;
-    private static final double PADDLE_HEIGHT = 80;
-    private static final double PADDLE_SPEED = 260; // px per second
-    private static final double BALL_SPEED = 280; // px per second
-    private static final int TARGET_SCORE = 5;
+    // BatchSimulator가 같은 상수로 동일한 결과를 내도록 패키지 범위로 공유한다.
+    static final double COURT_WIDTH = 800;
+    static final double COURT_HEIGHT = 480;
+    static final double PADDLE_HEIGHT = 80;
+    static final double PADDLE_SPEED = 260; // px per second
+    static final double BALL_SPEED = 280; // px per second
+    static final int TARGET_SCORE = 5;
+    static final double PADDLE_OFFSET_X = 40;
+    static final double NANOS_PER_SECOND = 1_000_000_000.0;
 
     private final GamePhysicsState state;
+    private final GameFrame[] frames;
+    private int frontFrame;
+    private double leftLagSeconds;
+    private double rightLagSeconds;
+    private PaddleInput lastLeftInput = PaddleInput.STAY;
+    private PaddleInput lastRightInput = PaddleInput.STAY;
 
     public GameEngine() {
         this.state = new GamePhysicsState(COURT_WIDTH, COURT_HEIGHT, PADDLE_HEIGHT, TARGET_SCORE);
+        this.frames = new GameFrame[] {new GameFrame(state.roomId()), new GameFrame(state.roomId())};
         resetRound(GameSide.LEFT);
+        state.copyInto(frames[frontFrame]);
+    }
+
+    /**
+     * 설명:
+     *   - 체크포인트에 저장된 스냅샷(같은 방 ID)에서 이어서 진행할 엔진을 만든다. 지연 보정과 마지막 입력은 초기값이다.
+     */
+    public GameEngine(GameSnapshot checkpoint) {
+        this.state = new GamePhysicsState(COURT_WIDTH, COURT_HEIGHT, PADDLE_HEIGHT, TARGET_SCORE,
+                checkpoint.roomId());
+        this.frames = new GameFrame[] {new GameFrame(state.roomId()), new GameFrame(state.roomId())};
+        state.restore(checkpoint);
+        state.copyInto(frames[frontFrame]);
     }
 
     public int getTargetScore() {
@@ -48,17 +80,56 @@ public class GameEngine {
      *   - 현재 스냅샷 (좌표, 점수, 종료 여부)
      */
     public synchronized GameSnapshot tick(Duration delta, PaddleInput leftInput, PaddleInput rightInput) {
-        double seconds = delta.toMillis() / 1000.0;
-        movePaddle(GameSide.LEFT, leftInput, seconds);
-        movePaddle(GameSide.RIGHT, rightInput, seconds);
-        moveBall(seconds);
+        advance(delta.toNanos() / NANOS_PER_SECOND, leftInput, rightInput);
         return state.toSnapshot();
     }
 
+    /**
+     * 설명:
+     *   - tick과 같은 물리 갱신을 수행하되 객체를 새로 만들지 않고, 두 개의 프레임 버퍼를 번갈아 채워 반환한다.
+     *   - 반환된 프레임은 다음 호출 이후 한 틱 동안 더 유효하며, 그 다음 호출에서 다시 덮어쓰인다.
+     * 입력:
+     *   - deltaNanos: 나노초 단위 틱 간격
+     *   - leftInput/rightInput: 각 플레이어의 입력 상태
+     * 출력:
+     *   - 갱신된 상태가 담긴 재사용 프레임
+     */
+    public synchronized GameFrame tickInPlace(long deltaNanos, PaddleInput leftInput, PaddleInput rightInput) {
+        advance(deltaNanos / NANOS_PER_SECOND, leftInput, rightInput);
+        int back = frontFrame ^ 1;
+        GameFrame frame = frames[back];
+        state.copyInto(frame);
+        frontFrame = back;
+        return frame;
+    }
+
+    /**
+     * 설명:
+     *   - 한쪽 플레이어의 지연 보정 시간을 설정한다. 호출 측(GameRoom)이 상한을 적용한 편도 지연을 넘긴다.
+     *   - 클라이언트는 예측으로 자기 패들을 먼저 움직이므로, 서버 패들은 입력이 도착하는 편도 지연만큼 뒤처져 있다.
+     *     이 시간 동안 현재 입력 방향으로 더 움직였을 거리를 판정 범위에 더해 고지연 플레이어의 억울한 실점을 줄인다.
+     */
+    public synchronized void setLagCompensation(GameSide side, long nanos) {
+        double seconds = Math.max(0, nanos) / NANOS_PER_SECOND;
+        if (side == GameSide.LEFT) {
+            leftLagSeconds = seconds;
+        } else {
+            rightLagSeconds = seconds;
+        }
+    }
+
     public synchronized GameSnapshot forceSnapshot() {
         return state.toSnapshot();
     }
 
+    private void advance(double seconds, PaddleInput leftInput, PaddleInput rightInput) {
+        lastLeftInput = leftInput;
+        lastRightInput = rightInput;
+        movePaddle(GameSide.LEFT, leftInput, seconds);
+        movePaddle(GameSide.RIGHT, rightInput, seconds);
+        moveBall(seconds);
+    }
+
     private void movePaddle(GameSide side, PaddleInput input, double seconds) {
         double deltaY = switch (input) {
             case UP -> -PADDLE_SPEED * seconds;
@@ -88,21 +159,38 @@ public class GameEngine {
             state.reflectVertical();
         }
 
-        double leftPaddleX = 40;
-        double rightPaddleX = state.courtWidth() - 40;
+        double leftPaddleX = PADDLE_OFFSET_X;
+        double rightPaddleX = state.courtWidth() - PADDLE_OFFSET_X;
 
         if (state.ballVelocityX() < 0 && state.ballX() <= leftPaddleX
-                && state.ballY() >= state.leftPaddleY()
-                && state.ballY() <= state.leftPaddleY() + state.paddleHeight()) {
+                && paddleCovers(state.leftPaddleY(), lastLeftInput, leftLagSeconds)) {
             state.reflectHorizontal();
         }
         if (state.ballVelocityX() > 0 && state.ballX() >= rightPaddleX
-                && state.ballY() >= state.rightPaddleY()
-                && state.ballY() <= state.rightPaddleY() + state.paddleHeight()) {
+                && paddleCovers(state.rightPaddleY(), lastRightInput, rightLagSeconds)) {
             state.reflectHorizontal();
         }
     }
 
+    /**
+     * 설명:
+     *   - 공 y가 패들 범위 안인지 판정한다. 보정 시간이 있으면 현재 입력 방향 쪽 끝만 그 시간 동안의 이동 거리만큼
+     *     (코트 경계 안에서) 늘린다. 정지 입력이면 보정하지 않는다.
+     */
+    private boolean paddleCovers(double paddleY, PaddleInput input, double lagSeconds) {
+        double top = paddleY;
+        double bottom = paddleY + state.paddleHeight();
+        if (lagSeconds > 0) {
+            double reach = PADDLE_SPEED * lagSeconds;
+            if (input == PaddleInput.UP) {
+                top = Math.max(0, top - reach);
+            } else if (input == PaddleInput.DOWN) {
+                bottom = Math.min(state.courtHeight(), bottom + reach);
+            }
+        }
+        return state.ballY() >= top && state.ballY() <= bottom;
+    }
+
     private void resetRound(GameSide toSide) {
         state.resetBall(toSide, BALL_SPEED);
         state.resetPaddles(state.paddleHeight());
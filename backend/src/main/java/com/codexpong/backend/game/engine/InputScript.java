@@ -0,0 +1,36 @@
+package com.codexpong.backend.game.engine;
+
+import com.codexpong.backend.game.engine.model.GameSide;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+
+/**
+ * [인터페이스] backend/src/main/java/com/codexpong/backend/game/engine/InputScript.java
+ * 설명:
+ *   - BatchSimulator에 공급할 경기별/틱별 스크립트 입력을 정의한다.
+ *   - 여러 워커 스레드가 서로 다른 경기 구간을 동시에 조회하므로 구현은 상태 없이(또는 스레드 안전하게) 작성한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+@FunctionalInterface
+public interface InputScript {
+
+    InputScript IDLE = (match, tick, side) -> PaddleInput.STAY;
+
+    /**
+     * 설명:
+     *   - match 번째 경기의 tick 번째 틱에서 side 플레이어가 누르고 있는 입력을 반환한다. tick은 0부터 센다.
+     */
+    PaddleInput inputAt(int match, long tick, GameSide side);
+
+    /**
+     * 설명:
+     *   - 미리 녹화한 입력 스트림(경기별 배열)을 재생한다. 스트림이 끝나면 STAY를 반환한다.
+     */
+    static InputScript recorded(PaddleInput[][] left, PaddleInput[][] right) {
+        return (match, tick, side) -> {
+            PaddleInput[] stream = side == GameSide.LEFT ? left[match] : right[match];
+            return tick < stream.length ? stream[(int) tick] : PaddleInput.STAY;
+        };
+    }
+}
@@ -0,0 +1,92 @@
+package com.codexpong.backend.game.engine.model;
+
+/**
+ * [모델] backend/src/main/java/com/codexpong/backend/game/engine/model/GameFrame.java
+ * 설명:
+ *   - 틱 경로에서 재사용하는 가변 스냅샷 뷰다. GameEngine이 두 개를 번갈아 채우는 더블 버퍼로 사용한다.
+ *   - 필드 구성은 GameSnapshot과 같으며, 영속/전송이 필요한 시점에만 toSnapshot으로 불변 레코드를 만든다.
+ *   - 반환받은 프레임은 다음 다음 틱까지만 유효하므로 보관이 필요하면 반드시 toSnapshot으로 복사한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public final class GameFrame {
+
+    private final String roomId;
+
+    double ballX;
+    double ballY;
+    double ballVelocityX;
+    double ballVelocityY;
+    double leftPaddleY;
+    double rightPaddleY;
+    int leftScore;
+    int rightScore;
+    int targetScore;
+    boolean finished;
+
+    public GameFrame(String roomId) {
+        this.roomId = roomId;
+    }
+
+    public GameSnapshot toSnapshot() {
+        return new GameSnapshot(roomId, ballX, ballY, ballVelocityX, ballVelocityY, leftPaddleY, rightPaddleY,
+                leftScore, rightScore, targetScore, finished);
+    }
+
+    /**
+     * 설명:
+     *   - 다른 프레임과 물리 상태가 완전히 같은지 비교한다. 변화 없는 틱의 브로드캐스트를 생략하는 데 사용한다.
+     */
+    public boolean sameStateAs(GameFrame other) {
+        return ballX == other.ballX && ballY == other.ballY
+                && ballVelocityX == other.ballVelocityX && ballVelocityY == other.ballVelocityY
+                && leftPaddleY == other.leftPaddleY && rightPaddleY == other.rightPaddleY
+                && leftScore == other.leftScore && rightScore == other.rightScore
+                && finished == other.finished;
+    }
+
+    public String roomId() {
+        return roomId;
+    }
+
+    public double ballX() {
+        return ballX;
+    }
+
+    public double ballY() {
+        return ballY;
+    }
+
+    public double ballVelocityX() {
+        return ballVelocityX;
+    }
+
+    public double ballVelocityY() {
+        return ballVelocityY;
+    }
+
+    public double leftPaddleY() {
+        return leftPaddleY;
+    }
+
+    public double rightPaddleY() {
+        return rightPaddleY;
+    }
+
+    public int leftScore() {
+        return leftScore;
+    }
+
+    public int rightScore() {
+        return rightScore;
+    }
+
+    public int targetScore() {
+        return targetScore;
+    }
+
+    public boolean finished() {
+        return finished;
+    }
+}
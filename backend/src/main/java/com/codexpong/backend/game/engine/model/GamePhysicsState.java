@@ -7,11 +7,15 @@ import java.util.UUID;
  * [도메인] backend/src/main/java/com/codexpong/backend/game/engine/model/GamePhysicsState.java
  * 설명:
  *   - 경기장의 좌표, 공/패들 위치, 점수와 종료 상태를 보관한다.
- *   - 엔진이 내부적으로 갱신하며, 외부에는 GameSnapshot 형태로 노출된다.
- * 버전: v0.3.0
+ *   - 엔진이 내부적으로 갱신하며, 외부에는 GameSnapshot 또는 재사용 GameFrame 형태로 노출된다.
+ * 버전: v1.1.0
  * 관련 설계문서:
  *   - design/realtime/v0.3.0-game-loop-and-events.md
  *   - design/backend/v0.3.0-game-and-matchmaking.md
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ * 변경 이력:
+ *   - v1.1.0: 할당 없이 프레임 버퍼에 상태를 복사하는 copyInto 추가
+ *   - v1.1.0: 체크포인트 복구용 방 ID 지정 생성자와 restore 추가
  */
 public class GamePhysicsState {
 
@@ -34,19 +38,57 @@ public class GamePhysicsState {
     private boolean finished;
 
     public GamePhysicsState(double courtWidth, double courtHeight, double paddleHeight, int targetScore) {
+        this(courtWidth, courtHeight, paddleHeight, targetScore, UUID.randomUUID().toString());
+    }
+
+    public GamePhysicsState(double courtWidth, double courtHeight, double paddleHeight, int targetScore,
+            String roomId) {
         this.courtWidth = courtWidth;
         this.courtHeight = courtHeight;
         this.paddleHeight = paddleHeight;
         this.targetScore = targetScore;
-        this.roomId = UUID.randomUUID().toString();
+        this.roomId = roomId;
         this.startedAt = LocalDateTime.now();
     }
 
+    /**
+     * 설명:
+     *   - 체크포인트 스냅샷의 공/패들/점수/종료 상태로 되돌린다. 코트 크기와 목표 점수는 엔진 상수를 그대로 쓴다.
+     */
+    public void restore(GameSnapshot snapshot) {
+        this.ballX = snapshot.ballX();
+        this.ballY = snapshot.ballY();
+        this.ballVelocityX = snapshot.ballVelocityX();
+        this.ballVelocityY = snapshot.ballVelocityY();
+        this.leftPaddleY = snapshot.leftPaddleY();
+        this.rightPaddleY = snapshot.rightPaddleY();
+        this.leftScore = snapshot.leftScore();
+        this.rightScore = snapshot.rightScore();
+        this.finished = snapshot.finished();
+    }
+
     public GameSnapshot toSnapshot() {
         return new GameSnapshot(roomId, ballX, ballY, ballVelocityX, ballVelocityY, leftPaddleY, rightPaddleY,
                 leftScore, rightScore, targetScore, finished);
     }
 
+    /**
+     * 설명:
+     *   - 새 객체를 만들지 않고 현재 상태를 전달받은 프레임 버퍼에 복사한다.
+     */
+    public void copyInto(GameFrame frame) {
+        frame.ballX = ballX;
+        frame.ballY = ballY;
+        frame.ballVelocityX = ballVelocityX;
+        frame.ballVelocityY = ballVelocityY;
+        frame.leftPaddleY = leftPaddleY;
+        frame.rightPaddleY = rightPaddleY;
+        frame.leftScore = leftScore;
+        frame.rightScore = rightScore;
+        frame.targetScore = targetScore;
+        frame.finished = finished;
+    }
+
     public void applyPaddleMove(GameSide side, double deltaY) {
         if (side == GameSide.LEFT) {
             leftPaddleY = clamp(leftPaddleY + deltaY, 0, courtHeight - paddleHeight);
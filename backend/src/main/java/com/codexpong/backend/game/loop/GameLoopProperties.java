@@ -0,0 +1,125 @@
+package com.codexpong.backend.game.loop;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * [설정] backend/src/main/java/com/codexpong/backend/game/loop/GameLoopProperties.java
+ * 설명:
+ *   - 실시간 경기 틱 엔진(샤드 수, 재분배 주기)을 외부 설정으로 묶는다.
+ *   - shards가 0 이하이면 가용 코어 수만큼 샤드를 생성한다.
+ *   - hibernateStride: 플레이어가 모두 끊긴 방을 몇 틱에 한 번 깨울지(기본 20틱 = 1초).
+ *   - inputBufferTicks: 클라이언트 시각만 담긴 INPUT을 지연 0 기준 틱보다 몇 틱 늦게 적용해 도착 지터를 흡수할지(기본 1틱).
+ *     클라이언트가 예측으로 자기 패들을 먼저 움직이므로 체감 지연은 늘지 않고 입력 간격이 서버에서도 유지된다.
+ *   - pingIntervalMs: `/ws/game` 세션에 RTT 측정용 WebSocket ping을 보내는 주기(기본 1초, 0 이하면 끔).
+ *   - maxLagCompensationMs: 패들 판정 지연 보정(편도 지연) 상한(기본 100ms, 0이면 보정 안 함).
+ *   - 버려진 방 정리(0 이하이면 해당 사유로 정리하지 않음)
+ *       notStartedTimeoutMs     방 생성 후 두 플레이어가 모두 접속하지 않은 채 지날 수 있는 시간(기본 60초)
+ *       disconnectedTimeoutMs   경기 중 두 플레이어가 모두 끊긴 채 지날 수 있는 시간(기본 120초)
+ *       maxDurationMs           방 생성 후 최대 경기 시간(기본 30분)
+ *       reaperTickMs            만료 타이머 휠 한 칸의 길이이자 정리 주기(기본 1초). 만료는 최대 이만큼 늦는다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+@ConfigurationProperties(prefix = "game.loop")
+public class GameLoopProperties {
+
+    private int shards = 0;
+    private long rebalanceIntervalMs = 1000;
+    private int hibernateStride = 20;
+    private int inputBufferTicks = 1;
+    private long pingIntervalMs = 1000;
+    private long maxLagCompensationMs = 100;
+    private long notStartedTimeoutMs = 60_000;
+    private long disconnectedTimeoutMs = 120_000;
+    private long maxDurationMs = 1_800_000;
+    private long reaperTickMs = 1000;
+
+    public int getShards() {
+        return shards;
+    }
+
+    public void setShards(int shards) {
+        this.shards = shards;
+    }
+
+    public long getRebalanceIntervalMs() {
+        return rebalanceIntervalMs;
+    }
+
+    public void setRebalanceIntervalMs(long rebalanceIntervalMs) {
+        this.rebalanceIntervalMs = rebalanceIntervalMs;
+    }
+
+    public int getHibernateStride() {
+        return hibernateStride;
+    }
+
+    public void setHibernateStride(int hibernateStride) {
+        this.hibernateStride = hibernateStride;
+    }
+
+    public int getInputBufferTicks() {
+        return inputBufferTicks;
+    }
+
+    public void setInputBufferTicks(int inputBufferTicks) {
+        this.inputBufferTicks = inputBufferTicks;
+    }
+
+    /**
+     * 설명:
+     *   - 실제로 생성할 샤드 수를 계산한다. 설정값이 없으면 코어 수를 사용한다.
+     */
+    public int resolvedShardCount() {
+        return shards > 0 ? shards : Math.max(1, Runtime.getRuntime().availableProcessors());
+    }
+
+    public long getPingIntervalMs() {
+        return pingIntervalMs;
+    }
+
+    public void setPingIntervalMs(long pingIntervalMs) {
+        this.pingIntervalMs = pingIntervalMs;
+    }
+
+    public long getMaxLagCompensationMs() {
+        return maxLagCompensationMs;
+    }
+
+    public void setMaxLagCompensationMs(long maxLagCompensationMs) {
+        this.maxLagCompensationMs = maxLagCompensationMs;
+    }
+
+    public long getNotStartedTimeoutMs() {
+        return notStartedTimeoutMs;
+    }
+
+    public void setNotStartedTimeoutMs(long notStartedTimeoutMs) {
+        this.notStartedTimeoutMs = notStartedTimeoutMs;
+    }
+
+    public long getDisconnectedTimeoutMs() {
+        return disconnectedTimeoutMs;
+    }
+
+    public void setDisconnectedTimeoutMs(long disconnectedTimeoutMs) {
+        this.disconnectedTimeoutMs = disconnectedTimeoutMs;
+    }
+
+    public long getMaxDurationMs() {
+        return maxDurationMs;
+    }
+
+    public void setMaxDurationMs(long maxDurationMs) {
+        this.maxDurationMs = maxDurationMs;
+    }
+
+    public long getReaperTickMs() {
+        return reaperTickMs;
+    }
+
+    public void setReaperTickMs(long reaperTickMs) {
+        this.reaperTickMs = reaperTickMs;
+    }
+}
@@ -0,0 +1,127 @@
+package com.codexpong.backend.game.loop;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * [엔진] backend/src/main/java/com/codexpong/backend/game/loop/LatencyHistogram.java
+ * 설명:
+ *   - 마이크로초 단위 지연을 로그-선형 버킷(2의 거듭제곱 구간마다 8칸, 상대 오차 12.5% 이내)에 누적한다.
+ *   - 기록은 원자적 증가 한 번이며 할당이 없어 틱 샤드 루프와 부하 생성기 수신 스레드에서 함께 쓸 수 있다.
+ *   - 누적 값만 보관하므로 구간 통계는 두 스냅샷의 차(minus)로 구한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    // 2^23마이크로초(약 8.4초)를 넘는 값은 마지막 버킷에 모은다.
+    static final int BUCKETS = 24 * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    public void recordNanos(long nanos) {
+        recordMicros(nanos / 1_000);
+    }
+
+    public void recordMicros(long micros) {
+        counts.incrementAndGet(bucketOf(Math.max(0, micros)));
+    }
+
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+        }
+        return new Snapshot(copy);
+    }
+
+    static int bucketOf(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(micros) - SUB_BITS;
+        int sub = (int) (micros >>> shift) & (SUB_BUCKETS - 1);
+        return Math.min((shift + 1) * SUB_BUCKETS + sub, BUCKETS - 1);
+    }
+
+    static long upperBoundMicros(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        int sub = bucket % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + sub + 1) << shift) - 1;
+    }
+
+    /**
+     * 설명:
+     *   - 특정 시점의 누적 버킷 복사본. 백분위는 해당 버킷의 상한값으로 보고한다.
+     */
+    public static final class Snapshot {
+
+        private final long[] counts;
+
+        Snapshot(long[] counts) {
+            this.counts = counts;
+        }
+
+        public static Snapshot empty() {
+            return new Snapshot(new long[BUCKETS]);
+        }
+
+        public long count() {
+            long total = 0;
+            for (long count : counts) {
+                total += count;
+            }
+            return total;
+        }
+
+        /**
+         * 설명:
+         *   - quantile(0~1)에 해당하는 지연의 상한(마이크로초)을 반환한다. 기록이 없으면 0이다.
+         */
+        public long percentileMicros(double quantile) {
+            long total = count();
+            if (total == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(quantile * total));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return upperBoundMicros(i);
+                }
+            }
+            return upperBoundMicros(BUCKETS - 1);
+        }
+
+        public long maxMicros() {
+            for (int i = BUCKETS - 1; i >= 0; i--) {
+                if (counts[i] > 0) {
+                    return upperBoundMicros(i);
+                }
+            }
+            return 0;
+        }
+
+        public Snapshot plus(Snapshot other) {
+            long[] merged = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                merged[i] = counts[i] + other.counts[i];
+            }
+            return new Snapshot(merged);
+        }
+
+        public Snapshot minus(Snapshot earlier) {
+            long[] delta = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                delta[i] = counts[i] - earlier.counts[i];
+            }
+            return new Snapshot(delta);
+        }
+    }
+}
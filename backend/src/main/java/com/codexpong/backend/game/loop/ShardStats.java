@@ -0,0 +1,29 @@
+package com.codexpong.backend.game.loop;
+
+/**
+ * [DTO] backend/src/main/java/com/codexpong/backend/game/loop/ShardStats.java
+ * 설명:
+ *   - 틱 샤드 하나의 현재 방 수, 시작 지연, 틱 비용 합계, 주기 초과 횟수를 전달한다.
+ *   - 관리자 메트릭 게이지와 재분배 판단에 함께 사용된다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public record ShardStats(
+        int shard,
+        int rooms,
+        long lastLagNanos,
+        long maxLagNanos,
+        long loadNanos,
+        long periodNanos,
+        long overruns
+) {
+
+    /**
+     * 설명:
+     *   - 틱 주기 대비 실행 비용 비율(0~1 이상)을 반환한다. 1에 가까울수록 샤드가 포화 상태다.
+     */
+    public double loadRatio() {
+        return periodNanos == 0 ? 0 : (double) loadNanos / periodNanos;
+    }
+}
@@ -0,0 +1,113 @@
+package com.codexpong.backend.game.loop;
+
+/**
+ * [모델] backend/src/main/java/com/codexpong/backend/game/loop/TickHandle.java
+ * 설명:
+ *   - TickScheduler에 등록된 방 하나의 틱 작업과 측정된 틱 비용을 보관한다.
+ *   - cancel 호출 시 다음 루프부터 실행되지 않으며, 소속 샤드가 목록에서 제거한다.
+ *   - 샤드 간 이동 시에도 비용 이동평균을 함께 옮겨 재분배 판단에 사용한다.
+ *   - stride가 N이면 샤드 루프 N번에 한 번만 실행된다(휴면). wake 호출 시 다음 루프에서 즉시 실행되고 stride가 1로 돌아온다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public final class TickHandle {
+
+    private static final int COST_SMOOTHING_SHIFT = 3;
+
+    private final String key;
+    private final Runnable task;
+
+    private volatile boolean cancelled;
+    private volatile int shardIndex;
+    private volatile long averageCostNanos;
+    private volatile int stride = 1;
+    private volatile boolean wakeRequested;
+    private int skippedLoops;
+
+    TickHandle(String key, Runnable task, int shardIndex) {
+        this.key = key;
+        this.task = task;
+        this.shardIndex = shardIndex;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public int shardIndex() {
+        return shardIndex;
+    }
+
+    public long averageCostNanos() {
+        return averageCostNanos;
+    }
+
+    public int stride() {
+        return stride;
+    }
+
+    /**
+     * 설명:
+     *   - 실행 간격을 샤드 루프 stride번에 한 번으로 낮춘다. 1이면 매 주기 실행한다.
+     */
+    public void setStride(int stride) {
+        this.stride = Math.max(1, stride);
+    }
+
+    /**
+     * 설명:
+     *   - 휴면 중인 작업을 다음 샤드 루프에서 바로 실행하고 매 주기 실행으로 되돌린다. 이미 매 주기 실행 중이면 무시한다.
+     */
+    public void wake() {
+        if (stride > 1) {
+            stride = 1;
+            wakeRequested = true;
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 소속 샤드 스레드에서 루프마다 호출되어 이번 루프에 실행할 차례인지 판단한다.
+     */
+    boolean dueThisLoop() {
+        if (wakeRequested) {
+            wakeRequested = false;
+            skippedLoops = 0;
+            return true;
+        }
+        if (++skippedLoops >= stride) {
+            skippedLoops = 0;
+            return true;
+        }
+        return false;
+    }
+
+    void moveTo(int shardIndex) {
+        this.shardIndex = shardIndex;
+    }
+
+    /**
+     * 설명:
+     *   - 소속 샤드 스레드에서만 호출되며, 틱 실행 시간을 측정해 1/8 가중 이동평균으로 누적한다.
+     */
+    long runAndMeasure() {
+        long started = System.nanoTime();
+        try {
+            task.run();
+        } finally {
+            long cost = System.nanoTime() - started;
+            long previous = averageCostNanos;
+            averageCostNanos = previous == 0 ? cost : previous + ((cost - previous) >> COST_SMOOTHING_SHIFT);
+        }
+        return averageCostNanos;
+    }
+}
@@ -0,0 +1,19 @@
+package com.codexpong.backend.game.loop;
+
+/**
+ * [엔진] backend/src/main/java/com/codexpong/backend/game/loop/TickLagListener.java
+ * 설명:
+ *   - 샤드 루프가 시작될 때마다 의도한 틱 시각 대비 시작 지연을 전달받는 콜백이다.
+ *   - 샤드 스레드에서 매 루프 호출되므로 구현은 블로킹 없이 즉시 반환해야 한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+@FunctionalInterface
+public interface TickLagListener {
+
+    TickLagListener NOOP = (shard, lagNanos) -> {
+    };
+
+    void onLag(int shard, long lagNanos);
+}
@@ -0,0 +1,165 @@
+package com.codexpong.backend.game.loop;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [엔진] backend/src/main/java/com/codexpong/backend/game/loop/TickScheduler.java
+ * 설명:
+ *   - 경기 방 틱을 N개의 샤드(기본: 코어당 1개)에 나누어 실행하는 틱 엔진이다.
+ *   - 방마다 scheduleAtFixedRate를 거는 대신 샤드 스레드 하나가 소속 방 전체를 한 타이머 루프로 구동한다.
+ *   - 신규 방은 측정된 부하가 가장 낮은 샤드에 배정하고, 주기적으로 틱 비용을 비교해 방을 재분배한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public class TickScheduler {
+
+    private final long periodNanos;
+    private final long rebalanceIntervalMillis;
+    private final TickShard[] shards;
+    private final List<Thread> threads = new ArrayList<>();
+    private ScheduledExecutorService rebalancer;
+    private boolean started;
+
+    public TickScheduler(Duration period, int shardCount, Duration rebalanceInterval) {
+        this(period, shardCount, rebalanceInterval, TickLagListener.NOOP);
+    }
+
+    /**
+     * 설명:
+     *   - lagListener는 각 샤드 스레드에서 루프마다 시작 지연과 함께 호출된다(메트릭 히스토그램 연동용).
+     */
+    public TickScheduler(Duration period, int shardCount, Duration rebalanceInterval, TickLagListener lagListener) {
+        this.periodNanos = period.toNanos();
+        this.rebalanceIntervalMillis = rebalanceInterval.toMillis();
+        this.shards = new TickShard[Math.max(1, shardCount)];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new TickShard(i, periodNanos, lagListener);
+        }
+    }
+
+    public int shardCount() {
+        return shards.length;
+    }
+
+    /**
+     * 설명:
+     *   - 방 틱 작업을 가장 한가한 샤드에 등록한다. 첫 등록 시 샤드 스레드를 기동한다.
+     * 출력:
+     *   - 취소 및 소속 샤드 확인에 사용하는 TickHandle
+     */
+    public TickHandle register(String key, Runnable task) {
+        startIfNeeded();
+        TickShard target = leastLoadedShard();
+        TickHandle handle = new TickHandle(key, task, target.index());
+        target.submit(handle);
+        return handle;
+    }
+
+    public List<ShardStats> stats() {
+        List<ShardStats> result = new ArrayList<>(shards.length);
+        for (TickShard shard : shards) {
+            result.add(shard.stats());
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    public ShardStats stats(int shardIndex) {
+        return shards[shardIndex].stats();
+    }
+
+    /**
+     * 설명:
+     *   - 모든 샤드의 누적 틱 시작 지연 히스토그램을 합쳐 반환한다.
+     */
+    public LatencyHistogram.Snapshot lagHistogram() {
+        LatencyHistogram.Snapshot merged = LatencyHistogram.Snapshot.empty();
+        for (TickShard shard : shards) {
+            merged = merged.plus(shard.lagHistogram());
+        }
+        return merged;
+    }
+
+    /**
+     * 설명:
+     *   - 가장 무거운 샤드와 가장 가벼운 샤드의 틱 비용 차이가 한 방 이상의 비용만큼 벌어지면
+     *     차이의 절반 이내 비용을 가진 방 하나를 가벼운 샤드로 옮기도록 요청한다.
+     *   - 실제 이동은 무거운 샤드 스레드가 루프 종료 시점에 수행하므로 같은 방이 동시에 두 번 틱되지 않는다.
+     */
+    void rebalance() {
+        TickShard heaviest = shards[0];
+        TickShard lightest = shards[0];
+        for (TickShard shard : shards) {
+            shard.rollLagWindow();
+            if (shard.loadNanos() > heaviest.loadNanos()) {
+                heaviest = shard;
+            }
+            if (shard.loadNanos() < lightest.loadNanos()) {
+                lightest = shard;
+            }
+        }
+        if (heaviest == lightest || heaviest.assignedCount() <= 1) {
+            return;
+        }
+        long gap = heaviest.loadNanos() - lightest.loadNanos();
+        long averageRoomCost = heaviest.loadNanos() / heaviest.assignedCount();
+        if (gap <= averageRoomCost) {
+            return;
+        }
+        heaviest.requestMigration(lightest, gap / 2);
+    }
+
+    public synchronized void shutdown() {
+        for (TickShard shard : shards) {
+            shard.stop();
+        }
+        threads.forEach(Thread::interrupt);
+        if (rebalancer != null) {
+            rebalancer.shutdownNow();
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 틱 비용이 주기의 1% 이내로 비슷한 샤드끼리는 측정 오차로 보고 방 수가 적은 쪽을 고른다.
+     */
+    private TickShard leastLoadedShard() {
+        long tolerance = periodNanos / 100;
+        TickShard best = shards[0];
+        for (TickShard shard : shards) {
+            long diff = shard.loadNanos() - best.loadNanos();
+            if (diff < -tolerance || (Math.abs(diff) <= tolerance && shard.assignedCount() < best.assignedCount())) {
+                best = shard;
+            }
+        }
+        return best;
+    }
+
+    private synchronized void startIfNeeded() {
+        if (started) {
+            return;
+        }
+        started = true;
+        for (TickShard shard : shards) {
+            Thread thread = new Thread(shard, "game-tick-shard-" + shard.index());
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+        if (rebalanceIntervalMillis > 0) {
+            rebalancer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "game-tick-rebalancer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            rebalancer.scheduleWithFixedDelay(this::rebalance, rebalanceIntervalMillis, rebalanceIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+}
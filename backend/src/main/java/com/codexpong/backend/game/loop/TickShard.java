@@ -0,0 +1,201 @@
+package com.codexpong.backend.game.loop;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * [엔진] backend/src/main/java/com/codexpong/backend/game/loop/TickShard.java
+ * 설명:
+ *   - 전용 스레드 하나가 하나의 타이머 루프로 소속 방 전체의 틱을 순서대로 실행한다.
+ *   - 방 목록은 샤드 스레드만 수정하며, 추가/이동은 큐를 통해 전달받아 루프 시작 시 반영한다.
+ *   - 의도한 틱 시각 대비 실제 시작 지연(lag)과 방별 틱 비용 합계(load)를 측정해 노출한다.
+ *   - 시작 지연은 루프마다 누적 히스토그램에도 기록해 부하 시험에서 백분위를 구할 수 있게 한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+final class TickShard implements Runnable {
+
+    private static final Logger log = LoggerFactory.getLogger(TickShard.class);
+
+    private final int index;
+    private final long periodNanos;
+    private final Queue<TickHandle> incoming = new ConcurrentLinkedQueue<>();
+    private final List<TickHandle> handles = new ArrayList<>();
+    private final AtomicInteger assigned = new AtomicInteger();
+    private final LatencyHistogram lagHistogram = new LatencyHistogram();
+    private final TickLagListener lagListener;
+
+    private volatile boolean running = true;
+    private volatile Migration pendingMigration;
+
+    private volatile long lastLagNanos;
+    private volatile long windowMaxLagNanos;
+    private volatile long reportedMaxLagNanos;
+    private volatile long loadNanos;
+    private volatile long overruns;
+
+    TickShard(int index, long periodNanos, TickLagListener lagListener) {
+        this.index = index;
+        this.periodNanos = periodNanos;
+        this.lagListener = lagListener;
+    }
+
+    int index() {
+        return index;
+    }
+
+    int assignedCount() {
+        return assigned.get();
+    }
+
+    long loadNanos() {
+        return loadNanos;
+    }
+
+    void submit(TickHandle handle) {
+        handle.moveTo(index);
+        assigned.incrementAndGet();
+        incoming.offer(handle);
+    }
+
+    /**
+     * 설명:
+     *   - 재분배기가 요청하면 다음 루프 종료 시점에 budget 이하 비용의 방 하나를 target 샤드로 넘긴다.
+     *   - 이미 처리 대기 중인 요청이 있으면 새 요청은 무시한다.
+     */
+    void requestMigration(TickShard target, long budgetNanos) {
+        if (pendingMigration == null) {
+            pendingMigration = new Migration(target, budgetNanos);
+        }
+    }
+
+    void stop() {
+        running = false;
+    }
+
+    /**
+     * 설명:
+     *   - 재분배 주기마다 호출되어 구간 최대 지연값을 확정하고 다음 구간을 새로 시작한다.
+     */
+    void rollLagWindow() {
+        reportedMaxLagNanos = windowMaxLagNanos;
+        windowMaxLagNanos = 0;
+    }
+
+    ShardStats stats() {
+        return new ShardStats(index, assigned.get(), lastLagNanos,
+                Math.max(reportedMaxLagNanos, windowMaxLagNanos), loadNanos, periodNanos, overruns);
+    }
+
+    LatencyHistogram.Snapshot lagHistogram() {
+        return lagHistogram.snapshot();
+    }
+
+    @Override
+    public void run() {
+        long nextTickAt = System.nanoTime();
+        long intendedAt = nextTickAt;
+        while (running) {
+            long now = System.nanoTime();
+            if (now < nextTickAt) {
+                LockSupport.parkNanos(nextTickAt - now);
+                continue;
+            }
+            recordLag(now - intendedAt);
+            drainIncoming();
+            loadNanos = tickAll();
+            migrateIfRequested();
+
+            nextTickAt += periodNanos;
+            intendedAt = nextTickAt;
+            long behind = System.nanoTime() - nextTickAt;
+            if (behind > periodNanos) {
+                // 한 주기 이상 밀렸으면 밀린 틱을 몰아서 실행하지 않고 현재 시각 기준으로 재정렬한다.
+                // 재정렬 직후 루프의 지연은 원래 의도한 시각 기준으로 기록해 정체 구간이 통계에서 사라지지 않게 한다.
+                overruns++;
+                nextTickAt = System.nanoTime();
+            }
+        }
+    }
+
+    private void recordLag(long lag) {
+        lastLagNanos = lag;
+        lagHistogram.recordNanos(lag);
+        lagListener.onLag(index, lag);
+        if (lag > windowMaxLagNanos) {
+            windowMaxLagNanos = lag;
+        }
+    }
+
+    private void drainIncoming() {
+        TickHandle handle;
+        while ((handle = incoming.poll()) != null) {
+            handles.add(handle);
+        }
+    }
+
+    private long tickAll() {
+        long total = 0;
+        for (int i = 0; i < handles.size(); ) {
+            TickHandle handle = handles.get(i);
+            if (handle.isCancelled()) {
+                removeAt(i);
+                continue;
+            }
+            if (handle.dueThisLoop()) {
+                try {
+                    handle.runAndMeasure();
+                } catch (RuntimeException ex) {
+                    log.warn("틱 실행 중 오류가 발생했습니다. shard={}, room={}", index, handle.key(), ex);
+                }
+            }
+            // 휴면 작업은 stride 루프에 한 번만 실행되므로 주기당 비용을 stride로 나눠 부하에 반영한다.
+            total += handle.averageCostNanos() / handle.stride();
+            i++;
+        }
+        return total;
+    }
+
+    private void migrateIfRequested() {
+        Migration migration = pendingMigration;
+        if (migration == null) {
+            return;
+        }
+        pendingMigration = null;
+        int candidate = -1;
+        long candidateCost = -1;
+        for (int i = 0; i < handles.size(); i++) {
+            TickHandle handle = handles.get(i);
+            long cost = handle.averageCostNanos();
+            if (!handle.isCancelled() && cost <= migration.budgetNanos() && cost > candidateCost) {
+                candidate = i;
+                candidateCost = cost;
+            }
+        }
+        if (candidate < 0) {
+            return;
+        }
+        TickHandle moved = removeAt(candidate);
+        loadNanos -= moved.averageCostNanos() / moved.stride();
+        migration.target().submit(moved);
+    }
+
+    private TickHandle removeAt(int position) {
+        int last = handles.size() - 1;
+        TickHandle removed = handles.get(position);
+        handles.set(position, handles.get(last));
+        handles.remove(last);
+        assigned.decrementAndGet();
+        return removed;
+    }
+
+    private record Migration(TickShard target, long budgetNanos) {
+    }
+}
@@ -0,0 +1,199 @@
+package com.codexpong.backend.game.loop;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * [자료구조] backend/src/main/java/com/codexpong/backend/game/loop/TimerWheel.java
+ * 설명:
+ *   - 계층형 타이머 휠. 레벨마다 64칸이며 레벨 L의 한 칸은 64^L 틱을 덮는다(4레벨이면 64^4 틱).
+ *   - 등록/취소는 O(1)이고, advance는 지난 틱 수에 비례하며 등록된 타이머 수와 무관하다.
+ *     만료까지 남은 틱이 큰 타이머는 상위 레벨에 두었다가 그 칸의 구간이 시작될 때 하위 레벨로 내려보낸다.
+ *   - 휠 범위를 넘는 타이머는 최상위 레벨 끝에 두고 내려올 때마다 다시 배치한다.
+ *   - 모든 메서드가 휠 잠금 하나로 직렬화된다. 만료 콜백은 잠금을 푼 뒤 advance 호출 스레드에서 실행된다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public final class TimerWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final int levels;
+    private final Timeout<T>[][] heads;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public TimerWheel(long tickMillis, int levels, long startMillis) {
+        this.tickMillis = Math.max(1, tickMillis);
+        this.levels = Math.max(1, Math.min(levels, 63 / SLOT_BITS));
+        this.startMillis = startMillis;
+        this.heads = (Timeout<T>[][]) new Timeout<?>[this.levels][SLOTS];
+    }
+
+    /**
+     * 설명:
+     *   - deadlineMillis 이후 첫 advance에서 만료되도록 등록한다. 이미 지난 시각이면 다음 틱에 만료된다.
+     */
+    public synchronized Timeout<T> schedule(T payload, long deadlineMillis) {
+        long deadlineTick = Math.floorDiv(deadlineMillis - startMillis + tickMillis - 1, tickMillis);
+        Timeout<T> timeout = new Timeout<>(this, payload, Math.max(deadlineTick, currentTick + 1));
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * 설명:
+     *   - nowMillis까지의 틱을 진행하고 만료된 타이머의 payload를 expired로 넘긴다.
+     * 출력:
+     *   - 만료된 타이머 수
+     */
+    public int advance(long nowMillis, Consumer<T> expired) {
+        List<T> due = new ArrayList<>();
+        synchronized (this) {
+            long targetTick = Math.floorDiv(nowMillis - startMillis, tickMillis);
+            while (currentTick < targetTick) {
+                currentTick++;
+                cascade();
+                expireSlot(due);
+            }
+        }
+        due.forEach(expired);
+        return due.size();
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private synchronized boolean cancel(Timeout<T> timeout) {
+        if (timeout.level < 0) {
+            return false;
+        }
+        unlink(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * 설명:
+     *   - 현재 틱이 상위 레벨 칸의 구간 시작이면 그 칸의 타이머를 남은 틱에 맞는 하위 레벨로 다시 배치한다.
+     *     상위 레벨부터 내려야 같은 틱에 두 단계를 내려오는 타이머도 현재 틱의 0레벨 칸에 도착한다.
+     */
+    private void cascade() {
+        for (int level = levels - 1; level >= 1; level--) {
+            int shift = SLOT_BITS * level;
+            if ((currentTick & ((1L << shift) - 1)) != 0) {
+                continue;
+            }
+            int slot = (int) ((currentTick >>> shift) & SLOT_MASK);
+            Timeout<T> node = heads[level][slot];
+            heads[level][slot] = null;
+            while (node != null) {
+                Timeout<T> next = node.next;
+                node.prev = null;
+                node.next = null;
+                place(node);
+                node = next;
+            }
+        }
+    }
+
+    private void expireSlot(List<T> due) {
+        int slot = (int) (currentTick & SLOT_MASK);
+        Timeout<T> node = heads[0][slot];
+        heads[0][slot] = null;
+        while (node != null) {
+            Timeout<T> next = node.next;
+            node.prev = null;
+            node.next = null;
+            if (node.deadlineTick > currentTick) {
+                // 휠 범위를 넘어 최상위 레벨 끝에 놓였던 타이머다.
+                place(node);
+            } else {
+                node.level = -1;
+                size--;
+                due.add(node.payload);
+            }
+            node = next;
+        }
+    }
+
+    private void place(Timeout<T> timeout) {
+        long delta = timeout.deadlineTick - currentTick;
+        int level = 0;
+        while (level < levels - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        long tick = timeout.deadlineTick;
+        long span = 1L << (SLOT_BITS * (level + 1));
+        if (delta >= span) {
+            // 최상위 레벨 범위 밖: 마지막으로 내려오는 칸에 두고 내려올 때 다시 배치한다.
+            tick = currentTick + span - 1;
+        } else if (delta <= 0) {
+            tick = currentTick;
+        }
+        int slot = (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        timeout.level = level;
+        timeout.slot = slot;
+        timeout.next = heads[level][slot];
+        if (timeout.next != null) {
+            timeout.next.prev = timeout;
+        }
+        heads[level][slot] = timeout;
+    }
+
+    private void unlink(Timeout<T> timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            heads[timeout.level][timeout.slot] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.level = -1;
+    }
+
+    /**
+     * 설명:
+     *   - 등록된 타이머 하나. cancel은 만료 전이면 칸에서 즉시 떼어 낸다.
+     */
+    public static final class Timeout<T> {
+
+        private final TimerWheel<T> wheel;
+        private final T payload;
+        private final long deadlineTick;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+        private int level;
+        private int slot;
+
+        private Timeout(TimerWheel<T> wheel, T payload, long deadlineTick) {
+            this.wheel = wheel;
+            this.payload = payload;
+            this.deadlineTick = deadlineTick;
+        }
+
+        /**
+         * 출력:
+         *   - 만료/취소 전이라 이번 호출로 취소되었으면 true
+         */
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+
+        public T payload() {
+            return payload;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.codexpong.backend.game.protocol;
+
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * [코덱] backend/src/main/java/com/codexpong/backend/game/protocol/BinaryFrameCodec.java
+ * 설명:
+ *   - `/ws/game` 바이너리 모드(protocol=binary)의 고정 레이아웃 프레임을 인코딩/디코딩한다.
+ *   - 모든 다중 바이트 값은 little-endian이며, 첫 바이트는 메시지 타입 태그다.
+ *   - STATE/READY(서버→클라이언트, 35바이트 + 선택적 ack 8바이트 + 선택적 지연 8바이트 + 선택적 레이팅 20바이트)
+ *       [0] type, [1] flags, [2..5] seq(uint32, 방 틱 번호),
+ *       [6..29] float ballX, ballY, ballVelocityX, ballVelocityY, leftPaddleY, rightPaddleY,
+ *       [30] leftScore, [31] rightScore, [32] targetScore, [33..34] spectatorCount(uint16),
+ *       (flags & ACK) 이면 이어서 leftAck(uint32), rightAck(uint32) — 플레이어별 마지막 처리 INPUT seq,
+ *       (flags & LATENCY) 이면 이어서 leftRtt, leftJitter, rightRtt, rightJitter(uint16 ms),
+ *       (flags & RATING) 이면 이어서 winnerId(int64), winnerDelta(int16), loserId(int64), loserDelta(int16)
+ *   - INPUT(클라이언트→서버, 6바이트 또는 14바이트)
+ *       [0] type, [1] direction(0=STAY,1=UP,2=DOWN), [2..5] seq(uint32),
+ *       14바이트면 [6..9] 의도 틱(uint32, 0=미지정), [10..13] 클라이언트 시각 ms(uint32, 0=미지정)
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public final class BinaryFrameCodec {
+
+    public static final byte TYPE_STATE = 0x01;
+    public static final byte TYPE_READY = 0x02;
+    public static final byte TYPE_INPUT = 0x10;
+
+    public static final int FLAG_FINISHED = 1;
+    public static final int FLAG_SPECTATOR = 1 << 1;
+    public static final int FLAG_RANKED = 1 << 2;
+    public static final int FLAG_RATING = 1 << 3;
+    public static final int FLAG_ACK = 1 << 4;
+    public static final int FLAG_LATENCY = 1 << 5;
+
+    public static final int STATE_FRAME_BYTES = 35;
+    public static final int RATING_EXTENSION_BYTES = 20;
+    public static final int ACK_EXTENSION_BYTES = 8;
+    public static final int LATENCY_EXTENSION_BYTES = 8;
+    public static final int INPUT_FRAME_BYTES = 6;
+    public static final int SEQUENCED_INPUT_FRAME_BYTES = 14;
+
+    private static final PaddleInput[] DIRECTIONS = {PaddleInput.STAY, PaddleInput.UP, PaddleInput.DOWN};
+
+    private BinaryFrameCodec() {
+    }
+
+    /**
+     * 설명:
+     *   - 스냅샷을 STATE/READY 프레임으로 인코딩한다. rating이 있으면 확장 영역을 덧붙인다.
+     * 입력:
+     *   - type: TYPE_STATE 또는 TYPE_READY
+     *   - flags: FLAG_* 조합(FLAG_FINISHED/FLAG_RATING은 내부에서 채운다)
+     *   - rating: 랭크전 종료 시 레이팅 변동, 없으면 null
+     */
+    public static byte[] encodeState(byte type, int flags, long seq, GameSnapshot snapshot, int spectatorCount,
+            RatingDelta rating) {
+        return encodeState(type, flags, seq, snapshot, spectatorCount, null, rating);
+    }
+
+    /**
+     * 설명:
+     *   - ack가 있으면 플레이어별 마지막 처리 INPUT seq 확장 영역을 레이팅 확장 앞에 덧붙인다.
+     */
+    public static byte[] encodeState(byte type, int flags, long seq, GameSnapshot snapshot, int spectatorCount,
+            InputAck ack, RatingDelta rating) {
+        return encodeState(type, flags, seq, snapshot, spectatorCount, ack, null, rating);
+    }
+
+    /**
+     * 설명:
+     *   - latency가 있으면 플레이어별 RTT/지터 확장 영역을 ack 확장 뒤, 레이팅 확장 앞에 덧붙인다.
+     */
+    public static byte[] encodeState(byte type, int flags, long seq, GameSnapshot snapshot, int spectatorCount,
+            InputAck ack, PlayerLatency latency, RatingDelta rating) {
+        int size = STATE_FRAME_BYTES + (ack == null ? 0 : ACK_EXTENSION_BYTES)
+                + (latency == null ? 0 : LATENCY_EXTENSION_BYTES)
+                + (rating == null ? 0 : RATING_EXTENSION_BYTES);
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        int resolvedFlags = flags
+                | (snapshot.finished() ? FLAG_FINISHED : 0)
+                | (ack == null ? 0 : FLAG_ACK)
+                | (latency == null ? 0 : FLAG_LATENCY)
+                | (rating == null ? 0 : FLAG_RATING);
+        buffer.put(type);
+        buffer.put((byte) resolvedFlags);
+        buffer.putInt((int) seq);
+        buffer.putFloat((float) snapshot.ballX());
+        buffer.putFloat((float) snapshot.ballY());
+        buffer.putFloat((float) snapshot.ballVelocityX());
+        buffer.putFloat((float) snapshot.ballVelocityY());
+        buffer.putFloat((float) snapshot.leftPaddleY());
+        buffer.putFloat((float) snapshot.rightPaddleY());
+        buffer.put((byte) snapshot.leftScore());
+        buffer.put((byte) snapshot.rightScore());
+        buffer.put((byte) snapshot.targetScore());
+        buffer.putShort((short) Math.min(spectatorCount, 0xFFFF));
+        if (ack != null) {
+            buffer.putInt((int) ack.left());
+            buffer.putInt((int) ack.right());
+        }
+        if (latency != null) {
+            buffer.putShort(uint16(latency.leftRttMs()));
+            buffer.putShort(uint16(latency.leftJitterMs()));
+            buffer.putShort(uint16(latency.rightRttMs()));
+            buffer.putShort(uint16(latency.rightJitterMs()));
+        }
+        if (rating != null) {
+            buffer.putLong(rating.winnerId() == null ? 0 : rating.winnerId());
+            buffer.putShort((short) rating.winnerDelta());
+            buffer.putLong(rating.loserId() == null ? 0 : rating.loserId());
+            buffer.putShort((short) rating.loserDelta());
+        }
+        return buffer.array();
+    }
+
+    /**
+     * 설명:
+     *   - INPUT 프레임을 해석한다. 길이나 타입, 방향 값이 맞지 않으면 null을 반환한다.
+     *   - 6바이트 기존 프레임은 의도 틱/클라이언트 시각을 0(미지정)으로 채운다.
+     */
+    public static BinaryInput decodeInput(ByteBuffer payload) {
+        ByteBuffer buffer = payload.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.remaining() < INPUT_FRAME_BYTES || buffer.get() != TYPE_INPUT) {
+            return null;
+        }
+        int direction = buffer.get();
+        if (direction < 0 || direction >= DIRECTIONS.length) {
+            return null;
+        }
+        long seq = Integer.toUnsignedLong(buffer.getInt());
+        if (buffer.remaining() < SEQUENCED_INPUT_FRAME_BYTES - INPUT_FRAME_BYTES) {
+            return new BinaryInput(DIRECTIONS[direction], seq, 0, 0);
+        }
+        long tick = Integer.toUnsignedLong(buffer.getInt());
+        long clientTimeMillis = Integer.toUnsignedLong(buffer.getInt());
+        return new BinaryInput(DIRECTIONS[direction], seq, tick, clientTimeMillis);
+    }
+
+    /**
+     * 설명:
+     *   - 테스트/부하 도구에서 사용할 INPUT 프레임을 만든다.
+     */
+    public static byte[] encodeInput(PaddleInput direction, long seq) {
+        ByteBuffer buffer = ByteBuffer.allocate(INPUT_FRAME_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        putInputHeader(buffer, direction, seq);
+        return buffer.array();
+    }
+
+    /**
+     * 설명:
+     *   - 의도 틱과 클라이언트 시각을 포함한 14바이트 INPUT 프레임을 만든다.
+     */
+    public static byte[] encodeInput(PaddleInput direction, long seq, long tick, long clientTimeMillis) {
+        ByteBuffer buffer = ByteBuffer.allocate(SEQUENCED_INPUT_FRAME_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        putInputHeader(buffer, direction, seq);
+        buffer.putInt((int) tick);
+        buffer.putInt((int) clientTimeMillis);
+        return buffer.array();
+    }
+
+    private static short uint16(int value) {
+        return (short) Math.min(Math.max(value, 0), 0xFFFF);
+    }
+
+    private static void putInputHeader(ByteBuffer buffer, PaddleInput direction, long seq) {
+        buffer.put(TYPE_INPUT);
+        buffer.put((byte) switch (direction) {
+            case UP -> 1;
+            case DOWN -> 2;
+            default -> 0;
+        });
+        buffer.putInt((int) seq);
+    }
+
+    public record BinaryInput(PaddleInput direction, long seq, long tick, long clientTimeMillis) {
+    }
+
+    public record RatingDelta(Long winnerId, int winnerDelta, Long loserId, int loserDelta) {
+    }
+}
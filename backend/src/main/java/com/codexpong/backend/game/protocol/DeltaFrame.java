@@ -0,0 +1,19 @@
+package com.codexpong.backend.game.protocol;
+
+import java.util.Map;
+
+/**
+ * [DTO] backend/src/main/java/com/codexpong/backend/game/protocol/DeltaFrame.java
+ * 설명:
+ *   - 델타 인코더가 한 틱에 대해 계산한 결과다.
+ *   - 키프레임이면 fields에 전체 필드가, 아니면 직전 프레임(base) 대비 바뀐 필드만 담긴다.
+ *   - spectatorCount는 키프레임이거나 값이 바뀐 경우에만 채워진다.
+ *   - ack(플레이어별 마지막 처리 INPUT seq)도 키프레임이거나 값이 바뀐 경우에만 채워지며, 플레이어 메시지에만 싣는다.
+ *   - latency(플레이어별 RTT/지터 ms)도 키프레임이거나 값이 바뀐 경우에만 채워진다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public record DeltaFrame(long seq, Long base, boolean keyframe, Map<String, Object> fields, Integer spectatorCount,
+        InputAck ack, PlayerLatency latency) {
+}
@@ -0,0 +1,178 @@
+package com.codexpong.backend.game.protocol;
+
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * [인코더] backend/src/main/java/com/codexpong/backend/game/protocol/DeltaStateEncoder.java
+ * 설명:
+ *   - 방 하나의 STATE 스트림을 델타 프레임으로 변환한다. 방마다 하나씩 두고 틱 스레드에서 next를 호출한다.
+ *   - 좌표/속도는 0.1px 단위로 양자화한 뒤 직전 전송 프레임과 비교해 바뀐 필드만 내보낸다.
+ *   - KEYFRAME_INTERVAL_TICKS마다, 또는 재동기화 요청/경기 종료 시 전체 필드를 담은 키프레임을 만든다.
+ *   - WebSocket은 순서와 전달을 보장하므로 직전 전송 프레임을 클라이언트가 확인한 기준 프레임(base)으로 본다.
+ *   - seq는 방 틱 번호를 따른다. 변화 없는 틱은 전송을 생략하므로 seq가 건너뛸 수 있으며 연속성은 base로 판단한다.
+ *   - 플레이어별 마지막 처리 INPUT seq(ack)와 RTT/지터(latency)도 직전 전송 값과 달라졌을 때만 담는다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public class DeltaStateEncoder {
+
+    public static final int KEYFRAME_INTERVAL_TICKS = 20;
+    private static final double QUANTUM = 10.0;
+
+    private static final String[] KEYS = {"bx", "by", "vx", "vy", "lp", "rp", "ls", "rs", "ts", "f"};
+    private static final int BALL_X = 0;
+    private static final int BALL_Y = 1;
+    private static final int BALL_VX = 2;
+    private static final int BALL_VY = 3;
+    private static final int LEFT_PADDLE = 4;
+    private static final int RIGHT_PADDLE = 5;
+    private static final int LEFT_SCORE = 6;
+    private static final int RIGHT_SCORE = 7;
+    private static final int TARGET_SCORE = 8;
+    private static final int FINISHED = 9;
+    private static final int QUANTIZED_FIELDS = 6;
+
+    private final String roomId;
+    private final int[] last = new int[KEYS.length];
+    private long seq;
+    private int ticksSinceKeyframe;
+    private boolean keyframeRequested;
+    private int lastSpectatorCount;
+    private long lastLeftAck;
+    private long lastRightAck;
+    private PlayerLatency lastLatency = PlayerLatency.UNKNOWN;
+
+    public DeltaStateEncoder(GameSnapshot initial, int spectatorCount) {
+        this.roomId = initial.roomId();
+        quantizeInto(initial, last);
+        this.lastSpectatorCount = spectatorCount;
+    }
+
+    /**
+     * 설명:
+     *   - 다음 틱 스냅샷을 받아 seq를 증가시키고 델타 또는 키프레임을 만든다.
+     * 입력:
+     *   - snapshot: 이번 틱 스냅샷
+     *   - spectatorCount: 현재 관전자 수
+     *   - forceKeyframe: 경기 종료 등 전체 상태 전송이 필요한 경우 true
+     */
+    public synchronized DeltaFrame next(GameSnapshot snapshot, int spectatorCount, boolean forceKeyframe) {
+        return next(snapshot, seq + 1, null, null, spectatorCount, forceKeyframe);
+    }
+
+    /**
+     * 설명:
+     *   - 방 틱 번호를 seq로 사용해 다음 프레임을 만든다. seq는 항상 증가하도록 직전 seq + 1 이상으로 맞춘다.
+     * 입력:
+     *   - tick: 이번 스냅샷의 방 틱 번호
+     *   - ack: 플레이어별 마지막 처리 INPUT seq, 없으면 직전 값을 유지
+     *   - latency: 플레이어별 RTT/지터, 없으면 직전 값을 유지
+     */
+    public synchronized DeltaFrame next(GameSnapshot snapshot, long tick, InputAck ack, PlayerLatency latency,
+            int spectatorCount, boolean forceKeyframe) {
+        int[] current = new int[KEYS.length];
+        quantizeInto(snapshot, current);
+        long base = seq;
+        seq = Math.max(tick, seq + 1);
+        ticksSinceKeyframe++;
+        boolean keyframe = forceKeyframe || keyframeRequested || ticksSinceKeyframe >= KEYFRAME_INTERVAL_TICKS;
+        Map<String, Object> fields = new LinkedHashMap<>();
+        if (keyframe) {
+            fields.put("id", roomId);
+        }
+        for (int i = 0; i < KEYS.length; i++) {
+            if (keyframe || current[i] != last[i]) {
+                fields.put(KEYS[i], valueOf(i, current[i]));
+            }
+        }
+        System.arraycopy(current, 0, last, 0, KEYS.length);
+        Integer spectators = keyframe || spectatorCount != lastSpectatorCount ? spectatorCount : null;
+        lastSpectatorCount = spectatorCount;
+        boolean ackChanged = ack != null && (ack.left() != lastLeftAck || ack.right() != lastRightAck);
+        if (ack != null) {
+            lastLeftAck = ack.left();
+            lastRightAck = ack.right();
+        }
+        InputAck sentAck = keyframe ? new InputAck(lastLeftAck, lastRightAck) : ackChanged ? ack : null;
+        boolean latencyChanged = latency != null && !latency.equals(lastLatency);
+        if (latency != null) {
+            lastLatency = latency;
+        }
+        PlayerLatency sentLatency = keyframe || latencyChanged ? lastLatency : null;
+        if (keyframe) {
+            ticksSinceKeyframe = 0;
+            keyframeRequested = false;
+            return new DeltaFrame(seq, null, true, fields, spectators, sentAck, sentLatency);
+        }
+        return new DeltaFrame(seq, base, false, fields, spectators, sentAck, sentLatency);
+    }
+
+    /**
+     * 설명:
+     *   - 마지막으로 전송한 프레임을 seq 그대로 키프레임 형태로 돌려준다. READY 응답에서 기준 프레임으로 쓴다.
+     *   - seq를 증가시키지 않으므로 이후 스트림의 델타(base=seq)가 그대로 이어진다.
+     */
+    public synchronized DeltaFrame currentKeyframe() {
+        return new DeltaFrame(seq, null, true, keyframeFields(roomId, last), lastSpectatorCount,
+                new InputAck(lastLeftAck, lastRightAck), lastLatency);
+    }
+
+    /**
+     * 설명:
+     *   - 지난 틱의 스냅샷을 그 틱의 seq로 키프레임 형태로 만든다. 지연 스트림을 받는 관전자 READY에 쓴다.
+     *   - 양자화 규칙이 같으므로 그 틱 직후 전송된 델타(base=seq)가 이 키프레임에 그대로 이어진다.
+     */
+    public static DeltaFrame keyframeOf(GameSnapshot snapshot, long seq, int spectatorCount, PlayerLatency latency) {
+        int[] values = new int[KEYS.length];
+        quantizeInto(snapshot, values);
+        return new DeltaFrame(seq, null, true, keyframeFields(snapshot.roomId(), values), spectatorCount, null,
+                latency);
+    }
+
+    /**
+     * 설명:
+     *   - 다음 틱을 키프레임으로 만든다. 방의 모든 델타 세션에 키프레임이 나가므로 세션 하나의 RESYNC에는 쓰지 않는다.
+     */
+    public synchronized void requestKeyframe() {
+        keyframeRequested = true;
+    }
+
+    private static Map<String, Object> keyframeFields(String roomId, int[] values) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("id", roomId);
+        for (int i = 0; i < KEYS.length; i++) {
+            fields.put(KEYS[i], valueOf(i, values[i]));
+        }
+        return fields;
+    }
+
+    private static void quantizeInto(GameSnapshot snapshot, int[] target) {
+        target[BALL_X] = quantize(snapshot.ballX());
+        target[BALL_Y] = quantize(snapshot.ballY());
+        target[BALL_VX] = quantize(snapshot.ballVelocityX());
+        target[BALL_VY] = quantize(snapshot.ballVelocityY());
+        target[LEFT_PADDLE] = quantize(snapshot.leftPaddleY());
+        target[RIGHT_PADDLE] = quantize(snapshot.rightPaddleY());
+        target[LEFT_SCORE] = snapshot.leftScore();
+        target[RIGHT_SCORE] = snapshot.rightScore();
+        target[TARGET_SCORE] = snapshot.targetScore();
+        target[FINISHED] = snapshot.finished() ? 1 : 0;
+    }
+
+    private static int quantize(double value) {
+        return (int) Math.round(value * QUANTUM);
+    }
+
+    private static Object valueOf(int field, int quantized) {
+        if (field < QUANTIZED_FIELDS) {
+            return quantized / QUANTUM;
+        }
+        if (field == FINISHED) {
+            return quantized == 1;
+        }
+        return quantized;
+    }
+}
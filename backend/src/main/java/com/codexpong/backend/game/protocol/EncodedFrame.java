@@ -0,0 +1,69 @@
+package com.codexpong.backend.game.protocol;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+
+/**
+ * [모델] backend/src/main/java/com/codexpong/backend/game/protocol/EncodedFrame.java
+ * 설명:
+ *   - 한 틱, 한 청중(플레이어/관전자), 한 프로토콜에 대해 한 번만 인코딩한 불변 STATE 페이로드다.
+ *   - 텍스트 프레임은 TextMessage 하나를 모든 세션이 공유한다.
+ *   - 바이너리 프레임은 전송 시 ByteBuffer position이 이동하므로 세션마다 읽기 전용 뷰로만 감싼다(복사 없음).
+ *   - payload()는 다른 노드로 전달하는 등 WebSocket 외 경로에서 재사용할 수 있는 읽기 전용 버퍼를 돌려준다.
+ *   - keyframe은 이전 프레임 없이 해석 가능한 프레임인지를 뜻한다. 전체 JSON/바이너리는 항상 true이고
+ *     델타는 키프레임일 때만 true다. 도중에 합류한 원격 관전자에게 첫 프레임을 고르는 데 쓴다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public final class EncodedFrame {
+
+    private final byte[] bytes;
+    private final TextMessage textMessage;
+    private final boolean keyframe;
+
+    private EncodedFrame(byte[] bytes, TextMessage textMessage, boolean keyframe) {
+        this.bytes = bytes;
+        this.textMessage = textMessage;
+        this.keyframe = keyframe;
+    }
+
+    public static EncodedFrame text(String payload) {
+        return text(payload, true);
+    }
+
+    public static EncodedFrame text(String payload, boolean keyframe) {
+        return new EncodedFrame(payload.getBytes(StandardCharsets.UTF_8), new TextMessage(payload), keyframe);
+    }
+
+    public static EncodedFrame binary(byte[] payload) {
+        return new EncodedFrame(payload, null, true);
+    }
+
+    public boolean isKeyframe() {
+        return keyframe;
+    }
+
+    public boolean isBinary() {
+        return textMessage == null;
+    }
+
+    public int size() {
+        return bytes.length;
+    }
+
+    public ByteBuffer payload() {
+        return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+    }
+
+    /**
+     * 설명:
+     *   - 세션 전송용 메시지를 반환한다. 텍스트는 공유 인스턴스, 바이너리는 새 읽기 전용 뷰를 사용한다.
+     */
+    public WebSocketMessage<?> message() {
+        return textMessage != null ? textMessage : new BinaryMessage(payload());
+    }
+}
@@ -0,0 +1,76 @@
+package com.codexpong.backend.game.protocol;
+
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * [열거형] backend/src/main/java/com/codexpong/backend/game/protocol/GameProtocol.java
+ * 설명:
+ *   - `/ws/game` 세션이 사용하는 STATE 전송 프로토콜 버전을 나타낸다.
+ *   - 클라이언트가 핸드셰이크 쿼리 `protocol`로 요청한 버전과 서버 지원 버전 중 낮은 쪽으로 협상한다.
+ *   - 협상 결과는 세션 속성에 저장되어 브로드캐스트 시 세션별 인코딩을 고르는 데 사용된다.
+ *   - BINARY는 텍스트 버전 체계와 별개이며 `protocol=binary`를 명시한 경우에만 선택된다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public enum GameProtocol {
+    JSON_FULL(1, false),
+    JSON_DELTA(2, false),
+    BINARY(1, true);
+
+    public static final String SESSION_ATTRIBUTE = "gameProtocol";
+
+    private final int version;
+    private final boolean binary;
+
+    GameProtocol(int version, boolean binary) {
+        this.version = version;
+        this.binary = binary;
+    }
+
+    public int version() {
+        return version;
+    }
+
+    public boolean isBinary() {
+        return binary;
+    }
+
+    /**
+     * 설명:
+     *   - 요청 값(숫자 또는 json/delta/binary 별칭)을 해석해 지원 가능한 최대 텍스트 버전으로 맞춘다.
+     *   - 값이 없거나 해석할 수 없으면 기존 전체 JSON(v1)을 사용한다.
+     */
+    public static GameProtocol negotiate(String requested) {
+        if (requested == null || requested.isBlank()) {
+            return JSON_FULL;
+        }
+        String value = requested.trim().toLowerCase();
+        if (value.equals("json")) {
+            return JSON_FULL;
+        }
+        if (value.equals("delta")) {
+            return JSON_DELTA;
+        }
+        if (value.equals("binary")) {
+            return BINARY;
+        }
+        try {
+            int version = Integer.parseInt(value);
+            GameProtocol negotiated = JSON_FULL;
+            for (GameProtocol candidate : values()) {
+                if (!candidate.binary && candidate.version <= version && candidate.version > negotiated.version) {
+                    negotiated = candidate;
+                }
+            }
+            return negotiated;
+        } catch (NumberFormatException ex) {
+            return JSON_FULL;
+        }
+    }
+
+    public static GameProtocol of(WebSocketSession session) {
+        Object value = session.getAttributes().get(SESSION_ATTRIBUTE);
+        return value instanceof GameProtocol protocol ? protocol : JSON_FULL;
+    }
+}
@@ -0,0 +1,14 @@
+package com.codexpong.backend.game.protocol;
+
+/**
+ * [모델] backend/src/main/java/com/codexpong/backend/game/protocol/InputAck.java
+ * 설명:
+ *   - STATE에 함께 실어 보내는 좌/우 플레이어별 마지막 처리 INPUT seq다. 0이면 아직 처리한 순번 입력이 없다.
+ *   - 클라이언트는 자기 쪽 값 이후의 입력만 남겨 서버 상태 위에 다시 적용(재조정)한다.
+ *   - 플레이어 세션 프레임에만 싣고 관전자 프레임에는 싣지 않는다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public record InputAck(long left, long right) {
+}
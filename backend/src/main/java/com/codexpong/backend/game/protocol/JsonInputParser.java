@@ -0,0 +1,277 @@
+package com.codexpong.backend.game.protocol;
+
+import com.codexpong.backend.game.engine.model.PaddleInput;
+
+/**
+ * [파서] backend/src/main/java/com/codexpong/backend/game/protocol/JsonInputParser.java
+ * 설명:
+ *   - JSON 텍스트 INPUT(`{"type":"INPUT","roomId","direction","seq","ts","tick"}`)만 처리하는 무할당 파서다.
+ *   - 키 순서와 공백은 자유지만, 평평한 객체에 알려진 키와 문자열/정수/null 값만 있어야 한다.
+ *     이스케이프 문자열, 소수/지수, 모르는 키, 중첩 값, type이 INPUT이 아닌 메시지는 false를 반환하므로
+ *     호출 측은 기존 ObjectMapper 경로로 처리한다(RESYNC 등 다른 메시지 포함).
+ *   - 결과는 세션별로 재사용하는 Fields에 기록한다. roomId는 문자열을 만들지 않고 위치만 기록해 matchesRoom으로 비교한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public final class JsonInputParser {
+
+    private static final String TYPE_INPUT = "INPUT";
+
+    private JsonInputParser() {
+    }
+
+    /**
+     * 설명:
+     *   - payload가 고정 형태의 INPUT이면 fields를 채우고 true를 반환한다.
+     *   - 음수 seq/ts/tick은 0(미지정)으로, UP/DOWN 외 방향 문자열은 STAY로 해석한다(대소문자 무시).
+     */
+    public static boolean parse(String payload, Fields fields) {
+        fields.reset(payload);
+        int length = payload.length();
+        int i = skipWhitespace(payload, 0);
+        if (i >= length || payload.charAt(i) != '{') {
+            return false;
+        }
+        i = skipWhitespace(payload, i + 1);
+        if (i < length && payload.charAt(i) == '}') {
+            return false;
+        }
+        boolean inputType = false;
+        while (true) {
+            if (i >= length || payload.charAt(i) != '"') {
+                return false;
+            }
+            int keyStart = i + 1;
+            int keyEnd = stringEnd(payload, keyStart);
+            if (keyEnd < 0) {
+                return false;
+            }
+            i = skipWhitespace(payload, keyEnd + 1);
+            if (i >= length || payload.charAt(i) != ':') {
+                return false;
+            }
+            i = skipWhitespace(payload, i + 1);
+            if (i >= length) {
+                return false;
+            }
+            int keyLength = keyEnd - keyStart;
+            if (isKey(payload, keyStart, keyLength, "type")) {
+                int end = stringValueEnd(payload, i);
+                if (end < 0 || end - i - 1 != TYPE_INPUT.length()
+                        || !payload.regionMatches(i + 1, TYPE_INPUT, 0, TYPE_INPUT.length())) {
+                    return false;
+                }
+                inputType = true;
+                i = end + 1;
+            } else if (isKey(payload, keyStart, keyLength, "roomId")) {
+                if (isNull(payload, i)) {
+                    i += 4;
+                } else {
+                    int end = stringValueEnd(payload, i);
+                    if (end < 0) {
+                        return false;
+                    }
+                    fields.roomIdStart = i + 1;
+                    fields.roomIdEnd = end;
+                    i = end + 1;
+                }
+            } else if (isKey(payload, keyStart, keyLength, "direction")) {
+                if (isNull(payload, i)) {
+                    i += 4;
+                } else {
+                    int end = stringValueEnd(payload, i);
+                    if (end < 0) {
+                        return false;
+                    }
+                    fields.direction = direction(payload, i + 1, end);
+                    i = end + 1;
+                }
+            } else if (isKey(payload, keyStart, keyLength, "seq")
+                    || isKey(payload, keyStart, keyLength, "ts")
+                    || isKey(payload, keyStart, keyLength, "tick")) {
+                long value;
+                if (isNull(payload, i)) {
+                    value = 0;
+                    i += 4;
+                } else {
+                    int end = integerEnd(payload, i);
+                    if (end < 0) {
+                        return false;
+                    }
+                    value = payload.charAt(i) == '-' ? 0 : parseDigits(payload, i, end);
+                    i = end;
+                }
+                char first = payload.charAt(keyStart);
+                if (first == 's') {
+                    fields.seq = value;
+                } else if (keyLength == 2) {
+                    fields.clientTimeMillis = value;
+                } else {
+                    fields.tick = value;
+                }
+            } else {
+                return false;
+            }
+            i = skipWhitespace(payload, i);
+            if (i >= length) {
+                return false;
+            }
+            char separator = payload.charAt(i);
+            if (separator == '}') {
+                return inputType && skipWhitespace(payload, i + 1) == length;
+            }
+            if (separator != ',') {
+                return false;
+            }
+            i = skipWhitespace(payload, i + 1);
+        }
+    }
+
+    private static boolean isKey(String payload, int start, int length, String key) {
+        return length == key.length() && payload.regionMatches(start, key, 0, length);
+    }
+
+    private static boolean isNull(String payload, int index) {
+        return payload.startsWith("null", index);
+    }
+
+    private static int skipWhitespace(String payload, int index) {
+        int length = payload.length();
+        while (index < length) {
+            char c = payload.charAt(index);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                break;
+            }
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * 설명:
+     *   - 여는 따옴표 위치에서 시작하는 문자열 값의 닫는 따옴표 위치. 문자열이 아니거나 이스케이프가 있으면 -1.
+     */
+    private static int stringValueEnd(String payload, int index) {
+        return payload.charAt(index) == '"' ? stringEnd(payload, index + 1) : -1;
+    }
+
+    private static int stringEnd(String payload, int start) {
+        int length = payload.length();
+        for (int i = start; i < length; i++) {
+            char c = payload.charAt(i);
+            if (c == '"') {
+                return i;
+            }
+            if (c == '\\' || c < 0x20) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 설명:
+     *   - 선택적 '-'와 숫자로만 된 정수 토큰의 끝 위치. 소수/지수가 이어지면 -1.
+     */
+    private static int integerEnd(String payload, int index) {
+        int length = payload.length();
+        int i = payload.charAt(index) == '-' ? index + 1 : index;
+        int digitsStart = i;
+        while (i < length && payload.charAt(i) >= '0' && payload.charAt(i) <= '9') {
+            i++;
+        }
+        if (i == digitsStart || i - digitsStart > 18) {
+            return -1;
+        }
+        if (i < length) {
+            char next = payload.charAt(i);
+            if (next == '.' || next == 'e' || next == 'E') {
+                return -1;
+            }
+        }
+        return i;
+    }
+
+    private static long parseDigits(String payload, int start, int end) {
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + (payload.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    private static PaddleInput direction(String payload, int start, int end) {
+        int length = end - start;
+        if (length == 2 && payload.regionMatches(true, start, "UP", 0, 2)) {
+            return PaddleInput.UP;
+        }
+        if (length == 4 && payload.regionMatches(true, start, "DOWN", 0, 4)) {
+            return PaddleInput.DOWN;
+        }
+        return PaddleInput.STAY;
+    }
+
+    /**
+     * 설명:
+     *   - 파싱 결과를 담는 재사용 버퍼. 한 세션의 메시지는 순차 처리되므로 세션마다 하나를 두고 재사용한다.
+     *   - direction이 null이면 방향이 없거나 null인 INPUT이며 무시한다.
+     */
+    public static final class Fields {
+
+        private PaddleInput direction;
+        private long seq;
+        private long clientTimeMillis;
+        private long tick;
+        private String payload;
+        private int roomIdStart;
+        private int roomIdEnd;
+
+        void reset(String source) {
+            payload = source;
+            direction = null;
+            seq = 0;
+            clientTimeMillis = 0;
+            tick = 0;
+            roomIdStart = -1;
+            roomIdEnd = -1;
+        }
+
+        public PaddleInput direction() {
+            return direction;
+        }
+
+        public long seq() {
+            return seq;
+        }
+
+        public long clientTimeMillis() {
+            return clientTimeMillis;
+        }
+
+        public long tick() {
+            return tick;
+        }
+
+        public boolean hasRoomId() {
+            return roomIdStart >= 0;
+        }
+
+        /**
+         * 설명:
+         *   - 파싱한 roomId가 주어진 방 ID와 같은지 문자열을 만들지 않고 비교한다.
+         */
+        public boolean matchesRoom(String roomId) {
+            return hasRoomId() && roomIdEnd - roomIdStart == roomId.length()
+                    && payload.regionMatches(roomIdStart, roomId, 0, roomId.length());
+        }
+
+        /**
+         * 설명:
+         *   - 세션 방과 다른 roomId를 보낸 드문 경우에만 문자열로 꺼낸다.
+         */
+        public String roomId() {
+            return hasRoomId() ? payload.substring(roomIdStart, roomIdEnd) : null;
+        }
+    }
+}
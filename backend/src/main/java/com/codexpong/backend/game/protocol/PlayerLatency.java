@@ -0,0 +1,15 @@
+package com.codexpong.backend.game.protocol;
+
+/**
+ * [모델] backend/src/main/java/com/codexpong/backend/game/protocol/PlayerLatency.java
+ * 설명:
+ *   - STATE에 함께 싣는 좌/우 플레이어의 평활 RTT와 지터(ms)다. 0이면 아직 측정 표본이 없다.
+ *   - 서버 ping/pong으로 측정한 값이며 플레이어와 관전자 프레임 모두에 싣는다(네트워크 상태 표시용).
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public record PlayerLatency(int leftRttMs, int leftJitterMs, int rightRttMs, int rightJitterMs) {
+
+    public static final PlayerLatency UNKNOWN = new PlayerLatency(0, 0, 0, 0);
+}
@@ -0,0 +1,72 @@
+package com.codexpong.backend.game.service;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [모델] backend/src/main/java/com/codexpong/backend/game/service/FanoutStats.java
+ * 설명:
+ *   - STATE 팬아웃의 인코딩 시간과 전송 시간을 분리해 누적한다.
+ *   - 인코딩 횟수는 틱당 청중×프로토콜 수, 전송 횟수는 틱당 세션 수에 비례해야 한다.
+ *   - 관전 중계(SpectatorRelay)가 적응형으로 건너뛴 세션 프레임 수와 방 스트림 대기 한도 초과로 버린 프레임 수도 센다.
+ *   - 여러 틱 스레드가 동시에 기록하므로 LongAdder로 경합 없이 합산한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public final class FanoutStats {
+
+    private final LongAdder encodeNanos = new LongAdder();
+    private final LongAdder encodedFrames = new LongAdder();
+    private final LongAdder encodedBytes = new LongAdder();
+    private final LongAdder sendNanos = new LongAdder();
+    private final LongAdder sentMessages = new LongAdder();
+    private final LongAdder skippedFrames = new LongAdder();
+    private final LongAdder relayDroppedFrames = new LongAdder();
+
+    void recordEncode(long nanos, int bytes) {
+        encodeNanos.add(nanos);
+        encodedFrames.increment();
+        encodedBytes.add(bytes);
+    }
+
+    void recordSend(long nanos, int messages) {
+        sendNanos.add(nanos);
+        sentMessages.add(messages);
+    }
+
+    void recordSkipped(int frames) {
+        skippedFrames.add(frames);
+    }
+
+    void recordRelayDropped() {
+        relayDroppedFrames.increment();
+    }
+
+    public double encodeSeconds() {
+        return encodeNanos.sum() / 1_000_000_000.0;
+    }
+
+    public long encodedFrames() {
+        return encodedFrames.sum();
+    }
+
+    public long encodedBytes() {
+        return encodedBytes.sum();
+    }
+
+    public double sendSeconds() {
+        return sendNanos.sum() / 1_000_000_000.0;
+    }
+
+    public long sentMessages() {
+        return sentMessages.sum();
+    }
+
+    public long skippedFrames() {
+        return skippedFrames.sum();
+    }
+
+    public long relayDroppedFrames() {
+        return relayDroppedFrames.sum();
+    }
+}
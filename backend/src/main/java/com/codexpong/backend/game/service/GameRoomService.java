@@ -1,11 +1,30 @@
 package com.codexpong.backend.game.service;
 
+import com.codexpong.backend.common.websocket.QueuedWebSocketSession;
 import com.codexpong.backend.game.GameResult;
 import com.codexpong.backend.game.GameResultService;
 import com.codexpong.backend.game.domain.GameRoom;
 import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.domain.RoomCheckpoint;
+import com.codexpong.backend.game.domain.RttEstimator;
+import com.codexpong.backend.game.domain.SequencedInput;
+import com.codexpong.backend.game.engine.model.GameFrame;
 import com.codexpong.backend.game.engine.model.GameSnapshot;
 import com.codexpong.backend.game.engine.model.PaddleInput;
+import com.codexpong.backend.game.loop.GameLoopProperties;
+import com.codexpong.backend.game.loop.LatencyHistogram;
+import com.codexpong.backend.game.loop.ShardStats;
+import com.codexpong.backend.game.loop.TickHandle;
+import com.codexpong.backend.game.loop.TickScheduler;
+import com.codexpong.backend.game.protocol.BinaryFrameCodec;
+import com.codexpong.backend.game.protocol.DeltaFrame;
+import com.codexpong.backend.game.protocol.DeltaStateEncoder;
+import com.codexpong.backend.game.protocol.EncodedFrame;
+import com.codexpong.backend.game.protocol.GameProtocol;
+import com.codexpong.backend.game.protocol.InputAck;
+import com.codexpong.backend.game.protocol.PlayerLatency;
+import com.codexpong.backend.game.service.SpectatorDelayBuffer.DelayedState;
+import com.codexpong.backend.replay.ReplayEventRecord;
 import com.codexpong.backend.replay.ReplayService;
 import com.codexpong.backend.user.domain.User;
 import java.io.IOException;
@@ -20,10 +39,15 @@ import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 
@@ -34,41 +58,155 @@ import org.springframework.web.socket.WebSocketSession;
  *   - 방이 종료되면 GameResultService를 통해 DB에 기록한다.
  *   - v0.8.0에서는 관전자 연결 제한과 지연 브로드캐스트를 포함한 관전 지원을 수행한다.
  *   - v0.11.0에서는 틱 단위 스냅샷을 리플레이 버퍼에 기록해 종료 시 파일을 생성한다.
- * 버전: v0.11.0
+ *   - v1.1.0에서는 방별 고정 주기 작업 대신 샤드형 TickScheduler에 방 틱을 등록한다.
+ *   - v1.1.0에서는 세션별로 협상된 프로토콜(전체 JSON/델타 JSON/바이너리)에 맞춰 STATE를 인코딩한다.
+ * 버전: v1.1.0
  * 관련 설계문서:
  *   - design/backend/v0.8.0-spectator-mode.md
  *   - design/realtime/v0.8.0-spectator-events.md
  *   - design/backend/v0.11.0-replay-recording-and-storage.md
+ *   - design/realtime/v1.1.0-realtime-performance.md
  * 변경 이력:
  *   - v0.9.0: 활성 경기/관전자 계수 메트릭 노출 함수 추가
+ *   - v1.1.0: 코어 수 기반 샤드 틱 엔진 도입 및 샤드별 지연 통계 노출
+ *   - v1.1.0: 델타 인코딩 STATE(키프레임 + 변경 필드) 프로토콜 추가
+ *   - v1.1.0: 고정 레이아웃 바이너리 STATE 프레임 추가
+ *   - v1.1.0: 청중×프로토콜당 1회 인코딩 후 공유 버퍼로 팬아웃, 인코딩/전송 시간 분리 집계
+ *   - v1.1.0: 관전 지연을 프레임별 예약 작업 대신 방별 링 버퍼로 처리하고 경기 유형별 지연 설정 지원
+ *   - v1.1.0: 플레이어가 모두 끊긴 방 휴면(낮은 틱 빈도), 변화 없는 틱 브로드캐스트 생략, 입력/재접속 시 즉시 복귀
+ *   - v1.1.0: 부하 시험용 누적 틱 시작 지연 히스토그램 노출
+ *   - v1.1.0: 틱/시작 지연/인코딩/세션 전송/리플레이 기록/종료 처리 구간 시간을 경기 유형·샤드·방 ID와 함께 기록
+ *   - v1.1.0: 순번 INPUT을 의도한 틱에 적용하고 플레이어 STATE에 틱 번호와 플레이어별 처리 seq(ack) 포함
+ *   - v1.1.0: 세션 ping으로 RTT/지터를 측정해 STATE/관전 목록/메트릭에 노출하고 패들 판정 지연 보정에 반영
+ *   - v1.1.0: RoomCluster로 방 소유 등록과 관전 프레임 발행, 클러스터 전체 관전 목록 지원
+ *   - v1.1.0: 관전자 팬아웃을 SpectatorRelay 실행기로 분리하고 관전자 한도를 경기 유형/방별 설정으로 변경
+ *   - v1.1.0: 주기적 방 체크포인트 생성(RoomCheckpointer)과 체크포인트에서 방 복구
+ *   - v1.1.0: 미시작/전원 이탈/최대 경기 시간 초과 방을 타이머 휠(RoomReaper)로 만료시켜 정리
+ *   - v1.1.0: RESYNC를 요청 세션 단위로 처리하고 관전자 READY를 지연 스트림 시점으로 맞춤
+ *   - v1.1.0: STATE는 송신 큐에서 버릴 수 있는 sendState로 보내고, 버려진 델타 플레이어에게 키프레임을 이어 보냄
+ *   - v1.1.0: 체크포인트 lease를 잃은 방을 저장소/클러스터 정리 없이 내려놓는 releaseRoom 추가
  */
 @Service
 public class GameRoomService {
 
     private static final Duration TICK_INTERVAL = Duration.ofMillis(50);
-    private static final Duration SPECTATOR_DELAY = Duration.ofMillis(250);
-    private static final int MAX_SPECTATORS_PER_ROOM = 30;
+    private static final long TICK_INTERVAL_NANOS = TICK_INTERVAL.toNanos();
 
     private final Map<String, GameRoom> rooms = new ConcurrentHashMap<>();
-    private final Map<String, ScheduledFuture<?>> loopHandles = new ConcurrentHashMap<>();
+    private final Map<String, TickHandle> loopHandles = new ConcurrentHashMap<>();
     private final Map<String, Map<Long, WebSocketSession>> roomSessions = new ConcurrentHashMap<>();
     private final Map<String, Map<String, WebSocketSession>> spectatorSessions = new ConcurrentHashMap<>();
+    private final Map<String, DeltaStateEncoder> deltaEncoders = new ConcurrentHashMap<>();
+    private final Map<String, SpectatorDelayBuffer> spectatorDelays = new ConcurrentHashMap<>();
+    private final Map<String, Integer> spectatorLimits = new ConcurrentHashMap<>();
 
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final TickScheduler tickScheduler;
     private final GameResultService gameResultService;
     private final ReplayService replayService;
     private final ObjectMapper objectMapper;
+    private final SpectatorProperties spectatorProperties;
+    private final FanoutStats fanoutStats = new FanoutStats();
+    private final RealtimeLatencyRecorder latencyRecorder;
+    private final int hibernateStride;
+    private final int inputBufferTicks;
+    private final long maxLagCompensationNanos;
+    private final RoomCluster roomCluster;
+    private final SpectatorRelay spectatorRelay;
+    private final RoomCheckpointer checkpointer;
+    private final int checkpointIntervalTicks;
+    private final RoomReaper reaper;
 
-    public GameRoomService(GameResultService gameResultService, ReplayService replayService, ObjectMapper objectMapper) {
+    public GameRoomService(GameResultService gameResultService, ReplayService replayService, ObjectMapper objectMapper,
+            GameLoopProperties loopProperties, SpectatorProperties spectatorProperties,
+            RealtimeLatencyRecorder latencyRecorder) {
+        this(gameResultService, replayService, objectMapper, loopProperties, spectatorProperties, latencyRecorder,
+                RoomCluster.LOCAL, RoomCheckpointer.NONE);
+    }
+
+    @Autowired
+    public GameRoomService(GameResultService gameResultService, ReplayService replayService, ObjectMapper objectMapper,
+            GameLoopProperties loopProperties, SpectatorProperties spectatorProperties,
+            RealtimeLatencyRecorder latencyRecorder, RoomCluster roomCluster, RoomCheckpointer checkpointer) {
+        this(gameResultService, replayService, objectMapper, loopProperties, spectatorProperties, latencyRecorder,
+                roomCluster, checkpointer, System::currentTimeMillis);
+    }
+
+    /**
+     * 설명:
+     *   - reaperClock은 방 만료 타이머가 쓰는 벽시계(ms)다. 테스트는 가짜 시계를 넘기고 advanceReaper로 직접 진행한다.
+     */
+    GameRoomService(GameResultService gameResultService, ReplayService replayService, ObjectMapper objectMapper,
+            GameLoopProperties loopProperties, SpectatorProperties spectatorProperties,
+            RealtimeLatencyRecorder latencyRecorder, RoomCluster roomCluster, RoomCheckpointer checkpointer,
+            LongSupplier reaperClock) {
         this.gameResultService = gameResultService;
         this.replayService = replayService;
         this.objectMapper = objectMapper;
+        this.spectatorProperties = spectatorProperties;
+        this.latencyRecorder = latencyRecorder;
+        this.hibernateStride = loopProperties.getHibernateStride();
+        this.inputBufferTicks = loopProperties.getInputBufferTicks();
+        this.maxLagCompensationNanos = TimeUnit.MILLISECONDS.toNanos(
+                Math.max(0, loopProperties.getMaxLagCompensationMs()));
+        this.tickScheduler = new TickScheduler(TICK_INTERVAL, loopProperties.resolvedShardCount(),
+                Duration.ofMillis(loopProperties.getRebalanceIntervalMs()), latencyRecorder);
+        long pingIntervalMs = loopProperties.getPingIntervalMs();
+        if (pingIntervalMs > 0) {
+            scheduler.scheduleAtFixedRate(this::pingSessions, pingIntervalMs, pingIntervalMs, TimeUnit.MILLISECONDS);
+        }
+        this.spectatorRelay = new SpectatorRelay(spectatorProperties, fanoutStats, latencyRecorder);
+        this.roomCluster = roomCluster;
+        roomCluster.registerLocalRooms(this::listLiveRooms);
+        this.checkpointer = checkpointer;
+        long checkpointMillis = checkpointer.intervalMillis();
+        this.checkpointIntervalTicks = checkpointMillis <= 0 ? 0
+                : (int) Math.max(1, checkpointMillis / TICK_INTERVAL.toMillis());
+        long reaperTickMs = Math.max(10, loopProperties.getReaperTickMs());
+        this.reaper = new RoomReaper(reaperTickMs, loopProperties.getNotStartedTimeoutMs(),
+                loopProperties.getDisconnectedTimeoutMs(), loopProperties.getMaxDurationMs(),
+                reaperClock, this::reapRoom);
+        scheduler.scheduleWithFixedDelay(this::advanceReaper, reaperTickMs, reaperTickMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        tickScheduler.shutdown();
+        scheduler.shutdownNow();
+        spectatorRelay.shutdown();
     }
 
     public GameRoom createRoom(User left, User right, MatchType matchType) {
-        GameRoom room = new GameRoom(left, right, matchType);
+        GameRoom room = new GameRoom(left, right, matchType, TICK_INTERVAL.toMillis(), inputBufferTicks);
         rooms.put(room.getRoomId(), room);
+        deltaEncoders.put(room.getRoomId(), new DeltaStateEncoder(room.currentSnapshot(), 0));
+        spectatorDelays.put(room.getRoomId(), spectatorDelayBuffer(room));
         replayService.startRecording(room);
+        reaper.roomCreated(room.getRoomId());
+        return room;
+    }
+
+    /**
+     * 설명:
+     *   - 체크포인트에서 방을 복구해 등록한다. 두 플레이어가 같은 roomId로 다시 접속하면 틱 루프가 이어서 시작된다.
+     * 입력:
+     *   - replayEvents: 저장소에 남아 있던 체크포인트 시점까지의 리플레이 이벤트
+     * 출력:
+     *   - 복구한 방. 이미 같은 ID의 방이 있으면 그 방
+     */
+    public GameRoom resumeRoom(RoomCheckpoint checkpoint, User left, User right,
+            List<ReplayEventRecord> replayEvents) {
+        GameRoom existing = rooms.get(checkpoint.roomId());
+        if (existing != null) {
+            return existing;
+        }
+        GameRoom room = GameRoom.resume(checkpoint, left, right, TICK_INTERVAL.toMillis(), inputBufferTicks);
+        deltaEncoders.put(room.getRoomId(), new DeltaStateEncoder(room.currentSnapshot(), 0));
+        spectatorDelays.put(room.getRoomId(), spectatorDelayBuffer(room));
+        replayService.resumeRecording(room, checkpoint.replayStartedAtMs(), replayEvents);
+        rooms.put(room.getRoomId(), room);
+        reaper.roomCreated(room.getRoomId());
+        checkpointer.roomResumed(checkpoint);
         return room;
     }
 
@@ -77,43 +215,297 @@ public class GameRoomService {
     }
 
     public void removeRoom(String roomId) {
-        Optional.ofNullable(loopHandles.remove(roomId)).ifPresent(handle -> handle.cancel(true));
+        removeLocalRoom(roomId);
+        closeSpectatorStreams(roomId);
+    }
+
+    /**
+     * 설명:
+     *   - 관전 중계 스트림과 방별 관전자 한도를 정리하고 다른 노드에 방 종료를 알린다.
+     */
+    private void closeSpectatorStreams(String roomId) {
+        spectatorRelay.close(roomId);
+        spectatorLimits.remove(roomId);
+        roomCluster.roomClosed(roomId);
+    }
+
+    /**
+     * 설명:
+     *   - 다른 노드가 체크포인트 소유권(lease)을 가져간 방을 이 노드에서만 내려놓는다. 새 소유 노드가 같은 방을
+     *     이어 가므로 결과 기록, 저장소 체크포인트 삭제, 클러스터 방 종료 알림은 하지 않는다.
+     *   - 남은 플레이어/관전자 세션은 SERVICE_RESTARTED로 닫아 클라이언트가 재접속으로 새 소유 노드에 붙게 한다.
+     * 출력:
+     *   - 이 노드에 방이 있어 내려놓았으면 true
+     */
+    public boolean releaseRoom(String roomId) {
+        if (!rooms.containsKey(roomId)) {
+            return false;
+        }
+        List<WebSocketSession> sessions = new ArrayList<>();
+        Optional.ofNullable(roomSessions.get(roomId)).ifPresent(map -> sessions.addAll(map.values()));
+        Optional.ofNullable(spectatorSessions.get(roomId)).ifPresent(map -> sessions.addAll(map.values()));
+        Optional.ofNullable(loopHandles.remove(roomId)).ifPresent(TickHandle::cancel);
+        checkpointer.roomReleased(roomId);
+        forgetRoom(roomId);
+        spectatorRelay.close(roomId);
+        spectatorLimits.remove(roomId);
+        replayService.discardRecording(roomId);
+        CloseStatus status = CloseStatus.SERVICE_RESTARTED.withReason("방 소유 노드가 바뀌었습니다.");
+        for (WebSocketSession session : sessions) {
+            try {
+                session.close(status);
+            } catch (IOException ignored) {
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 설명:
+     *   - 이 노드가 들고 있는 방 ID. 체크포인트 lease 갱신 대상이다.
+     */
+    public List<String> localRoomIds() {
+        return List.copyOf(rooms.keySet());
+    }
+
+    private void removeLocalRoom(String roomId) {
+        Optional.ofNullable(loopHandles.remove(roomId)).ifPresent(TickHandle::cancel);
+        checkpointer.roomClosed(roomId);
+        forgetRoom(roomId);
+    }
+
+    private void forgetRoom(String roomId) {
+        reaper.roomRemoved(roomId);
         rooms.remove(roomId);
         roomSessions.remove(roomId);
         spectatorSessions.remove(roomId);
+        deltaEncoders.remove(roomId);
+        spectatorDelays.remove(roomId);
     }
 
     public void updateInput(String roomId, Long userId, PaddleInput input) {
+        updateInput(roomId, userId, SequencedInput.unsequenced(input));
+    }
+
+    /**
+     * 설명:
+     *   - 순번/클라이언트 시각/의도 틱을 가진 INPUT을 방 입력 큐에 넣는다. 적용되면 이후 STATE의 ack로 확인된다.
+     */
+    public void updateInput(String roomId, Long userId, SequencedInput input) {
+        updateInput(roomId, userId, input.direction(), input.seq(), input.clientTimeMillis(), input.tick());
+    }
+
+    /**
+     * 설명:
+     *   - 파서가 읽은 필드 값을 객체 생성 없이 그대로 방 입력 큐에 넣는다. 0인 값은 클라이언트가 보내지 않은 값이다.
+     */
+    public void updateInput(String roomId, Long userId, PaddleInput input, long seq, long clientTimeMillis,
+            long tick) {
         GameRoom room = rooms.get(roomId);
         if (room != null && room.contains(userId)) {
-            room.updateInput(userId, input);
+            room.updateInput(userId, input, seq, clientTimeMillis, tick);
+            wakeLoop(roomId);
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 세션 pong으로 갱신된 RTT 추정치를 메트릭에 기록하고, 플레이어면 방의 RTT/지터와 패들 판정 보정에 반영한다.
+     * 입력:
+     *   - sampleNanos: 이번 pong의 표본 RTT
+     *   - estimator: 표본을 반영한 세션별 추정기
+     */
+    public void recordRoundTrip(String roomId, Long userId, AudienceRole audienceRole, long sampleNanos,
+            RttEstimator estimator) {
+        GameRoom room = rooms.get(roomId);
+        if (room == null) {
+            return;
+        }
+        latencyRecorder.recordRoundTrip(room.getMatchType(), audienceRole, shardOf(roomId), roomId, sampleNanos,
+                estimator.jitterNanos());
+        if (audienceRole == AudienceRole.PLAYER) {
+            room.updateLatency(userId, estimator.smoothedNanos(), estimator.jitterNanos(), maxLagCompensationNanos);
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 델타 프로토콜 세션이 seq 불연속을 감지해 RESYNC를 보내면 그 세션만 재동기화한다. 방 전체 키프레임은 만들지 않는다.
+     *   - 플레이어 세션에는 마지막 전송 프레임을 같은 seq의 키프레임(STATE)으로 바로 보내 이후 델타가 이어지게 하고,
+     *     관전자 세션은 지연 스트림의 다음 키프레임까지 델타 전달을 멈춘다.
+     */
+    public void resync(String roomId, Long userId, String sessionId, AudienceRole audienceRole) {
+        if (audienceRole == AudienceRole.SPECTATOR) {
+            spectatorRelay.requestKeyframe(roomId, sessionId);
+            return;
+        }
+        GameRoom room = rooms.get(roomId);
+        DeltaStateEncoder encoder = deltaEncoders.get(roomId);
+        WebSocketSession session = Optional.ofNullable(roomSessions.get(roomId))
+                .map(sessions -> sessions.get(userId))
+                .orElse(null);
+        if (room == null || encoder == null || session == null || !session.isOpen()) {
+            return;
+        }
+        try {
+            session.sendMessage(new TextMessage(objectMapper.writeValueAsString(GameDeltaMessage.from("STATE",
+                    encoder.currentKeyframe(), room.getMatchType(), null, AudienceRole.PLAYER))));
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 델타 프로토콜 세션에 보낼 READY 키프레임을 만든다. 마지막 전송 프레임과 같은 seq를 사용해
+     *     이후 도착하는 델타가 이 키프레임을 기준으로 이어지도록 한다.
+     *   - 관전자는 지연 스트림에서 마지막으로 내보낸 틱을 기준으로 만들어 실시간 상태가 먼저 보이지 않게 한다.
+     */
+    public GameDeltaMessage readyKeyframe(GameRoom room, AudienceRole audienceRole) {
+        if (audienceRole == AudienceRole.SPECTATOR) {
+            DelayedState view = spectatorView(room);
+            return GameDeltaMessage.from("READY", DeltaStateEncoder.keyframeOf(view.snapshot(), view.deltaSeq(),
+                    spectatorCount(room.getRoomId()), view.latency()), room.getMatchType(), null, audienceRole);
+        }
+        DeltaStateEncoder encoder = deltaEncoders.computeIfAbsent(room.getRoomId(),
+                key -> new DeltaStateEncoder(room.currentSnapshot(), spectatorCount(key)));
+        return GameDeltaMessage.from("READY", encoder.currentKeyframe(), room.getMatchType(), null, audienceRole);
+    }
+
+    /**
+     * 설명:
+     *   - 전체 JSON 프로토콜 세션에 보낼 READY를 현재 스냅샷, 틱 번호, (플레이어면) 처리 seq로 만든다.
+     *     관전자는 지연 스트림에서 마지막으로 내보낸 틱의 스냅샷을 쓴다.
+     */
+    public GameServerMessage readyMessage(GameRoom room, AudienceRole audienceRole) {
+        if (audienceRole == AudienceRole.SPECTATOR) {
+            DelayedState view = spectatorView(room);
+            return new GameServerMessage("READY", view.snapshot(), room.getMatchType().name(), null,
+                    audienceRole.name(), spectatorCount(room.getRoomId()), view.tick(), null, view.latency());
+        }
+        return new GameServerMessage("READY", room.currentSnapshot(), room.getMatchType().name(), null,
+                audienceRole.name(), spectatorCount(room.getRoomId()), room.getTickCount(),
+                inputAck(room), playerLatency(room));
+    }
+
+    /**
+     * 설명:
+     *   - 바이너리 프로토콜 세션에 보낼 READY 프레임을 현재 스냅샷과 틱 번호로 만든다.
+     *     관전자는 지연 스트림에서 마지막으로 내보낸 틱의 스냅샷을 쓴다.
+     */
+    public byte[] readyBinaryFrame(GameRoom room, AudienceRole audienceRole) {
+        int flags = binaryFlags(room.getMatchType(), audienceRole);
+        if (audienceRole == AudienceRole.SPECTATOR) {
+            DelayedState view = spectatorView(room);
+            return BinaryFrameCodec.encodeState(BinaryFrameCodec.TYPE_READY, flags, view.tick(), view.snapshot(),
+                    spectatorCount(room.getRoomId()), null, view.latency(), null);
         }
+        return BinaryFrameCodec.encodeState(BinaryFrameCodec.TYPE_READY, flags, room.getTickCount(),
+                room.currentSnapshot(), spectatorCount(room.getRoomId()), inputAck(room), playerLatency(room), null);
+    }
+
+    /**
+     * 설명:
+     *   - 관전자가 지금 보고 있어야 할 지연 스트림 시점의 상태. 지연 버퍼가 없으면 현재 상태다.
+     */
+    private DelayedState spectatorView(GameRoom room) {
+        SpectatorDelayBuffer delayBuffer = spectatorDelays.get(room.getRoomId());
+        return delayBuffer != null ? delayBuffer.released()
+                : new DelayedState(room.getTickCount(), room.getTickCount(), room.currentSnapshot(),
+                        playerLatency(room));
     }
 
-    public void registerSession(GameRoom room, Long userId, WebSocketSession session) {
-        roomSessions.computeIfAbsent(room.getRoomId(), key -> new ConcurrentHashMap<>())
-                .put(userId, session);
-        if (!loopHandles.containsKey(room.getRoomId()) && hasBothPlayers(room.getRoomId())) {
+    /**
+     * 설명:
+     *   - 방의 관전 지연 버퍼를 만든다. 아직 내보낸 프레임이 없을 때의 관전 기준은 델타 인코더 시작 상태(seq 0)다.
+     */
+    private SpectatorDelayBuffer spectatorDelayBuffer(GameRoom room) {
+        return SpectatorDelayBuffer.forDelay(spectatorProperties.delayMillis(room.getMatchType()),
+                TICK_INTERVAL.toMillis(),
+                new DelayedState(room.getTickCount(), 0, room.currentSnapshot(), playerLatency(room)));
+    }
+
+    /**
+     * 설명:
+     *   - 플레이어 세션을 방에 붙이고 두 명이 모이면 틱 루프를 시작한다.
+     *   - 그사이 방이 정리(만료/종료)되었으면 세션 맵과 만료 타이머를 다시 만들지 않고 false를 돌려준다.
+     */
+    public boolean registerSession(GameRoom room, Long userId, WebSocketSession session) {
+        String roomId = room.getRoomId();
+        if (rooms.get(roomId) != room) {
+            return false;
+        }
+        Map<Long, WebSocketSession> sessions = roomSessions.computeIfAbsent(roomId, key -> new ConcurrentHashMap<>());
+        sessions.put(userId, session);
+        if (rooms.get(roomId) != room) {
+            // 확인과 등록 사이에 정리된 방이면 방금 만든 세션 맵을 되돌린다.
+            roomSessions.remove(roomId, sessions);
+            return false;
+        }
+        reaper.playerConnected(roomId);
+        if (!loopHandles.containsKey(roomId) && hasBothPlayers(roomId)) {
             startLoop(room);
+        } else {
+            wakeLoop(roomId);
         }
+        return true;
     }
 
     public boolean registerSpectatorSession(GameRoom room, String sessionId, WebSocketSession session) {
         Map<String, WebSocketSession> spectators = spectatorSessions
                 .computeIfAbsent(room.getRoomId(), key -> new ConcurrentHashMap<>());
-        if (spectators.size() >= MAX_SPECTATORS_PER_ROOM) {
+        if (spectators.size() + roomCluster.remoteSpectatorCount(room.getRoomId()) >= spectatorLimit(room)) {
             return false;
         }
         spectators.put(sessionId, session);
+        spectatorRelay.attach(room.getRoomId(), sessionId, session);
         return true;
     }
 
+    /**
+     * 설명:
+     *   - 방의 관전자 한도. 관리자/토너먼트가 방별로 지정한 값이 있으면 그 값을, 없으면 경기 유형별 설정을 쓴다.
+     */
+    public int spectatorLimit(GameRoom room) {
+        Integer override = spectatorLimits.get(room.getRoomId());
+        return override != null ? override : spectatorProperties.maxPerRoom(room.getMatchType());
+    }
+
+    /**
+     * 설명:
+     *   - 방별 관전자 한도를 지정한다. null이면 경기 유형별 기본값으로 되돌린다. 이미 붙은 관전자는 끊지 않는다.
+     * 출력:
+     *   - 방이 없으면 false
+     */
+    public boolean setSpectatorLimit(String roomId, Integer limit) {
+        if (!rooms.containsKey(roomId)) {
+            return false;
+        }
+        if (limit == null) {
+            spectatorLimits.remove(roomId);
+        } else {
+            spectatorLimits.put(roomId, Math.max(0, limit));
+        }
+        return true;
+    }
+
+    /**
+     * 설명:
+     *   - 토너먼트 결승 같은 주목 경기로 지정해 관전자 한도를 game.spectator.featured-max-per-room으로 올린다.
+     */
+    public void featureRoom(String roomId) {
+        setSpectatorLimit(roomId, spectatorProperties.getFeaturedMaxPerRoom());
+    }
+
     public void unregisterSession(String roomId, Long userId, String sessionId) {
         Optional.ofNullable(roomSessions.get(roomId))
                 .ifPresent(map -> map.entrySet().removeIf(entry -> (userId != null && entry.getKey().equals(userId))
                         || entry.getValue().getId().equals(sessionId)));
         Optional.ofNullable(spectatorSessions.get(roomId))
                 .ifPresent(map -> map.entrySet().removeIf(entry -> entry.getKey().equals(sessionId)));
+        spectatorRelay.detach(roomId, sessionId);
+        if (loopHandles.containsKey(roomId) && !hasAnyPlayer(roomId)) {
+            reaper.allPlayersDisconnected(roomId);
+        }
     }
 
     public List<LiveRoomView> listLiveRooms() {
@@ -129,12 +521,31 @@ public class GameRoomService {
                     room.getStartedAt(),
                     room.getFinishedAt(),
                     spectatorCount(room.getRoomId()),
-                    MAX_SPECTATORS_PER_ROOM
+                    spectatorLimit(room),
+                    toMillis(room.leftRttNanos()),
+                    toMillis(room.leftJitterNanos()),
+                    toMillis(room.rightRttNanos()),
+                    toMillis(room.rightJitterNanos())
             ));
         }
         return Collections.unmodifiableList(liveRooms);
     }
 
+    /**
+     * 설명:
+     *   - 이 노드의 방과 다른 노드가 소유한 방(RoomCluster 등록)을 합친 관전 가능 목록을 반환한다.
+     *     같은 방 ID가 양쪽에 있으면 로컬 값을 쓴다.
+     */
+    public List<LiveRoomView> listClusterLiveRooms() {
+        List<LiveRoomView> liveRooms = new ArrayList<>(listLiveRooms());
+        for (LiveRoomView remote : roomCluster.remoteRooms()) {
+            if (!rooms.containsKey(remote.roomId())) {
+                liveRooms.add(remote);
+            }
+        }
+        return Collections.unmodifiableList(liveRooms);
+    }
+
     /**
      * 설명:
      *   - 모니터링을 위해 현재 메모리에 존재하는 활성 경기 방 수를 반환한다.
@@ -153,8 +564,83 @@ public class GameRoomService {
                 .sum();
     }
 
+    /**
+     * 설명:
+     *   - 틱 샤드별 방 수, 시작 지연, 틱 비용 통계를 모니터링용으로 반환한다.
+     */
+    public List<ShardStats> tickShardStats() {
+        return tickScheduler.stats();
+    }
+
+    public int tickShardCount() {
+        return tickScheduler.shardCount();
+    }
+
+    public ShardStats tickShardStats(int shard) {
+        return tickScheduler.stats(shard);
+    }
+
+    /**
+     * 설명:
+     *   - 전체 샤드의 누적 틱 시작 지연 히스토그램을 반환한다. 부하 생성기가 구간 백분위 계산에 사용한다.
+     */
+    public LatencyHistogram.Snapshot tickLagHistogram() {
+        return tickScheduler.lagHistogram();
+    }
+
+    /**
+     * 설명:
+     *   - STATE 팬아웃의 누적 인코딩/전송 시간과 횟수를 모니터링용으로 반환한다.
+     */
+    public FanoutStats fanoutStats() {
+        return fanoutStats;
+    }
+
+    /**
+     * 설명:
+     *   - 관전 중계 실행기에 아직 전달되지 않은 방 스트림 프레임 수를 반환한다.
+     */
+    public int spectatorRelayBacklog() {
+        return spectatorRelay.backlog();
+    }
+
+    /**
+     * 설명:
+     *   - 만료 사유별로 정리한 방 수(누적).
+     */
+    public long reapedRoomCount(RoomExpiry expiry) {
+        return reaper.reaped(expiry);
+    }
+
+    /**
+     * 설명:
+     *   - 만료 타이머 휠에 걸려 있는 타이머 수. 방 수에 비례해야 하며 계속 늘면 정리 누락이다.
+     */
+    public int reaperTimerCount() {
+        return reaper.pendingTimers();
+    }
+
+    /**
+     * 설명:
+     *   - 플레이어가 모두 끊겨 낮은 빈도로만 깨어나는 휴면 방 수를 반환한다.
+     */
+    public int hibernatingRoomCount() {
+        int count = 0;
+        for (TickHandle handle : loopHandles.values()) {
+            if (handle.stride() > 1) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 설명:
+     *   - 이 노드의 관전자 세션 수와 다른 노드에서 중계받는 관전자 수(RoomCluster 하트비트 기준)의 합.
+     */
     public int spectatorCount(String roomId) {
-        return spectatorSessions.getOrDefault(roomId, Collections.emptyMap()).size();
+        return spectatorSessions.getOrDefault(roomId, Collections.emptyMap()).size()
+                + roomCluster.remoteSpectatorCount(roomId);
     }
 
     private boolean hasBothPlayers(String roomId) {
@@ -168,32 +654,206 @@ public class GameRoomService {
                 && sessions.containsKey(room.getRightPlayer().getId());
     }
 
+    private boolean hasAnyPlayer(String roomId) {
+        Map<Long, WebSocketSession> sessions = roomSessions.get(roomId);
+        return sessions != null && !sessions.isEmpty();
+    }
+
+    private void wakeLoop(String roomId) {
+        TickHandle handle = loopHandles.get(roomId);
+        if (handle != null) {
+            handle.wake();
+        }
+    }
+
+    private int shardOf(String roomId) {
+        TickHandle handle = loopHandles.get(roomId);
+        return handle == null ? 0 : handle.shardIndex();
+    }
+
+    /**
+     * 설명:
+     *   - 모든 플레이어/관전자 세션에 세션별 추정기가 발급한 nonce를 담은 WebSocket ping을 보낸다.
+     *     pong은 핸들러가 같은 추정기로 처리하며, 대기 중인 ping과 nonce가 같은 pong 하나만 표본이 된다.
+     *   - 송신 큐를 거치므로 전달되지 못한 ping은 다음 ping이 대체해 표본이 빠질 뿐이다.
+     *   - 연결 수립을 마치기 전이라 추정기가 없는 세션은 건너뛴다.
+     */
+    private void pingSessions() {
+        for (Map<Long, WebSocketSession> sessions : roomSessions.values()) {
+            ping(sessions);
+        }
+        for (Map<String, WebSocketSession> sessions : spectatorSessions.values()) {
+            ping(sessions);
+        }
+    }
+
+    private void ping(Map<?, WebSocketSession> sessions) {
+        for (WebSocketSession session : sessions.values()) {
+            try {
+                if (session.isOpen()
+                        && session.getAttributes().get(RttEstimator.SESSION_ATTRIBUTE) instanceof RttEstimator rtt) {
+                    session.sendMessage(new PingMessage(rtt.nextPing(System.nanoTime())));
+                }
+            } catch (IOException | RuntimeException ignored) {
+            }
+        }
+    }
+
     private void startLoop(GameRoom room) {
-        ScheduledFuture<?> handle = scheduler.scheduleAtFixedRate(() -> runTick(room), 0,
-                TICK_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
-        loopHandles.put(room.getRoomId(), handle);
+        loopHandles.computeIfAbsent(room.getRoomId(),
+                roomId -> tickScheduler.register(roomId, () -> runTick(room)));
+        reaper.loopStarted(room.getRoomId());
+    }
+
+    /**
+     * 설명:
+     *   - 만료 타이머가 울린 방을 사유 조건이 여전히 맞을 때만 결과 기록 없이 정리한다.
+     *     방 상태, 녹화 버퍼, 관전 스트림을 모두 지운다. 남아 있던 세션은 RoomReaper가 정리 건수를 센 뒤 닫는다.
+     * 출력:
+     *   - 정리했으면 남은 세션을 닫는 작업, 아니면 null
+     */
+    private Runnable reapRoom(String roomId, RoomExpiry expiry) {
+        GameRoom room = rooms.get(roomId);
+        if (room == null || room.isFinished()) {
+            return null;
+        }
+        boolean expired = switch (expiry) {
+            case NOT_STARTED -> !loopHandles.containsKey(roomId);
+            case DISCONNECTED -> loopHandles.containsKey(roomId) && !hasAnyPlayer(roomId);
+            case MAX_DURATION -> true;
+        };
+        if (!expired) {
+            return null;
+        }
+        List<WebSocketSession> sessions = new ArrayList<>();
+        Optional.ofNullable(roomSessions.get(roomId)).ifPresent(map -> sessions.addAll(map.values()));
+        Optional.ofNullable(spectatorSessions.get(roomId)).ifPresent(map -> sessions.addAll(map.values()));
+        removeRoom(roomId);
+        replayService.discardRecording(roomId);
+        return () -> {
+            CloseStatus status = CloseStatus.GOING_AWAY.withReason("방이 만료되었습니다.");
+            for (WebSocketSession session : sessions) {
+                try {
+                    session.close(status);
+                } catch (IOException ignored) {
+                }
+            }
+        };
+    }
+
+    /**
+     * 설명:
+     *   - 현재 만료 시계까지 타이머 휠을 진행한다. 관리 스케줄러가 주기적으로 호출하며 테스트는 직접 호출한다.
+     */
+    void advanceReaper() {
+        reaper.advance();
     }
 
     private void runTick(GameRoom room) {
-        GameSnapshot snapshot = room.tick(TICK_INTERVAL);
-        replayService.appendSnapshot(room.getRoomId(), snapshot);
-        broadcastState(room.getRoomId(), snapshot, room.getMatchType(), null);
+        String roomId = room.getRoomId();
+        TickHandle handle = loopHandles.get(roomId);
+        if (!hasAnyPlayer(roomId)) {
+            // 양쪽 플레이어가 모두 끊기면 물리를 멈추고 hibernateStride 틱에 한 번만 깨어나 재접속을 확인한다.
+            if (handle != null) {
+                handle.setStride(hibernateStride);
+            }
+            return;
+        }
+        if (handle != null && handle.stride() > 1) {
+            // 위 확인과 setStride 사이에 재접속한 플레이어의 wake는 stride가 아직 1이라 무시되므로,
+            // 플레이어가 있는 틱마다 정상 주기로 되돌려 휴면 전환과 wake가 엇갈려도 깨어남을 잃지 않는다.
+            handle.setStride(1);
+        }
+        long started = System.nanoTime();
+        int shard = handle == null ? 0 : handle.shardIndex();
+        GameFrame frame = room.tickFrame(TICK_INTERVAL_NANOS);
+        if (!room.lastTickChanged() && !frame.finished()) {
+            // 상태가 그대로면 스냅샷 복사, 리플레이 기록, 인코딩/전송을 모두 생략한다.
+            latencyRecorder.recordTick(room.getMatchType(), shard, roomId, System.nanoTime() - started);
+            return;
+        }
+        // 리플레이 버퍼와 JSON 브로드캐스트가 불변 스냅샷을 요구하므로 틱당 한 번만 복사한다.
+        GameSnapshot snapshot = frame.toSnapshot();
+        long appendStarted = System.nanoTime();
+        replayService.appendSnapshot(roomId, snapshot);
+        latencyRecorder.recordReplayAppend(room.getMatchType(), shard, roomId, System.nanoTime() - appendStarted);
+        broadcastState(room, snapshot, null);
         if (snapshot.finished()) {
-            finishRoom(room, snapshot);
+            finishRoom(room, snapshot, shard);
+        } else if (checkpointIntervalTicks > 0 && room.checkpointDue(checkpointIntervalTicks)) {
+            checkpointer.offer(checkpoint(room, snapshot));
         }
+        latencyRecorder.recordTick(room.getMatchType(), shard, roomId, System.nanoTime() - started);
     }
 
-    private void broadcastState(String roomId, GameSnapshot snapshot, MatchType matchType,
-            GameResult ratingResult) {
-        GameServerMessage playerMessage = buildMessage("STATE", snapshot, matchType, ratingResult,
-                AudienceRole.PLAYER, roomId);
-        GameServerMessage spectatorMessage = buildMessage("STATE", snapshot, matchType, ratingResult,
-                AudienceRole.SPECTATOR, roomId);
-        sendMessage(roomSessions.get(roomId), playerMessage, 0);
-        sendMessage(spectatorSessions.get(roomId), spectatorMessage, SPECTATOR_DELAY.toMillis());
+    // JMH 팬아웃 벤치마크(src/jmh)가 같은 패키지에서 직접 호출할 수 있도록 패키지 범위로 둔다.
+    void broadcastState(GameRoom room, GameSnapshot snapshot, GameResult ratingResult) {
+        String roomId = room.getRoomId();
+        DeltaStateEncoder encoder = deltaEncoders.get(roomId);
+        InputAck ack = inputAck(room);
+        PlayerLatency latency = playerLatency(room);
+        DeltaFrame delta = encoder == null ? null
+                : encoder.next(snapshot, room.getTickCount(), ack, latency, spectatorCount(roomId),
+                        ratingResult != null);
+        StateFrame frame = new StateFrame(roomId, room.getTickCount(), snapshot, delta, ack, latency,
+                room.getMatchType(), ratingResult, spectatorCount(roomId), shardOf(roomId));
+        Map<Long, WebSocketSession> players = roomSessions.get(roomId);
+        EncodedFrame[] playerFrames = encodeFrames(players, frame, AudienceRole.PLAYER);
+        if (playerFrames != null) {
+            sendFrames(players, playerFrames, frame.matchType(), frame.shard(), roomId, encoder);
+        }
+        Map<String, WebSocketSession> spectators = spectatorSessions.get(roomId);
+        boolean remoteSpectators = roomCluster.hasRemoteSpectators(roomId);
+        // 다른 노드 관전자의 프로토콜은 알 수 없으므로 원격 관전자가 있으면 모든 프로토콜로 인코딩한다.
+        EncodedFrame[] spectatorFrames = remoteSpectators ? encodeAllFrames(frame, AudienceRole.SPECTATOR)
+                : encodeFrames(spectators, frame, AudienceRole.SPECTATOR);
+        SpectatorDelayBuffer delayBuffer = spectatorDelays.get(roomId);
+        // 관전자가 없는 틱도 빈 슬롯으로 넣어 지연 간격을 유지한다. 틱 상태는 지연 시점 관전자 READY의 기준이 된다.
+        EncodedFrame[] due = delayBuffer == null ? spectatorFrames
+                : delayBuffer.push(spectatorFrames, new DelayedState(frame.seq(),
+                        delta == null ? frame.seq() : delta.seq(), snapshot, latency));
+        if (due != null && spectators != null) {
+            spectatorRelay.offer(roomId, due, frame.matchType(), frame.shard());
+        }
+        if (due != null && remoteSpectators) {
+            roomCluster.publish(roomId, due);
+        }
     }
 
-    private void finishRoom(GameRoom room, GameSnapshot snapshot) {
+    /**
+     * 설명:
+     *   - 경기 종료 후 링 버퍼에 남은 관전 프레임을 틱 간격으로 마저 보낸다(원격 관전자가 있으면 발행도 한다).
+     *     방마다 종료 시 한 번만 예약된다.
+     * 출력:
+     *   - 예약한 틱 수. 방 종료 알림은 이 뒤로 미뤄 원격 노드가 마지막 프레임까지 받게 한다.
+     */
+    private int drainSpectatorDelay(GameRoom room, int shard) {
+        String roomId = room.getRoomId();
+        SpectatorDelayBuffer delayBuffer = spectatorDelays.get(roomId);
+        Map<String, WebSocketSession> spectators = spectatorSessions.get(roomId);
+        boolean remoteSpectators = roomCluster.hasRemoteSpectators(roomId);
+        if (delayBuffer == null || (spectators == null && !remoteSpectators)) {
+            return 0;
+        }
+        List<EncodedFrame[]> remaining = delayBuffer.drain();
+        for (int i = 0; i < remaining.size(); i++) {
+            EncodedFrame[] frames = remaining.get(i);
+            if (frames != null) {
+                scheduler.schedule(() -> {
+                    if (spectators != null) {
+                        spectatorRelay.offer(roomId, frames, room.getMatchType(), shard);
+                    }
+                    if (remoteSpectators) {
+                        roomCluster.publish(roomId, frames);
+                    }
+                }, (i + 1) * TICK_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+        return remaining.size();
+    }
+
+    private void finishRoom(GameRoom room, GameSnapshot snapshot, int shard) {
+        long started = System.nanoTime();
         GameResult result = gameResultService.recordResult(
                 room.getRoomId(),
                 room.getLeftPlayer(),
@@ -205,38 +865,166 @@ public class GameRoomService {
                 room.getFinishedAt() != null ? room.getFinishedAt() : LocalDateTime.now(ZoneId.of("Asia/Seoul"))
         );
         replayService.completeRecording(room, result);
-        broadcastState(room.getRoomId(), snapshot, room.getMatchType(), result);
-        removeRoom(room.getRoomId());
+        broadcastState(room, snapshot, result);
+        int drainTicks = drainSpectatorDelay(room, shard);
+        removeLocalRoom(room.getRoomId());
+        String roomId = room.getRoomId();
+        // 같은 단일 스레드 스케줄러에 마지막 관전 프레임 뒤로 예약해 중계 스트림/원격 노드가 프레임을 모두 받은 뒤 닫는다.
+        scheduler.schedule(() -> closeSpectatorStreams(roomId), (drainTicks + 1) * TICK_INTERVAL.toMillis(),
+                TimeUnit.MILLISECONDS);
+        latencyRecorder.recordFinish(room.getMatchType(), shard, room.getRoomId(), System.nanoTime() - started);
     }
 
-    private GameServerMessage buildMessage(String type, GameSnapshot snapshot, MatchType matchType,
-            GameResult ratingResult, AudienceRole audienceRole, String roomId) {
-        return new GameServerMessage(type, snapshot, matchType.name(),
-                ratingResult == null ? null : GameServerMessage.RatingChange.from(ratingResult),
-                audienceRole.name(), spectatorCount(roomId));
-    }
-
-    private void sendMessage(Map<?, WebSocketSession> sessions, GameServerMessage message, long delayMillis) {
+    /**
+     * 설명:
+     *   - 청중 하나의 세션들이 사용하는 프로토콜마다 STATE를 한 번씩만 인코딩해 공유 프레임 배열로 만든다.
+     *   - 세션 수와 무관하게 인코딩 비용은 청중×프로토콜 수에 비례한다. 세션이 없으면 null을 반환한다.
+     */
+    private EncodedFrame[] encodeFrames(Map<?, WebSocketSession> sessions, StateFrame frame,
+            AudienceRole audienceRole) {
         if (sessions == null || sessions.isEmpty()) {
-            return;
+            return null;
         }
+        EncodedFrame[] frames = new EncodedFrame[GameProtocol.values().length];
         try {
-            String payload = objectMapper.writeValueAsString(message);
-            Runnable sender = () -> sessions.values().forEach(session -> {
-                try {
-                    if (session.isOpen()) {
-                        session.sendMessage(new TextMessage(payload));
-                    }
-                } catch (IOException ignored) {
+            for (WebSocketSession session : sessions.values()) {
+                GameProtocol protocol = GameProtocol.of(session);
+                if (frames[protocol.ordinal()] == null) {
+                    long started = System.nanoTime();
+                    EncodedFrame encoded = encodeState(protocol, frame, audienceRole);
+                    long elapsed = System.nanoTime() - started;
+                    fanoutStats.recordEncode(elapsed, encoded.size());
+                    latencyRecorder.recordEncode(frame.matchType(), frame.shard(), frame.roomId(), elapsed);
+                    frames[protocol.ordinal()] = encoded;
                 }
-            });
-            if (delayMillis <= 0) {
-                sender.run();
-            } else {
-                scheduler.schedule(sender, delayMillis, TimeUnit.MILLISECONDS);
             }
         } catch (IOException ignored) {
+            return null;
+        }
+        return frames;
+    }
+
+    /**
+     * 설명:
+     *   - 세션과 무관하게 모든 프로토콜로 한 번씩 인코딩한다. 원격 관전자에게 발행할 프레임에 사용한다.
+     */
+    private EncodedFrame[] encodeAllFrames(StateFrame frame, AudienceRole audienceRole) {
+        EncodedFrame[] frames = new EncodedFrame[GameProtocol.values().length];
+        try {
+            for (GameProtocol protocol : GameProtocol.values()) {
+                long started = System.nanoTime();
+                EncodedFrame encoded = encodeState(protocol, frame, audienceRole);
+                long elapsed = System.nanoTime() - started;
+                fanoutStats.recordEncode(elapsed, encoded.size());
+                latencyRecorder.recordEncode(frame.matchType(), frame.shard(), frame.roomId(), elapsed);
+                frames[protocol.ordinal()] = encoded;
+            }
+        } catch (IOException ignored) {
+            return null;
+        }
+        return frames;
+    }
+
+    /**
+     * 설명:
+     *   - 공유 프레임을 세션별 프로토콜에 맞춰 전송한다.
+     *   - 인코딩 이후 합류한 세션은 READY를 이미 받았으므로 해당 프로토콜 프레임이 없으면 건너뛴다.
+     *   - 송신 큐가 밀려 STATE가 버려진 델타 세션에는 이번 틱 키프레임을 바로 이어 보내 기준 프레임을 복구한다.
+     *     키프레임은 그런 세션이 있을 때 틱당 한 번만 인코딩한다.
+     */
+    private void sendFrames(Map<?, WebSocketSession> sessions, EncodedFrame[] frames, MatchType matchType, int shard,
+            String roomId, DeltaStateEncoder encoder) {
+        long started = System.nanoTime();
+        int sent = 0;
+        TextMessage recoveryKeyframe = null;
+        for (WebSocketSession session : sessions.values()) {
+            GameProtocol protocol = GameProtocol.of(session);
+            EncodedFrame encoded = frames[protocol.ordinal()];
+            try {
+                if (encoded != null && session.isOpen()) {
+                    long sendStarted = System.nanoTime();
+                    QueuedWebSocketSession.sendState(session, encoded.message());
+                    latencyRecorder.recordSend(matchType, shard, roomId, System.nanoTime() - sendStarted);
+                    sent++;
+                    if (QueuedWebSocketSession.stateDropped(session) && protocol == GameProtocol.JSON_DELTA
+                            && !encoded.isKeyframe() && encoder != null) {
+                        if (recoveryKeyframe == null) {
+                            recoveryKeyframe = new TextMessage(objectMapper.writeValueAsString(GameDeltaMessage.from(
+                                    "STATE", encoder.currentKeyframe(), matchType, null, AudienceRole.PLAYER)));
+                        }
+                        QueuedWebSocketSession.sendState(session, recoveryKeyframe);
+                    }
+                }
+            } catch (IOException ignored) {
+            }
+        }
+        fanoutStats.recordSend(System.nanoTime() - started, sent);
+    }
+
+    private EncodedFrame encodeState(GameProtocol protocol, StateFrame frame, AudienceRole audienceRole)
+            throws IOException {
+        if (protocol == GameProtocol.BINARY) {
+            GameServerMessage.RatingChange rating = frame.ratingResult() == null ? null
+                    : GameServerMessage.RatingChange.from(frame.ratingResult());
+            return EncodedFrame.binary(BinaryFrameCodec.encodeState(BinaryFrameCodec.TYPE_STATE,
+                    binaryFlags(frame.matchType(), audienceRole), frame.seq(), frame.snapshot(),
+                    frame.spectatorCount(), audienceRole == AudienceRole.PLAYER ? frame.ack() : null,
+                    binaryLatency(frame),
+                    rating == null ? null
+                            : new BinaryFrameCodec.RatingDelta(rating.winnerId(), rating.winnerDelta(),
+                                    rating.loserId(), rating.loserDelta())));
+        }
+        if (protocol == GameProtocol.JSON_DELTA && frame.delta() != null) {
+            return EncodedFrame.text(objectMapper.writeValueAsString(GameDeltaMessage.from("STATE", frame.delta(),
+                    frame.matchType(), frame.ratingResult(), audienceRole)), frame.delta().keyframe());
         }
+        return EncodedFrame.text(objectMapper.writeValueAsString(new GameServerMessage("STATE", frame.snapshot(),
+                frame.matchType().name(),
+                frame.ratingResult() == null ? null : GameServerMessage.RatingChange.from(frame.ratingResult()),
+                audienceRole.name(), frame.spectatorCount(), frame.seq(),
+                audienceRole == AudienceRole.PLAYER ? frame.ack() : null, frame.latency())));
+    }
+
+    /**
+     * 설명:
+     *   - 바이너리 프레임은 크기를 아끼기 위해 델타 인코더가 지연 값을 실은 틱(값 변경 또는 키프레임 주기)에만 싣는다.
+     */
+    private static PlayerLatency binaryLatency(StateFrame frame) {
+        return frame.delta() == null ? frame.latency() : frame.delta().latency();
+    }
+
+    /**
+     * 설명:
+     *   - 이번 틱 스냅샷과 리플레이 진행 위치로 체크포인트를 만든다. 리플레이 기록 직후라 위치가 스냅샷과 일치한다.
+     */
+    private RoomCheckpoint checkpoint(GameRoom room, GameSnapshot snapshot) {
+        String roomId = room.getRoomId();
+        return new RoomCheckpoint(roomId, room.getMatchType(), room.getLeftPlayer().getId(),
+                room.getRightPlayer().getId(), room.getTickCount(), snapshot, room.getStartedAt(),
+                replayService.recordingStartedAtMs(roomId), replayService.recordedEventCount(roomId),
+                System.currentTimeMillis());
+    }
+
+    private InputAck inputAck(GameRoom room) {
+        return new InputAck(room.leftProcessedSeq(), room.rightProcessedSeq());
+    }
+
+    private static PlayerLatency playerLatency(GameRoom room) {
+        return new PlayerLatency(toMillis(room.leftRttNanos()), toMillis(room.leftJitterNanos()),
+                toMillis(room.rightRttNanos()), toMillis(room.rightJitterNanos()));
+    }
+
+    private static int toMillis(long nanos) {
+        return (int) Math.min(TimeUnit.NANOSECONDS.toMillis(nanos), Integer.MAX_VALUE);
+    }
+
+    private int binaryFlags(MatchType matchType, AudienceRole audienceRole) {
+        return (matchType == MatchType.RANKED ? BinaryFrameCodec.FLAG_RANKED : 0)
+                | (audienceRole == AudienceRole.SPECTATOR ? BinaryFrameCodec.FLAG_SPECTATOR : 0);
+    }
+
+    private record StateFrame(String roomId, long seq, GameSnapshot snapshot, DeltaFrame delta, InputAck ack,
+            PlayerLatency latency, MatchType matchType, GameResult ratingResult, int spectatorCount, int shard) {
     }
 
     public enum AudienceRole {
@@ -244,8 +1032,23 @@ public class GameRoomService {
         SPECTATOR
     }
 
+    /**
+     * 설명:
+     *   - 버려진 방 만료 사유. 메트릭 reason 태그로도 쓴다.
+     */
+    public enum RoomExpiry {
+        NOT_STARTED,
+        DISCONNECTED,
+        MAX_DURATION
+    }
+
+    /**
+     * 설명:
+     *   - 전체 JSON 서버 메시지. tick은 방 틱 번호이고, ack는 플레이어 메시지에만 채워지는 플레이어별 처리 INPUT seq다.
+     *   - latency는 좌/우 플레이어의 평활 RTT/지터(ms)다.
+     */
     public record GameServerMessage(String type, GameSnapshot snapshot, String matchType, RatingChange ratingChange,
-            String audienceRole, int spectatorCount) {
+            String audienceRole, int spectatorCount, long tick, InputAck ack, PlayerLatency latency) {
 
         public record RatingChange(Long winnerId, int winnerDelta, Long loserId, int loserDelta) {
 
@@ -271,8 +1074,40 @@ public class GameRoomService {
         }
     }
 
+    /**
+     * 설명:
+     *   - 델타 프로토콜(v2) 서버 메시지. 키프레임(key=true)에는 전체 필드와 방/역할 정보가,
+     *     델타에는 base 이후 바뀐 필드(d)만 담긴다. null 필드는 직렬화하지 않는다.
+     *   - seq는 방 틱 번호이며, ack는 플레이어 메시지에서 키프레임이거나 값이 바뀐 경우에만 담긴다.
+     *   - latency(좌/우 RTT/지터 ms)는 키프레임이거나 값이 바뀐 경우에만 담긴다.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record GameDeltaMessage(String type, int v, long seq, Long base, Boolean key, String matchType,
+            String audienceRole, Integer spectatorCount, GameServerMessage.RatingChange ratingChange,
+            InputAck ack, PlayerLatency latency, Map<String, Object> d) {
+
+        static GameDeltaMessage from(String type, DeltaFrame frame, MatchType matchType, GameResult ratingResult,
+                AudienceRole audienceRole) {
+            boolean keyframe = frame.keyframe();
+            return new GameDeltaMessage(type, GameProtocol.JSON_DELTA.version(), frame.seq(), frame.base(),
+                    keyframe ? Boolean.TRUE : null,
+                    keyframe ? matchType.name() : null,
+                    keyframe ? audienceRole.name() : null,
+                    frame.spectatorCount(),
+                    ratingResult == null ? null : GameServerMessage.RatingChange.from(ratingResult),
+                    audienceRole == AudienceRole.PLAYER ? frame.ack() : null,
+                    frame.latency(),
+                    frame.fields());
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 관전 목록용 방 요약. RTT/지터는 플레이어별 평활 값(ms)이며 0이면 아직 측정 전이다.
+     */
     public record LiveRoomView(String roomId, Long leftPlayerId, String leftNickname, Long rightPlayerId,
             String rightNickname, MatchType matchType, LocalDateTime startedAt, LocalDateTime finishedAt,
-            int spectatorCount, int spectatorLimit) {
+            int spectatorCount, int spectatorLimit, int leftRttMs, int leftJitterMs, int rightRttMs,
+            int rightJitterMs) {
     }
 }
@@ -0,0 +1,93 @@
+package com.codexpong.backend.game.service;
+
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.service.MatchmakingService.MatchTicket;
+import com.codexpong.backend.user.domain.User;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * [인터페이스] backend/src/main/java/com/codexpong/backend/game/service/MatchmakingCluster.java
+ * 설명:
+ *   - 여러 백엔드 노드가 매칭 큐와 티켓을 함께 쓰게 하는 확장 지점이다. 서로 다른 노드에 등록한 사용자끼리도 매칭된다.
+ *   - 모든 연산이 공유 저장소를 전제로 하므로 기본 구현이 없다. game.matchmaking.distributed=true이면 Redis 구현이
+ *     빈으로 등록되고, MatchmakingService는 이 빈이 있을 때만(Optional) 등록/조회/취소/매칭 패스를 모두 이쪽으로 넘긴다.
+ *     빈이 없으면 기존 노드 메모리 큐/티켓을 그대로 쓴다.
+ *   - 짝 선택은 클러스터 리더(leading=true) 한 노드의 주기 패스만 수행하고, 방도 그 노드에 만든다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/backend/v1.1.0-matchmaking-scaling.md
+ */
+public interface MatchmakingCluster {
+
+    /**
+     * 설명:
+     *   - 사용자를 공유 큐에 등록한다. 같은 경기 유형으로 이미 대기 중이면 그 티켓을 돌려준다.
+     */
+    MatchTicket enqueue(User user, MatchType matchType, int rating);
+
+    /**
+     * 설명:
+     *   - 티켓을 조회한다. 큐에서 대기 중인 티켓은 조회할 때마다 만료 시각이 뒤로 밀린다.
+     */
+    Optional<MatchTicket> findTicket(String ticketId);
+
+    /**
+     * 설명:
+     *   - 큐에서 실제로 빼낸 경우에만 CANCELLED로 바꾸고, 아니면 현재 티켓을 그대로 돌려준다.
+     */
+    Optional<MatchTicket> cancel(String ticketId);
+
+    /**
+     * 설명:
+     *   - 이 노드가 매칭 리더 임대를 갖고 있는지. 호출할 때마다 임대를 갱신(또는 비어 있으면 획득)한다.
+     */
+    boolean leading();
+
+    /**
+     * 설명:
+     *   - 허용 창 안의 짝을 원자적으로 꺼낸다. 꺼낸 티켓은 다른 노드가 다시 꺼낼 수 없다.
+     */
+    List<ClaimedPair> claimPairs(MatchType matchType);
+
+    /**
+     * 설명:
+     *   - 꺼낸 짝의 방이 만들어졌음을 기록해 두 티켓을 MATCHED로 바꾼다.
+     */
+    void matched(ClaimedPair pair, MatchType matchType, String roomId);
+
+    /**
+     * 설명:
+     *   - 방 생성에 실패한 짝을 원래 점수(레이팅, 등록 시각)로 큐에 되돌린다.
+     */
+    void release(ClaimedPair pair, MatchType matchType);
+
+    /**
+     * 설명:
+     *   - 어느 노드에서든 티켓이 MATCHED/CANCELLED로 확정되면 ticketId로 호출할 콜백을 등록한다(롱 폴링 깨우기).
+     */
+    void onTicketDecided(Consumer<String> listener);
+
+    int waitingCount(MatchType matchType);
+
+    long abandonedTicketCount();
+
+    /**
+     * 설명:
+     *   - 큐에서 꺼낸 티켓 하나. waitedMillis는 꺼낸 시점까지의 대기 시간이다.
+     */
+    record ClaimedTicket(String ticketId, User user, int rating, long enqueuedAtMillis, long waitedMillis) {
+    }
+
+    /**
+     * 설명:
+     *   - 꺼낸 짝. 먼저 기다린 쪽이 first(왼쪽 플레이어)다.
+     */
+    record ClaimedPair(ClaimedTicket first, ClaimedTicket second) {
+
+        public int ratingGap() {
+            return Math.abs(first.rating() - second.rating());
+        }
+    }
+}
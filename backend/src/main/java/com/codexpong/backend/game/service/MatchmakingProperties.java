@@ -0,0 +1,135 @@
+package com.codexpong.backend.game.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * [설정] backend/src/main/java/com/codexpong/backend/game/service/MatchmakingProperties.java
+ * 설명:
+ *   - 랭크 큐의 레이팅 허용 범위(창) 설정을 묶는다.
+ *   - 대기자의 허용 창은 initialRatingWindow에서 시작해 대기 1초마다 ratingWindowGrowthPerSecond만큼 넓어지고
+ *     maxRatingWindow에서 멈춘다. 두 대기자의 레이팅 차이가 양쪽 창 모두에 들어와야 매칭된다.
+ *   - passIntervalMs: 넓어진 창으로 대기자 전체를 다시 짝짓는 주기 매칭 패스 간격(0 이하면 등록 시점 매칭만 수행).
+ *   - waitingTicketTtlMs: 대기 티켓을 이 시간 동안 조회(폴링)하지 않으면 버려진 것으로 보고 큐에서 뺀다.
+ *   - ticketTtlMs: MATCHED/CANCELLED 티켓을 조회할 수 있도록 남겨 두는 시간.
+ *   - batchMode: 요청 스레드 즉시 매칭 대신 passIntervalMs 주기 사이클로만 매칭한다(0 이하 간격이면 기본 간격 사용).
+ *     batchWaitPenaltyPerSecond는 사이클에서 대기자를 다음 사이클로 미룰 때 대기 1초당 더하는 벌점(레이팅 점수 단위)이다.
+ *   - distributed: 큐와 티켓을 Redis에 두어 여러 노드가 함께 매칭한다(기본 false, 단일 노드 메모리 큐).
+ *     keyPrefix는 Redis 키 접두사, leaderLeaseMs는 매칭 패스를 도는 리더 임대 기간이다(패스 간격의 3배 미만이면 3배로 늘린다).
+ *   - longPollMaxWaitMs: 티켓 상태 조회(waitMs)가 확정을 기다릴 수 있는 최대 시간. waitingTicketTtlMs보다 짧아야
+ *     기다리는 동안 티켓이 버려짐으로 만료되지 않는다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/backend/v1.1.0-matchmaking-scaling.md
+ */
+@ConfigurationProperties(prefix = "game.matchmaking")
+public class MatchmakingProperties {
+
+    private int initialRatingWindow = 100;
+    private int ratingWindowGrowthPerSecond = 20;
+    private int maxRatingWindow = 800;
+    private long passIntervalMs = 1000;
+    private long waitingTicketTtlMs = 30000;
+    private long ticketTtlMs = 60000;
+    private boolean batchMode = false;
+    private long batchWaitPenaltyPerSecond = 10;
+    private boolean distributed = false;
+    private String keyPrefix = "codexpong:match";
+    private long leaderLeaseMs = 5000;
+    private long longPollMaxWaitMs = 25000;
+
+    public int getInitialRatingWindow() {
+        return initialRatingWindow;
+    }
+
+    public void setInitialRatingWindow(int initialRatingWindow) {
+        this.initialRatingWindow = initialRatingWindow;
+    }
+
+    public int getRatingWindowGrowthPerSecond() {
+        return ratingWindowGrowthPerSecond;
+    }
+
+    public void setRatingWindowGrowthPerSecond(int ratingWindowGrowthPerSecond) {
+        this.ratingWindowGrowthPerSecond = ratingWindowGrowthPerSecond;
+    }
+
+    public int getMaxRatingWindow() {
+        return maxRatingWindow;
+    }
+
+    public void setMaxRatingWindow(int maxRatingWindow) {
+        this.maxRatingWindow = maxRatingWindow;
+    }
+
+    public long getPassIntervalMs() {
+        return passIntervalMs;
+    }
+
+    public void setPassIntervalMs(long passIntervalMs) {
+        this.passIntervalMs = passIntervalMs;
+    }
+
+    public long getWaitingTicketTtlMs() {
+        return waitingTicketTtlMs;
+    }
+
+    public void setWaitingTicketTtlMs(long waitingTicketTtlMs) {
+        this.waitingTicketTtlMs = waitingTicketTtlMs;
+    }
+
+    public long getTicketTtlMs() {
+        return ticketTtlMs;
+    }
+
+    public void setTicketTtlMs(long ticketTtlMs) {
+        this.ticketTtlMs = ticketTtlMs;
+    }
+
+    public boolean isBatchMode() {
+        return batchMode;
+    }
+
+    public void setBatchMode(boolean batchMode) {
+        this.batchMode = batchMode;
+    }
+
+    public long getBatchWaitPenaltyPerSecond() {
+        return batchWaitPenaltyPerSecond;
+    }
+
+    public void setBatchWaitPenaltyPerSecond(long batchWaitPenaltyPerSecond) {
+        this.batchWaitPenaltyPerSecond = batchWaitPenaltyPerSecond;
+    }
+
+    public boolean isDistributed() {
+        return distributed;
+    }
+
+    public void setDistributed(boolean distributed) {
+        this.distributed = distributed;
+    }
+
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    public void setKeyPrefix(String keyPrefix) {
+        this.keyPrefix = keyPrefix;
+    }
+
+    public long getLeaderLeaseMs() {
+        return leaderLeaseMs;
+    }
+
+    public void setLeaderLeaseMs(long leaderLeaseMs) {
+        this.leaderLeaseMs = leaderLeaseMs;
+    }
+
+    public long getLongPollMaxWaitMs() {
+        return longPollMaxWaitMs;
+    }
+
+    public void setLongPollMaxWaitMs(long longPollMaxWaitMs) {
+        this.longPollMaxWaitMs = longPollMaxWaitMs;
+    }
+}
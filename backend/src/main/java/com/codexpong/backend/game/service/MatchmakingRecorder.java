@@ -0,0 +1,41 @@
+package com.codexpong.backend.game.service;
+
+import com.codexpong.backend.game.domain.MatchType;
+
+/**
+ * [인터페이스] backend/src/main/java/com/codexpong/backend/game/service/MatchmakingRecorder.java
+ * 설명:
+ *   - 매칭이 성사될 때 플레이어별 대기 시간과 매치의 레이팅 차이를 전달받는 기록기다.
+ *   - MatchmakingService는 기록만 호출하고 히스토그램 구성과 노출은 구현(관리자 메트릭)에 맡긴다.
+ *   - 두 분포를 함께 보며 허용 창 초기값/증가 속도를 조정한다(창이 좁으면 대기 시간, 넓으면 레이팅 차이가 늘어난다).
+ *   - 주기 패스(배치 사이클)의 소요 시간도 남겨 방 생성이 한 번에 몰리는 폭을 본다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/backend/v1.1.0-matchmaking-scaling.md
+ */
+public interface MatchmakingRecorder {
+
+    MatchmakingRecorder NOOP = new MatchmakingRecorder() {
+    };
+
+    /**
+     * 설명:
+     *   - 큐 등록부터 매칭 성사까지 플레이어 한 명의 대기 시간.
+     */
+    default void recordQueueTime(MatchType matchType, long waitNanos) {
+    }
+
+    /**
+     * 설명:
+     *   - 성사된 매치 한 건의 두 플레이어 레이팅 차이(절대값).
+     */
+    default void recordRatingGap(MatchType matchType, int ratingGap) {
+    }
+
+    /**
+     * 설명:
+     *   - 주기 매칭 패스 한 번(경기 유형 하나)의 짝 선택과 방 생성 전체 소요 시간.
+     */
+    default void recordCycle(MatchType matchType, int pairs, long nanos) {
+    }
+}
@@ -2,13 +2,30 @@ package com.codexpong.backend.game.service;
 
 import com.codexpong.backend.game.domain.GameRoom;
 import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.loop.TimerWheel;
+import com.codexpong.backend.game.service.MatchmakingCluster.ClaimedPair;
+import com.codexpong.backend.game.service.RatingQueue.Candidate;
+import com.codexpong.backend.game.service.RatingQueue.Pair;
 import com.codexpong.backend.user.domain.User;
+import jakarta.annotation.PreDestroy;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 /**
@@ -16,58 +33,471 @@ import org.springframework.stereotype.Service;
  * 설명:
  *   - v0.3.0 빠른 대전 큐를 관리하고 두 사용자를 매칭해 GameRoom을 생성한다.
  *   - 대기열은 메모리 기반이며 동일 사용자의 중복 대기를 방지한다.
- * 버전: v0.4.0
+ *   - v1.1.0부터 랭크 큐는 FIFO 대신 레이팅 색인 큐(RatingQueue)를 쓴다. 등록 시 초기 창으로 즉시 짝을 찾고,
+ *     못 찾으면 주기 매칭 패스가 대기 시간에 따라 넓어진 창으로 가장 가까운 상대와 짝짓는다.
+ *   - 매칭이 성사되면 기다리던 사용자의 티켓도 같은 ticketId로 MATCHED가 되어 폴링으로 roomId를 받는다.
+ *   - 플레이어별 대기 시간과 매치 레이팅 차이를 MatchmakingRecorder로 남긴다.
+ *   - 중복 대기 확인은 (사용자, 경기 유형)→현재 티켓 색인으로 O(1)에 한다. WAITING이거나 방이 살아 있는 MATCHED
+ *     티켓만 현재 티켓으로 인정하고, 그 밖에는 새 티켓을 발급한다.
+ *   - 티켓은 타이머 휠로 만료시킨다. WAITING은 마지막 등록/조회 후 waitingTicketTtlMs 동안 조회가 없으면
+ *     버려진 것으로 보고 큐에서 빼며, MATCHED/CANCELLED는 확정 후 ticketTtlMs 동안만 조회할 수 있다.
+ *   - 배치 모드(batchMode)에서는 요청 스레드가 매칭하지 않고 티켓만 등록한다. 주기 사이클이 경기 유형별 대기자 전체를
+ *     레이팅 차이 합과 대기 시간 벌점이 최소가 되도록 짝지은 뒤(RatingQueue.pollBatch) 방을 한 번에 만든다.
+ *     일반 큐도 배치 모드에서는 창 제한 없는 레이팅 색인 큐를 쓴다.
+ *   - 공유 매칭(MatchmakingCluster 빈이 있을 때)이면 큐와 티켓을 노드 밖(Redis)에 두고 등록/조회/취소를 그쪽에 맡긴다.
+ *     요청 스레드는 매칭하지 않고, 리더 임대를 가진 노드의 주기 패스만 짝을 꺼내 자기 노드에 방을 만든다.
+ *   - 롱 폴링용으로 대기 티켓의 확정(MATCHED/CANCELLED)을 기다리는 future를 발급한다. 메모리 모드는 확정하는 스레드가,
+ *     공유 모드는 클러스터의 티켓 확정 알림이 바로 완료시킨다.
+ * 버전: v1.1.0
  * 관련 설계문서:
  *   - design/backend/v0.4.0-ranking-system.md
+ *   - design/backend/v1.1.0-matchmaking-scaling.md
+ * 변경 이력:
+ *   - v1.1.0: 레이팅 색인 랭크 큐, 넓어지는 허용 창, 주기 매칭 패스, 대기 시간/레이팅 차이 기록 추가
+ *   - v1.1.0: 사용자별 티켓 색인, 티켓 TTL 만료, 대기 취소 추가
+ *   - v1.1.0: 배치 매칭 사이클 모드 추가
+ *   - v1.1.0: MatchmakingCluster로 여러 노드 공유 큐(리더 패스) 지원
+ *   - v1.1.0: 티켓 확정 대기(롱 폴링) 지원
  */
 @Service
 public class MatchmakingService {
 
-    private final Map<MatchType, Queue<User>> waitingQueues = new ConcurrentHashMap<>();
-    private final Map<String, MatchTicket> tickets = new ConcurrentHashMap<>();
+    private static final Logger log = LoggerFactory.getLogger(MatchmakingService.class);
+
+    static final String WAITING = "WAITING";
+    static final String MATCHED = "MATCHED";
+    static final String CANCELLED = "CANCELLED";
+    static final long TICKET_WHEEL_TICK_MS = 1000;
+
+    private final Map<MatchType, Queue<Candidate>> waitingQueues = new ConcurrentHashMap<>();
+    private final Map<String, TrackedTicket> tickets = new ConcurrentHashMap<>();
+    private final Map<QueueKey, String> activeTickets = new ConcurrentHashMap<>();
+    private final Map<String, Set<CompletableFuture<MatchTicket>>> decisionWaiters = new ConcurrentHashMap<>();
+    private final LongAdder abandonedTickets = new LongAdder();
     private final GameRoomService gameRoomService;
+    private final Map<MatchType, RatingQueue> ratingQueues = new EnumMap<>(MatchType.class);
+    private final boolean batchMode;
+    private final long batchWaitPenaltyPerSecond;
+    private final MatchmakingRecorder recorder;
+    private final Optional<MatchmakingCluster> sharedCluster;
+    private final LongSupplier clock;
+    private final TimerWheel<String> ticketExpiry;
+    private final long waitingTicketTtlMillis;
+    private final long ticketTtlMillis;
+    private final ScheduledExecutorService passScheduler;
 
     public MatchmakingService(GameRoomService gameRoomService) {
+        this(gameRoomService, new MatchmakingProperties(), MatchmakingRecorder.NOOP, System::nanoTime);
+    }
+
+    @Autowired
+    public MatchmakingService(GameRoomService gameRoomService, MatchmakingProperties properties,
+            MatchmakingRecorder recorder, Optional<MatchmakingCluster> sharedCluster) {
+        this(gameRoomService, properties, recorder, sharedCluster, System::nanoTime);
+        long passIntervalMs = properties.getPassIntervalMs();
+        if (passIntervalMs <= 0 && (batchMode || sharedCluster.isPresent())) {
+            // 배치/공유 모드는 사이클 없이는 아무도 매칭되지 않으므로 기본 간격으로 돌린다.
+            passIntervalMs = new MatchmakingProperties().getPassIntervalMs();
+        }
+        if (passIntervalMs > 0) {
+            passScheduler.scheduleWithFixedDelay(this::runMatchPass, passIntervalMs, passIntervalMs,
+                    TimeUnit.MILLISECONDS);
+        }
+        passScheduler.scheduleWithFixedDelay(this::evictExpiredTickets, TICKET_WHEEL_TICK_MS, TICKET_WHEEL_TICK_MS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    MatchmakingService(GameRoomService gameRoomService, MatchmakingProperties properties,
+            MatchmakingRecorder recorder, LongSupplier clock) {
+        this(gameRoomService, properties, recorder, Optional.empty(), clock);
+    }
+
+    MatchmakingService(GameRoomService gameRoomService, MatchmakingProperties properties,
+            MatchmakingRecorder recorder, Optional<MatchmakingCluster> sharedCluster, LongSupplier clock) {
         this.gameRoomService = gameRoomService;
+        this.batchMode = properties.isBatchMode();
+        this.batchWaitPenaltyPerSecond = Math.max(0, properties.getBatchWaitPenaltyPerSecond());
+        ratingQueues.put(MatchType.RANKED, new RatingQueue(properties.getInitialRatingWindow(),
+                properties.getRatingWindowGrowthPerSecond(), properties.getMaxRatingWindow()));
+        if (batchMode) {
+            ratingQueues.put(MatchType.NORMAL, new RatingQueue(RatingQueue.UNBOUNDED_WINDOW, 0,
+                    RatingQueue.UNBOUNDED_WINDOW));
+        }
+        this.recorder = recorder;
+        this.sharedCluster = sharedCluster;
+        this.clock = clock;
+        sharedCluster.ifPresent(cluster -> cluster.onTicketDecided(this::sharedTicketDecided));
+        this.ticketExpiry = new TimerWheel<>(TICKET_WHEEL_TICK_MS, 3, nowMillis());
+        this.waitingTicketTtlMillis = Math.max(TICKET_WHEEL_TICK_MS, properties.getWaitingTicketTtlMs());
+        this.ticketTtlMillis = Math.max(TICKET_WHEEL_TICK_MS, properties.getTicketTtlMs());
+        this.passScheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "matchmaking-pass");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        passScheduler.shutdownNow();
     }
 
     /**
      * 설명:
      *   - 사용자를 빠른 대전 큐에 추가하고 즉시 매칭 가능한 경우 방을 생성한다.
+     *   - 랭크 큐는 초기 허용 창 안에 상대가 있을 때만 즉시 매칭하고, 없으면 주기 패스를 기다린다.
+     *   - 이미 대기 중이거나 진행 중인 방에 매칭된 티켓이 있으면 그 티켓을 그대로 돌려준다.
+     *   - 배치 모드와 공유 모드에서는 큐에 넣기만 하고 WAITING 티켓을 돌려준다.
      */
     public MatchTicket enqueue(User user, MatchType matchType) {
-        Optional<MatchTicket> existing = tickets.values().stream()
-                .filter(ticket -> ticket.userId().equals(user.getId()) && ticket.matchType() == matchType
-                        && !ticket.status().equals("CANCELLED"))
-                .findFirst();
-        if (existing.isPresent()) {
-            return existing.get();
-        }
-        User opponent = queueFor(matchType).poll();
-        if (opponent != null && !opponent.getId().equals(user.getId())) {
-            GameRoom room = gameRoomService.createRoom(opponent, user, matchType);
-            MatchTicket opponentTicket = new MatchTicket(UUID.randomUUID().toString(), opponent.getId(), matchType,
-                    "MATCHED", room.getRoomId());
-            tickets.put(opponentTicket.ticketId(), opponentTicket);
-            MatchTicket myTicket = new MatchTicket(UUID.randomUUID().toString(), user.getId(), matchType, "MATCHED",
-                    room.getRoomId());
-            tickets.put(myTicket.ticketId(), myTicket);
-            return myTicket;
-        }
-        queueFor(matchType).offer(user);
-        MatchTicket ticket = new MatchTicket(UUID.randomUUID().toString(), user.getId(), matchType, "WAITING", null);
-        tickets.put(ticket.ticketId(), ticket);
+        if (sharedCluster.isPresent()) {
+            return sharedCluster.get().enqueue(user, matchType, rating(user));
+        }
+        QueueKey key = new QueueKey(user.getId(), matchType);
+        long now = clock.getAsLong();
+        long nowMillis = toMillis(now);
+        MatchTicket ticket = new MatchTicket(UUID.randomUUID().toString(), user.getId(), matchType, WAITING, null);
+        TrackedTicket tracked = new TrackedTicket(ticket, nowMillis + waitingTicketTtlMillis);
+        tickets.put(ticket.ticketId(), tracked);
+        while (true) {
+            String existingId = activeTickets.putIfAbsent(key, ticket.ticketId());
+            if (existingId == null) {
+                break;
+            }
+            TrackedTicket existing = tickets.get(existingId);
+            if (existing != null && isCurrent(existing.ticket)) {
+                tickets.remove(ticket.ticketId(), tracked);
+                existing.touch(nowMillis + waitingTicketTtlMillis);
+                return existing.ticket;
+            }
+            activeTickets.remove(key, existingId);
+        }
+        ticketExpiry.schedule(ticket.ticketId(), tracked.expiresAtMillis);
+        RatingQueue ratingQueue = ratingQueues.get(matchType);
+        if (ratingQueue != null) {
+            Candidate self = ratingQueue.add(user, ticket.ticketId(), now);
+            Pair pair = batchMode ? null : ratingQueue.poll(self, now);
+            return pair == null ? ticket : match(pair, matchType, now).get(ticket.ticketId());
+        }
+        Candidate self = new Candidate(user, ticket.ticketId(), rating(user), now, 0);
+        Candidate opponent = queueFor(matchType).poll();
+        if (opponent != null && !opponent.user().getId().equals(user.getId())) {
+            return match(new Pair(opponent, self), matchType, now).get(ticket.ticketId());
+        }
+        queueFor(matchType).offer(self);
         return ticket;
     }
 
+    /**
+     * 설명:
+     *   - 티켓을 조회한다. 대기 중인 티켓은 조회(폴링)할 때마다 버려짐 판정 시각이 뒤로 밀린다.
+     */
     public Optional<MatchTicket> findTicket(String ticketId) {
-        return Optional.ofNullable(tickets.get(ticketId));
+        if (sharedCluster.isPresent()) {
+            return sharedCluster.get().findTicket(ticketId);
+        }
+        TrackedTicket tracked = tickets.get(ticketId);
+        if (tracked == null) {
+            return Optional.empty();
+        }
+        if (WAITING.equals(tracked.ticket.status())) {
+            tracked.touch(nowMillis() + waitingTicketTtlMillis);
+        }
+        return Optional.of(tracked.ticket);
+    }
+
+    /**
+     * 설명:
+     *   - 대기 중인 티켓을 취소하고 큐에서 뺀다. 이미 매칭되었거나 매칭이 진행 중이면 취소하지 않고 현재 티켓을 돌려준다.
+     * 출력:
+     *   - 취소 후(또는 취소할 수 없었던) 티켓. 티켓이 없으면 비어 있다.
+     */
+    public Optional<MatchTicket> cancel(String ticketId) {
+        if (sharedCluster.isPresent()) {
+            return sharedCluster.get().cancel(ticketId);
+        }
+        TrackedTicket tracked = tickets.get(ticketId);
+        if (tracked == null) {
+            return Optional.empty();
+        }
+        MatchTicket ticket = tracked.ticket;
+        if (WAITING.equals(ticket.status()) && removeFromQueue(ticket)) {
+            tracked.complete(withStatus(ticket, CANCELLED, null), nowMillis() + ticketTtlMillis);
+            activeTickets.remove(new QueueKey(ticket.userId(), ticket.matchType()), ticketId);
+            notifyDecided(tracked.ticket);
+        }
+        return Optional.of(tracked.ticket);
+    }
+
+    /**
+     * 설명:
+     *   - 티켓이 MATCHED/CANCELLED로 확정되는 순간 완료되는 future를 돌려준다. 이미 확정된 티켓이면 바로 완료된다.
+     *   - 기다림을 그만두는 호출자(롱 폴링 타임아웃 등)는 future를 cancel해 등록을 지운다.
+     */
+    public CompletableFuture<MatchTicket> awaitDecision(MatchTicket ticket) {
+        if (!WAITING.equals(ticket.status())) {
+            return CompletableFuture.completedFuture(ticket);
+        }
+        String ticketId = ticket.ticketId();
+        CompletableFuture<MatchTicket> decision = new CompletableFuture<>();
+        decisionWaiters.compute(ticketId, (key, waiters) -> {
+            Set<CompletableFuture<MatchTicket>> registered = waiters != null ? waiters : ConcurrentHashMap.newKeySet();
+            registered.add(decision);
+            return registered;
+        });
+        decision.whenComplete((result, ex) -> decisionWaiters.computeIfPresent(ticketId, (key, waiters) -> {
+            waiters.remove(decision);
+            return waiters.isEmpty() ? null : waiters;
+        }));
+        // 등록 직전에 확정된 경우를 놓치지 않도록 등록 뒤 한 번 더 본다.
+        findTicket(ticketId).filter(current -> !WAITING.equals(current.status())).ifPresent(decision::complete);
+        return decision;
+    }
+
+    /**
+     * 설명:
+     *   - 확정을 기다리는 롱 폴링 요청 수(티켓이 아니라 future 기준).
+     */
+    public int decisionWaiterCount() {
+        int count = 0;
+        for (Set<CompletableFuture<MatchTicket>> waiters : decisionWaiters.values()) {
+            count += waiters.size();
+        }
+        return count;
+    }
+
+    /**
+     * 설명:
+     *   - 주기 매칭 패스. 기본 모드는 랭크 큐를 넓어진 창으로 다시 짝짓고, 배치 모드는 레이팅 색인 큐 전체를
+     *     전역 비용 최소로 짝짓는다. 짝은 큐 락 안에서 모두 뽑고, 방은 락 밖에서 한 번에 만든다.
+     *   - 공유 모드는 리더 임대를 가진 노드만 공유 큐에서 짝을 꺼내 방을 만든다.
+     * 출력:
+     *   - 이번 패스에서 만든 방 수
+     */
+    public int runMatchPass() {
+        if (sharedCluster.isPresent()) {
+            return runSharedPass(sharedCluster.get());
+        }
+        int created = 0;
+        for (Map.Entry<MatchType, RatingQueue> entry : ratingQueues.entrySet()) {
+            MatchType matchType = entry.getKey();
+            long started = clock.getAsLong();
+            List<Pair> pairs = batchMode ? entry.getValue().pollBatch(started, batchWaitPenaltyPerSecond)
+                    : entry.getValue().pollAll(started);
+            for (Pair pair : pairs) {
+                try {
+                    match(pair, matchType, started);
+                    created++;
+                } catch (RuntimeException ex) {
+                    log.warn("매칭 방 생성에 실패했습니다. matchType={}, users={},{}", matchType,
+                            pair.first().user().getId(), pair.second().user().getId(), ex);
+                }
+            }
+            recorder.recordCycle(matchType, pairs.size(), clock.getAsLong() - started);
+        }
+        return created;
+    }
+
+    private int runSharedPass(MatchmakingCluster cluster) {
+        if (!cluster.leading()) {
+            return 0;
+        }
+        int created = 0;
+        for (MatchType matchType : MatchType.values()) {
+            long started = clock.getAsLong();
+            List<ClaimedPair> pairs = cluster.claimPairs(matchType);
+            for (ClaimedPair pair : pairs) {
+                try {
+                    GameRoom room = gameRoomService.createRoom(pair.first().user(), pair.second().user(), matchType);
+                    cluster.matched(pair, matchType, room.getRoomId());
+                    created++;
+                } catch (RuntimeException ex) {
+                    cluster.release(pair, matchType);
+                    log.warn("공유 매칭 방 생성에 실패해 짝을 큐에 되돌립니다. matchType={}, tickets={},{}", matchType,
+                            pair.first().ticketId(), pair.second().ticketId(), ex);
+                    continue;
+                }
+                recorder.recordQueueTime(matchType, TimeUnit.MILLISECONDS.toNanos(pair.first().waitedMillis()));
+                recorder.recordQueueTime(matchType, TimeUnit.MILLISECONDS.toNanos(pair.second().waitedMillis()));
+                recorder.recordRatingGap(matchType, pair.ratingGap());
+            }
+            recorder.recordCycle(matchType, pairs.size(), clock.getAsLong() - started);
+        }
+        return created;
+    }
+
+    /**
+     * 설명:
+     *   - 만료 시각이 지난 티켓을 정리한다. 관리 스레드가 휠 한 칸마다 호출한다.
+     * 출력:
+     *   - 이번 호출에서 울린 만료 타이머 수(조회로 연장되어 다시 건 타이머 포함)
+     */
+    int evictExpiredTickets() {
+        return ticketExpiry.advance(nowMillis(), this::expireTicket);
     }
 
-    private Queue<User> queueFor(MatchType matchType) {
+    public int waitingCount(MatchType matchType) {
+        if (sharedCluster.isPresent()) {
+            return sharedCluster.get().waitingCount(matchType);
+        }
+        RatingQueue ratingQueue = ratingQueues.get(matchType);
+        return ratingQueue != null ? ratingQueue.size() : queueFor(matchType).size();
+    }
+
+    public int ticketCount() {
+        return tickets.size();
+    }
+
+    public long abandonedTicketCount() {
+        return abandonedTickets.sum() + sharedCluster.map(MatchmakingCluster::abandonedTicketCount).orElse(0L);
+    }
+
+    private Map<String, MatchTicket> match(Pair pair, MatchType matchType, long nowNanos) {
+        Candidate first = pair.first();
+        Candidate second = pair.second();
+        GameRoom room = gameRoomService.createRoom(first.user(), second.user(), matchType);
+        long expiresAt = toMillis(nowNanos) + ticketTtlMillis;
+        MatchTicket firstTicket = complete(first, matchType, room.getRoomId(), expiresAt);
+        MatchTicket secondTicket = complete(second, matchType, room.getRoomId(), expiresAt);
+        recorder.recordQueueTime(matchType, nowNanos - first.enqueuedNanos());
+        recorder.recordQueueTime(matchType, nowNanos - second.enqueuedNanos());
+        recorder.recordRatingGap(matchType, pair.ratingGap());
+        return Map.of(firstTicket.ticketId(), firstTicket, secondTicket.ticketId(), secondTicket);
+    }
+
+    private MatchTicket complete(Candidate candidate, MatchType matchType, String roomId, long expiresAtMillis) {
+        MatchTicket matched = new MatchTicket(candidate.ticketId(), candidate.user().getId(), matchType, MATCHED,
+                roomId);
+        TrackedTicket tracked = tickets.get(candidate.ticketId());
+        if (tracked == null) {
+            // 큐에서 빠진 뒤에는 만료/취소가 티켓을 지우지 않으므로 여기 오지 않지만, 색인과 어긋나지 않게 다시 건다.
+            tracked = new TrackedTicket(matched, expiresAtMillis);
+            tickets.put(matched.ticketId(), tracked);
+            ticketExpiry.schedule(matched.ticketId(), expiresAtMillis);
+        } else {
+            tracked.complete(matched, expiresAtMillis);
+        }
+        notifyDecided(matched);
+        return matched;
+    }
+
+    private void expireTicket(String ticketId) {
+        TrackedTicket tracked = tickets.get(ticketId);
+        if (tracked == null) {
+            return;
+        }
+        long now = nowMillis();
+        if (tracked.expiresAtMillis > now) {
+            ticketExpiry.schedule(ticketId, tracked.expiresAtMillis);
+            return;
+        }
+        MatchTicket ticket = tracked.ticket;
+        if (WAITING.equals(ticket.status())) {
+            if (!removeFromQueue(ticket)) {
+                // 큐에서 빠져 방을 만드는 중이다. 확정되면 MATCHED 보관 기간으로 다시 판정한다.
+                ticketExpiry.schedule(ticketId, now + TICKET_WHEEL_TICK_MS);
+                return;
+            }
+            abandonedTickets.increment();
+        }
+        tickets.remove(ticketId, tracked);
+        activeTickets.remove(new QueueKey(ticket.userId(), ticket.matchType()), ticketId);
+    }
+
+    private void notifyDecided(MatchTicket ticket) {
+        Set<CompletableFuture<MatchTicket>> waiters = decisionWaiters.remove(ticket.ticketId());
+        if (waiters != null) {
+            waiters.forEach(waiter -> waiter.complete(ticket));
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 공유 모드에서 어느 노드가 티켓을 확정했다는 알림. 이 노드에 기다리는 요청이 있을 때만 티켓을 읽어 완료시킨다.
+     */
+    private void sharedTicketDecided(String ticketId) {
+        if (!decisionWaiters.containsKey(ticketId)) {
+            return;
+        }
+        findTicket(ticketId).filter(ticket -> !WAITING.equals(ticket.status())).ifPresent(this::notifyDecided);
+    }
+
+    private boolean isCurrent(MatchTicket ticket) {
+        return switch (ticket.status()) {
+            case WAITING -> true;
+            case MATCHED -> ticket.roomId() != null && gameRoomService.findRoom(ticket.roomId()).isPresent();
+            default -> false;
+        };
+    }
+
+    private boolean removeFromQueue(MatchTicket ticket) {
+        RatingQueue ratingQueue = ratingQueues.get(ticket.matchType());
+        if (ratingQueue != null) {
+            return ratingQueue.remove(ticket.userId(), ticket.ticketId());
+        }
+        return queueFor(ticket.matchType()).removeIf(candidate -> candidate.ticketId().equals(ticket.ticketId()));
+    }
+
+    private static MatchTicket withStatus(MatchTicket ticket, String status, String roomId) {
+        return new MatchTicket(ticket.ticketId(), ticket.userId(), ticket.matchType(), status, roomId);
+    }
+
+    private static int rating(User user) {
+        Integer rating = user.getRating();
+        return rating == null ? RatingQueue.DEFAULT_RATING : rating;
+    }
+
+    private long nowMillis() {
+        return toMillis(clock.getAsLong());
+    }
+
+    private static long toMillis(long nanos) {
+        return nanos / 1_000_000L;
+    }
+
+    private Queue<Candidate> queueFor(MatchType matchType) {
         return waitingQueues.computeIfAbsent(matchType, key -> new ConcurrentLinkedQueue<>());
     }
 
-    public record MatchTicket(String ticketId, Long userId, MatchType matchType, String status, String roomId) {
+    /**
+     * 설명:
+     *   - 매칭 티켓. node는 방을 만든 노드 ID로, 공유 모드의 MATCHED 티켓에만 있다(단일 노드면 null).
+     */
+    public record MatchTicket(String ticketId, Long userId, MatchType matchType, String status, String roomId,
+            String node) {
+
+        public MatchTicket(String ticketId, Long userId, MatchType matchType, String status, String roomId) {
+            this(ticketId, userId, matchType, status, roomId, null);
+        }
+    }
+
+    private record QueueKey(Long userId, MatchType matchType) {
+    }
+
+    /**
+     * 설명:
+     *   - 티켓과 만료 시각. 만료 타이머는 등록 시각 기준으로 한 번만 걸고, 울렸을 때 연장된 시각이 남아 있으면
+     *     그때 다시 건다(조회마다 타이머를 취소/재등록하지 않는다).
+     */
+    private static final class TrackedTicket {
+
+        private volatile MatchTicket ticket;
+        private volatile long expiresAtMillis;
+
+        private TrackedTicket(MatchTicket ticket, long expiresAtMillis) {
+            this.ticket = ticket;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private synchronized void touch(long expiresAtMillis) {
+            if (WAITING.equals(ticket.status())) {
+                this.expiresAtMillis = expiresAtMillis;
+            }
+        }
+
+        private synchronized void complete(MatchTicket ticket, long expiresAtMillis) {
+            this.ticket = ticket;
+            this.expiresAtMillis = expiresAtMillis;
+        }
     }
 }
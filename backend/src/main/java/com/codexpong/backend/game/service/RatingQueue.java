@@ -0,0 +1,215 @@
+package com.codexpong.backend.game.service;
+
+import com.codexpong.backend.user.domain.User;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * [큐] backend/src/main/java/com/codexpong/backend/game/service/RatingQueue.java
+ * 설명:
+ *   - 랭크 대기자를 레이팅 순 정렬 집합(레드-블랙 트리)과 등록 순서 맵 두 가지로 색인한다.
+ *   - 한 대기자의 가장 가까운 상대는 정렬 집합의 바로 아래/위 이웃 중 하나이므로 O(log n)에 찾는다.
+ *   - 허용 창은 대기 시간에 따라 넓어진다. 두 대기자의 레이팅 차이가 양쪽 창 모두에 들어와야 짝이 된다
+ *     (오래 기다린 고레이팅 대기자가 막 들어온 저레이팅 대기자를 끌어오지 않게).
+ *   - 주기 패스는 오래 기다린 순서로 돌며 짝을 지어 대기가 긴 사용자가 먼저 기회를 얻는다.
+ *   - 배치 모드에서는 pollBatch가 대기자 전체를 한 번에 짝짓는다. 레이팅 순으로 정렬된 목록에서 이웃끼리만 짝을
+ *     지으면 레이팅 차이 합이 최소가 되므로, 남길 사람(홀수/창 밖)만 대기 시간 벌점으로 고르는 O(n) DP로 푼다.
+ *   - 모든 연산은 큐 모니터로 직렬화한다. 방 생성 등 무거운 작업은 호출자가 락 밖에서 수행한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/backend/v1.1.0-matchmaking-scaling.md
+ */
+final class RatingQueue {
+
+    static final int DEFAULT_RATING = 1200;
+    static final int UNBOUNDED_WINDOW = Integer.MAX_VALUE;
+
+    /**
+     * 설명:
+     *   - 배치 DP에서 대기자 한 명을 남기는 기본 비용. 어떤 레이팅 차이보다 커서 짝을 지을 수 있으면 항상 짓는다.
+     */
+    private static final long LEFTOVER_COST = 1_000_000L;
+
+    private static final Comparator<Candidate> BY_RATING = Comparator.comparingInt(Candidate::rating)
+            .thenComparingLong(Candidate::sequence);
+
+    private final NavigableSet<Candidate> byRating = new TreeSet<>(BY_RATING);
+    private final Map<Long, Candidate> byUser = new LinkedHashMap<>();
+    private final int initialWindow;
+    private final int growthPerSecond;
+    private final int maxWindow;
+    private long sequence;
+
+    RatingQueue(int initialWindow, int growthPerSecond, int maxWindow) {
+        this.initialWindow = Math.max(0, initialWindow);
+        this.growthPerSecond = Math.max(0, growthPerSecond);
+        this.maxWindow = Math.max(this.initialWindow, maxWindow);
+    }
+
+    synchronized Candidate add(User user, String ticketId, long nowNanos) {
+        Integer rating = user.getRating();
+        Candidate candidate = new Candidate(user, ticketId, rating == null ? DEFAULT_RATING : rating, nowNanos,
+                sequence++);
+        Candidate previous = byUser.put(user.getId(), candidate);
+        if (previous != null) {
+            byRating.remove(previous);
+        }
+        byRating.add(candidate);
+        return candidate;
+    }
+
+    /**
+     * 설명:
+     *   - 해당 티켓으로 대기 중인 사용자를 뺀다. 이미 짝이 지어져 빠졌으면 false다.
+     */
+    synchronized boolean remove(Long userId, String ticketId) {
+        Candidate candidate = byUser.get(userId);
+        if (candidate == null || !candidate.ticketId().equals(ticketId)) {
+            return false;
+        }
+        unlink(candidate);
+        return true;
+    }
+
+    synchronized int size() {
+        return byUser.size();
+    }
+
+    /**
+     * 설명:
+     *   - 방금 등록한 대기자 한 명의 짝을 현재 창으로 찾는다. 찾으면 두 대기자를 큐에서 빼고 반환한다.
+     */
+    synchronized Pair poll(Candidate candidate, long nowNanos) {
+        if (byUser.get(candidate.user().getId()) != candidate) {
+            return null;
+        }
+        Candidate partner = closestAcceptable(candidate, nowNanos);
+        if (partner == null) {
+            return null;
+        }
+        unlink(candidate);
+        unlink(partner);
+        return partner.sequence() < candidate.sequence() ? new Pair(partner, candidate) : new Pair(candidate, partner);
+    }
+
+    /**
+     * 설명:
+     *   - 오래 기다린 순서로 대기자 전체를 돌며 넓어진 창 안의 가장 가까운 상대와 짝짓는다. O(n log n).
+     */
+    synchronized List<Pair> pollAll(long nowNanos) {
+        List<Pair> pairs = new ArrayList<>();
+        for (Candidate candidate : new ArrayList<>(byUser.values())) {
+            if (byUser.get(candidate.user().getId()) != candidate) {
+                continue;
+            }
+            Candidate partner = closestAcceptable(candidate, nowNanos);
+            if (partner != null) {
+                unlink(candidate);
+                unlink(partner);
+                pairs.add(new Pair(candidate, partner));
+            }
+        }
+        return pairs;
+    }
+
+    /**
+     * 설명:
+     *   - 대기자 전체를 한 번에 짝짓는 배치 패스. 비용 = 짝의 레이팅 차이 합 + 남긴 대기자마다
+     *     (LEFTOVER_COST + 대기 초 × waitPenaltyPerSecond). 오래 기다린 사람일수록 남기기 비싸므로 먼저 짝을 얻는다.
+     *   - 레이팅 순 배열에서 cost[i] = min(cost[i-1] + 남김(i), cost[i-2] + 차이(i-1, i))를 계산하고 역추적한다.
+     * 출력:
+     *   - 성사된 짝 목록(각 짝은 먼저 기다린 대기자가 first)
+     */
+    synchronized List<Pair> pollBatch(long nowNanos, long waitPenaltyPerSecond) {
+        Candidate[] sorted = byRating.toArray(new Candidate[0]);
+        int n = sorted.length;
+        if (n < 2) {
+            return List.of();
+        }
+        long[] cost = new long[n + 1];
+        boolean[] paired = new boolean[n + 1];
+        for (int i = 1; i <= n; i++) {
+            Candidate current = sorted[i - 1];
+            cost[i] = cost[i - 1] + LEFTOVER_COST + waitedSeconds(current, nowNanos) * waitPenaltyPerSecond;
+            if (i >= 2 && acceptable(sorted[i - 2], current, nowNanos)) {
+                long pairCost = cost[i - 2] + (current.rating() - sorted[i - 2].rating());
+                if (pairCost < cost[i]) {
+                    cost[i] = pairCost;
+                    paired[i] = true;
+                }
+            }
+        }
+        List<Pair> pairs = new ArrayList<>();
+        for (int i = n; i >= 2; ) {
+            if (paired[i]) {
+                Candidate lower = sorted[i - 2];
+                Candidate upper = sorted[i - 1];
+                unlink(lower);
+                unlink(upper);
+                pairs.add(lower.sequence() < upper.sequence() ? new Pair(lower, upper) : new Pair(upper, lower));
+                i -= 2;
+            } else {
+                i--;
+            }
+        }
+        return pairs;
+    }
+
+    int window(Candidate candidate, long nowNanos) {
+        return (int) Math.min(maxWindow, initialWindow + waitedSeconds(candidate, nowNanos) * growthPerSecond);
+    }
+
+    private static long waitedSeconds(Candidate candidate, long nowNanos) {
+        return Math.max(0, nowNanos - candidate.enqueuedNanos()) / 1_000_000_000L;
+    }
+
+    private Candidate closestAcceptable(Candidate candidate, long nowNanos) {
+        Candidate lower = byRating.lower(candidate);
+        Candidate higher = byRating.higher(candidate);
+        int lowerGap = lower == null ? Integer.MAX_VALUE : candidate.rating() - lower.rating();
+        int higherGap = higher == null ? Integer.MAX_VALUE : higher.rating() - candidate.rating();
+        Candidate nearer = lowerGap <= higherGap ? lower : higher;
+        Candidate farther = nearer == lower ? higher : lower;
+        if (acceptable(candidate, nearer, nowNanos)) {
+            return nearer;
+        }
+        // 가까운 이웃이 막 들어와 창이 좁을 수 있으므로 반대쪽 이웃도 확인한다.
+        return acceptable(candidate, farther, nowNanos) ? farther : null;
+    }
+
+    private boolean acceptable(Candidate candidate, Candidate partner, long nowNanos) {
+        if (partner == null || partner.user().getId().equals(candidate.user().getId())) {
+            return false;
+        }
+        int gap = Math.abs(candidate.rating() - partner.rating());
+        return gap <= window(candidate, nowNanos) && gap <= window(partner, nowNanos);
+    }
+
+    private void unlink(Candidate candidate) {
+        byUser.remove(candidate.user().getId());
+        byRating.remove(candidate);
+    }
+
+    /**
+     * 설명:
+     *   - 대기자 한 명. ticketId는 매칭 성사 시 같은 티켓을 MATCHED로 바꾸는 데 쓴다.
+     */
+    record Candidate(User user, String ticketId, int rating, long enqueuedNanos, long sequence) {
+    }
+
+    /**
+     * 설명:
+     *   - 성사된 짝. first가 먼저 기다린 대기자이며 방의 왼쪽 플레이어가 된다.
+     */
+    record Pair(Candidate first, Candidate second) {
+
+        int ratingGap() {
+            return Math.abs(first.rating() - second.rating());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.codexpong.backend.game.service;
+
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.loop.TickLagListener;
+import com.codexpong.backend.game.service.GameRoomService.AudienceRole;
+
+/**
+ * [인터페이스] backend/src/main/java/com/codexpong/backend/game/service/RealtimeLatencyRecorder.java
+ * 설명:
+ *   - 실시간 경기 루프 구간별 소요 시간을 경기 유형/샤드/방 ID와 함께 전달받는 기록기다.
+ *   - GameRoomService는 기록만 호출하고 히스토그램 구성과 노출은 구현(관리자 메트릭)에 맡긴다.
+ *   - 틱 스레드에서 호출되므로 구현은 할당과 블로킹 없이 즉시 반환해야 한다.
+ *   - 세션 ping/pong 왕복 지연(RTT)과 지터도 같은 기록기로 전달한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public interface RealtimeLatencyRecorder extends TickLagListener {
+
+    RealtimeLatencyRecorder NOOP = new RealtimeLatencyRecorder() {
+    };
+
+    /**
+     * 설명:
+     *   - 샤드 루프 시작 지연. 여러 방이 한 루프를 공유하므로 방/경기 유형 구분이 없다.
+     */
+    @Override
+    default void onLag(int shard, long lagNanos) {
+    }
+
+    /**
+     * 설명:
+     *   - 방 하나의 틱 전체(물리, 리플레이 기록, 브로드캐스트, 종료 처리 포함) 소요 시간.
+     */
+    default void recordTick(MatchType matchType, int shard, String roomId, long nanos) {
+    }
+
+    /**
+     * 설명:
+     *   - 청중×프로토콜 단위 STATE 인코딩 1회 소요 시간.
+     */
+    default void recordEncode(MatchType matchType, int shard, String roomId, long nanos) {
+    }
+
+    /**
+     * 설명:
+     *   - 세션 하나로 STATE를 전송(송신 큐 적재)하는 데 걸린 시간.
+     */
+    default void recordSend(MatchType matchType, int shard, String roomId, long nanos) {
+    }
+
+    /**
+     * 설명:
+     *   - 틱 스냅샷을 리플레이 버퍼에 기록하는 데 걸린 시간.
+     */
+    default void recordReplayAppend(MatchType matchType, int shard, String roomId, long nanos) {
+    }
+
+    /**
+     * 설명:
+     *   - 경기 종료 처리(결과 저장, 리플레이 파일 기록, 최종 브로드캐스트) 소요 시간.
+     */
+    default void recordFinish(MatchType matchType, int shard, String roomId, long nanos) {
+    }
+
+    /**
+     * 설명:
+     *   - `/ws/game` 세션 하나의 pong 수신 시 표본 RTT와 갱신된 평활 지터. pong 처리 스레드에서 호출된다.
+     */
+    default void recordRoundTrip(MatchType matchType, AudienceRole audienceRole, int shard, String roomId,
+            long rttNanos, long jitterNanos) {
+    }
+}
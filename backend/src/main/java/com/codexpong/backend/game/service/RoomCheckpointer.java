@@ -0,0 +1,55 @@
+package com.codexpong.backend.game.service;
+
+import com.codexpong.backend.game.domain.RoomCheckpoint;
+
+/**
+ * [인터페이스] backend/src/main/java/com/codexpong/backend/game/service/RoomCheckpointer.java
+ * 설명:
+ *   - 진행 중인 방의 체크포인트를 받아 저장하는 확장 지점이다. GameRoomService가 틱 스레드에서 주기마다
+ *     RoomCheckpoint를 만들어 넘기고, 구현은 저장(디스크/Redis I/O)을 별도 스레드에서 수행해야 한다.
+ *   - 기본값 NONE은 체크포인트를 만들지 않는다(intervalMillis 0). game.checkpoint.enabled=true이면 저장 구현이 등록된다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public interface RoomCheckpointer {
+
+    RoomCheckpointer NONE = new RoomCheckpointer() {
+    };
+
+    /**
+     * 설명:
+     *   - 체크포인트 주기. 0 이하이면 GameRoomService가 체크포인트를 만들지 않는다.
+     */
+    default long intervalMillis() {
+        return 0;
+    }
+
+    /**
+     * 설명:
+     *   - 틱 스레드가 만든 체크포인트를 넘긴다. 같은 방의 저장 전 체크포인트는 최신 것으로 대체해도 된다.
+     */
+    default void offer(RoomCheckpoint checkpoint) {
+    }
+
+    /**
+     * 설명:
+     *   - 체크포인트에서 복구한 방이 등록되었음을 알린다. 저장소에 이미 있는 리플레이 이벤트 수를 이어받는 데 쓴다.
+     */
+    default void roomResumed(RoomCheckpoint checkpoint) {
+    }
+
+    /**
+     * 설명:
+     *   - 방이 종료/제거되어 더 이상 복구 대상이 아님을 알린다.
+     */
+    default void roomClosed(String roomId) {
+    }
+
+    /**
+     * 설명:
+     *   - 다른 노드가 소유권을 가져가 이 노드가 방을 내려놓았음을 알린다. 저장 대기분만 버리고 저장소는 건드리지 않는다.
+     */
+    default void roomReleased(String roomId) {
+    }
+}
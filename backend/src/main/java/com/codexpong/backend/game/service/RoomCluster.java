@@ -0,0 +1,96 @@
+package com.codexpong.backend.game.service;
+
+import com.codexpong.backend.game.protocol.EncodedFrame;
+import com.codexpong.backend.game.service.GameRoomService.LiveRoomView;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * [인터페이스] backend/src/main/java/com/codexpong/backend/game/service/RoomCluster.java
+ * 설명:
+ *   - 여러 백엔드 노드가 경기 방을 나눠 가질 때 방 소유 등록, 관전 프레임 중계, 클러스터 방 목록을 제공하는 확장 지점이다.
+ *   - 방 상태와 틱 루프는 방을 만든 노드(소유 노드)에만 있고, 다른 노드는 소유 노드가 발행한 인코딩 프레임을
+ *     자기 노드의 관전자 세션으로 전달만 한다.
+ *   - 플레이어는 입력을 소유 노드의 틱 루프에 넣어야 하므로 중계하지 않고, ownerNode로 소유 노드를 알려 그쪽으로 다시 접속하게 한다.
+ *   - 기본값 LOCAL은 단일 노드 동작(원격 관전자 없음)이며, game.cluster.enabled=true이면 Redis 구현이 등록된다.
+ *   - publish는 틱 스레드에서 호출되므로 구현은 네트워크 I/O를 별도 스레드로 넘기고 즉시 반환해야 한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public interface RoomCluster {
+
+    RoomCluster LOCAL = new RoomCluster() {
+    };
+
+    /**
+     * 설명:
+     *   - 소유 노드가 주기적으로 등록(갱신)할 로컬 방 목록 공급자를 연결한다. GameRoomService 생성 시 한 번 호출된다.
+     */
+    default void registerLocalRooms(Supplier<List<LiveRoomView>> localRooms) {
+    }
+
+    /**
+     * 설명:
+     *   - 소유 노드에서 방이 사라졌음을 알린다. 원격 노드는 중계를 멈추고 구독을 해제한다.
+     */
+    default void roomClosed(String roomId) {
+    }
+
+    /**
+     * 설명:
+     *   - 다른 노드에 이 방의 관전자가 있는지. true이면 소유 노드는 모든 프로토콜로 관전 프레임을 인코딩해 발행한다.
+     */
+    default boolean hasRemoteSpectators(String roomId) {
+        return false;
+    }
+
+    default int remoteSpectatorCount(String roomId) {
+        return 0;
+    }
+
+    /**
+     * 설명:
+     *   - 관전 지연을 거친 관전자용 프레임(프로토콜 순서 배열, 없는 프로토콜은 null)을 방 채널로 발행한다.
+     */
+    default void publish(String roomId, EncodedFrame[] spectatorFrames) {
+    }
+
+    /**
+     * 설명:
+     *   - 이 노드에 없는 방의 관전자 세션을 원격 중계 대상으로 붙인다.
+     * 출력:
+     *   - 클러스터에 방이 없거나 종료되었거나 관전자 수가 가득 찼으면 false
+     */
+    default boolean attachRemoteSpectator(String roomId, String sessionId, WebSocketSession session) {
+        return false;
+    }
+
+    default void detachRemoteSpectator(String roomId, String sessionId) {
+    }
+
+    /**
+     * 설명:
+     *   - 원격 델타 관전자가 RESYNC를 보내면 다음 키프레임까지 델타 전달을 멈춘다.
+     */
+    default void requestKeyframe(String roomId, String sessionId) {
+    }
+
+    /**
+     * 설명:
+     *   - 다른 노드가 소유한 진행 중인 방의 소유 노드 ID. 이 노드 소유이거나 클러스터에 없거나 끝난 방이면 비어 있다.
+     */
+    default Optional<String> ownerNode(String roomId) {
+        return Optional.empty();
+    }
+
+    /**
+     * 설명:
+     *   - 다른 노드가 소유한 진행 중인 방 목록. 관전 목록 API가 로컬 방과 합쳐 반환한다.
+     */
+    default List<LiveRoomView> remoteRooms() {
+        return List.of();
+    }
+}
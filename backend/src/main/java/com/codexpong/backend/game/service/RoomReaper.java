@@ -0,0 +1,155 @@
+package com.codexpong.backend.game.service;
+
+import com.codexpong.backend.game.loop.TimerWheel;
+import com.codexpong.backend.game.loop.TimerWheel.Timeout;
+import com.codexpong.backend.game.service.GameRoomService.RoomExpiry;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * [정리기] backend/src/main/java/com/codexpong/backend/game/service/RoomReaper.java
+ * 설명:
+ *   - 버려진 방을 정리하기 위한 방별 만료 타이머를 계층형 TimerWheel 하나로 관리한다.
+ *       NOT_STARTED   방 생성(또는 체크포인트 복구) 후 두 플레이어가 모두 접속해 루프가 시작되지 않음
+ *       DISCONNECTED  루프 시작 후 두 플레이어가 모두 끊긴 상태가 이어짐(재접속하면 취소)
+ *       MAX_DURATION  방 생성 후 최대 경기 시간 초과
+ *   - 만료 시 reap 콜백이 조건을 다시 확인해 방을 정리하고 남은 후처리(세션 닫기)를 돌려준다. 정리했을 때만 사유별로
+ *     먼저 센 뒤 후처리를 실행하므로, 클라이언트가 종료를 받을 때는 메트릭에 이미 반영되어 있다.
+ *   - 타임아웃이 0 이하인 사유는 타이머를 걸지 않는다. advance는 GameRoomService의 관리 스케줄러가 주기적으로 호출한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+final class RoomReaper {
+
+    private final TimerWheel<Expiry> wheel;
+    private final Map<String, Expiry[]> timers = new ConcurrentHashMap<>();
+    private final Map<RoomExpiry, Long> timeouts = new EnumMap<>(RoomExpiry.class);
+    private final Map<RoomExpiry, LongAdder> reaped = new EnumMap<>(RoomExpiry.class);
+    private final LongSupplier clock;
+    private final BiFunction<String, RoomExpiry, Runnable> reap;
+
+    RoomReaper(long tickMillis, long notStartedMillis, long disconnectedMillis, long maxDurationMillis,
+            LongSupplier clock, BiFunction<String, RoomExpiry, Runnable> reap) {
+        this.clock = clock;
+        this.reap = reap;
+        this.wheel = new TimerWheel<>(tickMillis, 4, clock.getAsLong());
+        timeouts.put(RoomExpiry.NOT_STARTED, notStartedMillis);
+        timeouts.put(RoomExpiry.DISCONNECTED, disconnectedMillis);
+        timeouts.put(RoomExpiry.MAX_DURATION, maxDurationMillis);
+        for (RoomExpiry type : RoomExpiry.values()) {
+            reaped.put(type, new LongAdder());
+        }
+    }
+
+    void roomCreated(String roomId) {
+        timers.put(roomId, new Expiry[RoomExpiry.values().length]);
+        arm(roomId, RoomExpiry.NOT_STARTED);
+        arm(roomId, RoomExpiry.MAX_DURATION);
+    }
+
+    void loopStarted(String roomId) {
+        disarm(roomId, RoomExpiry.NOT_STARTED);
+    }
+
+    void allPlayersDisconnected(String roomId) {
+        arm(roomId, RoomExpiry.DISCONNECTED);
+    }
+
+    void playerConnected(String roomId) {
+        disarm(roomId, RoomExpiry.DISCONNECTED);
+    }
+
+    void roomRemoved(String roomId) {
+        Expiry[] expiries = timers.remove(roomId);
+        if (expiries == null) {
+            return;
+        }
+        synchronized (expiries) {
+            for (Expiry expiry : expiries) {
+                if (expiry != null) {
+                    expiry.timeout.cancel();
+                }
+            }
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 현재 시각까지 휠을 진행하고 만료된 방을 정리한다.
+     */
+    void advance() {
+        wheel.advance(clock.getAsLong(), this::expire);
+    }
+
+    int pendingTimers() {
+        return wheel.size();
+    }
+
+    long reaped(RoomExpiry type) {
+        return reaped.get(type).sum();
+    }
+
+    private void arm(String roomId, RoomExpiry type) {
+        long timeout = timeouts.get(type);
+        Expiry[] expiries = timers.get(roomId);
+        if (timeout <= 0 || expiries == null) {
+            return;
+        }
+        synchronized (expiries) {
+            if (expiries[type.ordinal()] == null) {
+                Expiry expiry = new Expiry(roomId, type);
+                expiry.timeout = wheel.schedule(expiry, clock.getAsLong() + timeout);
+                expiries[type.ordinal()] = expiry;
+            }
+        }
+    }
+
+    private void disarm(String roomId, RoomExpiry type) {
+        Expiry[] expiries = timers.get(roomId);
+        if (expiries == null) {
+            return;
+        }
+        synchronized (expiries) {
+            Expiry expiry = expiries[type.ordinal()];
+            if (expiry != null) {
+                expiry.timeout.cancel();
+                expiries[type.ordinal()] = null;
+            }
+        }
+    }
+
+    private void expire(Expiry expiry) {
+        Expiry[] expiries = timers.get(expiry.roomId);
+        if (expiries == null) {
+            return;
+        }
+        synchronized (expiries) {
+            if (expiries[expiry.type.ordinal()] != expiry) {
+                return;
+            }
+            expiries[expiry.type.ordinal()] = null;
+        }
+        Runnable afterReap = reap.apply(expiry.roomId, expiry.type);
+        if (afterReap != null) {
+            reaped.get(expiry.type).increment();
+            afterReap.run();
+        }
+    }
+
+    private static final class Expiry {
+
+        private final String roomId;
+        private final RoomExpiry type;
+        private Timeout<Expiry> timeout;
+
+        private Expiry(String roomId, RoomExpiry type) {
+            this.roomId = roomId;
+            this.type = type;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.codexpong.backend.game.service;
+
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.protocol.EncodedFrame;
+import com.codexpong.backend.game.protocol.PlayerLatency;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * [버퍼] backend/src/main/java/com/codexpong/backend/game/service/SpectatorDelayBuffer.java
+ * 설명:
+ *   - 방 하나의 관전자용 인코딩 프레임을 최근 delayTicks개만큼 보관하는 링 버퍼다.
+ *   - 틱마다 push하면 정확히 delayTicks 틱 전에 들어온 프레임을 돌려주므로, 지연 전송에 별도 예약 작업이 필요 없다.
+ *   - 관전자가 없던 틱은 null 슬롯으로 채워 지연 간격을 유지한다.
+ *   - 프레임과 함께 그 틱의 상태(DelayedState)도 보관해, 마지막으로 내보낸 시점의 상태를 관전자 READY 기준으로 제공한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+final class SpectatorDelayBuffer {
+
+    private final EncodedFrame[][] slots;
+    private final DelayedState[] states;
+    private int head;
+    private int size;
+    private DelayedState released;
+
+    SpectatorDelayBuffer(int delayTicks, DelayedState initial) {
+        this.slots = new EncodedFrame[Math.max(0, delayTicks)][];
+        this.states = new DelayedState[slots.length];
+        this.released = initial;
+    }
+
+    static SpectatorDelayBuffer forDelay(long delayMillis, long tickMillis, DelayedState initial) {
+        return new SpectatorDelayBuffer((int) ((delayMillis + tickMillis - 1) / tickMillis), initial);
+    }
+
+    int delayTicks() {
+        return slots.length;
+    }
+
+    /**
+     * 설명:
+     *   - 이번 틱 프레임과 상태를 넣고, 지연 시간이 지난 프레임(없으면 null)을 꺼낸다.
+     */
+    synchronized EncodedFrame[] push(EncodedFrame[] frames, DelayedState state) {
+        if (slots.length == 0) {
+            released = state;
+            return frames;
+        }
+        if (size < slots.length) {
+            int tail = (head + size) % slots.length;
+            slots[tail] = frames;
+            states[tail] = state;
+            size++;
+            return null;
+        }
+        EncodedFrame[] due = slots[head];
+        released = states[head];
+        slots[head] = frames;
+        states[head] = state;
+        head = (head + 1) % slots.length;
+        return due;
+    }
+
+    /**
+     * 설명:
+     *   - 관전자에게 마지막으로 내보낸 프레임 시점의 상태. 아직 내보낸 프레임이 없으면 방 시작 상태다.
+     */
+    synchronized DelayedState released() {
+        return released;
+    }
+
+    /**
+     * 설명:
+     *   - 경기 종료 후 남은 프레임을 오래된 순서로 모두 꺼낸다.
+     */
+    synchronized List<EncodedFrame[]> drain() {
+        List<EncodedFrame[]> remaining = new ArrayList<>(size);
+        while (size > 0) {
+            remaining.add(slots[head]);
+            released = states[head];
+            slots[head] = null;
+            states[head] = null;
+            head = (head + 1) % slots.length;
+            size--;
+        }
+        return remaining;
+    }
+
+    /**
+     * 설명:
+     *   - 지연 스트림 한 틱의 상태. tick은 STATE의 방 틱 번호, deltaSeq는 델타 스트림의 seq다.
+     */
+    record DelayedState(long tick, long deltaSeq, GameSnapshot snapshot, PlayerLatency latency) {
+    }
+}
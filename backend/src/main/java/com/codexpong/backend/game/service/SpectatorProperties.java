@@ -0,0 +1,107 @@
+package com.codexpong.backend.game.service;
+
+import com.codexpong.backend.game.domain.MatchType;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * [설정] backend/src/main/java/com/codexpong/backend/game/service/SpectatorProperties.java
+ * 설명:
+ *   - 관전 스트림 설정을 경기 유형별로 묶는다.
+ *   - delayMs: 관전자에게 전송할 STATE 지연. 랭크전은 고스팅(관전 화면으로 상대 움직임을 엿보는 행위)을 막기 위해
+ *     더 길게 둔다. 지정하지 않은 유형은 기본 지연(250ms)을 사용한다.
+ *   - maxPerRoom: 경기 유형별 방당 관전자 한도. featuredMaxPerRoom은 토너먼트 결승처럼 주목 경기로 지정한 방의 한도이고,
+ *     관리자가 방별 한도를 따로 지정하면 그 값이 우선한다.
+ *   - relay*: 관전 팬아웃 실행기 설정. 스레드 수(0이면 코어 수), 방별 대기 프레임 한도, 적응형 건너뛰기를 시작하는
+ *     세션 송신 큐 깊이와 최대 건너뛰기 간격(몇 프레임에 하나 보낼지).
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+@ConfigurationProperties(prefix = "game.spectator")
+public class SpectatorProperties {
+
+    static final long DEFAULT_DELAY_MS = 250;
+    static final int DEFAULT_MAX_PER_ROOM = 500;
+
+    private Map<MatchType, Long> delayMs = new EnumMap<>(Map.of(
+            MatchType.NORMAL, DEFAULT_DELAY_MS,
+            MatchType.RANKED, 1000L));
+    private Map<MatchType, Integer> maxPerRoom = new EnumMap<>(Map.of(
+            MatchType.NORMAL, DEFAULT_MAX_PER_ROOM,
+            MatchType.RANKED, DEFAULT_MAX_PER_ROOM));
+    private int featuredMaxPerRoom = 5000;
+    private int relayThreads = 0;
+    private int relayQueueFrames = 16;
+    private int relaySkipBacklog = 4;
+    private int relayMaxSkipStride = 8;
+
+    public Map<MatchType, Long> getDelayMs() {
+        return delayMs;
+    }
+
+    public void setDelayMs(Map<MatchType, Long> delayMs) {
+        this.delayMs = delayMs;
+    }
+
+    public Map<MatchType, Integer> getMaxPerRoom() {
+        return maxPerRoom;
+    }
+
+    public void setMaxPerRoom(Map<MatchType, Integer> maxPerRoom) {
+        this.maxPerRoom = maxPerRoom;
+    }
+
+    public int getFeaturedMaxPerRoom() {
+        return featuredMaxPerRoom;
+    }
+
+    public void setFeaturedMaxPerRoom(int featuredMaxPerRoom) {
+        this.featuredMaxPerRoom = featuredMaxPerRoom;
+    }
+
+    public int getRelayThreads() {
+        return relayThreads;
+    }
+
+    public void setRelayThreads(int relayThreads) {
+        this.relayThreads = relayThreads;
+    }
+
+    public int getRelayQueueFrames() {
+        return relayQueueFrames;
+    }
+
+    public void setRelayQueueFrames(int relayQueueFrames) {
+        this.relayQueueFrames = relayQueueFrames;
+    }
+
+    public int getRelaySkipBacklog() {
+        return relaySkipBacklog;
+    }
+
+    public void setRelaySkipBacklog(int relaySkipBacklog) {
+        this.relaySkipBacklog = relaySkipBacklog;
+    }
+
+    public int getRelayMaxSkipStride() {
+        return relayMaxSkipStride;
+    }
+
+    public void setRelayMaxSkipStride(int relayMaxSkipStride) {
+        this.relayMaxSkipStride = relayMaxSkipStride;
+    }
+
+    public long delayMillis(MatchType matchType) {
+        return Math.max(0, delayMs.getOrDefault(matchType, DEFAULT_DELAY_MS));
+    }
+
+    public int maxPerRoom(MatchType matchType) {
+        return Math.max(0, maxPerRoom.getOrDefault(matchType, DEFAULT_MAX_PER_ROOM));
+    }
+
+    public int resolvedRelayThreads() {
+        return relayThreads > 0 ? relayThreads : Runtime.getRuntime().availableProcessors();
+    }
+}
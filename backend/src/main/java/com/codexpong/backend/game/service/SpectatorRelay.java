@@ -0,0 +1,285 @@
+package com.codexpong.backend.game.service;
+
+import com.codexpong.backend.common.websocket.QueuedWebSocketSession;
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.protocol.EncodedFrame;
+import com.codexpong.backend.game.protocol.GameProtocol;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * [중계기] backend/src/main/java/com/codexpong/backend/game/service/SpectatorRelay.java
+ * 설명:
+ *   - 관전자 팬아웃을 틱 스레드에서 떼어 낸 중계 계층이다. 틱 스레드는 관전 지연을 거친 방별 프레임 스트림을
+ *     offer로 넘기기만 하고, 중계 실행기가 방마다 한 번에 하나의 드레인 작업으로 관전자 전원에게 보낸다.
+ *     그래서 관전자 수가 수천이어도 틱 비용은 청중×프로토콜 인코딩과 큐 적재 한 번으로 고정된다.
+ *   - 방 스트림 대기 프레임이 한도를 넘으면 가장 오래된 프레임을 버린다(중계가 밀려도 지연이 쌓이지 않게).
+ *   - 관전자별 적응형 건너뛰기: 세션 송신 큐 깊이가 skipBacklog 이상이면 전송 간격(stride)을 두 배로 늘리고,
+ *     큐가 비면 절반으로 줄인다. 전체 JSON/바이너리는 stride 프레임에 하나만 보내고, 델타는 이전 프레임이 빠지면
+ *     이어 붙일 수 없으므로 stride가 1보다 크면 키프레임만 보내고 정상화 후에도 다음 키프레임부터 이어 보낸다.
+ *   - 인코딩 이후 합류해 해당 프로토콜 프레임이 없는 세션은 READY를 이미 받았으므로 건너뛴다.
+ *   - 세션 송신 큐에서 STATE가 버려진 관전자도 다음 키프레임부터 다시 받는다.
+ *   - 델타 관전자의 RESYNC는 그 관전자만 다음 키프레임부터 다시 받게 해 방 전체 키프레임을 만들지 않는다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+public class SpectatorRelay {
+
+    private final Map<String, RoomStream> streams = new ConcurrentHashMap<>();
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final int queueFrames;
+    private final int skipBacklog;
+    private final int maxSkipStride;
+    private final FanoutStats fanoutStats;
+    private final RealtimeLatencyRecorder latencyRecorder;
+    private final ToIntFunction<WebSocketSession> backlog;
+
+    SpectatorRelay(SpectatorProperties properties, FanoutStats fanoutStats, RealtimeLatencyRecorder latencyRecorder) {
+        this(Executors.newFixedThreadPool(properties.resolvedRelayThreads(), new RelayThreadFactory()),
+                properties.getRelayQueueFrames(), properties.getRelaySkipBacklog(), properties.getRelayMaxSkipStride(),
+                fanoutStats, latencyRecorder, SpectatorRelay::outboundDepth);
+    }
+
+    SpectatorRelay(Executor executor, int queueFrames, int skipBacklog, int maxSkipStride, FanoutStats fanoutStats,
+            RealtimeLatencyRecorder latencyRecorder, ToIntFunction<WebSocketSession> backlog) {
+        this.executor = executor;
+        this.ownedExecutor = executor instanceof ExecutorService service ? service : null;
+        this.queueFrames = Math.max(1, queueFrames);
+        this.skipBacklog = Math.max(1, skipBacklog);
+        this.maxSkipStride = Math.max(1, maxSkipStride);
+        this.fanoutStats = fanoutStats;
+        this.latencyRecorder = latencyRecorder;
+        this.backlog = backlog;
+    }
+
+    void shutdown() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdownNow();
+        }
+    }
+
+    void attach(String roomId, String sessionId, WebSocketSession session) {
+        streams.computeIfAbsent(roomId, RoomStream::new).viewers.put(sessionId, new Viewer(session));
+    }
+
+    void detach(String roomId, String sessionId) {
+        RoomStream stream = streams.get(roomId);
+        if (stream != null) {
+            stream.viewers.remove(sessionId);
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 델타 관전자 한 명이 RESYNC를 보내면 그 관전자만 다음 키프레임까지 델타 전달을 멈춘다.
+     */
+    void requestKeyframe(String roomId, String sessionId) {
+        RoomStream stream = streams.get(roomId);
+        Viewer viewer = stream == null ? null : stream.viewers.get(sessionId);
+        if (viewer != null) {
+            viewer.awaitingKeyframe = true;
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 방 스트림을 닫는다. 이미 넘긴 프레임은 진행 중인 드레인이 마저 보내지 않고 버린다.
+     */
+    void close(String roomId) {
+        RoomStream stream = streams.remove(roomId);
+        if (stream != null) {
+            synchronized (stream.pending) {
+                stream.pending.clear();
+            }
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 관전 지연을 거친 프레임 하나(프로토콜 순서 배열)를 방 스트림에 넣고 드레인 작업이 없으면 예약한다.
+     *     틱 스레드에서 호출되며 세션 수와 무관하게 즉시 반환한다.
+     */
+    void offer(String roomId, EncodedFrame[] frames, MatchType matchType, int shard) {
+        RoomStream stream = streams.get(roomId);
+        if (stream == null || stream.viewers.isEmpty()) {
+            return;
+        }
+        synchronized (stream.pending) {
+            if (stream.pending.size() >= queueFrames) {
+                stream.pending.pollFirst();
+                fanoutStats.recordRelayDropped();
+                // 빠진 프레임 뒤의 델타는 기준이 어긋나므로 델타 관전자는 다음 키프레임부터 다시 받는다.
+                stream.viewers.values().forEach(viewer -> viewer.awaitingKeyframe = true);
+            }
+            stream.pending.addLast(new PendingFrame(frames, matchType, shard));
+        }
+        if (stream.draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> drain(stream));
+            } catch (RejectedExecutionException ex) {
+                stream.draining.set(false);
+            }
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 모든 방 스트림에 쌓인 대기 프레임 수. 중계 실행기가 밀리는지 보는 게이지로 쓴다.
+     */
+    public int backlog() {
+        int total = 0;
+        for (RoomStream stream : streams.values()) {
+            synchronized (stream.pending) {
+                total += stream.pending.size();
+            }
+        }
+        return total;
+    }
+
+    private void drain(RoomStream stream) {
+        while (true) {
+            PendingFrame next;
+            synchronized (stream.pending) {
+                next = stream.pending.pollFirst();
+            }
+            if (next == null) {
+                stream.draining.set(false);
+                // 플래그를 내린 직후 들어온 프레임을 놓치지 않도록 한 번 더 확인한다.
+                boolean pending;
+                synchronized (stream.pending) {
+                    pending = !stream.pending.isEmpty();
+                }
+                if (pending && stream.draining.compareAndSet(false, true)) {
+                    continue;
+                }
+                return;
+            }
+            multicast(stream, next);
+        }
+    }
+
+    private void multicast(RoomStream stream, PendingFrame frame) {
+        long started = System.nanoTime();
+        int sent = 0;
+        int skipped = 0;
+        for (Viewer viewer : stream.viewers.values()) {
+            GameProtocol protocol = GameProtocol.of(viewer.session);
+            EncodedFrame encoded = frame.frames()[protocol.ordinal()];
+            if (encoded == null || !viewer.session.isOpen()) {
+                continue;
+            }
+            if (!viewer.admit(encoded, protocol == GameProtocol.JSON_DELTA, backlog.applyAsInt(viewer.session),
+                    skipBacklog, maxSkipStride)) {
+                skipped++;
+                continue;
+            }
+            try {
+                long sendStarted = System.nanoTime();
+                QueuedWebSocketSession.sendState(viewer.session, encoded.message());
+                if (QueuedWebSocketSession.stateDropped(viewer.session)) {
+                    // 송신 큐에서 STATE가 버려졌으므로 델타 관전자는 다음 키프레임부터 다시 받는다.
+                    viewer.awaitingKeyframe = true;
+                }
+                latencyRecorder.recordSend(frame.matchType(), frame.shard(), stream.roomId,
+                        System.nanoTime() - sendStarted);
+                sent++;
+            } catch (IOException ignored) {
+            }
+        }
+        fanoutStats.recordSend(System.nanoTime() - started, sent);
+        if (skipped > 0) {
+            fanoutStats.recordSkipped(skipped);
+        }
+    }
+
+    private static int outboundDepth(WebSocketSession session) {
+        return session instanceof QueuedWebSocketSession queued ? queued.depth() : 0;
+    }
+
+    private record PendingFrame(EncodedFrame[] frames, MatchType matchType, int shard) {
+    }
+
+    private static final class RoomStream {
+
+        private final String roomId;
+        private final Map<String, Viewer> viewers = new ConcurrentHashMap<>();
+        private final ArrayDeque<PendingFrame> pending = new ArrayDeque<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private RoomStream(String roomId) {
+            this.roomId = roomId;
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 관전자 한 명의 건너뛰기 상태. 한 방의 드레인은 동시에 하나만 실행되므로 admit는 단일 스레드로 호출된다.
+     */
+    static final class Viewer {
+
+        private final WebSocketSession session;
+        private int stride = 1;
+        private int sinceSent;
+        private volatile boolean awaitingKeyframe;
+
+        Viewer(WebSocketSession session) {
+            this.session = session;
+        }
+
+        /**
+         * 설명:
+         *   - 송신 큐 깊이로 stride를 조정한 뒤 이번 프레임을 보낼지 정한다.
+         */
+        boolean admit(EncodedFrame frame, boolean delta, int backlog, int skipBacklog, int maxSkipStride) {
+            if (backlog >= skipBacklog) {
+                stride = Math.min(stride * 2, maxSkipStride);
+            } else if (backlog == 0 && stride > 1) {
+                stride /= 2;
+            }
+            sinceSent++;
+            if (delta) {
+                if ((stride > 1 || awaitingKeyframe) && !frame.isKeyframe()) {
+                    awaitingKeyframe = true;
+                    return false;
+                }
+                awaitingKeyframe = false;
+                sinceSent = 0;
+                return true;
+            }
+            if (sinceSent < stride) {
+                return false;
+            }
+            sinceSent = 0;
+            return true;
+        }
+
+        int stride() {
+            return stride;
+        }
+    }
+
+    private static final class RelayThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "spectator-relay-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.codexpong.backend.job;
 
 import com.codexpong.backend.auth.model.AuthenticatedUser;
+import com.codexpong.backend.common.websocket.OutboundChannel;
+import com.codexpong.backend.common.websocket.OutboundQueueRegistry;
 import com.codexpong.backend.config.WebSocketAuthHandshakeInterceptor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.CloseStatus;
@@ -13,17 +15,21 @@ import org.springframework.web.socket.handler.TextWebSocketHandler;
  * 설명:
  *   - 잡 진행률/결과 알림을 받을 사용자의 세션을 등록한다.
  *   - 별도 수신 명령은 없으며 연결 유지/해제 이벤트만 처리한다.
- * 버전: v0.12.0
+ *   - v1.1.0에서는 진행률을 보내는 잡 워커 스레드가 소켓 전송을 기다리지 않도록 EVENT 채널 송신 큐로 감싸 등록한다.
+ * 버전: v1.1.0
  * 관련 설계문서:
  *   - design/realtime/v0.12.0-job-progress-events.md
+ *   - design/realtime/v1.1.0-realtime-performance.md
  */
 @Component
 public class JobWebSocketHandler extends TextWebSocketHandler {
 
     private final JobEventPublisher jobEventPublisher;
+    private final OutboundQueueRegistry outboundQueues;
 
-    public JobWebSocketHandler(JobEventPublisher jobEventPublisher) {
+    public JobWebSocketHandler(JobEventPublisher jobEventPublisher, OutboundQueueRegistry outboundQueues) {
         this.jobEventPublisher = jobEventPublisher;
+        this.outboundQueues = outboundQueues;
     }
 
     @Override
@@ -34,8 +40,9 @@ public class JobWebSocketHandler extends TextWebSocketHandler {
             session.close(CloseStatus.NOT_ACCEPTABLE.withReason("인증이 필요합니다."));
             return;
         }
-        jobEventPublisher.register(user.id(), session);
-        session.sendMessage(new TextMessage("{\"type\":\"job.connected\"}"));
+        WebSocketSession outbound = outboundQueues.wrap(session, OutboundChannel.EVENT);
+        jobEventPublisher.register(user.id(), outbound);
+        outbound.sendMessage(new TextMessage("{\"type\":\"job.connected\"}"));
     }
 
     @Override
@@ -43,7 +50,8 @@ public class JobWebSocketHandler extends TextWebSocketHandler {
         AuthenticatedUser user = (AuthenticatedUser) session.getAttributes()
                 .get(WebSocketAuthHandshakeInterceptor.AUTH_USER_KEY);
         if (user != null) {
-            jobEventPublisher.unregister(user.id(), session);
+            jobEventPublisher.unregister(user.id(), outboundQueues.outbound(session));
         }
+        outboundQueues.release(session);
     }
 }
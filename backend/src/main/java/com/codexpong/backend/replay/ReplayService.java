@@ -33,9 +33,14 @@ import org.springframework.web.server.ResponseStatusException;
  *   - v0.11.0 리플레이 녹화/저장/조회 흐름을 담당한다.
  *   - 게임 방 생성 시 버퍼를 준비해 틱마다 스냅샷을 누적하고, 종료 시 파일을 생성한 뒤 메타데이터를 저장한다.
  *   - 소유자별 조회/다운로드 권한을 검증하고, 보존 정책에 따라 오래된 리플레이를 정리한다.
- * 버전: v0.11.0
+ *   - v1.1.0에서는 방 체크포인트가 녹화 버퍼의 진행 위치와 새 이벤트를 읽고, 복구된 방의 녹화를 이어 붙일 수 있다.
+ * 버전: v1.1.0
  * 관련 설계문서:
  *   - design/backend/v0.11.0-replay-recording-and-storage.md
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ * 변경 이력:
+ *   - v1.1.0: 체크포인트용 녹화 위치/구간 조회와 녹화 재개 추가
+ *   - v1.1.0: 버려진 방의 녹화 버퍼 폐기와 활성 녹화 수 조회 추가
  */
 @Service
 public class ReplayService {
@@ -88,6 +93,57 @@ public class ReplayService {
         buffer.append(new ReplayEventRecord(Math.max(offset, 0), snapshot));
     }
 
+    /**
+     * 설명:
+     *   - 체크포인트에서 복구한 방의 녹화를 저장소에 남아 있던 이벤트로 채운 버퍼에서 이어 간다.
+     */
+    public void resumeRecording(GameRoom room, long startedAtMs, List<ReplayEventRecord> events) {
+        RecordingBuffer buffer = new RecordingBuffer(startedAtMs);
+        events.forEach(buffer::append);
+        buffers.put(room.getRoomId(), buffer);
+    }
+
+    /**
+     * 설명:
+     *   - 녹화 중인 방의 누적 이벤트 수(체크포인트의 리플레이 진행 위치). 녹화 중이 아니면 0이다.
+     */
+    public int recordedEventCount(String roomId) {
+        RecordingBuffer buffer = buffers.get(roomId);
+        return buffer == null ? 0 : buffer.events().size();
+    }
+
+    /**
+     * 설명:
+     *   - 결과 없이 정리되는 방(버려진 방)의 녹화 버퍼를 버린다.
+     */
+    public void discardRecording(String roomId) {
+        buffers.remove(roomId);
+    }
+
+    public int activeRecordingCount() {
+        return buffers.size();
+    }
+
+    public long recordingStartedAtMs(String roomId) {
+        RecordingBuffer buffer = buffers.get(roomId);
+        return buffer == null ? 0 : buffer.startedAtMs();
+    }
+
+    /**
+     * 설명:
+     *   - [from, to) 구간 이벤트의 복사본을 반환한다. 체크포인트 저장 스레드가 틱 스레드의 기록과 동시에 읽는다.
+     */
+    public List<ReplayEventRecord> recordedEvents(String roomId, int from, int to) {
+        RecordingBuffer buffer = buffers.get(roomId);
+        if (buffer == null) {
+            return List.of();
+        }
+        synchronized (buffer.events()) {
+            int end = Math.min(to, buffer.events().size());
+            return from >= end ? List.of() : new ArrayList<>(buffer.events().subList(from, end));
+        }
+    }
+
     /**
      * 설명:
      *   - 경기 종료 시 녹화 버퍼를 파일로 직렬화하고 두 플레이어 소유 리플레이를 생성한다.
@@ -1,6 +1,8 @@
 package com.codexpong.backend.social;
 
 import com.codexpong.backend.auth.model.AuthenticatedUser;
+import com.codexpong.backend.common.websocket.OutboundChannel;
+import com.codexpong.backend.common.websocket.OutboundQueueRegistry;
 import com.codexpong.backend.config.WebSocketAuthHandshakeInterceptor;
 import com.codexpong.backend.social.service.SocialEventPublisher;
 import org.springframework.stereotype.Component;
@@ -14,17 +16,21 @@ import org.springframework.web.socket.handler.TextWebSocketHandler;
  * 설명:
  *   - 친구/초대 알림을 받을 WebSocket 연결을 등록하고 유지한다.
  *   - 메시지 수신 시 간단한 pong 응답으로 연결 상태를 확인한다.
- * 버전: v0.5.0
+ *   - v1.1.0에서는 세션을 EVENT 채널 송신 큐로 감싸 등록해, 친구/초대 알림 발행이 소켓 전송을 기다리지 않는다.
+ * 버전: v1.1.0
  * 관련 설계문서:
  *   - design/backend/v0.5.0-friends-and-blocks.md
+ *   - design/realtime/v1.1.0-realtime-performance.md
  */
 @Component
 public class SocialWebSocketHandler extends TextWebSocketHandler {
 
     private final SocialEventPublisher socialEventPublisher;
+    private final OutboundQueueRegistry outboundQueues;
 
-    public SocialWebSocketHandler(SocialEventPublisher socialEventPublisher) {
+    public SocialWebSocketHandler(SocialEventPublisher socialEventPublisher, OutboundQueueRegistry outboundQueues) {
         this.socialEventPublisher = socialEventPublisher;
+        this.outboundQueues = outboundQueues;
     }
 
     @Override
@@ -32,7 +38,7 @@ public class SocialWebSocketHandler extends TextWebSocketHandler {
         AuthenticatedUser user = (AuthenticatedUser) session.getAttributes()
                 .getOrDefault(WebSocketAuthHandshakeInterceptor.AUTH_USER_KEY, null);
         if (user != null) {
-            socialEventPublisher.registerSession(user.id(), session);
+            socialEventPublisher.registerSession(user.id(), outboundQueues.wrap(session, OutboundChannel.EVENT));
         } else {
             session.close(CloseStatus.NOT_ACCEPTABLE.withReason("인증 정보가 필요합니다."));
         }
@@ -41,7 +47,7 @@ public class SocialWebSocketHandler extends TextWebSocketHandler {
     @Override
     protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
         if ("ping".equalsIgnoreCase(message.getPayload())) {
-            session.sendMessage(new TextMessage("pong"));
+            outboundQueues.outbound(session).sendMessage(new TextMessage("pong"));
         }
     }
 
@@ -50,7 +56,8 @@ public class SocialWebSocketHandler extends TextWebSocketHandler {
         AuthenticatedUser user = (AuthenticatedUser) session.getAttributes()
                 .getOrDefault(WebSocketAuthHandshakeInterceptor.AUTH_USER_KEY, null);
         if (user != null) {
-            socialEventPublisher.removeSession(user.id(), session);
+            socialEventPublisher.removeSession(user.id(), outboundQueues.outbound(session));
         }
+        outboundQueues.release(session);
     }
 }
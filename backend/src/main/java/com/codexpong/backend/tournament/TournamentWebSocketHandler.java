@@ -1,6 +1,8 @@
 package com.codexpong.backend.tournament;
 
 import com.codexpong.backend.auth.model.AuthenticatedUser;
+import com.codexpong.backend.common.websocket.OutboundChannel;
+import com.codexpong.backend.common.websocket.OutboundQueueRegistry;
 import com.codexpong.backend.config.WebSocketAuthHandshakeInterceptor;
 import com.codexpong.backend.tournament.service.TournamentEventPublisher;
 import org.springframework.stereotype.Component;
@@ -14,17 +16,23 @@ import org.springframework.web.socket.handler.TextWebSocketHandler;
  * 설명:
  *   - 토너먼트 알림 수신을 위한 WebSocket 연결을 관리한다.
  *   - 토큰 기반 인증 정보를 세션에서 꺼내 참가자별 알림 채널을 만든다.
- * 버전: v0.7.0
+ *   - v1.1.0에서는 EVENT 채널 송신 큐로 감싼 세션을 등록한다. 라운드 시작 시 참가자 전원에게 보내는 READY가
+ *     느린 참가자 소켓 때문에 토너먼트 진행 스레드를 붙잡지 않는다.
+ * 버전: v1.1.0
  * 관련 설계문서:
  *   - design/realtime/v0.7.0-tournament-events.md
+ *   - design/realtime/v1.1.0-realtime-performance.md
  */
 @Component
 public class TournamentWebSocketHandler extends TextWebSocketHandler {
 
     private final TournamentEventPublisher tournamentEventPublisher;
+    private final OutboundQueueRegistry outboundQueues;
 
-    public TournamentWebSocketHandler(TournamentEventPublisher tournamentEventPublisher) {
+    public TournamentWebSocketHandler(TournamentEventPublisher tournamentEventPublisher,
+            OutboundQueueRegistry outboundQueues) {
         this.tournamentEventPublisher = tournamentEventPublisher;
+        this.outboundQueues = outboundQueues;
     }
 
     @Override
@@ -35,13 +43,13 @@ public class TournamentWebSocketHandler extends TextWebSocketHandler {
             session.close(CloseStatus.NOT_ACCEPTABLE.withReason("인증이 필요합니다."));
             return;
         }
-        tournamentEventPublisher.register(user.id(), session);
+        tournamentEventPublisher.register(user.id(), outboundQueues.wrap(session, OutboundChannel.EVENT));
     }
 
     @Override
     protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
         if ("ping".equalsIgnoreCase(message.getPayload())) {
-            session.sendMessage(new TextMessage("pong"));
+            outboundQueues.outbound(session).sendMessage(new TextMessage("pong"));
         }
     }
 
@@ -50,7 +58,8 @@ public class TournamentWebSocketHandler extends TextWebSocketHandler {
         AuthenticatedUser user = (AuthenticatedUser) session.getAttributes()
                 .getOrDefault(WebSocketAuthHandshakeInterceptor.AUTH_USER_KEY, null);
         if (user != null) {
-            tournamentEventPublisher.remove(user.id(), session);
+            tournamentEventPublisher.remove(user.id(), outboundQueues.outbound(session));
         }
+        outboundQueues.release(session);
     }
 }
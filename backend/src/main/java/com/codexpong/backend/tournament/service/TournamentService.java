@@ -31,9 +31,13 @@ import org.springframework.web.server.ResponseStatusException;
  * 설명:
  *   - 토너먼트 생성/참여/시작과 브래킷 초기화를 처리한다.
  *   - GameRoomService와 연동해 라운드별 roomId를 발급하고 실시간 알림을 발행한다.
- * 버전: v0.7.0
+ *   - v1.1.0에서는 결승 방을 주목 경기로 지정해 관전자 한도를 올린다.
+ * 버전: v1.1.0
  * 관련 설계문서:
  *   - design/backend/v0.7.0-tournaments.md
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ * 변경 이력:
+ *   - v1.1.0: 결승 방 관전자 한도를 featured-max-per-room으로 지정
  */
 @Service
 @Transactional
@@ -161,6 +165,9 @@ public class TournamentService {
     public void openMatch(TournamentMatch match) {
         GameRoom room = gameRoomService.createRoom(match.getParticipantA().getUser(), match.getParticipantB().getUser(),
                 MatchType.NORMAL);
+        if (isFinal(match)) {
+            gameRoomService.featureRoom(room.getRoomId());
+        }
         match.markReady(room.getRoomId());
         matchRepository.save(match);
         Map<String, Object> payload = Map.of(
@@ -172,6 +179,14 @@ public class TournamentService {
         eventPublisher.publishToUsers(participantUserIds(match), "TOURNAMENT_MATCH_READY", payload);
     }
 
+    /**
+     * 설명:
+     *   - 참가자 수가 2의 거듭제곱인 브래킷에서 라운드당 경기 수가 1인 라운드가 결승이다.
+     */
+    private boolean isFinal(TournamentMatch match) {
+        return match.getTournament().getMaxParticipants() >> match.getRoundNumber() == 1;
+    }
+
     private List<Long> participantUserIds(Tournament tournament) {
         return participantRepository.findByTournamentOrderBySeedAsc(tournament).stream()
                 .map(participant -> participant.getUser().getId())
@@ -0,0 +1,63 @@
+package com.codexpong.backend.admin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.loop.GameLoopProperties;
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import io.prometheus.metrics.model.registry.PrometheusRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/admin/RealtimeLatencyMetricsTest.java
+ * 설명:
+ *   - 루프 구간 히스토그램이 match_type/shard 태그의 버킷으로 노출되고, OpenMetrics 스크레이프에 방 ID exemplar가
+ *     실리는지 검증한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+class RealtimeLatencyMetricsTest {
+
+    private static final String OPENMETRICS = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+
+    @Test
+    @DisplayName("방 단위 구간은 태그별 버킷과 방 ID exemplar로 노출된다")
+    void roomSectionsCarryTagsAndExemplar() {
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT,
+                new PrometheusRegistry(), Clock.SYSTEM, new RoomExemplarContext());
+        RealtimeLatencyMetrics metrics = new RealtimeLatencyMetrics(registry, new GameLoopProperties());
+
+        metrics.recordTick(MatchType.RANKED, 0, "room-1", TimeUnit.MICROSECONDS.toNanos(800));
+
+        String scrape = registry.scrape(OPENMETRICS);
+        assertThat(scrape).containsPattern(
+                "codexpong_game_tick_duration_seconds_bucket\\{[^}]*match_type=\"ranked\"[^}]*shard=\"0\"");
+        assertThat(scrape).containsPattern(
+                "codexpong_game_tick_duration_seconds_bucket\\{[^}]*match_type=\"ranked\"[^}]*\\} 1 # "
+                        + "\\{span_id=\"0\",trace_id=\"room-1\"\\}");
+        assertThat(registry.get("codexpong_game_tick_duration").tag("match_type", "normal").timer().count())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("틱 시작 지연은 샤드별로 기록되고 범위를 벗어난 샤드 번호는 보정된다")
+    void startLagIsRecordedPerShard() {
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT,
+                new PrometheusRegistry(), Clock.SYSTEM, new RoomExemplarContext());
+        GameLoopProperties properties = new GameLoopProperties();
+        properties.setShards(2);
+        RealtimeLatencyMetrics metrics = new RealtimeLatencyMetrics(registry, properties);
+
+        metrics.onLag(1, TimeUnit.MILLISECONDS.toNanos(3));
+        metrics.onLag(7, TimeUnit.MILLISECONDS.toNanos(5));
+
+        assertThat(registry.get("codexpong_game_tick_start_lag").tag("shard", "0").timer().count()).isZero();
+        assertThat(registry.get("codexpong_game_tick_start_lag").tag("shard", "1").timer().count()).isEqualTo(2);
+        assertThat(registry.scrape(OPENMETRICS)).doesNotContainPattern("codexpong_game_tick_start_lag[^\\n]*trace_id");
+    }
+}
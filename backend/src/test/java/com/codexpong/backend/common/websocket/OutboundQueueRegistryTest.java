@@ -0,0 +1,191 @@
+package com.codexpong.backend.common.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/common/websocket/OutboundQueueRegistryTest.java
+ * 설명:
+ *   - 소켓 전송이 멈춘 세션에서도 호출 스레드가 대기하지 않고, 채널 정책대로 오래된 STATE만 버리거나
+ *     채팅 세션을 닫는지 검증한다. 버릴 STATE가 없는 GAME 세션과 송신 시간 제한을 넘긴 세션은 닫힌다.
+ *   - 가상 스레드 모드에서 세션 드레인이 가상 스레드에서 실행되고, 전송이 멈춘 세션이 다른 세션 전송을 막지 않는지 검증한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+class OutboundQueueRegistryTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch firstSendStarted = new CountDownLatch(1);
+    private final List<String> delivered = new CopyOnWriteArrayList<>();
+    private OutboundQueueRegistry registry;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        registry.shutdown();
+    }
+
+    @Test
+    @DisplayName("GAME 채널은 전송이 멈춰도 즉시 반환하고 가장 오래된 STATE만 버린 뒤 드롭을 한 번 알린다")
+    void gameChannelDropsOldestState() throws Exception {
+        registry = newRegistry(2);
+        WebSocketSession raw = stalledSession("game");
+        QueuedWebSocketSession outbound = (QueuedWebSocketSession) registry.wrap(raw, OutboundChannel.GAME);
+
+        outbound.sendState(new TextMessage("s0"));
+        assertThat(firstSendStarted.await(1, TimeUnit.SECONDS)).isTrue();
+        long started = System.nanoTime();
+        outbound.sendMessage(new TextMessage("ping"));
+        for (int i = 1; i <= 4; i++) {
+            outbound.sendState(new TextMessage("s" + i));
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        assertThat(elapsedMillis).isLessThan(100);
+        assertThat(registry.totalDepth(OutboundChannel.GAME)).isEqualTo(2);
+        assertThat(registry.dropped(OutboundChannel.GAME)).isEqualTo(3);
+        assertThat(registry.sessionViews()).singleElement()
+                .satisfies(view -> assertThat(view.dropped()).isEqualTo(3));
+        assertThat(QueuedWebSocketSession.stateDropped(outbound)).isTrue();
+        assertThat(QueuedWebSocketSession.stateDropped(outbound)).isFalse();
+
+        release.countDown();
+        verify(raw, timeout(1_000).times(3)).sendMessage(any());
+        assertThat(delivered).containsExactly("s0", "ping", "s4");
+        verify(raw, never()).close(any(CloseStatus.class));
+    }
+
+    @Test
+    @DisplayName("GAME 채널도 버릴 STATE가 없으면 메시지를 버리지 않고 세션을 닫는다")
+    void gameChannelClosesWhenNoStateToDrop() throws Exception {
+        registry = newRegistry(2);
+        WebSocketSession raw = stalledSession("game");
+        WebSocketSession outbound = registry.wrap(raw, OutboundChannel.GAME);
+
+        outbound.sendMessage(new TextMessage("ready"));
+        assertThat(firstSendStarted.await(1, TimeUnit.SECONDS)).isTrue();
+        outbound.sendMessage(new TextMessage("ping"));
+        outbound.sendMessage(new TextMessage("keyframe"));
+        outbound.sendMessage(new TextMessage("pong"));
+
+        verify(raw, timeout(1_000)).close(any(CloseStatus.class));
+        assertThat(registry.dropped(OutboundChannel.GAME)).isZero();
+    }
+
+    @Test
+    @DisplayName("전송 하나가 송신 시간 제한을 넘기면 송신 스레드가 멈춘 채로도 세션을 닫는다")
+    void sendTimeLimitClosesStalledSession() throws Exception {
+        OutboundQueueProperties properties = new OutboundQueueProperties();
+        properties.setWriterThreads(1);
+        properties.setSendTimeLimitMs(50);
+        registry = new OutboundQueueRegistry(properties);
+        WebSocketSession raw = stalledSession("event");
+        WebSocketSession outbound = registry.wrap(raw, OutboundChannel.EVENT);
+
+        outbound.sendMessage(new TextMessage("e0"));
+        assertThat(firstSendStarted.await(1, TimeUnit.SECONDS)).isTrue();
+        outbound.sendMessage(new TextMessage("e1"));
+        verify(raw, never()).close(any(CloseStatus.class));
+        Thread.sleep(100);
+        outbound.sendMessage(new TextMessage("e2"));
+
+        verify(raw, timeout(1_000)).close(any(CloseStatus.class));
+        assertThat(registry.totalDepth(OutboundChannel.EVENT)).isZero();
+        release.countDown();
+        // 닫기 전에 큐에 있던 e1도 버려져 원본 세션에는 멈춰 있던 e0 전송 하나만 남는다.
+        verify(raw, after(200).times(1)).sendMessage(any());
+    }
+
+    @Test
+    @DisplayName("CHAT 채널은 메시지를 버리지 않고 한도 초과 시 세션을 닫는다")
+    void chatChannelClosesInsteadOfDropping() throws Exception {
+        registry = newRegistry(2);
+        WebSocketSession raw = stalledSession("chat");
+        WebSocketSession outbound = registry.wrap(raw, OutboundChannel.CHAT);
+
+        outbound.sendMessage(new TextMessage("c0"));
+        assertThat(firstSendStarted.await(1, TimeUnit.SECONDS)).isTrue();
+        outbound.sendMessage(new TextMessage("c1"));
+        outbound.sendMessage(new TextMessage("c2"));
+        verify(raw, never()).close(any(CloseStatus.class));
+        outbound.sendMessage(new TextMessage("c3"));
+
+        verify(raw, timeout(1_000)).close(any(CloseStatus.class));
+        assertThat(registry.dropped(OutboundChannel.CHAT)).isZero();
+        assertThat(registry.outbound(raw)).isSameAs(outbound);
+    }
+
+    @Test
+    @DisplayName("가상 스레드 모드는 세션마다 가상 스레드로 드레인해 멈춘 세션이 다른 세션을 막지 않는다")
+    void virtualThreadWritersDoNotShareStalls() throws Exception {
+        OutboundQueueProperties properties = new OutboundQueueProperties();
+        properties.setVirtualThreads(true);
+        properties.setWriterThreads(1);
+        registry = new OutboundQueueRegistry(properties);
+        List<Boolean> virtual = new CopyOnWriteArrayList<>();
+        CountDownLatch allDelivered = new CountDownLatch(20);
+        registry.wrap(stalledSession("stalled"), OutboundChannel.EVENT).sendMessage(new TextMessage("blocked"));
+        assertThat(firstSendStarted.await(1, TimeUnit.SECONDS)).isTrue();
+
+        for (int i = 0; i < 20; i++) {
+            WebSocketSession raw = mock(WebSocketSession.class);
+            when(raw.getId()).thenReturn("event-" + i);
+            when(raw.isOpen()).thenReturn(true);
+            when(raw.getAttributes()).thenReturn(new HashMap<>());
+            doAnswer(invocation -> {
+                virtual.add(Thread.currentThread().isVirtual());
+                allDelivered.countDown();
+                return null;
+            }).when(raw).sendMessage(any());
+            registry.wrap(raw, OutboundChannel.EVENT).sendMessage(new TextMessage("e" + i));
+        }
+
+        assertThat(allDelivered.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(virtual).hasSize(20).containsOnly(true);
+        assertThat(delivered).isEmpty();
+    }
+
+    private OutboundQueueRegistry newRegistry(int capacity) {
+        OutboundQueueProperties properties = new OutboundQueueProperties();
+        properties.setGameCapacity(capacity);
+        properties.setChatCapacity(capacity);
+        properties.setWriterThreads(2);
+        return new OutboundQueueRegistry(properties);
+    }
+
+    private WebSocketSession stalledSession(String id) throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        when(session.isOpen()).thenReturn(true);
+        when(session.getAttributes()).thenReturn(new HashMap<>());
+        doAnswer(invocation -> {
+            WebSocketMessage<?> message = invocation.getArgument(0);
+            firstSendStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            delivered.add(String.valueOf(message.getPayload()));
+            return null;
+        }).when(session).sendMessage(any());
+        return session;
+    }
+}
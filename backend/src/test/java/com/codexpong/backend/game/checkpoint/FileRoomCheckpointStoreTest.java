@@ -0,0 +1,91 @@
+package com.codexpong.backend.game.checkpoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.domain.RoomCheckpoint;
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.replay.ReplayEventRecord;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/checkpoint/FileRoomCheckpointStoreTest.java
+ * 설명:
+ *   - 파일 체크포인트 저장소가 체크포인트를 교체 저장하고 리플레이 꼬리만 이어 붙이는지,
+ *     직전 저장이 어긋난 위치에서 다시 저장하면 그 뒤를 잘라 내는지 검증한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+class FileRoomCheckpointStoreTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("체크포인트는 최신 것으로 교체되고 리플레이는 꼬리만 이어 붙는다")
+    void savesLatestCheckpointAndAppendsReplayTail() throws Exception {
+        FileRoomCheckpointStore store = new FileRoomCheckpointStore(directory, objectMapper);
+
+        store.save(checkpoint("room-1", 20, 2), 0, events(0, 2));
+        store.save(checkpoint("room-1", 40, 5), 2, events(2, 5));
+
+        List<RoomCheckpoint> saved = store.list();
+        assertThat(saved).hasSize(1);
+        assertThat(saved.get(0).tick()).isEqualTo(40);
+        assertThat(saved.get(0).snapshot()).isEqualTo(snapshot("room-1", 40));
+        assertThat(store.replayEvents("room-1", 5)).extracting(ReplayEventRecord::offsetMs)
+                .containsExactly(0L, 1L, 2L, 3L, 4L);
+        assertThat(store.replayEvents("room-1", 3)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("재시작한 저장소가 더 앞선 위치부터 저장하면 이후 이벤트를 잘라 내고 붙인다")
+    void truncatesReplayAfterRestart() throws Exception {
+        FileRoomCheckpointStore first = new FileRoomCheckpointStore(directory, objectMapper);
+        first.save(checkpoint("room-1", 40, 4), 0, events(0, 4));
+
+        FileRoomCheckpointStore restarted = new FileRoomCheckpointStore(directory, objectMapper);
+        restarted.save(checkpoint("room-1", 60, 5), 2, events(10, 13));
+
+        assertThat(restarted.replayEvents("room-1", 10)).extracting(ReplayEventRecord::offsetMs)
+                .containsExactly(0L, 1L, 10L, 11L, 12L);
+    }
+
+    @Test
+    @DisplayName("삭제하면 목록과 리플레이가 모두 사라진다")
+    void deleteRemovesCheckpointAndReplay() throws Exception {
+        FileRoomCheckpointStore store = new FileRoomCheckpointStore(directory, objectMapper);
+        store.save(checkpoint("room-1", 20, 2), 0, events(0, 2));
+        store.save(checkpoint("room-2", 20, 0), 0, List.of());
+
+        store.delete("room-1");
+
+        assertThat(store.list()).extracting(RoomCheckpoint::roomId).containsExactly("room-2");
+        assertThat(store.replayEvents("room-1", 2)).isEmpty();
+    }
+
+    private RoomCheckpoint checkpoint(String roomId, long tick, int replayOffset) {
+        return new RoomCheckpoint(roomId, MatchType.RANKED, 1L, 2L, tick, snapshot(roomId, tick),
+                LocalDateTime.of(2026, 1, 1, 12, 0), 1_000L, replayOffset, 2_000L);
+    }
+
+    private GameSnapshot snapshot(String roomId, long tick) {
+        return new GameSnapshot(roomId, tick, 120, 180, -90, 150, 160, 1, 2, 5, false);
+    }
+
+    private List<ReplayEventRecord> events(int from, int to) {
+        return IntStream.range(from, to)
+                .mapToObj(i -> new ReplayEventRecord(i, snapshot("room-1", i)))
+                .toList();
+    }
+}
@@ -0,0 +1,58 @@
+package com.codexpong.backend.game.checkpoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.codexpong.backend.game.service.GameRoomService;
+import com.codexpong.backend.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/checkpoint/RoomCheckpointRecoveryTest.java
+ * 설명:
+ *   - lease 갱신이 이 노드의 모든 방(휴면/재접속 대기 포함)을 대상으로 하고, 다른 노드가 가져간 방만 내려놓는지 검증한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+class RoomCheckpointRecoveryTest {
+
+    private final RoomCheckpointStore store = mock(RoomCheckpointStore.class);
+    private final GameRoomService gameRoomService = mock(GameRoomService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RoomCheckpointRecovery recovery = new RoomCheckpointRecovery(store, gameRoomService,
+            mock(UserRepository.class), 5000, meterRegistry);
+
+    @Test
+    @DisplayName("모든 로컬 방의 lease를 갱신하고 다른 노드가 가져간 방만 내려놓는다")
+    void renewsAllLocalRoomsAndReleasesLostOnes() throws Exception {
+        when(gameRoomService.localRoomIds()).thenReturn(List.of("live", "hibernating", "taken"));
+        when(store.renew(List.of("live", "hibernating", "taken"))).thenReturn(Set.of("taken"));
+        when(gameRoomService.releaseRoom("taken")).thenReturn(true);
+
+        assertThat(recovery.renewLeases()).isEqualTo(1);
+
+        verify(gameRoomService).releaseRoom("taken");
+        verify(gameRoomService, never()).releaseRoom("live");
+        verify(gameRoomService, never()).releaseRoom("hibernating");
+        assertThat(meterRegistry.counter("codexpong_room_checkpoint_lease_lost_total").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로컬 방이 없으면 저장소를 호출하지 않는다")
+    void skipsRenewalWithoutRooms() {
+        when(gameRoomService.localRoomIds()).thenReturn(List.of());
+
+        assertThat(recovery.renewLeases()).isZero();
+
+        verifyNoInteractions(store);
+    }
+}
@@ -0,0 +1,229 @@
+package com.codexpong.backend.game.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.service.MatchmakingCluster.ClaimedPair;
+import com.codexpong.backend.game.service.MatchmakingProperties;
+import com.codexpong.backend.game.service.MatchmakingService.MatchTicket;
+import com.codexpong.backend.user.domain.User;
+import com.codexpong.backend.user.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * [통합 테스트] backend/src/test/java/com/codexpong/backend/game/cluster/RedisMatchmakingClusterTest.java
+ * 설명:
+ *   - 같은 Redis를 쓰는 두 노드(RedisMatchmakingCluster 두 개)가 큐와 티켓을 공유하는지 검증한다.
+ *   - 다른 노드에 등록한 사용자끼리 리더 노드가 짝을 꺼내 MATCHED 티켓에 방 소유 노드를 남기고, 레이팅 창/취소/버려진 티켓/리더 임대 규칙을 지키며,
+ *     동시에 꺼내도 한 티켓이 두 번 꺼내지지 않는지 확인한다. Docker가 없으면 건너뛴다.
+ *   - 한 노드에서 확정한 티켓이 decided 채널로 다른 노드에 바로 알려지는지(롱 폴링 깨우기) 확인한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/backend/v1.1.0-matchmaking-scaling.md
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisMatchmakingClusterTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private final Map<Long, User> users = new HashMap<>();
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final MatchmakingProperties properties = new MatchmakingProperties();
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        when(userRepository.findAllById(any())).thenAnswer(invocation -> {
+            List<User> found = new ArrayList<>();
+            for (Long id : invocation.<Iterable<Long>>getArgument(0)) {
+                if (users.containsKey(id)) {
+                    found.add(users.get(id));
+                }
+            }
+            return found;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("다른 노드에 등록한 두 사용자를 리더 노드가 짝짓고 어느 노드에서나 MATCHED 티켓을 조회한다")
+    void matchesPlayersAcrossNodes() {
+        RedisMatchmakingCluster nodeA = cluster("node-a");
+        RedisMatchmakingCluster nodeB = cluster("node-b");
+
+        MatchTicket first = nodeA.enqueue(user(1L, 1200), MatchType.RANKED, 1200);
+        clock.addAndGet(10);
+        MatchTicket second = nodeB.enqueue(user(2L, 1250), MatchType.RANKED, 1250);
+        assertThat(nodeA.enqueue(users.get(2L), MatchType.RANKED, 1250).ticketId()).isEqualTo(second.ticketId());
+        assertThat(nodeB.waitingCount(MatchType.RANKED)).isEqualTo(2);
+
+        assertThat(nodeA.leading()).isTrue();
+        assertThat(nodeB.leading()).isFalse();
+        List<ClaimedPair> pairs = nodeA.claimPairs(MatchType.RANKED);
+        assertThat(pairs).singleElement().satisfies(pair -> {
+            assertThat(pair.first().ticketId()).isEqualTo(first.ticketId());
+            assertThat(pair.second().user().getId()).isEqualTo(2L);
+            assertThat(pair.ratingGap()).isEqualTo(50);
+        });
+
+        nodeA.matched(pairs.get(0), MatchType.RANKED, "room-1");
+        assertThat(nodeB.findTicket(first.ticketId())).get()
+                .extracting(MatchTicket::status, MatchTicket::roomId, MatchTicket::node)
+                .containsExactly("MATCHED", "room-1", "node-a");
+        assertThat(nodeB.waitingCount(MatchType.RANKED)).isZero();
+        // 확정 후에는 현재 대기 색인이 비어 다시 큐에 들어갈 수 있다.
+        assertThat(nodeB.enqueue(users.get(2L), MatchType.RANKED, 1250).ticketId()).isNotEqualTo(second.ticketId());
+    }
+
+    @Test
+    @DisplayName("랭크 짝 꺼내기는 양쪽 허용 창을 지키고, 대기 중인 티켓만 취소된다")
+    void respectsWindowAndCancel() {
+        RedisMatchmakingCluster nodeA = cluster("node-a");
+        RedisMatchmakingCluster nodeB = cluster("node-b");
+
+        nodeA.enqueue(user(1L, 2400), MatchType.RANKED, 2400);
+        nodeB.enqueue(user(2L, 1900), MatchType.RANKED, 1900);
+        MatchTicket leaving = nodeB.enqueue(user(3L, 1000), MatchType.RANKED, 1000);
+        assertThat(nodeA.claimPairs(MatchType.RANKED)).isEmpty();
+
+        assertThat(nodeA.cancel(leaving.ticketId())).get().extracting(MatchTicket::status).isEqualTo("CANCELLED");
+        assertThat(nodeB.waitingCount(MatchType.RANKED)).isEqualTo(2);
+
+        // 초기 창 100 + 초당 20 → 20초 뒤 두 사람 모두 차이 500을 허용한다.
+        clock.addAndGet(TimeUnit.SECONDS.toMillis(19));
+        assertThat(nodeA.claimPairs(MatchType.RANKED)).isEmpty();
+        clock.addAndGet(TimeUnit.SECONDS.toMillis(1));
+        List<ClaimedPair> pairs = nodeA.claimPairs(MatchType.RANKED);
+        assertThat(pairs).singleElement().extracting(ClaimedPair::ratingGap).isEqualTo(500);
+
+        // 꺼내진 뒤에는 취소가 이기지 못한다.
+        assertThat(nodeB.cancel(pairs.get(0).first().ticketId())).get().extracting(MatchTicket::status)
+                .isEqualTo("WAITING");
+    }
+
+    @Test
+    @DisplayName("두 노드가 동시에 짝을 꺼내도 한 티켓은 한 번만 꺼내진다")
+    void concurrentClaimsNeverShareTicket() {
+        RedisMatchmakingCluster nodeA = cluster("node-a");
+        RedisMatchmakingCluster nodeB = cluster("node-b");
+        for (long id = 1; id <= 200; id++) {
+            int rating = 1000 + (int) (id * 37 % 800);
+            (id % 2 == 0 ? nodeA : nodeB).enqueue(user(id, rating), MatchType.NORMAL, rating);
+        }
+
+        CompletableFuture<List<String>> fromA = CompletableFuture.supplyAsync(() -> drain(nodeA));
+        CompletableFuture<List<String>> fromB = CompletableFuture.supplyAsync(() -> drain(nodeB));
+        List<String> claimed = new ArrayList<>(fromA.join());
+        claimed.addAll(fromB.join());
+
+        Set<String> unique = new HashSet<>(claimed);
+        assertThat(unique).hasSize(claimed.size()).hasSize(200);
+        assertThat(nodeA.waitingCount(MatchType.NORMAL)).isZero();
+    }
+
+    @Test
+    @DisplayName("폴링이 끊긴 대기 티켓은 짝 꺼내기에서 버려지고, 리더가 임대를 반환하면 다른 노드가 이어받는다")
+    void dropsAbandonedTicketsAndHandsOverLease() throws Exception {
+        properties.setWaitingTicketTtlMs(200);
+        RedisMatchmakingCluster nodeA = cluster("node-a");
+        RedisMatchmakingCluster nodeB = cluster("node-b");
+        nodeA.enqueue(user(1L, 1200), MatchType.NORMAL, 1200);
+        nodeB.enqueue(user(2L, 1210), MatchType.NORMAL, 1210);
+
+        Thread.sleep(400);
+        assertThat(nodeA.claimPairs(MatchType.NORMAL)).isEmpty();
+        assertThat(nodeA.abandonedTicketCount()).isEqualTo(2);
+        assertThat(nodeA.waitingCount(MatchType.NORMAL)).isZero();
+
+        assertThat(nodeA.leading()).isTrue();
+        assertThat(nodeB.leading()).isFalse();
+        nodeA.stop();
+        assertThat(nodeB.leading()).isTrue();
+    }
+
+    @Test
+    @DisplayName("한 노드가 매칭/취소를 확정하면 다른 노드의 구독자가 ticketId를 바로 받는다")
+    void publishesDecisionsToOtherNodes() throws Exception {
+        RedisMatchmakingCluster nodeA = cluster("node-a");
+        RedisMatchmakingCluster nodeB = cluster("node-b");
+        BlockingQueue<String> decided = new LinkedBlockingQueue<>();
+        nodeB.onTicketDecided(decided::add);
+        Thread.sleep(200);
+
+        MatchTicket first = nodeA.enqueue(user(1L, 1200), MatchType.NORMAL, 1200);
+        MatchTicket second = nodeA.enqueue(user(2L, 1300), MatchType.NORMAL, 1300);
+        MatchTicket leaving = nodeA.enqueue(user(3L, 2000), MatchType.RANKED, 2000);
+        nodeA.matched(nodeA.claimPairs(MatchType.NORMAL).get(0), MatchType.NORMAL, "room-1");
+        nodeA.cancel(leaving.ticketId());
+
+        List<String> received = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            received.add(decided.poll(2, TimeUnit.SECONDS));
+        }
+        assertThat(received).containsExactlyInAnyOrder(first.ticketId(), second.ticketId(), leaving.ticketId());
+        nodeB.stop();
+    }
+
+    private List<String> drain(RedisMatchmakingCluster node) {
+        List<String> ticketIds = new ArrayList<>();
+        List<ClaimedPair> pairs;
+        do {
+            pairs = node.claimPairs(MatchType.NORMAL);
+            for (ClaimedPair pair : pairs) {
+                ticketIds.add(pair.first().ticketId());
+                ticketIds.add(pair.second().ticketId());
+            }
+        } while (!pairs.isEmpty() || node.waitingCount(MatchType.NORMAL) > 1);
+        return ticketIds;
+    }
+
+    private RedisMatchmakingCluster cluster(String nodeId) {
+        return new RedisMatchmakingCluster(redisTemplate, connectionFactory, userRepository, properties, nodeId,
+                clock::get);
+    }
+
+    private User user(Long id, int rating) {
+        User user = new User("user" + id, "pass", "사용자" + id, null);
+        ReflectionTestUtils.setField(user, "id", id);
+        user.updateRating(rating);
+        users.put(id, user);
+        return user;
+    }
+}
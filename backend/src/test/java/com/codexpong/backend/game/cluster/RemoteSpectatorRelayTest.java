@@ -0,0 +1,105 @@
+package com.codexpong.backend.game.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.codexpong.backend.game.protocol.EncodedFrame;
+import com.codexpong.backend.game.protocol.GameProtocol;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/cluster/RemoteSpectatorRelayTest.java
+ * 설명:
+ *   - 원격 관전 중계가 세션 프로토콜에 맞는 프레임을 고르고, 합류/RESYNC 세션은 키프레임부터 전달하는지 검증한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+class RemoteSpectatorRelayTest {
+
+    private static final String ROOM = "room-1";
+
+    private final RemoteSpectatorRelay relay = new RemoteSpectatorRelay();
+
+    @Test
+    @DisplayName("첫 관전자와 마지막 관전자를 알려 구독/해제 시점을 정한다")
+    void reportsFirstAndLastViewer() {
+        assertThat(relay.attach(ROOM, "a", session(GameProtocol.JSON_FULL))).isTrue();
+        assertThat(relay.attach(ROOM, "b", session(GameProtocol.JSON_FULL))).isFalse();
+
+        assertThat(relay.detach(ROOM, "unknown")).isFalse();
+        assertThat(relay.detach(ROOM, "a")).isFalse();
+        assertThat(relay.detach(ROOM, "b")).isTrue();
+        assertThat(relay.viewerCount(ROOM)).isZero();
+    }
+
+    @Test
+    @DisplayName("세션 프로토콜에 맞는 프레임을 그대로 전달한다")
+    void forwardsFramePerProtocol() throws Exception {
+        WebSocketSession json = session(GameProtocol.JSON_FULL);
+        WebSocketSession binary = session(GameProtocol.BINARY);
+        relay.attach(ROOM, "json", json);
+        relay.attach(ROOM, "binary", binary);
+
+        relay.onMessage(ROOM, RoomFrameEnvelope.frames(frames(true)));
+
+        verify(json).sendMessage(any(TextMessage.class));
+        verify(binary).sendMessage(any(BinaryMessage.class));
+    }
+
+    @Test
+    @DisplayName("델타 세션은 키프레임이 올 때까지 기다리고 RESYNC 뒤에도 다시 기다린다")
+    void deltaViewerWaitsForKeyframe() throws Exception {
+        WebSocketSession delta = session(GameProtocol.JSON_DELTA);
+        relay.attach(ROOM, "delta", delta);
+
+        relay.onMessage(ROOM, RoomFrameEnvelope.frames(frames(false)));
+        verify(delta, never()).sendMessage(any());
+
+        relay.onMessage(ROOM, RoomFrameEnvelope.frames(frames(true)));
+        relay.onMessage(ROOM, RoomFrameEnvelope.frames(frames(false)));
+        verify(delta, times(2)).sendMessage(any());
+
+        relay.requestKeyframe(ROOM, "delta");
+        relay.onMessage(ROOM, RoomFrameEnvelope.frames(frames(false)));
+        verify(delta, times(2)).sendMessage(any());
+    }
+
+    @Test
+    @DisplayName("END를 받으면 방의 관전자를 모두 뗀다")
+    void endRemovesRoom() {
+        relay.attach(ROOM, "a", session(GameProtocol.JSON_FULL));
+
+        assertThat(relay.onMessage(ROOM, RoomFrameEnvelope.end())).isTrue();
+        assertThat(relay.viewerCount(ROOM)).isZero();
+        assertThat(relay.contains(ROOM, "a")).isFalse();
+    }
+
+    private static EncodedFrame[] frames(boolean deltaKeyframe) {
+        EncodedFrame[] frames = new EncodedFrame[GameProtocol.values().length];
+        frames[GameProtocol.JSON_FULL.ordinal()] = EncodedFrame.text("{\"type\":\"STATE\"}");
+        frames[GameProtocol.JSON_DELTA.ordinal()] = EncodedFrame.text("{\"type\":\"STATE\",\"d\":{}}", deltaKeyframe);
+        frames[GameProtocol.BINARY.ordinal()] = EncodedFrame.binary(new byte[] {1});
+        return frames;
+    }
+
+    private static WebSocketSession session(GameProtocol protocol) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(GameProtocol.SESSION_ATTRIBUTE, protocol);
+        when(session.getAttributes()).thenReturn(attributes);
+        when(session.isOpen()).thenReturn(true);
+        return session;
+    }
+}
@@ -0,0 +1,72 @@
+package com.codexpong.backend.game.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.game.protocol.EncodedFrame;
+import com.codexpong.backend.game.protocol.GameProtocol;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.TextMessage;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/cluster/RoomFrameEnvelopeTest.java
+ * 설명:
+ *   - 노드 간 방 채널 메시지가 프로토콜별 프레임과 keyframe 여부를 그대로 왕복하는지 검증한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+class RoomFrameEnvelopeTest {
+
+    @Test
+    @DisplayName("프로토콜별 프레임과 keyframe 플래그가 왕복한다")
+    void roundTripsFrames() {
+        EncodedFrame[] frames = new EncodedFrame[GameProtocol.values().length];
+        frames[GameProtocol.JSON_FULL.ordinal()] = EncodedFrame.text("{\"type\":\"STATE\"}");
+        frames[GameProtocol.JSON_DELTA.ordinal()] = EncodedFrame.text("{\"d\":{}}", false);
+        frames[GameProtocol.BINARY.ordinal()] = EncodedFrame.binary(new byte[] {1, 2, 3});
+
+        EncodedFrame[] decoded = RoomFrameEnvelope.decodeFrames(RoomFrameEnvelope.frames(frames));
+
+        assertThat(decoded).hasSize(frames.length);
+        assertThat(((TextMessage) decoded[GameProtocol.JSON_FULL.ordinal()].message()).getPayload())
+                .isEqualTo("{\"type\":\"STATE\"}");
+        assertThat(decoded[GameProtocol.JSON_FULL.ordinal()].isKeyframe()).isTrue();
+        assertThat(decoded[GameProtocol.JSON_DELTA.ordinal()].isKeyframe()).isFalse();
+        EncodedFrame binary = decoded[GameProtocol.BINARY.ordinal()];
+        assertThat(binary.isBinary()).isTrue();
+        ByteBuffer payload = binary.payload();
+        byte[] bytes = new byte[payload.remaining()];
+        payload.get(bytes);
+        assertThat(bytes).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("빠진 프로토콜은 null로 남고, 프레임이 없으면 메시지를 만들지 않는다")
+    void skipsMissingProtocols() {
+        EncodedFrame[] frames = new EncodedFrame[GameProtocol.values().length];
+        assertThat(RoomFrameEnvelope.frames(frames)).isNull();
+
+        frames[GameProtocol.BINARY.ordinal()] = EncodedFrame.binary(new byte[] {9});
+        EncodedFrame[] decoded = RoomFrameEnvelope.decodeFrames(RoomFrameEnvelope.frames(frames));
+
+        assertThat(decoded[GameProtocol.JSON_FULL.ordinal()]).isNull();
+        assertThat(decoded[GameProtocol.BINARY.ordinal()]).isNotNull();
+    }
+
+    @Test
+    @DisplayName("END 메시지와 잘린 메시지를 구분한다")
+    void distinguishesEndAndMalformed() {
+        byte[] end = RoomFrameEnvelope.end();
+        assertThat(RoomFrameEnvelope.isEnd(end)).isTrue();
+        assertThat(RoomFrameEnvelope.decodeFrames(end)).isNull();
+
+        EncodedFrame[] frames = new EncodedFrame[GameProtocol.values().length];
+        frames[GameProtocol.JSON_FULL.ordinal()] = EncodedFrame.text("{}");
+        byte[] message = RoomFrameEnvelope.frames(frames);
+        assertThat(RoomFrameEnvelope.isEnd(message)).isFalse();
+        assertThat(RoomFrameEnvelope.decodeFrames(Arrays.copyOf(message, message.length - 1))).isNull();
+    }
+}
@@ -0,0 +1,72 @@
+package com.codexpong.backend.game.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.game.cluster.SharedQueuePairing.Pair;
+import com.codexpong.backend.game.cluster.SharedQueuePairing.Waiting;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/cluster/SharedQueuePairingTest.java
+ * 설명:
+ *   - 공유 매칭 큐의 짝 선택 규칙을 Redis 없이 검증한다. 허용 창 확대와 상한, 양쪽 창 조건,
+ *     가장 가까운 이웃 선택, 오래 기다린 대기자 우선, 일반 큐의 무제한 창을 확인한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/backend/v1.1.0-matchmaking-scaling.md
+ */
+class SharedQueuePairingTest {
+
+    private final SharedQueuePairing ranked = new SharedQueuePairing(100, 20, 800);
+
+    @Test
+    @DisplayName("허용 창은 대기 초마다 넓어지고 상한에서 멈춘다")
+    void windowGrowsUntilCap() {
+        Waiting waiting = new Waiting("t1", 1200, 0);
+
+        assertThat(ranked.window(waiting, 999)).isEqualTo(100);
+        assertThat(ranked.window(waiting, 10_000)).isEqualTo(300);
+        assertThat(ranked.window(waiting, 600_000)).isEqualTo(800);
+    }
+
+    @Test
+    @DisplayName("레이팅 차이가 양쪽 창 모두에 들어와야 짝이 된다")
+    void requiresBothWindows() {
+        Waiting old = new Waiting("old", 2400, 0);
+        Waiting fresh = new Waiting("fresh", 1900, 30_000);
+
+        // 오래 기다린 쪽 창은 700이지만 막 들어온 쪽 창은 100이다.
+        assertThat(ranked.pair(List.of(old, fresh), 30_000)).isEmpty();
+        // 20초 뒤 막 들어온 쪽 창도 500이 된다.
+        assertThat(ranked.pair(List.of(old, fresh), 50_000)).singleElement()
+                .isEqualTo(new Pair(old, fresh));
+    }
+
+    @Test
+    @DisplayName("레이팅 바로 아래/위 이웃 중 더 가까운 상대와 짝짓고, 오래 기다린 대기자가 먼저 고른다")
+    void picksClosestNeighbourOldestFirst() {
+        Waiting first = new Waiting("first", 1200, 0);
+        Waiting lower = new Waiting("lower", 1150, 1_000);
+        Waiting upper = new Waiting("upper", 1230, 2_000);
+        Waiting last = new Waiting("last", 1260, 3_000);
+
+        List<Pair> pairs = ranked.pair(List.of(first, lower, upper, last), 3_000);
+
+        assertThat(pairs).containsExactly(new Pair(first, upper));
+    }
+
+    @Test
+    @DisplayName("일반 큐는 창 제한 없이 가장 가까운 레이팅과 짝짓는다")
+    void unboundedPairsEveryone() {
+        Waiting a = new Waiting("a", 800, 0);
+        Waiting b = new Waiting("b", 2400, 0);
+        Waiting c = new Waiting("c", 2300, 0);
+        Waiting d = new Waiting("d", 1000, 0);
+
+        List<Pair> pairs = SharedQueuePairing.UNBOUNDED.pair(List.of(a, b, c, d), 0);
+
+        assertThat(pairs).containsExactly(new Pair(a, d), new Pair(b, c));
+    }
+}
@@ -0,0 +1,106 @@
+package com.codexpong.backend.game.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import com.codexpong.backend.user.domain.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/domain/PlayerInputQueueTest.java
+ * 설명:
+ *   - 순번 INPUT이 의도한 틱에 적용되고, 중복/역순 seq는 버려지며, 적용된 seq가 ack로 노출되는지 검증한다.
+ *   - 클라이언트 시각만 있는 입력은 지연 0 기준선 + 지터 흡수 틱에 적용되는지 확인한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+class PlayerInputQueueTest {
+
+    @Test
+    @DisplayName("의도 틱이 있는 입력은 그 틱이 되어야 적용되고 ack된다")
+    void appliesInputAtIntendedTick() {
+        PlayerInputQueue queue = new PlayerInputQueue(50, 0);
+
+        queue.offer(PaddleInput.UP, 1, 0, 12, 10, 0);
+
+        assertThat(queue.advance(10)).isEqualTo(PaddleInput.STAY);
+        assertThat(queue.advance(11)).isEqualTo(PaddleInput.STAY);
+        assertThat(queue.processedSeq()).isZero();
+        assertThat(queue.advance(12)).isEqualTo(PaddleInput.UP);
+        assertThat(queue.processedSeq()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("중복/역순 seq는 버리고 늦게 도착한 입력은 다음 틱에 최신 입력만 적용한다")
+    void dropsStaleSequenceAndCollapsesLateInputs() {
+        PlayerInputQueue queue = new PlayerInputQueue(50, 0);
+
+        assertThat(queue.offer(PaddleInput.UP, 3, 0, 2, 10, 0)).isTrue();
+        assertThat(queue.offer(PaddleInput.DOWN, 2, 0, 3, 10, 0)).isFalse();
+        assertThat(queue.offer(PaddleInput.UP, 3, 0, 3, 10, 0)).isFalse();
+        assertThat(queue.offer(PaddleInput.DOWN, 4, 0, 5, 10, 0)).isTrue();
+
+        assertThat(queue.advance(10)).isEqualTo(PaddleInput.DOWN);
+        assertThat(queue.processedSeq()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("먼 미래 틱은 최대 선행 틱으로 자르고 앞선 입력보다 먼저 적용되지 않는다")
+    void clampsLeadAndKeepsOrder() {
+        PlayerInputQueue queue = new PlayerInputQueue(50, 0);
+
+        queue.offer(PaddleInput.UP, 1, 0, 1_000, 10, 0);
+        queue.offer(PaddleInput.DOWN, 2, 0, 12, 10, 0);
+
+        assertThat(queue.advance(10 + PlayerInputQueue.MAX_LEAD_TICKS - 1)).isEqualTo(PaddleInput.STAY);
+        assertThat(queue.advance(10 + PlayerInputQueue.MAX_LEAD_TICKS)).isEqualTo(PaddleInput.DOWN);
+        assertThat(queue.processedSeq()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("클라이언트 시각만 있으면 도착 지연을 빼고 지터 흡수 틱만큼 늦춰 입력 간격을 유지한다")
+    void estimatesTickFromClientTime() {
+        PlayerInputQueue queue = new PlayerInputQueue(50, 1);
+
+        // 지연 없는 입력이 기준선을 만든다: 다음 틱(10) + 흡수 1틱 = 11
+        queue.offer(PaddleInput.UP, 1, 1_000, 0, 10, 5_000);
+        // 50ms 뒤 입력이 60ms 늦게 도착: 흡수 범위를 넘어 한 틱 앞당겨지지만(10) 앞 입력보다 먼저 적용되지 않게 11로 맞춘다.
+        queue.offer(PaddleInput.DOWN, 2, 1_050, 0, 10, 5_110);
+
+        assertThat(queue.advance(10)).isEqualTo(PaddleInput.STAY);
+        assertThat(queue.advance(11)).isEqualTo(PaddleInput.DOWN);
+        assertThat(queue.processedSeq()).isEqualTo(2);
+
+        // 지연 없이 도착한 다음 입력은 다시 한 틱 늦게 적용된다.
+        queue.offer(PaddleInput.STAY, 3, 1_100, 0, 12, 5_100);
+        assertThat(queue.advance(12)).isEqualTo(PaddleInput.DOWN);
+        assertThat(queue.advance(13)).isEqualTo(PaddleInput.STAY);
+    }
+
+    @Test
+    @DisplayName("방은 틱마다 도달한 입력을 적용하고 플레이어별 처리 seq를 노출한다")
+    void roomExposesProcessedSequencePerPlayer() {
+        User left = new User("left", "pass", "왼쪽", null);
+        User right = new User("right", "pass", "오른쪽", null);
+        ReflectionTestUtils.setField(left, "id", 1L);
+        ReflectionTestUtils.setField(right, "id", 2L);
+        GameRoom room = new GameRoom(left, right, MatchType.NORMAL, 50, 0);
+        double startY = room.currentSnapshot().leftPaddleY();
+
+        room.updateInput(1L, new SequencedInput(PaddleInput.UP, 7, 0, 2));
+        room.tickFrame(50_000_000L);
+
+        assertThat(room.leftProcessedSeq()).isZero();
+        assertThat(room.currentSnapshot().leftPaddleY()).isEqualTo(startY);
+
+        room.tickFrame(50_000_000L);
+
+        assertThat(room.getTickCount()).isEqualTo(2);
+        assertThat(room.leftProcessedSeq()).isEqualTo(7);
+        assertThat(room.rightProcessedSeq()).isZero();
+        assertThat(room.currentSnapshot().leftPaddleY()).isLessThan(startY);
+    }
+}
@@ -0,0 +1,81 @@
+package com.codexpong.backend.game.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/domain/RttEstimatorTest.java
+ * 설명:
+ *   - 응답 대기 ping의 송신 시각으로 표본 RTT를 구하고, 평활 RTT(1/8)와 지터(1/16)가 표본을 따라가는지 검증한다.
+ *   - 대기 중인 ping과 nonce가 같은 pong 하나만 받아들이는지 검증한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+class RttEstimatorTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("대기 중인 ping의 송신 시각으로 표본 RTT를 구하고 첫 표본을 평활 값으로 쓴다")
+    void firstPongSeedsSmoothedRtt() {
+        RttEstimator estimator = new RttEstimator();
+
+        long sample = estimator.onPong(estimator.nextPing(1_000 * MILLIS), 1_040 * MILLIS);
+
+        assertThat(sample).isEqualTo(40 * MILLIS);
+        assertThat(estimator.smoothedNanos()).isEqualTo(40 * MILLIS);
+        assertThat(estimator.jitterNanos()).isZero();
+        assertThat(estimator.samples()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("평활 RTT는 표본 쪽으로 1/8씩, 지터는 연속 표본 차이 쪽으로 1/16씩 움직인다")
+    void smoothsTowardsSamples() {
+        RttEstimator estimator = new RttEstimator();
+        estimator.record(40 * MILLIS);
+
+        estimator.record(120 * MILLIS);
+
+        assertThat(estimator.smoothedNanos()).isEqualTo(50 * MILLIS);
+        assertThat(estimator.jitterNanos()).isEqualTo(5 * MILLIS);
+        for (int i = 0; i < 100; i++) {
+            estimator.record(120 * MILLIS);
+        }
+        assertThat(estimator.smoothedNanos()).isBetween(119 * MILLIS, 120 * MILLIS);
+        assertThat(estimator.jitterNanos()).isLessThan(MILLIS);
+    }
+
+    @Test
+    @DisplayName("형식이 다르거나 범위를 벗어난 pong은 반영하지 않는다")
+    void ignoresForeignOrInvalidPongs() {
+        RttEstimator estimator = new RttEstimator();
+
+        assertThat(estimator.onPong(ByteBuffer.allocate(0), 10 * MILLIS)).isEqualTo(-1);
+        assertThat(estimator.onPong(estimator.nextPing(20 * MILLIS), 10 * MILLIS)).isEqualTo(-1);
+        assertThat(estimator.samples()).isZero();
+    }
+
+    @Test
+    @DisplayName("요청하지 않은 pong, 반복 pong, 대체된 ping의 pong은 표본이 되지 않는다")
+    void acceptsExactlyOnePongPerPing() {
+        RttEstimator estimator = new RttEstimator();
+        assertThat(estimator.onPong(ByteBuffer.allocate(Long.BYTES).putLong(0, 0L), 10 * MILLIS)).isEqualTo(-1);
+
+        ByteBuffer first = estimator.nextPing(100 * MILLIS);
+        ByteBuffer second = estimator.nextPing(200 * MILLIS);
+        assertThat(estimator.onPong(first.duplicate(), 900 * MILLIS)).isEqualTo(-1);
+        assertThat(estimator.onPong(second.duplicate(), 230 * MILLIS)).isEqualTo(30 * MILLIS);
+        assertThat(estimator.onPong(second.duplicate(), 900 * MILLIS)).isEqualTo(-1);
+
+        ByteBuffer forged = ByteBuffer.allocate(Long.BYTES).putLong(0, second.getLong(0) + 1);
+        estimator.nextPing(1_000 * MILLIS);
+        assertThat(estimator.onPong(forged, 1_500 * MILLIS)).isEqualTo(-1);
+        assertThat(estimator.samples()).isEqualTo(1);
+        assertThat(estimator.smoothedNanos()).isEqualTo(30 * MILLIS);
+    }
+}
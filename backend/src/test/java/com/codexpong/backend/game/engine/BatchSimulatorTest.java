@@ -0,0 +1,83 @@
+package com.codexpong.backend.game.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.game.engine.model.GameSide;
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/engine/BatchSimulatorTest.java
+ * 설명:
+ *   - 배치 시뮬레이터가 같은 스크립트 입력에 대해 GameEngine.tick과 비트 단위로 같은 상태를 만드는지 검증한다.
+ *   - 병렬 분할(여러 리프 구간)과 나눠 실행한 run 호출에서도 결과가 같은지 확인한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+class BatchSimulatorTest {
+
+    private static final long DELTA_NANOS = 50_000_000L;
+    private static final PaddleInput[] INPUTS = PaddleInput.values();
+
+    // 경기마다 다른 주기로 입력을 바꿔 득점/반사/종료 경로를 고루 거치게 한다.
+    private static final InputScript SCRIPT = (match, tick, side) -> {
+        int period = side == GameSide.LEFT ? 3 + match % 11 : 5 + match % 7;
+        return INPUTS[(int) ((tick / period + match) % INPUTS.length)];
+    };
+
+    @Test
+    @DisplayName("배치 결과는 경기별 GameEngine.tick 결과와 정확히 같다")
+    void matchesGameEngine() {
+        int matches = 600;
+        int ticks = 3_000;
+        BatchSimulator simulator = new BatchSimulator(matches);
+
+        simulator.run(1_000, DELTA_NANOS, SCRIPT, new ForkJoinPool(4));
+        simulator.run(ticks - 1_000, DELTA_NANOS, SCRIPT);
+
+        for (int match = 0; match < matches; match++) {
+            GameEngine engine = new GameEngine();
+            GameSnapshot expected = engine.forceSnapshot();
+            for (int tick = 0; tick < ticks; tick++) {
+                expected = engine.tick(Duration.ofNanos(DELTA_NANOS), SCRIPT.inputAt(match, tick, GameSide.LEFT),
+                        SCRIPT.inputAt(match, tick, GameSide.RIGHT));
+            }
+            GameSnapshot actual = simulator.snapshot(match);
+            assertThat(actual.ballX()).isEqualTo(expected.ballX());
+            assertThat(actual.ballY()).isEqualTo(expected.ballY());
+            assertThat(actual.ballVelocityX()).isEqualTo(expected.ballVelocityX());
+            assertThat(actual.ballVelocityY()).isEqualTo(expected.ballVelocityY());
+            assertThat(actual.leftPaddleY()).isEqualTo(expected.leftPaddleY());
+            assertThat(actual.rightPaddleY()).isEqualTo(expected.rightPaddleY());
+            assertThat(actual.leftScore()).isEqualTo(expected.leftScore());
+            assertThat(actual.rightScore()).isEqualTo(expected.rightScore());
+            assertThat(actual.finished()).isEqualTo(expected.finished());
+            assertThat(simulator.ticks(match)).isEqualTo(ticks);
+        }
+        assertThat(simulator.finishedCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("녹화된 입력 스트림을 재생하고 끝나면 STAY로 진행한다")
+    void replaysRecordedStreams() {
+        PaddleInput[][] left = {{PaddleInput.UP, PaddleInput.UP}};
+        PaddleInput[][] right = {{PaddleInput.DOWN}};
+        BatchSimulator simulator = new BatchSimulator(1);
+        GameEngine engine = new GameEngine();
+
+        simulator.run(4, DELTA_NANOS, InputScript.recorded(left, right));
+        engine.tick(Duration.ofNanos(DELTA_NANOS), PaddleInput.UP, PaddleInput.DOWN);
+        engine.tick(Duration.ofNanos(DELTA_NANOS), PaddleInput.UP, PaddleInput.STAY);
+        engine.tick(Duration.ofNanos(DELTA_NANOS), PaddleInput.STAY, PaddleInput.STAY);
+        GameSnapshot expected = engine.tick(Duration.ofNanos(DELTA_NANOS), PaddleInput.STAY, PaddleInput.STAY);
+
+        assertThat(simulator.snapshot(0).leftPaddleY()).isEqualTo(expected.leftPaddleY());
+        assertThat(simulator.snapshot(0).rightPaddleY()).isEqualTo(expected.rightPaddleY());
+        assertThat(simulator.snapshot(0).ballX()).isEqualTo(expected.ballX());
+    }
+}
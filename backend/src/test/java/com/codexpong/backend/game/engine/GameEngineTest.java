@@ -2,9 +2,11 @@ package com.codexpong.backend.game.engine;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.codexpong.backend.game.engine.model.GameSide;
 import com.codexpong.backend.game.engine.model.GameSnapshot;
 import com.codexpong.backend.game.engine.model.PaddleInput;
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -12,6 +14,8 @@ import org.junit.jupiter.api.Test;
  * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/engine/GameEngineTest.java
  * 설명:
  *   - v0.3.0 게임 엔진이 틱 기반으로 이동/득점 상태를 변경하는지 검증한다.
+ *   - v1.1.0 지연 보정이 이동 중인 패들의 판정 범위를 이동 방향으로만 넓히는지 검증한다.
+ *   - v1.1.0 체크포인트 스냅샷에서 복원한 엔진이 원래 엔진과 같은 궤적으로 진행하는지 검증한다.
  */
 class GameEngineTest {
 
@@ -26,4 +30,43 @@ class GameEngineTest {
         GameSnapshot scored = engine.tick(Duration.ofSeconds(2), PaddleInput.STAY, PaddleInput.STAY);
         assertThat(scored.leftScore() + scored.rightScore()).isGreaterThanOrEqualTo(1);
     }
+
+    @Test
+    @DisplayName("지연 보정이 있으면 이동 방향으로 조금 모자란 패들도 공을 받아낸다")
+    void lagCompensationExtendsPaddleInMovingDirection() {
+        GameEngine uncompensated = new GameEngine();
+        GameEngine compensated = new GameEngine();
+        compensated.setLagCompensation(GameSide.RIGHT, TimeUnit.MILLISECONDS.toNanos(150));
+
+        // 공은 오른쪽 아래로 진행한다. 오른쪽 플레이어가 18틱째부터 뒤늦게 내려가면 보정 없이는 실점한다.
+        GameSnapshot missed = null;
+        GameSnapshot saved = null;
+        for (int tick = 1; tick <= 30; tick++) {
+            PaddleInput right = tick > 17 ? PaddleInput.DOWN : PaddleInput.STAY;
+            missed = uncompensated.tick(Duration.ofMillis(50), PaddleInput.STAY, right);
+            saved = compensated.tick(Duration.ofMillis(50), PaddleInput.STAY, right);
+        }
+
+        assertThat(missed.leftScore()).isEqualTo(1);
+        assertThat(saved.leftScore()).isZero();
+        assertThat(saved.ballVelocityX()).isNegative();
+    }
+
+    @Test
+    @DisplayName("체크포인트 스냅샷에서 복원한 엔진은 원래 엔진과 같은 궤적으로 진행한다")
+    void restoredEngineContinuesSameTrajectory() {
+        GameEngine original = new GameEngine();
+        GameSnapshot checkpoint = null;
+        for (int i = 0; i < 30; i++) {
+            checkpoint = original.tick(Duration.ofMillis(50), PaddleInput.UP, PaddleInput.DOWN);
+        }
+
+        GameEngine restored = new GameEngine(checkpoint);
+
+        for (int i = 0; i < 60; i++) {
+            PaddleInput left = i % 3 == 0 ? PaddleInput.DOWN : PaddleInput.STAY;
+            assertThat(restored.tick(Duration.ofMillis(50), left, PaddleInput.UP))
+                    .isEqualTo(original.tick(Duration.ofMillis(50), left, PaddleInput.UP));
+        }
+    }
 }
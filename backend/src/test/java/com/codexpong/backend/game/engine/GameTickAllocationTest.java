@@ -0,0 +1,106 @@
+package com.codexpong.backend.game.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.game.domain.GameRoom;
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.engine.model.GameFrame;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import com.codexpong.backend.user.domain.User;
+import java.lang.management.ManagementFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/engine/GameTickAllocationTest.java
+ * 설명:
+ *   - 정상 상태(워밍업 이후)에서 무할당 틱 경로가 틱당 0바이트를 할당하는지 스레드 할당 카운터로 검증한다.
+ *   - 입력 갱신과 tickFrame을 함께 호출해 GameRoom 입력 슬롯 경로까지 포함한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+class GameTickAllocationTest {
+
+    private static final long DELTA_NANOS = 50_000_000L;
+    private static final PaddleInput[] INPUTS = PaddleInput.values();
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    @DisplayName("엔진 tickInPlace는 정상 상태에서 할당하지 않는다")
+    void engineTickDoesNotAllocate() {
+        warmUp();
+        GameEngine engine = new GameEngine();
+        engine.tickInPlace(DELTA_NANOS, PaddleInput.STAY, PaddleInput.STAY);
+
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 5_000; i++) {
+            engine.tickInPlace(DELTA_NANOS, INPUTS[i % INPUTS.length], INPUTS[(i + 1) % INPUTS.length]);
+        }
+        long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - before;
+
+        assertThat(allocated).isZero();
+    }
+
+    @Test
+    @DisplayName("입력 갱신을 포함한 GameRoom 틱은 정상 상태에서 할당하지 않는다")
+    void roomTickWithInputsDoesNotAllocate() {
+        warmUp();
+        GameRoom room = newRoom();
+        Long leftId = room.getLeftPlayer().getId();
+        Long rightId = room.getRightPlayer().getId();
+        room.tickFrame(DELTA_NANOS);
+
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        // 종료 시각 기록(최초 1회 할당)이 끼어들지 않도록 한 라운드 안쪽 길이만 측정한다.
+        for (int i = 0; i < 20; i++) {
+            room.updateInput(leftId, INPUTS[i % INPUTS.length]);
+            room.updateInput(rightId, INPUTS[(i + 2) % INPUTS.length]);
+            room.tickFrame(DELTA_NANOS);
+        }
+        long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - before;
+
+        assertThat(allocated).isZero();
+    }
+
+    @Test
+    @DisplayName("무할당 경로와 기존 tick 경로는 같은 상태를 만든다")
+    void inPlaceMatchesSnapshotPath() {
+        GameEngine snapshotEngine = new GameEngine();
+        GameEngine frameEngine = new GameEngine();
+        for (int i = 0; i < 200; i++) {
+            PaddleInput left = INPUTS[i % INPUTS.length];
+            PaddleInput right = INPUTS[(i + 1) % INPUTS.length];
+            var snapshot = snapshotEngine.tick(java.time.Duration.ofNanos(DELTA_NANOS), left, right);
+            GameFrame frame = frameEngine.tickInPlace(DELTA_NANOS, left, right);
+            assertThat(frame.ballX()).isEqualTo(snapshot.ballX());
+            assertThat(frame.ballY()).isEqualTo(snapshot.ballY());
+            assertThat(frame.leftPaddleY()).isEqualTo(snapshot.leftPaddleY());
+            assertThat(frame.rightPaddleY()).isEqualTo(snapshot.rightPaddleY());
+            assertThat(frame.leftScore()).isEqualTo(snapshot.leftScore());
+            assertThat(frame.rightScore()).isEqualTo(snapshot.rightScore());
+        }
+    }
+
+    private void warmUp() {
+        for (int round = 0; round < 20; round++) {
+            GameRoom room = newRoom();
+            for (int i = 0; i < 2_000; i++) {
+                room.updateInput(room.getLeftPlayer().getId(), INPUTS[i % INPUTS.length]);
+                room.updateInput(room.getRightPlayer().getId(), INPUTS[(i + 1) % INPUTS.length]);
+                room.tickFrame(DELTA_NANOS);
+            }
+        }
+    }
+
+    private GameRoom newRoom() {
+        User left = new User("left", "pass", "왼쪽", null);
+        User right = new User("right", "pass", "오른쪽", null);
+        ReflectionTestUtils.setField(left, "id", 1L);
+        ReflectionTestUtils.setField(right, "id", 2L);
+        return new GameRoom(left, right, MatchType.NORMAL);
+    }
+}
@@ -0,0 +1,50 @@
+package com.codexpong.backend.game.loop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/loop/LatencyHistogramTest.java
+ * 설명:
+ *   - 로그-선형 버킷 백분위가 12.5% 상대 오차 안에 들어오는지, 스냅샷 차로 구간 통계를 구할 수 있는지 검증한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("백분위는 실제 값 이상, 12.5% 오차 이내의 버킷 상한으로 보고된다")
+    void percentilesAreWithinBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int micros = 1; micros <= 10_000; micros++) {
+            histogram.recordMicros(micros);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.count()).isEqualTo(10_000);
+        assertThat(snapshot.percentileMicros(0.5)).isBetween(5_000L, 5_625L);
+        assertThat(snapshot.percentileMicros(0.99)).isBetween(9_900L, 11_138L);
+        assertThat(snapshot.maxMicros()).isBetween(10_000L, 11_250L);
+    }
+
+    @Test
+    @DisplayName("두 스냅샷의 차는 그 사이에 기록된 값만 담는다")
+    void minusYieldsWindow() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordNanos(50_000_000L);
+        LatencyHistogram.Snapshot before = histogram.snapshot();
+        for (int i = 0; i < 100; i++) {
+            histogram.recordMicros(3);
+        }
+
+        LatencyHistogram.Snapshot window = histogram.snapshot().minus(before);
+
+        assertThat(window.count()).isEqualTo(100);
+        assertThat(window.maxMicros()).isEqualTo(3);
+        assertThat(window.plus(before).maxMicros()).isGreaterThanOrEqualTo(50_000L);
+    }
+}
@@ -0,0 +1,90 @@
+package com.codexpong.backend.game.loop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/loop/TickSchedulerTest.java
+ * 설명:
+ *   - 샤드형 틱 엔진이 등록된 방을 주기적으로 실행하고, 취소 후에는 더 이상 실행하지 않는지 검증한다.
+ *   - 방이 여러 샤드에 분산 배정되는지 확인한다.
+ *   - 휴면(stride) 작업은 드물게 실행되고 wake 직후 다음 루프에서 바로 실행되는지 확인한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+class TickSchedulerTest {
+
+    @Test
+    @DisplayName("등록된 방은 반복 실행되고 취소하면 멈춘다")
+    void ticksUntilCancelled() throws Exception {
+        TickScheduler scheduler = new TickScheduler(Duration.ofMillis(10), 2, Duration.ofMillis(50));
+        try {
+            CountDownLatch ticked = new CountDownLatch(5);
+            AtomicInteger counter = new AtomicInteger();
+            TickHandle handle = scheduler.register("room-1", () -> {
+                counter.incrementAndGet();
+                ticked.countDown();
+            });
+
+            assertThat(ticked.await(2, TimeUnit.SECONDS)).isTrue();
+            handle.cancel();
+            Thread.sleep(50);
+            int afterCancel = counter.get();
+            Thread.sleep(100);
+            assertThat(counter.get()).isEqualTo(afterCancel);
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("휴면 중에는 stride 루프마다 한 번 실행되고 wake 시 즉시 복귀한다")
+    void strideAndWake() throws Exception {
+        TickScheduler scheduler = new TickScheduler(Duration.ofMillis(10), 1, Duration.ZERO);
+        try {
+            AtomicInteger counter = new AtomicInteger();
+            CountDownLatch started = new CountDownLatch(1);
+            TickHandle handle = scheduler.register("room-1", () -> {
+                counter.incrementAndGet();
+                started.countDown();
+            });
+            assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+            handle.setStride(50);
+            Thread.sleep(20);
+            int beforeSleep = counter.get();
+            Thread.sleep(300);
+            assertThat(counter.get() - beforeSleep).isLessThanOrEqualTo(1);
+
+            int beforeWake = counter.get();
+            handle.wake();
+            Thread.sleep(60);
+            assertThat(handle.stride()).isEqualTo(1);
+            assertThat(counter.get() - beforeWake).isGreaterThanOrEqualTo(3);
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("신규 방은 여러 샤드에 분산 배정된다")
+    void spreadsRoomsAcrossShards() {
+        TickScheduler scheduler = new TickScheduler(Duration.ofMillis(50), 4, Duration.ZERO);
+        try {
+            for (int i = 0; i < 8; i++) {
+                scheduler.register("room-" + i, () -> { });
+            }
+            assertThat(scheduler.stats()).hasSize(4)
+                    .allSatisfy(stats -> assertThat(stats.rooms()).isEqualTo(2));
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.codexpong.backend.game.loop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/loop/TimerWheelTest.java
+ * 설명:
+ *   - 계층형 타이머 휠이 레벨을 넘나드는 타이머를 마감 틱에 정확히 만료시키는지, 취소한 타이머는 만료되지 않는지,
+ *     휠 범위를 넘는 타이머도 늦지 않게 만료되는지 검증한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+class TimerWheelTest {
+
+    @Test
+    @DisplayName("여러 레벨에 걸친 타이머가 마감 틱에 만료된다")
+    void expiresAtDeadlineAcrossLevels() {
+        TimerWheel<Long> wheel = new TimerWheel<>(10, 3, 0);
+        Random random = new Random(7);
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            long deadline = 10L * (1 + random.nextInt(70_000));
+            deadlines.add(deadline);
+            wheel.schedule(deadline, deadline);
+        }
+        assertThat(wheel.size()).isEqualTo(2_000);
+
+        List<Long> late = new ArrayList<>();
+        int expired = 0;
+        for (long now = 0; now <= 700_010; now += 10) {
+            long current = now;
+            expired += wheel.advance(now, deadline -> {
+                if (deadline != current) {
+                    late.add(deadline);
+                }
+            });
+        }
+
+        assertThat(expired).isEqualTo(deadlines.size());
+        assertThat(late).isEmpty();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("취소한 타이머는 만료되지 않고 크기에서 빠진다")
+    void cancelledTimersNeverFire() {
+        TimerWheel<String> wheel = new TimerWheel<>(10, 4, 0);
+        TimerWheel.Timeout<String> kept = wheel.schedule("kept", 5_000);
+        TimerWheel.Timeout<String> cancelled = wheel.schedule("cancelled", 5_000);
+
+        assertThat(cancelled.cancel()).isTrue();
+        assertThat(cancelled.cancel()).isFalse();
+        assertThat(wheel.size()).isEqualTo(1);
+
+        List<String> fired = new ArrayList<>();
+        wheel.advance(4_990, fired::add);
+        assertThat(fired).isEmpty();
+        wheel.advance(5_000, fired::add);
+
+        assertThat(fired).containsExactly("kept");
+        assertThat(kept.cancel()).isFalse();
+    }
+
+    @Test
+    @DisplayName("휠 범위를 넘는 타이머와 한 번에 크게 건너뛴 시각도 처리한다")
+    void handlesOverflowAndLargeJumps() {
+        TimerWheel<String> wheel = new TimerWheel<>(1, 1, 1_000);
+        wheel.schedule("beyond", 1_000 + 200);
+        wheel.schedule("past", 0);
+
+        List<String> fired = new ArrayList<>();
+        wheel.advance(1_001, fired::add);
+        assertThat(fired).containsExactly("past");
+        wheel.advance(1_199, fired::add);
+        assertThat(fired).containsExactly("past");
+        wheel.advance(5_000, fired::add);
+
+        assertThat(fired).containsExactly("past", "beyond");
+    }
+}
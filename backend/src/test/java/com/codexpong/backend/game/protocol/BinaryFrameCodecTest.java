@@ -0,0 +1,142 @@
+package com.codexpong.backend.game.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.game.engine.GameEngine;
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/protocol/BinaryFrameCodecTest.java
+ * 설명:
+ *   - 바이너리 STATE/INPUT 프레임의 고정 레이아웃과 왕복 변환, 잘못된 INPUT 거부를 검증한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+class BinaryFrameCodecTest {
+
+    @Test
+    @DisplayName("STATE 프레임은 35바이트 고정 레이아웃으로 스냅샷 값을 담는다")
+    void encodesStateLayout() throws Exception {
+        GameEngine engine = new GameEngine();
+        GameSnapshot snapshot = engine.tick(Duration.ofMillis(50), PaddleInput.UP, PaddleInput.DOWN);
+
+        byte[] frame = BinaryFrameCodec.encodeState(BinaryFrameCodec.TYPE_STATE, BinaryFrameCodec.FLAG_RANKED, 42L,
+                snapshot, 3, null);
+
+        assertThat(frame).hasSize(BinaryFrameCodec.STATE_FRAME_BYTES);
+        ByteBuffer buffer = ByteBuffer.wrap(frame).order(ByteOrder.LITTLE_ENDIAN);
+        assertThat(buffer.get()).isEqualTo(BinaryFrameCodec.TYPE_STATE);
+        assertThat(buffer.get()).isEqualTo((byte) BinaryFrameCodec.FLAG_RANKED);
+        assertThat(buffer.getInt()).isEqualTo(42);
+        assertThat(buffer.getFloat()).isEqualTo((float) snapshot.ballX());
+        assertThat(buffer.getFloat()).isEqualTo((float) snapshot.ballY());
+        buffer.position(22);
+        assertThat(buffer.getFloat()).isEqualTo((float) snapshot.leftPaddleY());
+        assertThat(buffer.getFloat()).isEqualTo((float) snapshot.rightPaddleY());
+        assertThat(buffer.get()).isEqualTo((byte) snapshot.leftScore());
+        assertThat(buffer.get()).isEqualTo((byte) snapshot.rightScore());
+        assertThat(buffer.get()).isEqualTo((byte) snapshot.targetScore());
+        assertThat(buffer.getShort()).isEqualTo((short) 3);
+        assertThat(frame.length * 4).isLessThan(new ObjectMapper().writeValueAsBytes(snapshot).length);
+    }
+
+    @Test
+    @DisplayName("레이팅 변동이 있으면 플래그와 20바이트 확장 영역이 붙는다")
+    void appendsRatingExtension() {
+        GameSnapshot snapshot = new GameEngine().forceSnapshot();
+
+        byte[] frame = BinaryFrameCodec.encodeState(BinaryFrameCodec.TYPE_STATE, 0, 1L, snapshot, 0,
+                new BinaryFrameCodec.RatingDelta(7L, 16, 9L, -16));
+
+        assertThat(frame).hasSize(BinaryFrameCodec.STATE_FRAME_BYTES + BinaryFrameCodec.RATING_EXTENSION_BYTES);
+        ByteBuffer buffer = ByteBuffer.wrap(frame).order(ByteOrder.LITTLE_ENDIAN);
+        assertThat(buffer.get(1) & BinaryFrameCodec.FLAG_RATING).isNotZero();
+        buffer.position(BinaryFrameCodec.STATE_FRAME_BYTES);
+        assertThat(buffer.getLong()).isEqualTo(7L);
+        assertThat(buffer.getShort()).isEqualTo((short) 16);
+        assertThat(buffer.getLong()).isEqualTo(9L);
+        assertThat(buffer.getShort()).isEqualTo((short) -16);
+    }
+
+    @Test
+    @DisplayName("처리 seq가 있으면 ACK 플래그와 8바이트 확장이 레이팅 확장 앞에 붙는다")
+    void appendsAckExtensionBeforeRating() {
+        GameSnapshot snapshot = new GameEngine().forceSnapshot();
+
+        byte[] frame = BinaryFrameCodec.encodeState(BinaryFrameCodec.TYPE_STATE, 0, 9L, snapshot, 0,
+                new InputAck(41, 0xFFFF_FFFEL), new BinaryFrameCodec.RatingDelta(7L, 16, 9L, -16));
+
+        assertThat(frame).hasSize(BinaryFrameCodec.STATE_FRAME_BYTES + BinaryFrameCodec.ACK_EXTENSION_BYTES
+                + BinaryFrameCodec.RATING_EXTENSION_BYTES);
+        ByteBuffer buffer = ByteBuffer.wrap(frame).order(ByteOrder.LITTLE_ENDIAN);
+        assertThat(buffer.get(1) & BinaryFrameCodec.FLAG_ACK).isNotZero();
+        buffer.position(BinaryFrameCodec.STATE_FRAME_BYTES);
+        assertThat(buffer.getInt()).isEqualTo(41);
+        assertThat(Integer.toUnsignedLong(buffer.getInt())).isEqualTo(0xFFFF_FFFEL);
+        assertThat(buffer.getLong()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("RTT/지터가 있으면 LATENCY 플래그와 uint16 4개가 ack 확장 뒤에 붙는다")
+    void appendsLatencyExtensionAfterAck() {
+        GameSnapshot snapshot = new GameEngine().forceSnapshot();
+
+        byte[] frame = BinaryFrameCodec.encodeState(BinaryFrameCodec.TYPE_STATE, 0, 9L, snapshot, 0,
+                new InputAck(3, 4), new PlayerLatency(42, 5, 70_000, -1), null);
+
+        assertThat(frame).hasSize(BinaryFrameCodec.STATE_FRAME_BYTES + BinaryFrameCodec.ACK_EXTENSION_BYTES
+                + BinaryFrameCodec.LATENCY_EXTENSION_BYTES);
+        ByteBuffer buffer = ByteBuffer.wrap(frame).order(ByteOrder.LITTLE_ENDIAN);
+        assertThat(buffer.get(1) & BinaryFrameCodec.FLAG_LATENCY).isNotZero();
+        buffer.position(BinaryFrameCodec.STATE_FRAME_BYTES + BinaryFrameCodec.ACK_EXTENSION_BYTES);
+        assertThat(Short.toUnsignedInt(buffer.getShort())).isEqualTo(42);
+        assertThat(Short.toUnsignedInt(buffer.getShort())).isEqualTo(5);
+        assertThat(Short.toUnsignedInt(buffer.getShort())).isEqualTo(0xFFFF);
+        assertThat(Short.toUnsignedInt(buffer.getShort())).isZero();
+    }
+
+    @Test
+    @DisplayName("14바이트 INPUT은 의도 틱과 클라이언트 시각을 함께 전달한다")
+    void decodesSequencedInput() {
+        byte[] frame = BinaryFrameCodec.encodeInput(PaddleInput.UP, 5, 1_234, 0xFFFF_0000L);
+
+        BinaryFrameCodec.BinaryInput input = BinaryFrameCodec.decodeInput(ByteBuffer.wrap(frame));
+
+        assertThat(frame).hasSize(BinaryFrameCodec.SEQUENCED_INPUT_FRAME_BYTES);
+        assertThat(input.direction()).isEqualTo(PaddleInput.UP);
+        assertThat(input.seq()).isEqualTo(5);
+        assertThat(input.tick()).isEqualTo(1_234);
+        assertThat(input.clientTimeMillis()).isEqualTo(0xFFFF_0000L);
+    }
+
+    @Test
+    @DisplayName("INPUT 프레임은 왕복 변환되고 잘못된 프레임은 null이 된다")
+    void decodesInput() {
+        byte[] frame = BinaryFrameCodec.encodeInput(PaddleInput.DOWN, 0xFFFF_FFFFL);
+
+        BinaryFrameCodec.BinaryInput input = BinaryFrameCodec.decodeInput(ByteBuffer.wrap(frame));
+
+        assertThat(frame).hasSize(BinaryFrameCodec.INPUT_FRAME_BYTES);
+        assertThat(input.direction()).isEqualTo(PaddleInput.DOWN);
+        assertThat(input.seq()).isEqualTo(0xFFFF_FFFFL);
+        assertThat(input.tick()).isZero();
+        assertThat(BinaryFrameCodec.decodeInput(ByteBuffer.wrap(new byte[] {0x10, 1}))).isNull();
+        assertThat(BinaryFrameCodec.decodeInput(ByteBuffer.wrap(new byte[] {0x01, 1, 0, 0, 0, 0}))).isNull();
+        assertThat(BinaryFrameCodec.decodeInput(ByteBuffer.wrap(new byte[] {0x10, 5, 0, 0, 0, 0}))).isNull();
+    }
+
+    @Test
+    @DisplayName("protocol=binary만 바이너리 모드를 선택하고 숫자 버전 협상에는 포함되지 않는다")
+    void negotiatesBinaryOnlyByAlias() {
+        assertThat(GameProtocol.negotiate("binary")).isEqualTo(GameProtocol.BINARY);
+        assertThat(GameProtocol.negotiate("99")).isEqualTo(GameProtocol.JSON_DELTA);
+    }
+}
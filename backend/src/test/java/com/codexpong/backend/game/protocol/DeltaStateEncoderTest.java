@@ -0,0 +1,119 @@
+package com.codexpong.backend.game.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.game.engine.GameEngine;
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/protocol/DeltaStateEncoderTest.java
+ * 설명:
+ *   - 델타 인코더가 바뀐 필드만 내보내고, 주기/요청에 따라 키프레임을 만드는지 검증한다.
+ *   - 일반적인 경기 진행에서 델타 스트림이 전체 JSON 대비 절반 이하 크기인지 확인한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+class DeltaStateEncoderTest {
+
+    private static final Duration TICK = Duration.ofMillis(50);
+
+    @Test
+    @DisplayName("공만 움직이면 공 좌표만 델타로 전송된다")
+    void onlyChangedFieldsAreEncoded() {
+        GameEngine engine = new GameEngine();
+        DeltaStateEncoder encoder = new DeltaStateEncoder(engine.forceSnapshot(), 0);
+
+        DeltaFrame frame = encoder.next(engine.tick(TICK, PaddleInput.STAY, PaddleInput.STAY), 0, false);
+
+        assertThat(frame.keyframe()).isFalse();
+        assertThat(frame.seq()).isEqualTo(1);
+        assertThat(frame.base()).isEqualTo(0);
+        assertThat(frame.fields()).containsOnlyKeys("bx", "by");
+        assertThat(frame.spectatorCount()).isNull();
+    }
+
+    @Test
+    @DisplayName("키프레임 주기, 재동기화 요청, 강제 요청 시 전체 필드를 보낸다")
+    void keyframesAreEmitted() {
+        GameEngine engine = new GameEngine();
+        DeltaStateEncoder encoder = new DeltaStateEncoder(engine.forceSnapshot(), 0);
+
+        DeltaFrame last = null;
+        for (int i = 0; i < DeltaStateEncoder.KEYFRAME_INTERVAL_TICKS; i++) {
+            last = encoder.next(engine.tick(TICK, PaddleInput.UP, PaddleInput.STAY), 0, false);
+        }
+        assertThat(last.keyframe()).isTrue();
+        assertThat(last.base()).isNull();
+        assertThat(last.fields()).containsKeys("id", "bx", "by", "lp", "rp", "ls", "rs", "ts", "f");
+
+        encoder.requestKeyframe();
+        assertThat(encoder.next(engine.tick(TICK, PaddleInput.STAY, PaddleInput.STAY), 0, false).keyframe())
+                .isTrue();
+        assertThat(encoder.next(engine.tick(TICK, PaddleInput.STAY, PaddleInput.STAY), 0, true).keyframe())
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("현재 키프레임은 seq를 증가시키지 않고 다음 델타의 기준이 된다")
+    void currentKeyframeIsBaseOfNextDelta() {
+        GameEngine engine = new GameEngine();
+        DeltaStateEncoder encoder = new DeltaStateEncoder(engine.forceSnapshot(), 3);
+        encoder.next(engine.tick(TICK, PaddleInput.STAY, PaddleInput.STAY), 3, false);
+
+        DeltaFrame ready = encoder.currentKeyframe();
+        DeltaFrame next = encoder.next(engine.tick(TICK, PaddleInput.STAY, PaddleInput.STAY), 4, false);
+
+        assertThat(ready.seq()).isEqualTo(1);
+        assertThat(ready.spectatorCount()).isEqualTo(3);
+        assertThat(next.base()).isEqualTo(ready.seq());
+        assertThat(next.spectatorCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("seq는 방 틱 번호를 따르고 ack는 바뀐 경우와 키프레임에만 담긴다")
+    void seqFollowsTickAndAckIsSentOnChange() {
+        GameEngine engine = new GameEngine();
+        DeltaStateEncoder encoder = new DeltaStateEncoder(engine.forceSnapshot(), 0);
+
+        DeltaFrame first = encoder.next(engine.tick(TICK, PaddleInput.UP, PaddleInput.STAY), 4,
+                new InputAck(1, 0), null, 0, false);
+        DeltaFrame same = encoder.next(engine.tick(TICK, PaddleInput.UP, PaddleInput.STAY), 7,
+                new InputAck(1, 0), null, 0, false);
+        DeltaFrame stale = encoder.next(engine.tick(TICK, PaddleInput.UP, PaddleInput.STAY), 7,
+                new InputAck(1, 3), null, 0, false);
+
+        assertThat(first.seq()).isEqualTo(4);
+        assertThat(first.ack()).isEqualTo(new InputAck(1, 0));
+        assertThat(same.seq()).isEqualTo(7);
+        assertThat(same.base()).isEqualTo(4);
+        assertThat(same.ack()).isNull();
+        assertThat(stale.seq()).isEqualTo(8);
+        assertThat(stale.ack()).isEqualTo(new InputAck(1, 3));
+        assertThat(encoder.currentKeyframe().ack()).isEqualTo(new InputAck(1, 3));
+    }
+
+    @Test
+    @DisplayName("델타 스트림은 전체 스냅샷 JSON 대비 절반 이하 크기다")
+    void deltaStreamIsLessThanHalfOfFullJson() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        GameEngine engine = new GameEngine();
+        DeltaStateEncoder encoder = new DeltaStateEncoder(engine.forceSnapshot(), 0);
+        PaddleInput[] inputs = PaddleInput.values();
+
+        long fullBytes = 0;
+        long deltaBytes = 0;
+        for (int i = 0; i < 400; i++) {
+            GameSnapshot snapshot = engine.tick(TICK, inputs[(i / 7) % inputs.length], inputs[(i / 5) % inputs.length]);
+            fullBytes += objectMapper.writeValueAsBytes(snapshot).length;
+            deltaBytes += objectMapper.writeValueAsBytes(encoder.next(snapshot, 0, false).fields()).length;
+        }
+
+        assertThat(deltaBytes * 2).isLessThan(fullBytes);
+    }
+}
@@ -0,0 +1,87 @@
+package com.codexpong.backend.game.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import java.lang.management.ManagementFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/protocol/JsonInputParserTest.java
+ * 설명:
+ *   - 고정 형태 텍스트 INPUT을 키 순서/공백과 무관하게 해석하고, 그 외 메시지는 ObjectMapper 경로로 넘기는지 검증한다.
+ *   - 워밍업 이후 파싱이 0바이트를 할당하는지 스레드 할당 카운터로 확인한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+class JsonInputParserTest {
+
+    private static final String INPUT =
+            "{\"type\":\"INPUT\",\"roomId\":\"room-1\",\"direction\":\"UP\",\"seq\":12,\"ts\":183004,\"tick\":341}";
+
+    @Test
+    @DisplayName("INPUT 필드를 순서와 공백에 상관없이 해석한다")
+    void parsesInputFields() {
+        JsonInputParser.Fields fields = new JsonInputParser.Fields();
+
+        assertThat(JsonInputParser.parse(INPUT, fields)).isTrue();
+        assertThat(fields.direction()).isEqualTo(PaddleInput.UP);
+        assertThat(fields.seq()).isEqualTo(12);
+        assertThat(fields.clientTimeMillis()).isEqualTo(183004);
+        assertThat(fields.tick()).isEqualTo(341);
+        assertThat(fields.matchesRoom("room-1")).isTrue();
+        assertThat(fields.matchesRoom("room-2")).isFalse();
+
+        assertThat(JsonInputParser.parse(" { \"direction\" : \"down\" ,\n \"roomId\":\"r\", \"type\":\"INPUT\" } ",
+                fields)).isTrue();
+        assertThat(fields.direction()).isEqualTo(PaddleInput.DOWN);
+        assertThat(fields.seq()).isZero();
+        assertThat(fields.roomId()).isEqualTo("r");
+
+        assertThat(JsonInputParser.parse(
+                "{\"type\":\"INPUT\",\"roomId\":\"r\",\"direction\":\"left\",\"seq\":-3,\"tick\":null}", fields))
+                .isTrue();
+        assertThat(fields.direction()).isEqualTo(PaddleInput.STAY);
+        assertThat(fields.seq()).isZero();
+    }
+
+    @Test
+    @DisplayName("INPUT이 아니거나 고정 형태를 벗어난 메시지는 ObjectMapper 경로로 넘긴다")
+    void fallsBackForOtherShapes() {
+        JsonInputParser.Fields fields = new JsonInputParser.Fields();
+
+        assertThat(JsonInputParser.parse("{\"type\":\"RESYNC\"}", fields)).isFalse();
+        assertThat(JsonInputParser.parse("{\"direction\":\"UP\",\"roomId\":\"r\"}", fields)).isFalse();
+        assertThat(JsonInputParser.parse("{\"type\":\"INPUT\",\"extra\":1}", fields)).isFalse();
+        assertThat(JsonInputParser.parse("{\"type\":\"INPUT\",\"roomId\":\"a\\\"b\"}", fields)).isFalse();
+        assertThat(JsonInputParser.parse("{\"type\":\"INPUT\",\"seq\":1.5}", fields)).isFalse();
+        assertThat(JsonInputParser.parse("{\"type\":\"INPUT\",\"seq\":{}}", fields)).isFalse();
+        assertThat(JsonInputParser.parse("{\"type\":\"INPUT\"} x", fields)).isFalse();
+        assertThat(JsonInputParser.parse("{\"type\":\"INPUT\"", fields)).isFalse();
+        assertThat(JsonInputParser.parse("[]", fields)).isFalse();
+    }
+
+    @Test
+    @DisplayName("워밍업 이후 INPUT 파싱은 할당하지 않는다")
+    void parsingDoesNotAllocate() {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        JsonInputParser.Fields fields = new JsonInputParser.Fields();
+        for (int i = 0; i < 20_000; i++) {
+            JsonInputParser.parse(INPUT, fields);
+            fields.matchesRoom("room-1");
+        }
+
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        boolean parsed = true;
+        for (int i = 0; i < 1_000; i++) {
+            parsed &= JsonInputParser.parse(INPUT, fields) && fields.matchesRoom("room-1");
+        }
+        long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - before;
+
+        assertThat(parsed).isTrue();
+        assertThat(allocated).isZero();
+    }
+}
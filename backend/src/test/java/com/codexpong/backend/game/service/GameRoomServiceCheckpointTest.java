@@ -0,0 +1,163 @@
+package com.codexpong.backend.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.codexpong.backend.game.GameResultService;
+import com.codexpong.backend.game.domain.GameRoom;
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.domain.RoomCheckpoint;
+import com.codexpong.backend.game.loop.GameLoopProperties;
+import com.codexpong.backend.replay.ReplayService;
+import com.codexpong.backend.user.domain.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/service/GameRoomServiceCheckpointTest.java
+ * 설명:
+ *   - 진행 중인 방이 설정 주기마다 체크포인트를 만들고, 다른 서비스 인스턴스가 그 체크포인트로
+ *     같은 방 ID/틱/물리 상태에서 경기를 이어 가는지 검증한다.
+ *   - 소유권을 잃은 방을 내려놓을 때 저장소 삭제/결과 기록 없이 로컬 상태만 지우고 세션을 닫는지 검증한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+class GameRoomServiceCheckpointTest {
+
+    private final RecordingCheckpointer checkpointer = new RecordingCheckpointer();
+    private final GameRoomService roomService = service(mock(ReplayService.class));
+    private final ReplayService resumedReplay = mock(ReplayService.class);
+    private final GameRoomService resumedService = service(resumedReplay);
+
+    @AfterEach
+    void tearDown() {
+        roomService.shutdown();
+        resumedService.shutdown();
+    }
+
+    @Test
+    @DisplayName("체크포인트 주기마다 방 상태를 넘기고 복구한 방은 체크포인트 틱부터 이어서 진행한다")
+    void checkpointsAndResumes() throws Exception {
+        User left = user("left", 1L);
+        User right = user("right", 2L);
+        GameRoom room = roomService.createRoom(left, right, MatchType.RANKED);
+        roomService.registerSession(room, 1L, openSession("left"));
+        roomService.registerSession(room, 2L, openSession("right"));
+        Thread.sleep(400);
+        roomService.shutdown();
+
+        assertThat(checkpointer.offered).isNotEmpty();
+        RoomCheckpoint checkpoint = checkpointer.offered.get(checkpointer.offered.size() - 1);
+        assertThat(checkpoint.roomId()).isEqualTo(room.getRoomId());
+        assertThat(checkpoint.tick() % 2).isZero();
+        assertThat(checkpoint.leftPlayerId()).isEqualTo(1L);
+        assertThat(checkpoint.matchType()).isEqualTo(MatchType.RANKED);
+
+        GameRoom resumed = resumedService.resumeRoom(checkpoint, left, right, List.of());
+
+        assertThat(resumed.getRoomId()).isEqualTo(room.getRoomId());
+        assertThat(resumed.getTickCount()).isEqualTo(checkpoint.tick());
+        assertThat(resumed.currentSnapshot()).isEqualTo(checkpoint.snapshot());
+        assertThat(resumedService.resumeRoom(checkpoint, left, right, List.of())).isSameAs(resumed);
+        verify(resumedReplay).resumeRecording(resumed, checkpoint.replayStartedAtMs(), List.of());
+        assertThat(checkpointer.resumed).containsExactly(checkpoint);
+
+        resumedService.registerSession(resumed, 1L, openSession("left-again"));
+        resumedService.registerSession(resumed, 2L, openSession("right-again"));
+        Thread.sleep(150);
+        assertThat(resumed.getTickCount()).isGreaterThan(checkpoint.tick());
+
+        resumedService.removeRoom(resumed.getRoomId());
+        assertThat(checkpointer.closed).contains(resumed.getRoomId());
+    }
+
+    @Test
+    @DisplayName("소유권을 잃은 방은 체크포인트를 지우지 않고 로컬 상태만 내려놓고 세션을 닫는다")
+    void releasesRoomWithoutDeletingCheckpoint() throws Exception {
+        ReplayService replayService = mock(ReplayService.class);
+        GameRoomService service = service(replayService);
+        GameRoom room = service.createRoom(user("left", 1L), user("right", 2L), MatchType.NORMAL);
+        WebSocketSession left = openSession("left");
+        WebSocketSession spectator = openSession("spectator");
+        service.registerSession(room, 1L, left);
+        service.registerSpectatorSession(room, "spectator", spectator);
+        assertThat(service.localRoomIds()).containsExactly(room.getRoomId());
+
+        assertThat(service.releaseRoom(room.getRoomId())).isTrue();
+
+        assertThat(service.findRoom(room.getRoomId())).isEmpty();
+        assertThat(service.localRoomIds()).isEmpty();
+        assertThat(checkpointer.released).containsExactly(room.getRoomId());
+        assertThat(checkpointer.closed).isEmpty();
+        verify(replayService).discardRecording(room.getRoomId());
+        verify(left).close(CloseStatus.SERVICE_RESTARTED.withReason("방 소유 노드가 바뀌었습니다."));
+        verify(spectator).close(any(CloseStatus.class));
+        assertThat(service.releaseRoom(room.getRoomId())).isFalse();
+        service.shutdown();
+    }
+
+    private GameRoomService service(ReplayService replayService) {
+        return new GameRoomService(mock(GameResultService.class), replayService, new ObjectMapper(),
+                new GameLoopProperties(), new SpectatorProperties(), RealtimeLatencyRecorder.NOOP, RoomCluster.LOCAL,
+                checkpointer);
+    }
+
+    private User user(String username, long id) {
+        User user = new User(username, "pass", username, null);
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+
+    private WebSocketSession openSession(String id) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        when(session.isOpen()).thenReturn(true);
+        when(session.getAttributes()).thenReturn(new HashMap<>());
+        return session;
+    }
+
+    private static final class RecordingCheckpointer implements RoomCheckpointer {
+
+        private final List<RoomCheckpoint> offered = new CopyOnWriteArrayList<>();
+        private final List<RoomCheckpoint> resumed = new CopyOnWriteArrayList<>();
+        private final List<String> closed = new CopyOnWriteArrayList<>();
+        private final List<String> released = new CopyOnWriteArrayList<>();
+
+        @Override
+        public long intervalMillis() {
+            return 100;
+        }
+
+        @Override
+        public void offer(RoomCheckpoint checkpoint) {
+            offered.add(checkpoint);
+        }
+
+        @Override
+        public void roomResumed(RoomCheckpoint checkpoint) {
+            resumed.add(checkpoint);
+        }
+
+        @Override
+        public void roomClosed(String roomId) {
+            closed.add(roomId);
+        }
+
+        @Override
+        public void roomReleased(String roomId) {
+            released.add(roomId);
+        }
+    }
+}
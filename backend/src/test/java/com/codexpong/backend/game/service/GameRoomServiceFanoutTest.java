@@ -0,0 +1,101 @@
+package com.codexpong.backend.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.codexpong.backend.game.GameResultService;
+import com.codexpong.backend.game.domain.GameRoom;
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.loop.GameLoopProperties;
+import com.codexpong.backend.replay.ReplayService;
+import com.codexpong.backend.user.domain.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.HashMap;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/service/GameRoomServiceFanoutTest.java
+ * 설명:
+ *   - STATE 팬아웃이 청중×프로토콜당 한 번만 인코딩하고, 같은 청중 세션에 동일한 메시지 인스턴스를 공유하는지 검증한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+class GameRoomServiceFanoutTest {
+
+    private final GameRoomService roomService = new GameRoomService(mock(GameResultService.class),
+            mock(ReplayService.class), new ObjectMapper(), withoutPing(), new SpectatorProperties(),
+            RealtimeLatencyRecorder.NOOP);
+
+    @AfterEach
+    void tearDown() {
+        roomService.shutdown();
+    }
+
+    @Test
+    @DisplayName("플레이어 세션들은 틱마다 하나의 인코딩 결과를 공유한다")
+    void playersShareEncodedFrame() throws Exception {
+        User left = new User("left", "pass", "왼쪽", null);
+        User right = new User("right", "pass", "오른쪽", null);
+        ReflectionTestUtils.setField(left, "id", 1L);
+        ReflectionTestUtils.setField(right, "id", 2L);
+        GameRoom room = roomService.createRoom(left, right, MatchType.NORMAL);
+        WebSocketSession leftSession = openSession("left");
+        WebSocketSession rightSession = openSession("right");
+
+        roomService.registerSession(room, 1L, leftSession);
+        roomService.registerSession(room, 2L, rightSession);
+
+        ArgumentCaptor<WebSocketMessage<?>> leftMessages = messageCaptor();
+        ArgumentCaptor<WebSocketMessage<?>> rightMessages = messageCaptor();
+        verify(leftSession, timeout(2_000).atLeast(3)).sendMessage(leftMessages.capture());
+        roomService.removeRoom(room.getRoomId());
+        verify(rightSession, atLeast(3)).sendMessage(rightMessages.capture());
+
+        List<WebSocketMessage<?>> leftSent = leftMessages.getAllValues();
+        List<WebSocketMessage<?>> rightSent = rightMessages.getAllValues();
+        int common = Math.min(leftSent.size(), rightSent.size());
+        for (int i = 0; i < common; i++) {
+            assertThat(rightSent.get(i)).isSameAs(leftSent.get(i));
+        }
+        FanoutStats stats = roomService.fanoutStats();
+        long encoded = stats.encodedFrames();
+        long sent = stats.sentMessages();
+        // 마지막 틱은 인코딩 직후 전송 중일 수 있으므로 한 틱을 제외하고 세션 2개당 인코딩 1회인지 본다.
+        assertThat(sent).isGreaterThanOrEqualTo(2 * (encoded - 1));
+    }
+
+    /**
+     * 설명:
+     *   - 세션별 ping은 공유 인스턴스가 아니므로 STATE 순서 비교에 끼지 않도록 끈다.
+     */
+    private static GameLoopProperties withoutPing() {
+        GameLoopProperties properties = new GameLoopProperties();
+        properties.setPingIntervalMs(0);
+        return properties;
+    }
+
+    private WebSocketSession openSession(String id) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        when(session.isOpen()).thenReturn(true);
+        when(session.getAttributes()).thenReturn(new HashMap<>());
+        return session;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ArgumentCaptor<WebSocketMessage<?>> messageCaptor() {
+        return (ArgumentCaptor) ArgumentCaptor.forClass(WebSocketMessage.class);
+    }
+}
@@ -0,0 +1,105 @@
+package com.codexpong.backend.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.codexpong.backend.game.GameResultService;
+import com.codexpong.backend.game.domain.GameRoom;
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import com.codexpong.backend.game.loop.GameLoopProperties;
+import com.codexpong.backend.game.loop.TickHandle;
+import com.codexpong.backend.replay.ReplayService;
+import com.codexpong.backend.user.domain.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/service/GameRoomServiceHibernationTest.java
+ * 설명:
+ *   - 플레이어가 모두 끊긴 방이 물리를 멈추고 휴면하며, 재접속 시 바로 정상 주기로 돌아오는지 검증한다.
+ *   - 휴면 전환과 재접속 wake가 엇갈려 플레이어가 있는데 휴면 stride가 남아도 다음 틱에서 정상 주기로 돌아오는지 검증한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+class GameRoomServiceHibernationTest {
+
+    private final GameRoomService roomService = new GameRoomService(mock(GameResultService.class),
+            mock(ReplayService.class), new ObjectMapper(), new GameLoopProperties(), new SpectatorProperties(),
+            RealtimeLatencyRecorder.NOOP);
+
+    @AfterEach
+    void tearDown() {
+        roomService.shutdown();
+    }
+
+    @Test
+    @DisplayName("모든 플레이어가 끊기면 휴면하고 재접속하면 즉시 깨어난다")
+    void hibernatesUntilReconnect() throws Exception {
+        User left = new User("left", "pass", "왼쪽", null);
+        User right = new User("right", "pass", "오른쪽", null);
+        ReflectionTestUtils.setField(left, "id", 1L);
+        ReflectionTestUtils.setField(right, "id", 2L);
+        GameRoom room = roomService.createRoom(left, right, MatchType.NORMAL);
+        WebSocketSession leftSession = openSession("left");
+        roomService.registerSession(room, 1L, leftSession);
+        roomService.registerSession(room, 2L, openSession("right"));
+        Thread.sleep(150);
+        assertThat(room.getTickCount()).isPositive();
+
+        roomService.unregisterSession(room.getRoomId(), 1L, "left");
+        roomService.unregisterSession(room.getRoomId(), 2L, "right");
+        Thread.sleep(150);
+        long frozenTicks = room.getTickCount();
+        Thread.sleep(200);
+
+        assertThat(roomService.hibernatingRoomCount()).isEqualTo(1);
+        assertThat(room.getTickCount()).isEqualTo(frozenTicks);
+
+        roomService.registerSession(room, 1L, leftSession);
+        roomService.updateInput(room.getRoomId(), 1L, PaddleInput.UP);
+        Thread.sleep(150);
+
+        assertThat(roomService.hibernatingRoomCount()).isZero();
+        assertThat(room.getTickCount()).isGreaterThan(frozenTicks);
+    }
+
+    @Test
+    @DisplayName("휴면 전환과 wake가 엇갈려 stride가 남아도 플레이어가 있으면 다음 틱에 정상 주기로 돌아온다")
+    void playerPresentTickResetsStride() throws Exception {
+        User left = new User("left", "pass", "왼쪽", null);
+        User right = new User("right", "pass", "오른쪽", null);
+        ReflectionTestUtils.setField(left, "id", 1L);
+        ReflectionTestUtils.setField(right, "id", 2L);
+        GameRoom room = roomService.createRoom(left, right, MatchType.NORMAL);
+        roomService.registerSession(room, 1L, openSession("left"));
+        roomService.registerSession(room, 2L, openSession("right"));
+        Thread.sleep(100);
+
+        // runTick이 플레이어 없음을 본 뒤 재접속 wake가 먼저 지나가고 휴면 stride가 설정된 상황을 만든다.
+        @SuppressWarnings("unchecked")
+        Map<String, TickHandle> loopHandles = (Map<String, TickHandle>) ReflectionTestUtils.getField(roomService,
+                "loopHandles");
+        loopHandles.get(room.getRoomId()).setStride(new GameLoopProperties().getHibernateStride());
+        assertThat(roomService.hibernatingRoomCount()).isEqualTo(1);
+        Thread.sleep(1_300);
+
+        assertThat(roomService.hibernatingRoomCount()).isZero();
+    }
+
+    private WebSocketSession openSession(String id) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        when(session.isOpen()).thenReturn(true);
+        when(session.getAttributes()).thenReturn(new HashMap<>());
+        return session;
+    }
+}
@@ -0,0 +1,153 @@
+package com.codexpong.backend.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.codexpong.backend.game.GameResultService;
+import com.codexpong.backend.game.domain.GameRoom;
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.loop.GameLoopProperties;
+import com.codexpong.backend.game.service.GameRoomService.RoomExpiry;
+import com.codexpong.backend.replay.ReplayService;
+import com.codexpong.backend.user.domain.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/service/GameRoomServiceReaperTest.java
+ * 설명:
+ *   - 플레이어가 오지 않은 방, 경기 중 전원이 끊긴 방, 최대 경기 시간을 넘긴 방이 만료 타이머로 정리되고
+ *     녹화 버퍼까지 버려지는지, 재접속하면 전원 이탈 타이머가 취소되는지 검증한다.
+ *   - 만료 시계는 가짜 시계로 두고 advanceReaper로 직접 진행해 객체 생성 시간에 따라 결과가 바뀌지 않게 한다.
+ *   - 정리된 방에는 플레이어 세션이 다시 붙지 않는지 확인한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+class GameRoomServiceReaperTest {
+
+    private final ReplayService replayService = mock(ReplayService.class);
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private GameRoomService roomService;
+
+    @AfterEach
+    void tearDown() {
+        roomService.shutdown();
+    }
+
+    @Test
+    @DisplayName("아무도 접속하지 않은 방은 미시작 제한 시간 뒤 정리된다")
+    void reapsRoomThatNeverStarted() {
+        roomService = service(150, 0, 0);
+        GameRoom room = roomService.createRoom(user("left", 1L), user("right", 2L), MatchType.NORMAL);
+        assertThat(roomService.reaperTimerCount()).isEqualTo(1);
+
+        elapse(100);
+        assertThat(roomService.findRoom(room.getRoomId())).isPresent();
+        elapse(100);
+
+        assertThat(roomService.findRoom(room.getRoomId())).isEmpty();
+        assertThat(roomService.reapedRoomCount(RoomExpiry.NOT_STARTED)).isEqualTo(1);
+        assertThat(roomService.reaperTimerCount()).isZero();
+        verify(replayService).discardRecording(room.getRoomId());
+    }
+
+    @Test
+    @DisplayName("경기 중 전원이 끊긴 방은 정리되고 제한 시간 안에 재접속하면 유지된다")
+    void reapsOnlyWhileAllDisconnected() {
+        roomService = service(0, 250, 0);
+        GameRoom kept = startedRoom();
+        GameRoom abandoned = startedRoom();
+
+        disconnectAll(kept);
+        disconnectAll(abandoned);
+        elapse(100);
+        roomService.registerSession(kept, 1L, openSession(kept.getRoomId() + "-back"));
+        elapse(300);
+
+        assertThat(roomService.findRoom(kept.getRoomId())).isPresent();
+        assertThat(roomService.findRoom(abandoned.getRoomId())).isEmpty();
+        assertThat(roomService.reapedRoomCount(RoomExpiry.DISCONNECTED)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 경기 시간을 넘긴 방은 접속 중인 세션을 닫고 정리된다")
+    void reapsRoomPastMaxDuration() throws Exception {
+        roomService = service(0, 0, 200);
+        GameRoom room = roomService.createRoom(user("left", 1L), user("right", 2L), MatchType.RANKED);
+        WebSocketSession left = openSession("left");
+        roomService.registerSession(room, 1L, left);
+        roomService.registerSession(room, 2L, openSession("right"));
+
+        elapse(300);
+
+        verify(left).close(any(CloseStatus.class));
+        assertThat(roomService.findRoom(room.getRoomId())).isEmpty();
+        assertThat(roomService.reapedRoomCount(RoomExpiry.MAX_DURATION)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("정리된 방에는 플레이어 세션을 다시 붙이지 않고 만료 타이머도 새로 만들지 않는다")
+    void rejectsSessionForReapedRoom() {
+        roomService = service(150, 0, 0);
+        GameRoom room = roomService.createRoom(user("left", 1L), user("right", 2L), MatchType.NORMAL);
+        elapse(200);
+
+        assertThat(roomService.registerSession(room, 1L, openSession("late"))).isFalse();
+        assertThat(roomService.reaperTimerCount()).isZero();
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(roomService, "roomSessions")).isEmpty();
+    }
+
+    private GameRoomService service(long notStartedMs, long disconnectedMs, long maxDurationMs) {
+        GameLoopProperties properties = new GameLoopProperties();
+        properties.setNotStartedTimeoutMs(notStartedMs);
+        properties.setDisconnectedTimeoutMs(disconnectedMs);
+        properties.setMaxDurationMs(maxDurationMs);
+        properties.setReaperTickMs(20);
+        return new GameRoomService(mock(GameResultService.class), replayService, new ObjectMapper(), properties,
+                new SpectatorProperties(), RealtimeLatencyRecorder.NOOP, RoomCluster.LOCAL, RoomCheckpointer.NONE,
+                clock::get);
+    }
+
+    private void elapse(long millis) {
+        clock.addAndGet(millis);
+        roomService.advanceReaper();
+    }
+
+    private GameRoom startedRoom() {
+        GameRoom room = roomService.createRoom(user("left", 1L), user("right", 2L), MatchType.NORMAL);
+        roomService.registerSession(room, 1L, openSession(room.getRoomId() + "-left"));
+        roomService.registerSession(room, 2L, openSession(room.getRoomId() + "-right"));
+        return room;
+    }
+
+    private void disconnectAll(GameRoom room) {
+        roomService.unregisterSession(room.getRoomId(), 1L, room.getRoomId() + "-left");
+        roomService.unregisterSession(room.getRoomId(), 2L, room.getRoomId() + "-right");
+    }
+
+    private User user(String username, long id) {
+        User user = new User(username, "pass", username, null);
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+
+    private WebSocketSession openSession(String id) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        when(session.isOpen()).thenReturn(true);
+        when(session.getAttributes()).thenReturn(new HashMap<>());
+        return session;
+    }
+}
@@ -1,26 +1,43 @@
 package com.codexpong.backend.game.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.codexpong.backend.game.GameResultService;
+import com.codexpong.backend.game.domain.GameRoom;
 import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.loop.GameLoopProperties;
+import com.codexpong.backend.game.protocol.GameProtocol;
+import com.codexpong.backend.game.service.GameRoomService.AudienceRole;
 import com.codexpong.backend.replay.ReplayService;
 import com.codexpong.backend.user.domain.User;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 
 /**
  * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/service/GameRoomServiceSpectatorTest.java
  * 설명:
  *   - 관전자 한도 및 등록 로직이 설정값을 준수하는지 검증한다.
- * 버전: v0.8.0
+ *   - v1.1.0에서는 경기 유형별 한도 설정과 방별 한도 지정(주목 경기 포함)을 검증한다.
+ *   - 관전자 READY가 지연 스트림 시점을 따르고, RESYNC가 요청 세션에만 키프레임을 보내는지 검증한다.
+ * 버전: v1.1.0
  * 관련 설계문서:
  *   - design/backend/v0.8.0-spectator-mode.md
+ *   - design/realtime/v1.1.0-realtime-performance.md
  */
 class GameRoomServiceSpectatorTest {
 
@@ -29,7 +46,10 @@ class GameRoomServiceSpectatorTest {
     void spectatorLimit() {
         GameResultService resultService = mock(GameResultService.class);
         ReplayService replayService = mock(ReplayService.class);
-        GameRoomService roomService = new GameRoomService(resultService, replayService, new ObjectMapper());
+        SpectatorProperties properties = new SpectatorProperties();
+        properties.getMaxPerRoom().put(MatchType.NORMAL, 30);
+        GameRoomService roomService = new GameRoomService(resultService, replayService, new ObjectMapper(),
+                new GameLoopProperties(), properties, RealtimeLatencyRecorder.NOOP);
 
         User left = new User("left", "pass", "왼쪽", null);
         User right = new User("right", "pass", "오른쪽", null);
@@ -47,4 +67,86 @@ class GameRoomServiceSpectatorTest {
         when(blocked.getId()).thenReturn("spec-over");
         assertThat(roomService.registerSpectatorSession(room, blocked.getId(), blocked)).isFalse();
     }
+
+    @Test
+    @DisplayName("방별 한도를 지정하면 경기 유형 한도 대신 적용되고, null이면 기본값으로 돌아간다")
+    void perRoomSpectatorLimit() {
+        SpectatorProperties properties = new SpectatorProperties();
+        properties.getMaxPerRoom().put(MatchType.RANKED, 1);
+        properties.setFeaturedMaxPerRoom(3);
+        GameRoomService roomService = new GameRoomService(mock(GameResultService.class), mock(ReplayService.class),
+                new ObjectMapper(), new GameLoopProperties(), properties, RealtimeLatencyRecorder.NOOP);
+        User left = new User("left", "pass", "왼쪽", null);
+        User right = new User("right", "pass", "오른쪽", null);
+        ReflectionTestUtils.setField(left, "id", 1L);
+        ReflectionTestUtils.setField(right, "id", 2L);
+        var room = roomService.createRoom(left, right, MatchType.RANKED);
+
+        assertThat(roomService.spectatorLimit(room)).isEqualTo(1);
+        roomService.featureRoom(room.getRoomId());
+        assertThat(roomService.spectatorLimit(room)).isEqualTo(3);
+        for (int i = 0; i < 3; i++) {
+            WebSocketSession session = mock(WebSocketSession.class);
+            assertThat(roomService.registerSpectatorSession(room, "spec-" + i, session)).isTrue();
+        }
+        assertThat(roomService.registerSpectatorSession(room, "spec-over", mock(WebSocketSession.class))).isFalse();
+        assertThat(roomService.listLiveRooms().get(0).spectatorLimit()).isEqualTo(3);
+
+        assertThat(roomService.setSpectatorLimit(room.getRoomId(), null)).isTrue();
+        assertThat(roomService.spectatorLimit(room)).isEqualTo(1);
+        assertThat(roomService.setSpectatorLimit("missing", 10)).isFalse();
+        roomService.shutdown();
+    }
+
+    @Test
+    @DisplayName("관전자 READY는 지연 스트림에서 내보낸 틱을 기준으로 하고, 플레이어 RESYNC는 그 세션에만 키프레임을 보낸다")
+    void spectatorReadyFollowsDelayAndResyncIsPerSession() throws Exception {
+        GameLoopProperties loopProperties = new GameLoopProperties();
+        loopProperties.setPingIntervalMs(0);
+        ObjectMapper objectMapper = new ObjectMapper();
+        GameRoomService roomService = new GameRoomService(mock(GameResultService.class), mock(ReplayService.class),
+                objectMapper, loopProperties, new SpectatorProperties(), RealtimeLatencyRecorder.NOOP);
+        User left = new User("left", "pass", "왼쪽", null);
+        User right = new User("right", "pass", "오른쪽", null);
+        ReflectionTestUtils.setField(left, "id", 1L);
+        ReflectionTestUtils.setField(right, "id", 2L);
+        GameRoom room = roomService.createRoom(left, right, MatchType.NORMAL);
+        WebSocketSession leftSession = mock(WebSocketSession.class);
+        when(leftSession.getId()).thenReturn("left");
+        when(leftSession.isOpen()).thenReturn(true);
+        when(leftSession.getAttributes()).thenReturn(new HashMap<>(
+                Map.of(GameProtocol.SESSION_ATTRIBUTE, GameProtocol.JSON_DELTA)));
+        List<String> sent = new ArrayList<>();
+        doAnswer(invocation -> sent.add(invocation.<TextMessage>getArgument(0).getPayload()))
+                .when(leftSession).sendMessage(any());
+        // 한쪽 플레이어만 붙여 틱 루프를 시작하지 않고 브로드캐스트를 직접 진행한다.
+        roomService.registerSession(room, 1L, leftSession);
+
+        // 일반전 관전 지연 250ms = 5틱. 8틱 진행 후 관전자에게 나간 마지막 틱은 3이다.
+        List<GameSnapshot> snapshots = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            GameSnapshot snapshot = room.tickFrame(TimeUnit.MILLISECONDS.toNanos(50)).toSnapshot();
+            snapshots.add(snapshot);
+            roomService.broadcastState(room, snapshot, null);
+        }
+        assertThat(roomService.readyMessage(room, AudienceRole.SPECTATOR).tick()).isEqualTo(3);
+        assertThat(roomService.readyMessage(room, AudienceRole.SPECTATOR).snapshot()).isEqualTo(snapshots.get(2));
+        assertThat(roomService.readyKeyframe(room, AudienceRole.SPECTATOR).seq()).isEqualTo(3);
+        assertThat(roomService.readyMessage(room, AudienceRole.PLAYER).tick()).isEqualTo(8);
+
+        sent.clear();
+        roomService.resync(room.getRoomId(), 1L, "left", AudienceRole.PLAYER);
+        assertThat(sent).hasSize(1);
+        JsonNode keyframe = objectMapper.readTree(sent.get(0));
+        assertThat(keyframe.get("type").asText()).isEqualTo("STATE");
+        assertThat(keyframe.get("key").asBoolean()).isTrue();
+        assertThat(keyframe.get("seq").asLong()).isEqualTo(8);
+
+        // 방 전체 키프레임은 만들지 않으므로 다음 델타는 재동기화한 seq에 그대로 이어진다.
+        roomService.broadcastState(room, room.tickFrame(TimeUnit.MILLISECONDS.toNanos(50)).toSnapshot(), null);
+        JsonNode delta = objectMapper.readTree(sent.get(sent.size() - 1));
+        assertThat(delta.has("key")).isFalse();
+        assertThat(delta.get("base").asLong()).isEqualTo(8);
+        roomService.shutdown();
+    }
 }
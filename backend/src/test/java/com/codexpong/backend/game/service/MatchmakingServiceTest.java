@@ -4,10 +4,25 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 
 import com.codexpong.backend.game.GameResultService;
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.loop.GameLoopProperties;
+import com.codexpong.backend.game.service.MatchmakingCluster.ClaimedPair;
+import com.codexpong.backend.game.service.MatchmakingCluster.ClaimedTicket;
 import com.codexpong.backend.game.service.MatchmakingService.MatchTicket;
 import com.codexpong.backend.replay.ReplayService;
 import com.codexpong.backend.user.domain.User;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -16,27 +31,354 @@ import org.springframework.test.util.ReflectionTestUtils;
  * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/service/MatchmakingServiceTest.java
  * 설명:
  *   - 두 사용자가 빠른 대전 큐에 진입했을 때 매칭되고 roomId가 반환되는지 검증한다.
+ *   - v1.1.0 랭크 큐가 레이팅 허용 창 안에서만 매칭하고, 창이 대기 시간에 따라 넓어지며,
+ *     주기 패스가 가장 가까운 상대와 짝짓는지 검증한다.
+ *   - 사용자별 현재 티켓 재사용, 대기 취소, 버려진 대기 티켓과 확정 티켓의 TTL 만료를 검증한다.
+ *   - 배치 모드에서 등록은 매칭하지 않고, 사이클이 레이팅 차이 합과 대기 벌점이 최소인 짝을 한 번에 만드는지 검증한다.
+ *   - 공유 매칭(MatchmakingCluster)에서는 등록을 위임하고 리더 노드의 패스만 꺼낸 짝으로 방을 만드는지 검증한다.
+ *   - 확정 대기(롱 폴링) future가 매칭/취소 순간 완료되고, 기다림을 그만두면 등록이 지워지는지 검증한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/backend/v0.4.0-ranking-system.md
+ *   - design/backend/v1.1.0-matchmaking-scaling.md
  */
 class MatchmakingServiceTest {
 
+    private final GameRoomService roomService = new GameRoomService(mock(GameResultService.class),
+            mock(ReplayService.class), new ObjectMapper(), new GameLoopProperties(), new SpectatorProperties(),
+            RealtimeLatencyRecorder.NOOP);
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Integer> gaps = new ArrayList<>();
+    private final List<Long> waits = new ArrayList<>();
+    private final List<String> cycles = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        roomService.shutdown();
+    }
+
     @Test
     @DisplayName("두 사용자가 대기열에 들어오면 즉시 매칭된다")
     void matchTwoPlayers() {
-        GameResultService resultService = mock(GameResultService.class);
-        ReplayService replayService = mock(ReplayService.class);
-        GameRoomService roomService = new GameRoomService(resultService, replayService, new ObjectMapper());
         MatchmakingService matchmakingService = new MatchmakingService(roomService);
 
-        User alice = new User("alice", "pass", "앨리스", null);
-        User bob = new User("bob", "pass", "밥", null);
-        ReflectionTestUtils.setField(alice, "id", 1L);
-        ReflectionTestUtils.setField(bob, "id", 2L);
-
-        MatchTicket first = matchmakingService.enqueue(alice, com.codexpong.backend.game.domain.MatchType.NORMAL);
+        MatchTicket first = matchmakingService.enqueue(user(1L, 1200), MatchType.NORMAL);
         assertThat(first.status()).isEqualTo("WAITING");
 
-        MatchTicket second = matchmakingService.enqueue(bob, com.codexpong.backend.game.domain.MatchType.NORMAL);
+        MatchTicket second = matchmakingService.enqueue(user(2L, 1200), MatchType.NORMAL);
         assertThat(second.status()).isEqualTo("MATCHED");
         assertThat(second.roomId()).isNotNull();
+        assertThat(matchmakingService.findTicket(first.ticketId())).get()
+                .extracting(MatchTicket::status, MatchTicket::roomId)
+                .containsExactly("MATCHED", second.roomId());
+    }
+
+    @Test
+    @DisplayName("랭크 큐는 허용 창 밖의 상대와 즉시 매칭하지 않고 대기 시간에 따라 창을 넓힌다")
+    void rankedWindowWidensWithWaitTime() {
+        MatchmakingService matchmakingService = rankedService();
+
+        MatchTicket expert = matchmakingService.enqueue(user(1L, 2400), MatchType.RANKED);
+        MatchTicket novice = matchmakingService.enqueue(user(2L, 1900), MatchType.RANKED);
+        assertThat(novice.status()).isEqualTo("WAITING");
+        assertThat(matchmakingService.runMatchPass()).isZero();
+
+        // 초기 창 100 + 초당 20 → 20초 뒤 500으로 두 사람 모두 차이 500을 허용한다.
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(19));
+        assertThat(matchmakingService.runMatchPass()).isZero();
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(matchmakingService.runMatchPass()).isEqualTo(1);
+
+        MatchTicket expertNow = matchmakingService.findTicket(expert.ticketId()).orElseThrow();
+        MatchTicket noviceNow = matchmakingService.findTicket(novice.ticketId()).orElseThrow();
+        assertThat(expertNow.status()).isEqualTo("MATCHED");
+        assertThat(noviceNow.roomId()).isEqualTo(expertNow.roomId());
+        assertThat(roomService.findRoom(expertNow.roomId())).isPresent();
+        assertThat(matchmakingService.waitingCount(MatchType.RANKED)).isZero();
+        assertThat(gaps).containsExactly(500);
+        assertThat(waits).containsOnly(TimeUnit.SECONDS.toNanos(20));
+    }
+
+    @Test
+    @DisplayName("랭크 큐는 창이 최대치에 도달하면 더 넓히지 않는다")
+    void rankedWindowIsCapped() {
+        MatchmakingService matchmakingService = rankedService();
+
+        matchmakingService.enqueue(user(1L, 2400), MatchType.RANKED);
+        matchmakingService.enqueue(user(2L, 900), MatchType.RANKED);
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(10));
+
+        assertThat(matchmakingService.runMatchPass()).isZero();
+        assertThat(matchmakingService.waitingCount(MatchType.RANKED)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("랭크 큐는 오래 기다린 순서로 가장 가까운 레이팅의 상대와 짝짓는다")
+    void rankedPassPairsClosestCandidates() {
+        MatchmakingService matchmakingService = rankedService();
+
+        matchmakingService.enqueue(user(1L, 1500), MatchType.RANKED);
+        matchmakingService.enqueue(user(2L, 1760), MatchType.RANKED);
+        matchmakingService.enqueue(user(3L, 1980), MatchType.RANKED);
+        MatchTicket close = matchmakingService.enqueue(user(4L, 1800), MatchType.RANKED);
+        assertThat(close.status()).isEqualTo("MATCHED");
+        assertThat(gaps).containsExactly(40);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        assertThat(matchmakingService.runMatchPass()).isEqualTo(1);
+        assertThat(gaps).containsExactly(40, 480);
+    }
+
+    @Test
+    @DisplayName("대기 중이거나 방이 살아 있는 티켓은 재사용하고 방이 끝나면 새 티켓을 발급한다")
+    void reusesCurrentTicketUntilRoomCloses() {
+        MatchmakingService matchmakingService = rankedService();
+
+        MatchTicket waiting = matchmakingService.enqueue(user(1L, 1200), MatchType.NORMAL);
+        assertThat(matchmakingService.enqueue(user(1L, 1200), MatchType.NORMAL).ticketId())
+                .isEqualTo(waiting.ticketId());
+
+        MatchTicket matched = matchmakingService.enqueue(user(2L, 1200), MatchType.NORMAL);
+        assertThat(matchmakingService.enqueue(user(1L, 1200), MatchType.NORMAL))
+                .extracting(MatchTicket::ticketId, MatchTicket::status)
+                .containsExactly(waiting.ticketId(), "MATCHED");
+
+        roomService.removeRoom(matched.roomId());
+        MatchTicket next = matchmakingService.enqueue(user(1L, 1200), MatchType.NORMAL);
+        assertThat(next.ticketId()).isNotEqualTo(waiting.ticketId());
+        assertThat(next.status()).isEqualTo("WAITING");
+    }
+
+    @Test
+    @DisplayName("대기 취소는 큐에서 빼고, 이미 매칭된 티켓은 취소하지 않는다")
+    void cancelRemovesOnlyWaitingTickets() {
+        MatchmakingService matchmakingService = rankedService();
+
+        MatchTicket ranked = matchmakingService.enqueue(user(1L, 1500), MatchType.RANKED);
+        assertThat(matchmakingService.cancel(ranked.ticketId())).get()
+                .extracting(MatchTicket::status).isEqualTo("CANCELLED");
+        assertThat(matchmakingService.waitingCount(MatchType.RANKED)).isZero();
+        assertThat(matchmakingService.enqueue(user(2L, 1500), MatchType.RANKED).status()).isEqualTo("WAITING");
+
+        MatchTicket normal = matchmakingService.enqueue(user(3L, 1200), MatchType.NORMAL);
+        matchmakingService.cancel(normal.ticketId());
+        assertThat(matchmakingService.enqueue(user(4L, 1200), MatchType.NORMAL).status()).isEqualTo("WAITING");
+        MatchTicket matched = matchmakingService.enqueue(user(5L, 1200), MatchType.NORMAL);
+        assertThat(matchmakingService.cancel(matched.ticketId())).get()
+                .extracting(MatchTicket::status).isEqualTo("MATCHED");
+        assertThat(matchmakingService.cancel("unknown")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조회가 끊긴 대기 티켓과 보관 기간이 지난 확정 티켓은 만료되어 맵에서 빠진다")
+    void expiresAbandonedAndFinishedTickets() {
+        MatchmakingService matchmakingService = rankedService();
+
+        MatchTicket polled = matchmakingService.enqueue(user(1L, 1200), MatchType.RANKED);
+        MatchTicket abandoned = matchmakingService.enqueue(user(2L, 2000), MatchType.RANKED);
+        for (int second = 1; second <= 40; second++) {
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+            matchmakingService.findTicket(polled.ticketId());
+            matchmakingService.evictExpiredTickets();
+        }
+        assertThat(matchmakingService.findTicket(abandoned.ticketId())).isEmpty();
+        assertThat(matchmakingService.findTicket(polled.ticketId())).get()
+                .extracting(MatchTicket::status).isEqualTo("WAITING");
+        assertThat(matchmakingService.abandonedTicketCount()).isEqualTo(1);
+        assertThat(matchmakingService.waitingCount(MatchType.RANKED)).isEqualTo(1);
+
+        matchmakingService.enqueue(user(3L, 1210), MatchType.RANKED);
+        assertThat(matchmakingService.ticketCount()).isEqualTo(2);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        matchmakingService.evictExpiredTickets();
+        assertThat(matchmakingService.ticketCount()).isZero();
+        assertThat(matchmakingService.abandonedTicketCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("배치 모드는 등록 시 매칭하지 않고 사이클에서 레이팅 차이 합이 최소인 짝을 한 번에 만든다")
+    void batchCyclePairsGlobally() {
+        MatchmakingService matchmakingService = batchService();
+
+        MatchTicket low = matchmakingService.enqueue(user(1L, 1000), MatchType.NORMAL);
+        MatchTicket high = matchmakingService.enqueue(user(2L, 1500), MatchType.NORMAL);
+        MatchTicket lowPeer = matchmakingService.enqueue(user(3L, 1010), MatchType.NORMAL);
+        MatchTicket highPeer = matchmakingService.enqueue(user(4L, 1490), MatchType.NORMAL);
+        assertThat(List.of(low, high, lowPeer, highPeer)).extracting(MatchTicket::status).containsOnly("WAITING");
+
+        assertThat(matchmakingService.runMatchPass()).isEqualTo(2);
+        assertThat(matchmakingService.findTicket(low.ticketId()).orElseThrow().roomId())
+                .isEqualTo(matchmakingService.findTicket(lowPeer.ticketId()).orElseThrow().roomId());
+        assertThat(matchmakingService.findTicket(high.ticketId()).orElseThrow().roomId())
+                .isEqualTo(matchmakingService.findTicket(highPeer.ticketId()).orElseThrow().roomId());
+        assertThat(gaps).containsExactlyInAnyOrder(10, 10);
+        assertThat(cycles).containsExactlyInAnyOrder("NORMAL:2", "RANKED:0");
+    }
+
+    @Test
+    @DisplayName("배치 사이클은 오래 기다린 대기자를 남기는 벌점이 레이팅 차이보다 크면 그 대기자를 먼저 짝짓는다")
+    void batchCyclePrefersLongWaiters() {
+        MatchmakingService matchmakingService = batchService();
+
+        MatchTicket veteran = matchmakingService.enqueue(user(1L, 1000), MatchType.NORMAL);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        MatchTicket middle = matchmakingService.enqueue(user(2L, 1090), MatchType.NORMAL);
+        MatchTicket fresh = matchmakingService.enqueue(user(3L, 1100), MatchType.NORMAL);
+
+        // 1090-1100(차이 10)을 짝지으면 30초 대기자를 남겨 벌점 300이 붙으므로 1000-1090(차이 90)이 더 싸다.
+        assertThat(matchmakingService.runMatchPass()).isEqualTo(1);
+        assertThat(matchmakingService.findTicket(veteran.ticketId()).orElseThrow().roomId())
+                .isEqualTo(matchmakingService.findTicket(middle.ticketId()).orElseThrow().roomId());
+        assertThat(matchmakingService.findTicket(fresh.ticketId()).orElseThrow().status()).isEqualTo("WAITING");
+        assertThat(matchmakingService.waitingCount(MatchType.NORMAL)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("공유 매칭은 등록을 클러스터에 맡기고 리더 임대를 가진 노드의 패스만 꺼낸 짝으로 방을 만든다")
+    void sharedPassRunsOnlyOnLeader() {
+        User left = user(1L, 1200);
+        User right = user(2L, 1260);
+        AtomicBoolean leader = new AtomicBoolean();
+        Map<String, String> matchedRooms = new HashMap<>();
+        MatchmakingCluster cluster = new MatchmakingCluster() {
+            @Override
+            public MatchTicket enqueue(User user, MatchType matchType, int rating) {
+                return new MatchTicket("t" + user.getId(), user.getId(), matchType, "WAITING", null);
+            }
+
+            @Override
+            public Optional<MatchTicket> findTicket(String ticketId) {
+                return Optional.empty();
+            }
+
+            @Override
+            public Optional<MatchTicket> cancel(String ticketId) {
+                return Optional.empty();
+            }
+
+            @Override
+            public boolean leading() {
+                return leader.get();
+            }
+
+            @Override
+            public List<ClaimedPair> claimPairs(MatchType matchType) {
+                if (matchType != MatchType.RANKED) {
+                    return List.of();
+                }
+                return List.of(new ClaimedPair(new ClaimedTicket("t1", left, 1200, 0, 3000),
+                        new ClaimedTicket("t2", right, 1260, 2000, 1000)));
+            }
+
+            @Override
+            public void matched(ClaimedPair pair, MatchType matchType, String roomId) {
+                matchedRooms.put(pair.first().ticketId(), roomId);
+                matchedRooms.put(pair.second().ticketId(), roomId);
+            }
+
+            @Override
+            public void release(ClaimedPair pair, MatchType matchType) {
+            }
+
+            @Override
+            public void onTicketDecided(Consumer<String> listener) {
+            }
+
+            @Override
+            public int waitingCount(MatchType matchType) {
+                return 0;
+            }
+
+            @Override
+            public long abandonedTicketCount() {
+                return 0;
+            }
+        };
+        MatchmakingService matchmakingService = new MatchmakingService(roomService, new MatchmakingProperties(),
+                recorder(), Optional.of(cluster), clock::get);
+
+        assertThat(matchmakingService.enqueue(left, MatchType.RANKED).status()).isEqualTo("WAITING");
+        assertThat(matchmakingService.enqueue(right, MatchType.RANKED).status()).isEqualTo("WAITING");
+        assertThat(matchmakingService.runMatchPass()).isZero();
+        assertThat(matchedRooms).isEmpty();
+
+        leader.set(true);
+        assertThat(matchmakingService.runMatchPass()).isEqualTo(1);
+        assertThat(matchedRooms.get("t1")).isEqualTo(matchedRooms.get("t2"));
+        assertThat(roomService.findRoom(matchedRooms.get("t1"))).isPresent();
+        assertThat(gaps).containsExactly(60);
+        assertThat(waits).containsExactly(TimeUnit.SECONDS.toNanos(3), TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    @DisplayName("확정 대기는 매칭되는 순간 roomId와 함께, 취소되면 CANCELLED로 완료된다")
+    void awaitDecisionCompletesOnMatchAndCancel() {
+        MatchmakingService matchmakingService = rankedService();
+        MatchTicket waiting = matchmakingService.enqueue(user(1L, 1200), MatchType.RANKED);
+        CompletableFuture<MatchTicket> decision = matchmakingService.awaitDecision(waiting);
+        assertThat(decision).isNotDone();
+        assertThat(matchmakingService.decisionWaiterCount()).isEqualTo(1);
+
+        MatchTicket opponent = matchmakingService.enqueue(user(2L, 1250), MatchType.RANKED);
+        assertThat(decision).isCompletedWithValueMatching(ticket -> "MATCHED".equals(ticket.status())
+                && opponent.roomId().equals(ticket.roomId()));
+        assertThat(matchmakingService.decisionWaiterCount()).isZero();
+        assertThat(matchmakingService.awaitDecision(opponent)).isCompletedWithValue(opponent);
+
+        MatchTicket leaving = matchmakingService.enqueue(user(3L, 2000), MatchType.RANKED);
+        CompletableFuture<MatchTicket> cancelled = matchmakingService.awaitDecision(leaving);
+        matchmakingService.cancel(leaving.ticketId());
+        assertThat(cancelled).isCompletedWithValueMatching(ticket -> "CANCELLED".equals(ticket.status()));
+    }
+
+    @Test
+    @DisplayName("기다림을 그만둔 확정 대기는 등록에서 지워진다")
+    void abandonedAwaitIsUnregistered() {
+        MatchmakingService matchmakingService = rankedService();
+        MatchTicket waiting = matchmakingService.enqueue(user(1L, 1200), MatchType.RANKED);
+        CompletableFuture<MatchTicket> first = matchmakingService.awaitDecision(waiting);
+        CompletableFuture<MatchTicket> second = matchmakingService.awaitDecision(waiting);
+        assertThat(matchmakingService.decisionWaiterCount()).isEqualTo(2);
+
+        first.cancel(false);
+        assertThat(matchmakingService.decisionWaiterCount()).isEqualTo(1);
+        second.cancel(false);
+        assertThat(matchmakingService.decisionWaiterCount()).isZero();
+    }
+
+    private MatchmakingService rankedService() {
+        return new MatchmakingService(roomService, new MatchmakingProperties(), recorder(), clock::get);
+    }
+
+    private MatchmakingService batchService() {
+        MatchmakingProperties properties = new MatchmakingProperties();
+        properties.setBatchMode(true);
+        return new MatchmakingService(roomService, properties, recorder(), clock::get);
+    }
+
+    private MatchmakingRecorder recorder() {
+        return new MatchmakingRecorder() {
+            @Override
+            public void recordQueueTime(MatchType matchType, long waitNanos) {
+                waits.add(waitNanos);
+            }
+
+            @Override
+            public void recordRatingGap(MatchType matchType, int ratingGap) {
+                gaps.add(ratingGap);
+            }
+
+            @Override
+            public void recordCycle(MatchType matchType, int pairs, long nanos) {
+                cycles.add(matchType + ":" + pairs);
+            }
+        };
+    }
+
+    private static User user(Long id, int rating) {
+        User user = new User("user" + id, "pass", "사용자" + id, null);
+        ReflectionTestUtils.setField(user, "id", id);
+        user.updateRating(rating);
+        return user;
     }
 }
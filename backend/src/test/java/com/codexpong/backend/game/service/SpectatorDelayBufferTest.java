@@ -0,0 +1,65 @@
+package com.codexpong.backend.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.protocol.EncodedFrame;
+import com.codexpong.backend.game.protocol.PlayerLatency;
+import com.codexpong.backend.game.service.SpectatorDelayBuffer.DelayedState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/service/SpectatorDelayBufferTest.java
+ * 설명:
+ *   - 관전 지연 링 버퍼가 정확히 지연 틱 수만큼 늦게 프레임을 내보내고, 종료 시 남은 프레임을 순서대로 비우는지 검증한다.
+ *   - 마지막으로 내보낸 프레임의 틱 상태(관전자 READY 기준)가 내보낸 프레임과 함께 움직이는지 검증한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+class SpectatorDelayBufferTest {
+
+    @Test
+    @DisplayName("지연 틱 수가 지난 뒤부터 들어온 순서대로 프레임을 내보내고, 내보낸 틱 상태를 READY 기준으로 남긴다")
+    void emitsFramesAfterDelay() {
+        SpectatorDelayBuffer buffer = SpectatorDelayBuffer.forDelay(250, 50, state(0));
+        EncodedFrame[][] frames = new EncodedFrame[8][];
+        for (int i = 0; i < frames.length; i++) {
+            frames[i] = new EncodedFrame[] {EncodedFrame.text("frame-" + i)};
+        }
+
+        assertThat(buffer.delayTicks()).isEqualTo(5);
+        for (int i = 0; i < 5; i++) {
+            assertThat(buffer.push(frames[i], state(i + 1))).isNull();
+        }
+        assertThat(buffer.released().tick()).isZero();
+        assertThat(buffer.push(frames[5], state(6))).isSameAs(frames[0]);
+        assertThat(buffer.released().tick()).isEqualTo(1);
+        assertThat(buffer.push(null, state(7))).isSameAs(frames[1]);
+        assertThat(buffer.released().tick()).isEqualTo(2);
+        assertThat(buffer.drain()).containsExactly(frames[2], frames[3], frames[4], frames[5], null);
+        assertThat(buffer.released().tick()).isEqualTo(7);
+        assertThat(buffer.drain()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("지연이 0이면 즉시 내보내고, 경기 유형별 지연 설정을 따른다")
+    void zeroDelayAndPerMatchTypeSettings() {
+        EncodedFrame[] frame = {EncodedFrame.text("now")};
+        SpectatorDelayBuffer immediate = SpectatorDelayBuffer.forDelay(0, 50, state(0));
+        assertThat(immediate.push(frame, state(1))).isSameAs(frame);
+        assertThat(immediate.released().tick()).isEqualTo(1);
+
+        SpectatorProperties properties = new SpectatorProperties();
+        assertThat(properties.delayMillis(MatchType.NORMAL)).isEqualTo(250);
+        assertThat(properties.delayMillis(MatchType.RANKED)).isGreaterThan(properties.delayMillis(MatchType.NORMAL));
+        assertThat(SpectatorDelayBuffer.forDelay(1000, 50, state(0)).delayTicks()).isEqualTo(20);
+    }
+
+    private static DelayedState state(long tick) {
+        GameSnapshot snapshot = new GameSnapshot("room", tick, 0, 0, 0, 0, 0, 0, 0, 5, false);
+        return new DelayedState(tick, tick, snapshot, PlayerLatency.UNKNOWN);
+    }
+}
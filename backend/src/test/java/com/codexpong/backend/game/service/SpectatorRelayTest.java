@@ -0,0 +1,146 @@
+package com.codexpong.backend.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.protocol.EncodedFrame;
+import com.codexpong.backend.game.protocol.GameProtocol;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/service/SpectatorRelayTest.java
+ * 설명:
+ *   - 관전 중계가 틱 스레드 밖에서 방 스트림을 팬아웃하고, 송신 큐가 밀린 관전자에게 프레임을 건너뛰며,
+ *     델타 관전자는 키프레임부터 다시 이어 받는지 검증한다.
+ * 버전: v1.1.0
+ * 관련 설계문서:
+ *   - design/realtime/v1.1.0-realtime-performance.md
+ */
+class SpectatorRelayTest {
+
+    private static final String ROOM = "room-1";
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final Map<WebSocketSession, Integer> backlogs = new HashMap<>();
+    private final FanoutStats stats = new FanoutStats();
+    private final SpectatorRelay relay = new SpectatorRelay(tasks::add, 4, 4, 4, stats,
+            RealtimeLatencyRecorder.NOOP, session -> backlogs.getOrDefault(session, 0));
+
+    @Test
+    @DisplayName("offer는 전송하지 않고 방마다 드레인 작업 하나만 예약한다")
+    void offerOnlySchedulesDrain() throws Exception {
+        WebSocketSession viewer = session(GameProtocol.JSON_FULL);
+        relay.attach(ROOM, "a", viewer);
+
+        relay.offer(ROOM, frames(true), MatchType.NORMAL, 0);
+        relay.offer(ROOM, frames(true), MatchType.NORMAL, 0);
+
+        verify(viewer, never()).sendMessage(any());
+        assertThat(tasks).hasSize(1);
+        assertThat(relay.backlog()).isEqualTo(2);
+        runTasks();
+        verify(viewer, times(2)).sendMessage(any());
+        assertThat(relay.backlog()).isZero();
+    }
+
+    @Test
+    @DisplayName("송신 큐가 밀린 관전자만 stride 간격으로 건너뛰고 큐가 비면 다시 매 프레임 받는다")
+    void slowViewerSkipsFrames() throws Exception {
+        WebSocketSession fast = session(GameProtocol.BINARY);
+        WebSocketSession slow = session(GameProtocol.BINARY);
+        relay.attach(ROOM, "fast", fast);
+        relay.attach(ROOM, "slow", slow);
+        backlogs.put(slow, 4);
+
+        for (int i = 0; i < 4; i++) {
+            relay.offer(ROOM, frames(true), MatchType.NORMAL, 0);
+            runTasks();
+        }
+        verify(fast, times(4)).sendMessage(any());
+        verify(slow, times(1)).sendMessage(any());
+        assertThat(stats.skippedFrames()).isEqualTo(3);
+
+        backlogs.put(slow, 0);
+        for (int i = 0; i < 8; i++) {
+            relay.offer(ROOM, frames(true), MatchType.NORMAL, 0);
+            runTasks();
+        }
+        // stride가 4 → 2 → 1로 줄며 첫 프레임 하나만 더 건너뛰고 이후에는 매 프레임 받는다(누적 1 + 7).
+        verify(slow, times(8)).sendMessage(any());
+        assertThat(stats.skippedFrames()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("밀린 델타 관전자는 키프레임만 받고 정상화 후에도 키프레임부터 이어 받는다")
+    void deltaViewerResumesFromKeyframe() throws Exception {
+        WebSocketSession delta = session(GameProtocol.JSON_DELTA);
+        relay.attach(ROOM, "delta", delta);
+        backlogs.put(delta, 4);
+
+        relay.offer(ROOM, frames(false), MatchType.NORMAL, 0);
+        relay.offer(ROOM, frames(true), MatchType.NORMAL, 0);
+        runTasks();
+        verify(delta, times(1)).sendMessage(any());
+
+        backlogs.put(delta, 0);
+        relay.offer(ROOM, frames(false), MatchType.NORMAL, 0);
+        relay.offer(ROOM, frames(false), MatchType.NORMAL, 0);
+        runTasks();
+        verify(delta, times(1)).sendMessage(any());
+
+        relay.offer(ROOM, frames(true), MatchType.NORMAL, 0);
+        relay.offer(ROOM, frames(false), MatchType.NORMAL, 0);
+        runTasks();
+        verify(delta, times(3)).sendMessage(any());
+    }
+
+    @Test
+    @DisplayName("방 스트림 대기 한도를 넘으면 가장 오래된 프레임을 버린다")
+    void dropsOldestWhenStreamIsFull() {
+        relay.attach(ROOM, "a", session(GameProtocol.JSON_FULL));
+
+        for (int i = 0; i < 6; i++) {
+            relay.offer(ROOM, frames(true), MatchType.NORMAL, 0);
+        }
+
+        assertThat(relay.backlog()).isEqualTo(4);
+        assertThat(stats.relayDroppedFrames()).isEqualTo(2);
+        relay.close(ROOM);
+        assertThat(relay.backlog()).isZero();
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    private static EncodedFrame[] frames(boolean deltaKeyframe) {
+        EncodedFrame[] frames = new EncodedFrame[GameProtocol.values().length];
+        frames[GameProtocol.JSON_FULL.ordinal()] = EncodedFrame.text("{\"type\":\"STATE\"}");
+        frames[GameProtocol.JSON_DELTA.ordinal()] = EncodedFrame.text("{\"type\":\"STATE\",\"d\":{}}", deltaKeyframe);
+        frames[GameProtocol.BINARY.ordinal()] = EncodedFrame.binary(new byte[] {1});
+        return frames;
+    }
+
+    private static WebSocketSession session(GameProtocol protocol) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(GameProtocol.SESSION_ATTRIBUTE, protocol);
+        when(session.getAttributes()).thenReturn(attributes);
+        when(session.isOpen()).thenReturn(true);
+        return session;
+    }
+}
@@ -2,21 +2,34 @@ import { useEffect, useRef, useState } from 'react'
 import { WS_BASE_URL } from '../constants'
 import { GameServerMessage, GameSnapshot, RatingChange } from '../shared/types/game'
 
+// 백엔드가 "방 소유 노드로 다시 접속하라"는 뜻으로 쓰는 종료 코드. reason에 소유 노드 ID가 온다.
+const OWNER_REDIRECT_CODE = 4307
+// 방 소유 노드가 바뀌어(장애 인계) 서버가 세션을 닫을 때의 코드(SERVICE_RESTARTED).
+const ROOM_MOVED_CODE = 1012
+const MAX_RECONNECTS = 10
+const RECONNECT_DELAY_MS = 1000
+
 /**
  * [훅] frontend/src/hooks/useGameSocket.ts
  * 설명:
  *   - 주어진 roomId와 토큰으로 게임 WebSocket을 연결하고 상태 스냅샷을 관리한다.
  *   - 입력 방향을 서버에 전송하는 헬퍼를 제공한다.
  *   - v0.8.0에서는 관전자 역할 구분과 관전자 수 상태를 반환한다.
- * 버전: v0.8.0
+ *   - v1.1.0에서는 node(방 소유 노드 ID)를 쿼리로 붙여 nginx가 소유 노드로 연결하게 한다.
+ *     서버가 OWNER_REDIRECT_CODE로 닫으면 reason의 노드로, 소유 노드가 바뀌어 닫히거나 지정한 노드에 붙지 못하면
+ *     node 없이 다시 접속해 서버가 현재 소유 노드를 알려 주게 한다. 인계 중이라 아직 어느 노드에도 방이 없으면
+ *     RECONNECT_DELAY_MS 간격으로 다시 시도한다(최대 MAX_RECONNECTS회).
+ * 버전: v1.1.0
  * 관련 설계문서:
  *   - design/frontend/v0.8.0-spectator-ui.md
  *   - design/realtime/v0.8.0-spectator-events.md
+ *   - design/backend/v1.1.0-matchmaking-scaling.md
  */
 export function useGameSocket(
   roomId?: string | null,
   token?: string | null,
   audience: 'PLAYER' | 'SPECTATOR' = 'PLAYER',
+  node?: string | null,
 ) {
   const [connected, setConnected] = useState(false)
   const [error, setError] = useState('')
@@ -25,6 +38,12 @@ export function useGameSocket(
   const [ratingChange, setRatingChange] = useState<RatingChange | null>(null)
   const [audienceRole, setAudienceRole] = useState<'PLAYER' | 'SPECTATOR'>(audience)
   const [spectatorCount, setSpectatorCount] = useState(0)
+  // 재접속 대상 노드와 시도 횟수. 방이나 매칭이 알려 준 노드가 바뀌면 처음부터 다시 센다.
+  const routeKey = `${roomId ?? ''}|${node ?? ''}`
+  const [route, setRoute] = useState({ key: routeKey, node: node ?? null, attempt: 0 })
+  const current = route.key === routeKey ? route : { key: routeKey, node: node ?? null, attempt: 0 }
+  const routeNode = current.node
+  const attempt = current.attempt
   const socketRef = useRef<WebSocket | null>(null)
 
   useEffect(() => {
@@ -35,16 +54,31 @@ export function useGameSocket(
     setRatingChange(null)
     setSpectatorCount(0)
 
+    const nodeQuery = routeNode ? `&node=${encodeURIComponent(routeNode)}` : ''
     const socket = new WebSocket(
-      `${WS_BASE_URL}/ws/game?roomId=${encodeURIComponent(roomId)}&token=${encodeURIComponent(token)}&role=${audience}`,
+      `${WS_BASE_URL}/ws/game?roomId=${encodeURIComponent(roomId)}&token=${encodeURIComponent(token)}&role=${audience}${nodeQuery}`,
     )
     socketRef.current = socket
+    let opened = false
+    let retryTimer: ReturnType<typeof setTimeout> | undefined
 
     socket.onopen = () => {
+      opened = true
       setConnected(true)
       setError('')
     }
-    socket.onclose = () => setConnected(false)
+    socket.onclose = (event) => {
+      setConnected(false)
+      if (attempt >= MAX_RECONNECTS) return
+      if (event.code === OWNER_REDIRECT_CODE && event.reason) {
+        setRoute({ key: routeKey, node: event.reason, attempt: attempt + 1 })
+      } else if (event.code === ROOM_MOVED_CODE || (!opened && (routeNode || attempt > 0))) {
+        retryTimer = setTimeout(
+          () => setRoute({ key: routeKey, node: null, attempt: attempt + 1 }),
+          RECONNECT_DELAY_MS,
+        )
+      }
+    }
     socket.onerror = () => setError('실시간 연결에 실패했습니다.')
     socket.onmessage = (event) => {
       const data: GameServerMessage = JSON.parse(event.data)
@@ -62,9 +96,11 @@ export function useGameSocket(
     }
 
     return () => {
+      clearTimeout(retryTimer)
+      socket.onclose = null
       socket.close()
     }
-  }, [roomId, token, audience])
+  }, [roomId, token, audience, routeKey, routeNode, attempt])
 
   const sendInput = (direction: 'UP' | 'DOWN' | 'STAY') => {
     if (
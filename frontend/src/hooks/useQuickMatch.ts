@@ -5,21 +5,31 @@ interface MatchmakingResponse {
   ticketId: string
   status: 'WAITING' | 'MATCHED' | 'CANCELLED'
   roomId?: string | null
+  node?: string | null
   matchType: 'NORMAL' | 'RANKED'
 }
 
+const LONG_POLL_WAIT_MS = 25000
+
 /**
  * [훅] frontend/src/hooks/useQuickMatch.ts
  * 설명:
- *   - 빠른 대전 큐 등록과 폴링 기반 상태 조회를 처리한다.
- *   - roomId가 할당되면 게임 화면으로 이동할 수 있다.
- * 버전: v0.4.0
+ *   - 빠른 대전 큐 등록과 롱 폴링 기반 상태 조회를 처리한다.
+ *   - 상태 조회는 waitMs로 서버에서 매칭 확정을 기다리므로, 매칭되는 즉시 응답을 받고 확정이 없으면 바로 다시 기다린다.
+ *   - roomId가 할당되면 게임 화면으로 이동할 수 있다. 여러 노드 배치에서는 방 소유 노드(node)도 함께 받아
+ *     게임 WebSocket이 그 노드로 바로 연결되게 한다.
+ * 버전: v1.1.0
  * 관련 설계문서:
  *   - design/frontend/v0.4.0-ranking-and-leaderboard-ui.md
+ *   - design/backend/v1.1.0-matchmaking-scaling.md
+ * 변경 이력:
+ *   - v1.1.0: 1.2초 주기 폴링을 롱 폴링으로 교체
+ *   - v1.1.0: 매칭 응답의 방 소유 노드 전달
  */
 export function useQuickMatch(queueType: 'normal' | 'ranked', token?: string | null) {
   const [ticketId, setTicketId] = useState<string | null>(null)
   const [roomId, setRoomId] = useState<string | null>(null)
+  const [node, setNode] = useState<string | null>(null)
   const [status, setStatus] = useState<'idle' | 'waiting' | 'matched' | 'error'>('idle')
   const [message, setMessage] = useState('')
   const [matchType, setMatchType] = useState<'NORMAL' | 'RANKED' | null>(queueType === 'ranked' ? 'RANKED' : 'NORMAL')
@@ -37,6 +47,7 @@ export function useQuickMatch(queueType: 'normal' | 'ranked', token?: string | n
       setTicketId(response.ticketId)
       setStatus(response.status === 'MATCHED' ? 'matched' : 'waiting')
       setRoomId(response.roomId ?? null)
+      setNode(response.node ?? null)
       setMatchType(response.matchType)
     } catch (error) {
       setMessage('매칭 요청에 실패했습니다.')
@@ -46,29 +57,46 @@ export function useQuickMatch(queueType: 'normal' | 'ranked', token?: string | n
 
   useEffect(() => {
     if (!ticketId || !token || status !== 'waiting') return
-    const timer = setInterval(async () => {
-      try {
-        const result = await apiFetch<MatchmakingResponse>(`${basePath}/${ticketId}`, { method: 'GET' }, token)
-        if (result.status === 'MATCHED') {
-          setRoomId(result.roomId ?? null)
-          setStatus('matched')
-          setMessage('상대가 입장했습니다. 게임을 시작하세요!')
-          setMatchType(result.matchType)
-          clearInterval(timer)
+    const controller = new AbortController()
+
+    const waitForMatch = async () => {
+      while (!controller.signal.aborted) {
+        try {
+          const result = await apiFetch<MatchmakingResponse>(
+            `${basePath}/${ticketId}?waitMs=${LONG_POLL_WAIT_MS}`,
+            { method: 'GET', signal: controller.signal },
+            token,
+          )
+          if (result.status === 'MATCHED') {
+            setRoomId(result.roomId ?? null)
+            setNode(result.node ?? null)
+            setStatus('matched')
+            setMessage('상대가 입장했습니다. 게임을 시작하세요!')
+            setMatchType(result.matchType)
+            return
+          }
+          if (result.status === 'CANCELLED') {
+            setMessage('매칭이 취소되었습니다.')
+            setStatus('idle')
+            return
+          }
+        } catch (error) {
+          if (controller.signal.aborted) return
+          setMessage('매칭 상태를 확인할 수 없습니다.')
+          setStatus('error')
+          return
         }
-      } catch (error) {
-        setMessage('매칭 상태를 확인할 수 없습니다.')
-        setStatus('error')
-        clearInterval(timer)
       }
-    }, 1200)
+    }
 
-    return () => clearInterval(timer)
+    void waitForMatch()
+    return () => controller.abort()
   }, [ticketId, token, status, basePath])
 
   const reset = () => {
     setTicketId(null)
     setRoomId(null)
+    setNode(null)
     setStatus('idle')
     setMessage('')
     setMatchType(queueType === 'ranked' ? 'RANKED' : 'NORMAL')
@@ -77,6 +105,7 @@ export function useQuickMatch(queueType: 'normal' | 'ranked', token?: string | n
   return {
     ticketId,
     roomId,
+    node,
     status,
     message,
     matchType,
@@ -14,7 +14,8 @@ import { GameCanvas } from '../shared/components/GameCanvas'
  *   - v0.4.0에서는 랭크/일반 구분과 레이팅 변동 메시지를 표시하고, v0.6.0에서는 매치 채팅 패널을 추가한다.
  *   - v0.8.0에서는 관전자 수를 표시해 관전 모드와 동일한 스냅샷 포맷을 공유한다.
  *   - v0.11.0에서는 리플레이 뷰어와 동일한 GameCanvas를 재사용하도록 구조를 정리한다.
- * 버전: v0.11.0
+ *   - v1.1.0에서는 매칭이 알려 준 방 소유 노드(node 쿼리)로 게임 WebSocket을 연결한다.
+ * 버전: v1.1.0
  * 관련 설계문서:
  *   - design/frontend/v0.8.0-spectator-ui.md
  *   - design/realtime/v0.8.0-spectator-events.md
@@ -25,10 +26,13 @@ export function GamePage() {
   const [params] = useSearchParams()
   const navigate = useNavigate()
   const roomId = params.get('roomId')
+  const node = params.get('node')
 
   const { connected, error, snapshot, sendInput, matchType, ratingChange, spectatorCount } = useGameSocket(
     roomId,
     token,
+    'PLAYER',
+    node,
   )
   const [chatMessages, setChatMessages] = useState<ChatMessage[]>([])
   const [chatInput, setChatInput] = useState('')
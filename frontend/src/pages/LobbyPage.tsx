@@ -14,7 +14,8 @@ import { toTierLabel } from '../shared/utils/rating'
  * 설명:
  *   - v0.4.0 일반/랭크 큐를 구분해 입장 버튼을 제공하고 현재 레이팅을 노출한다.
  *   - 최근 경기 결과에서 랭크 여부와 점수 변동을 표시하고, v0.6.0에서는 로비 채팅 패널을 제공한다.
- * 버전: v0.6.0
+ *   - v1.1.0에서는 매칭 응답의 방 소유 노드를 게임 화면으로 넘긴다.
+ * 버전: v1.1.0
  * 관련 설계문서:
  *   - design/frontend/v0.4.0-ranking-and-leaderboard-ui.md
  *   - design/frontend/v0.6.0-chat-ui.md
@@ -49,14 +50,14 @@ export function LobbyPage() {
 
   useEffect(() => {
     if (normalQueue.status === 'matched' && normalQueue.roomId) {
-      navigate(`/game?roomId=${normalQueue.roomId}`)
+      navigate(gamePath(normalQueue.roomId, normalQueue.node))
       normalQueue.reset()
     }
   }, [normalQueue.status, normalQueue.roomId, normalQueue, navigate])
 
   useEffect(() => {
     if (rankedQueue.status === 'matched' && rankedQueue.roomId) {
-      navigate(`/game?roomId=${rankedQueue.roomId}`)
+      navigate(gamePath(rankedQueue.roomId, rankedQueue.node))
       rankedQueue.reset()
     }
   }, [rankedQueue.status, rankedQueue.roomId, rankedQueue, navigate])
@@ -161,3 +162,8 @@ export function LobbyPage() {
     </main>
   )
 }
+
+// 방 소유 노드가 있으면 게임 화면이 그 노드로 WebSocket을 연결하도록 쿼리에 넘긴다.
+function gamePath(roomId: string, node: string | null) {
+  return node ? `/game?roomId=${roomId}&node=${encodeURIComponent(node)}` : `/game?roomId=${roomId}`
+}